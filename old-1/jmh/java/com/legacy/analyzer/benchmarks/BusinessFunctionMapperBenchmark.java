@@ -0,0 +1,63 @@
+package com.legacy.analyzer.benchmarks;
+
+import com.legacy.analyzer.mapping.BusinessFunctionMapper;
+import com.legacy.analyzer.model.Endpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Association des endpoints aux fonctions d'affaire : N endpoints confrontés à F URLs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessFunctionMapperBenchmark {
+
+    @Param({"1000", "10000"})
+    public int endpoints;
+
+    @Param({"500"})
+    public int functions;
+
+    private Path mappingFile;
+    private BusinessFunctionMapper mapper;
+    private List<Endpoint> endpointList;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mappingFile = SyntheticApplications.writeBusinessFunctions(Files.createTempFile("bench-functions-", ".csv"), functions);
+        mapper = new BusinessFunctionMapper(mappingFile);
+        endpointList = SyntheticApplications.endpoints("bench", endpoints);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mappingFile);
+    }
+
+    @Benchmark
+    public List<Endpoint> enrichEndpoints() {
+        mapper.enrichEndpoints(endpointList);
+        return endpointList;
+    }
+}
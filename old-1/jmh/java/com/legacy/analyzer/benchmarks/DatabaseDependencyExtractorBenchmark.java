@@ -0,0 +1,74 @@
+package com.legacy.analyzer.benchmarks;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.extractors.dependencies.DatabaseDependencyExtractor;
+import com.legacy.analyzer.extractors.dependencies.SqlAnalyzer;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction des dépendances base de données d'un module : inventaire, parsing JavaParser
+ * et détection des requêtes SQL. L'inventaire est vidé à chaque appel, comme en début d'analyse ;
+ * le cache des requêtes SQL est conservé, comme d'un module à l'autre.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseDependencyExtractorBenchmark {
+
+    @Param({"50", "500"})
+    public int daoCount;
+
+    @Param({"5"})
+    public int queriesPerDao;
+
+    private Path moduleDir;
+    private FileInventoryService fileInventoryService;
+    private DatabaseDependencyExtractor extractor;
+    private final WebLogicApplication application = WebLogicApplication.builder().name("bench").build();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        moduleDir = SyntheticApplications.writeJdbcModule(Files.createTempDirectory("bench-jdbc-"), daoCount, queriesPerDao);
+        MetricsRegistry metrics = new MetricsRegistry();
+        fileInventoryService = new FileInventoryService(new AnalyzerConfiguration(), metrics);
+        extractor = new DatabaseDependencyExtractor(new ParserPool(), fileInventoryService, metrics,
+                new SqlAnalyzer(metrics));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticApplications.deleteRecursively(moduleDir);
+    }
+
+    @Benchmark
+    public List<Dependencies.DatabaseDependency> extractDependencies() throws IOException {
+        fileInventoryService.clear();
+        return extractor.extractDependencies(moduleDir, application);
+    }
+}
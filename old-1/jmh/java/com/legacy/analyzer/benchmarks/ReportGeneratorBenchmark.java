@@ -0,0 +1,65 @@
+package com.legacy.analyzer.benchmarks;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.generators.ReportGenerator;
+import com.legacy.analyzer.model.AnalysisResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Génération des classeurs Excel (rapport global et rapports par application).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReportGeneratorBenchmark {
+
+    @Param({"10", "50"})
+    public int applications;
+
+    @Param({"200"})
+    public int endpointsPerApplication;
+
+    private Path outputDir;
+    private ReportGenerator generator;
+    private List<AnalysisResult> results;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        outputDir = Files.createTempDirectory("bench-reports-");
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(outputDir);
+        generator = new ReportGenerator(configuration);
+        results = SyntheticApplications.analysisResults(applications, endpointsPerApplication);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticApplications.deleteRecursively(outputDir);
+    }
+
+    @Benchmark
+    public void generateExcelReports() throws IOException {
+        generator.generateExcelReports(results);
+    }
+}
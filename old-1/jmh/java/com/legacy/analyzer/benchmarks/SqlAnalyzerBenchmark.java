@@ -0,0 +1,72 @@
+package com.legacy.analyzer.benchmarks;
+
+import com.legacy.analyzer.extractors.dependencies.SqlAnalyzer;
+import com.legacy.analyzer.extractors.dependencies.SqlStatement;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analyse de requêtes SQL : parsing seul, puis avec le cache par texte quand les mêmes requêtes
+ * reviennent d'un fichier à l'autre.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlAnalyzerBenchmark {
+
+    @Param({"1000"})
+    public int queryCount;
+
+    private List<String> queries;
+    private SqlAnalyzer analyzer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queries = new ArrayList<>(queryCount);
+        for (int q = 0; q < queryCount; q++) {
+            String table = "APP.T_" + (q % 50);
+            switch (q % 4) {
+                case 0 -> queries.add("SELECT t.ID, t.NAME, r.LABEL FROM " + table + " t JOIN T_REF r ON t.REF = r.ID "
+                        + "WHERE t.ID = ? AND t.STATUS IN ('A', 'B') ORDER BY t.NAME");
+                case 1 -> queries.add("UPDATE " + table + " SET NAME = ?, UPDATED = SYSDATE WHERE ID = " + q);
+                case 2 -> queries.add("{call PKG_" + (q % 20) + ".PROC_" + (q % 7) + "(?, ?)}");
+                default -> queries.add("INSERT INTO " + table + " (ID, NAME) SELECT ID, NAME FROM T_STAGING s "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM " + table + " x WHERE x.ID = s.ID)");
+            }
+        }
+        analyzer = new SqlAnalyzer(new MetricsRegistry());
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(SqlAnalyzer.parse(query, SqlStatement.Language.SQL));
+        }
+    }
+
+    @Benchmark
+    public void analyzeCached(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(analyzer.analyze(query, SqlStatement.Language.SQL));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.legacy.analyzer.benchmarks;
+
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Données synthétiques de taille paramétrable pour les benchmarks : modules sources
+ * contenant des DAO JDBC, fichiers de fonctions d'affaire et résultats d'analyse complets.
+ */
+final class SyntheticApplications {
+
+    private SyntheticApplications() {
+    }
+
+    /**
+     * Écrit {@code daoCount} classes DAO, chacune avec des requêtes littérales,
+     * concaténées et des appels de procédures stockées.
+     */
+    static Path writeJdbcModule(Path root, int daoCount, int queriesPerDao) throws IOException {
+        Path sources = root.resolve("src/main/java/com/acme/legacy/dao");
+        Files.createDirectories(sources);
+        for (int d = 0; d < daoCount; d++) {
+            StringBuilder source = new StringBuilder()
+                    .append("package com.acme.legacy.dao;\n\n")
+                    .append("import java.sql.Connection;\n")
+                    .append("import java.sql.PreparedStatement;\n\n")
+                    .append("public class Dao").append(d).append(" {\n\n")
+                    .append("    private Connection connection;\n");
+            for (int q = 0; q < queriesPerDao; q++) {
+                String table = "T_" + (d % 50) + "_" + q;
+                source.append("\n    public void query").append(q).append("(String id) throws Exception {\n")
+                      .append("        PreparedStatement select = connection.prepareStatement(\"SELECT ID, NAME FROM ")
+                      .append(table).append(" t JOIN T_REF r ON t.REF = r.ID WHERE t.ID = ?\");\n")
+                      .append("        String update = \"UPDATE ").append(table).append(" SET NAME = ? \" + \"WHERE ID = \" + id;\n")
+                      .append("        connection.prepareStatement(update);\n")
+                      .append("        connection.prepareCall(\"{call PKG_").append(d).append(".PROC_").append(q).append("(?)}\");\n")
+                      .append("    }\n");
+            }
+            Files.writeString(sources.resolve("Dao" + d + ".java"), source.append("}\n").toString());
+        }
+        return root;
+    }
+
+    /**
+     * Fichier "fonction;url" au format attendu par {@code BusinessFunctionMapper}.
+     */
+    static Path writeBusinessFunctions(Path file, int functions) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int f = 0; f < functions; f++) {
+            content.append("Fonction ").append(f).append(";https://portail.acme.com/app")
+                   .append(f % 20).append("/resource").append(f).append("/42?mode=full\n");
+        }
+        Files.writeString(file, content.toString());
+        return file;
+    }
+
+    static List<Endpoint> endpoints(String applicationName, int count) {
+        List<Endpoint> endpoints = new ArrayList<>(count);
+        for (int e = 0; e < count; e++) {
+            endpoints.add(Endpoint.builder()
+                    .id(applicationName + "_" + e)
+                    .applicationName(applicationName)
+                    .moduleName(applicationName + "-web")
+                    .className("com.acme.legacy.web.Resource" + e + "Action")
+                    .methodName("execute")
+                    .url("/app" + (e % 20) + "/resource" + e + "/{id}")
+                    .httpMethods(EnumSet.of(e % 2 == 0 ? Endpoint.HttpMethod.GET : Endpoint.HttpMethod.POST))
+                    .parameters(List.of(Endpoint.Parameter.builder().name("id").type("String").source("PATH").required(true).build()))
+                    .build());
+        }
+        return endpoints;
+    }
+
+    static List<AnalysisResult> analysisResults(int applications, int endpointsPerApplication) {
+        List<AnalysisResult> results = new ArrayList<>(applications);
+        for (int a = 0; a < applications; a++) {
+            String name = "app" + a;
+            List<Endpoint> endpoints = endpoints(name, endpointsPerApplication);
+            List<Dependencies.DatabaseDependency> databases = new ArrayList<>();
+            List<Dependencies.EJBDependency> ejbs = new ArrayList<>();
+            List<Dependencies.CobolDependency> cobolPrograms = new ArrayList<>();
+            for (int d = 0; d < 5; d++) {
+                databases.add(Dependencies.DatabaseDependency.builder()
+                        .dataSourceName("jdbc/" + name + "DS" + d)
+                        .databaseType("ORACLE")
+                        .tables(new ArrayList<>(List.of("T_" + d, "T_REF")))
+                        .build());
+                ejbs.add(Dependencies.EJBDependency.builder()
+                        .ejbName("Ejb" + d)
+                        .jndiName("ejb/" + name + "/Ejb" + d)
+                        .build());
+                cobolPrograms.add(Dependencies.CobolDependency.builder()
+                        .programName("PGM" + a + d)
+                        .build());
+            }
+            WebLogicApplication application = WebLogicApplication.builder()
+                    .id(name)
+                    .name(name)
+                    .type(WebLogicApplication.ApplicationType.EAR)
+                    .frameworks(Set.of("struts", "spring"))
+                    .endpoints(endpoints)
+                    .modules(List.of(WebLogicApplication.Module.builder()
+                            .name(name + "-web")
+                            .type(WebLogicApplication.ModuleType.WEB)
+                            .endpoints(endpoints)
+                            .build()))
+                    .globalDependencies(Dependencies.builder()
+                            .databases(databases)
+                            .ejbs(ejbs)
+                            .cobolPrograms(cobolPrograms)
+                            .build())
+                    .statistics(WebLogicApplication.Statistics.builder()
+                            .totalEndpoints(endpointsPerApplication)
+                            .totalClasses(endpointsPerApplication)
+                            .totalMethods(endpointsPerApplication * 4)
+                            .build())
+                    .build();
+            LocalDateTime start = LocalDateTime.now();
+            results.add(AnalysisResult.builder()
+                    .application(application)
+                    .success(true)
+                    .startTime(start)
+                    .endTime(start.plusSeconds(30))
+                    .duration(Duration.ofSeconds(30))
+                    .endpointsCount(endpointsPerApplication)
+                    .build());
+        }
+        return results;
+    }
+
+    static void deleteRecursively(Path root) throws IOException {
+        if (root == null || !Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package com.legacy.analyzer.cli;
 
 import com.legacy.analyzer.core.AnalysisOrchestrator;
+import com.legacy.analyzer.core.ShardPlan;
 import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.daemon.AnalysisDaemon;
+import com.legacy.analyzer.impact.ImpactIndex;
+import com.legacy.analyzer.impact.ImpactService;
+import com.legacy.analyzer.jfr.FlightRecording;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import com.legacy.analyzer.search.SearchDocument;
+import com.legacy.analyzer.search.SearchIndex;
+import com.legacy.analyzer.search.SearchQuery;
+import com.legacy.analyzer.search.SearchService;
+import com.legacy.analyzer.web.DashboardReadModel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,6 +23,9 @@ import picocli.CommandLine.Parameters;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 @Slf4j
@@ -26,7 +40,11 @@ import java.util.concurrent.Callable;
         AnalyzerCommand.AnalyzeCommand.class,
         AnalyzerCommand.ReportCommand.class,
         AnalyzerCommand.ValidateCommand.class,
-        AnalyzerCommand.ServeCommand.class
+        AnalyzerCommand.ServeCommand.class,
+        AnalyzerCommand.DaemonCommand.class,
+        AnalyzerCommand.MergeCommand.class,
+        AnalyzerCommand.QueryCommand.class,
+        AnalyzerCommand.ImpactCommand.class
     }
 )
 public class AnalyzerCommand implements Callable<Integer> {
@@ -41,6 +59,19 @@ public class AnalyzerCommand implements Callable<Integer> {
         return 0;
     }
 
+    /**
+     * Options en ligne de commande prioritaires sur output.formats.json (valeurs vérifiées avant l'analyse).
+     */
+    private static void applyResultsEncoding(AnalyzerConfiguration configuration, String format, String compression) {
+        AnalyzerConfiguration.JsonConfig json = configuration.getOutput().getFormats().getJson();
+        if (format != null) {
+            json.setEncoding(ResultsCodec.parseEncoding(format).name().toLowerCase(Locale.ROOT));
+        }
+        if (compression != null) {
+            json.setCompression(ResultsCodec.parseCompression(compression).name().toLowerCase(Locale.ROOT));
+        }
+    }
+
     @Component
     @Command(name = "analyze", description = "Lance l'analyse des applications")
     @RequiredArgsConstructor
@@ -70,9 +101,24 @@ public class AnalyzerCommand implements Callable<Integer> {
         @Option(names = {"--business-functions-file"}, description = "Fichier CSV associant les fonctions d'affaire aux URLs. Format : 'Fonction;URL'")
         private Path businessFunctionsFile;
 
+        @Option(names = {"--resume"}, description = "Reprend une analyse interrompue : les applications déjà terminées et inchangées ne sont pas réanalysées", defaultValue = "false")
+        private boolean resume;
+
+        @Option(names = {"--jfr"}, description = "Enregistre l'analyse avec Java Flight Recorder dans ce fichier (ex: analyse.jfr)")
+        private Path jfrFile;
+
+        @Option(names = {"--shard"}, description = "N'analyse que la part i/N du portfolio (ex: 2/4), à fusionner ensuite avec la commande merge")
+        private String shard;
+
+        @Option(names = {"--results-format"}, description = "Encodage des résultats : json ou smile (JSON binaire, plus compact et plus rapide à relire)")
+        private String resultsFormat;
+
+        @Option(names = {"--results-compression"}, description = "Compression des résultats : none, gzip ou zstd")
+        private String resultsCompression;
+
         @Override
         public Integer call() {
-            try {
+            try (FlightRecording recording = jfrFile != null ? FlightRecording.start(jfrFile) : null) {
                 log.info("Démarrage de l'analyse...");
                 log.info("Répertoire source: {}", sourceDir);
                 log.info("Répertoire de sortie: {}", outputDir != null ? outputDir : "Par défaut");
@@ -94,6 +140,11 @@ public class AnalyzerCommand implements Callable<Integer> {
                 
                 configuration.setParallelAnalysis(parallel);
                 configuration.setDeepAnalysis(deepAnalysis);
+                configuration.setResume(resume);
+                if (shard != null) {
+                    configuration.setShard(ShardPlan.parse(shard));
+                }
+                applyResultsEncoding(configuration, resultsFormat, resultsCompression);
                 
                 if (appName != null) {
                     configuration.setTargetApplication(appName);
@@ -118,9 +169,13 @@ public class AnalyzerCommand implements Callable<Integer> {
     public static class ServeCommand implements Callable<Integer> {
         
         private final AnalyzerConfiguration configuration;
+        private final DashboardReadModel readModel;
 
         @Override
         public Integer call() throws Exception {
+            // Résumés lus une fois, puis tenus à jour par surveillance du répertoire de résultats
+            readModel.start();
+            
             log.info("=======================================================================");
             log.info(" Démarrage du serveur web de visualisation...");
             log.info(" ");
@@ -136,6 +191,96 @@ public class AnalyzerCommand implements Callable<Integer> {
         }
     }
 
+    @Component
+    @Command(name = "daemon", description = "Démarre le démon d'analyse : résultats gardés en mémoire et requêtes sur une socket Unix locale.")
+    @RequiredArgsConstructor
+    public static class DaemonCommand implements Callable<Integer> {
+        
+        private final AnalysisDaemon daemon;
+        private final AnalyzerConfiguration configuration;
+
+        @Option(names = {"--socket"}, description = "Chemin de la socket (défaut: <sortie>/analyzer.sock)")
+        private Path socket;
+
+        @Option(names = {"-o", "--output"}, description = "Répertoire de sortie")
+        private String outputDir;
+
+        @Option(names = {"-c", "--config"}, description = "Fichier de configuration")
+        private Path configFile;
+
+        @Override
+        public Integer call() {
+            try {
+                if (configFile != null) {
+                    configuration.loadFromFile(configFile);
+                }
+                if (outputDir != null) {
+                    configuration.setOutputDirectory(Paths.get(outputDir));
+                }
+                configuration.validate();
+                
+                daemon.serve(socket != null ? socket : configuration.getOutputDirectory().resolve("analyzer.sock"));
+                return 0;
+                
+            } catch (Exception e) {
+                log.error("Erreur du démon d'analyse", e);
+                return 1;
+            }
+        }
+    }
+
+    @Component
+    @Command(name = "merge", description = "Fusionne les sorties d'analyses lancées avec --shard i/N et génère les rapports globaux")
+    @RequiredArgsConstructor
+    public static class MergeCommand implements Callable<Integer> {
+        
+        private final AnalysisOrchestrator orchestrator;
+        private final AnalyzerConfiguration configuration;
+
+        @Parameters(arity = "1..*", description = "Répertoires de sortie des shards")
+        private List<Path> shardDirectories;
+
+        @Option(names = {"-o", "--output"}, description = "Répertoire de sortie de la fusion")
+        private String outputDir;
+
+        @Option(names = {"-c", "--config"}, description = "Fichier de configuration")
+        private Path configFile;
+
+        @Option(names = {"--business-functions-file"}, description = "Fichier CSV associant les fonctions d'affaire aux URLs. Format : 'Fonction;URL'")
+        private Path businessFunctionsFile;
+
+        @Option(names = {"--results-format"}, description = "Encodage des résultats : json ou smile (JSON binaire, plus compact et plus rapide à relire)")
+        private String resultsFormat;
+
+        @Option(names = {"--results-compression"}, description = "Compression des résultats : none, gzip ou zstd")
+        private String resultsCompression;
+
+        @Override
+        public Integer call() {
+            try {
+                if (configFile != null) {
+                    configuration.loadFromFile(configFile);
+                }
+                if (businessFunctionsFile != null) {
+                    configuration.setBusinessFunctionsFile(businessFunctionsFile);
+                }
+                if (outputDir != null) {
+                    configuration.setOutputDirectory(Paths.get(outputDir));
+                }
+                applyResultsEncoding(configuration, resultsFormat, resultsCompression);
+                
+                orchestrator.mergeShards(shardDirectories);
+                
+                log.info("Fusion terminée avec succès!");
+                return 0;
+                
+            } catch (Exception e) {
+                log.error("Erreur lors de la fusion des shards", e);
+                return 1;
+            }
+        }
+    }
+
     @Component
     @Command(name = "report", description = "Génère des rapports à partir d'une analyse existante")
     @RequiredArgsConstructor
@@ -168,6 +313,143 @@ public class AnalyzerCommand implements Callable<Integer> {
         }
     }
 
+    @Component
+    @Command(name = "query", description = "Recherche dans les résultats d'une analyse : endpoints, classes, tables, procédures, noms JNDI, files, fichiers.")
+    @RequiredArgsConstructor
+    public static class QueryCommand implements Callable<Integer> {
+        
+        private final SearchService searchService;
+        private final AnalyzerConfiguration configuration;
+
+        @Parameters(arity = "0..*", description = "Mots cherchés (tous requis, préfixes acceptés) et filtres kind:, app:, framework:, type:")
+        private List<String> words;
+
+        @Option(names = {"-i", "--input"}, description = "Répertoire des résultats d'analyse (défaut : répertoire de sortie configuré)")
+        private Path inputDir;
+
+        @Option(names = {"--kind"}, description = "endpoint, class, table, procedure, jndi, queue, file, web_service ou cobol")
+        private String kind;
+
+        @Option(names = {"--application"}, description = "Limiter à une application")
+        private String application;
+
+        @Option(names = {"--framework"}, description = "Limiter aux applications utilisant ce framework")
+        private String framework;
+
+        @Option(names = {"--type"}, description = "Type de dépendance : database, ejb, jms, file, webservice ou cobol")
+        private String dependencyType;
+
+        @Option(names = {"--limit"}, description = "Nombre maximal de résultats affichés", defaultValue = "20")
+        private int limit;
+
+        @Override
+        public Integer call() {
+            try {
+                Path results = inputDir != null ? inputDir : configuration.getOutputDirectory();
+                SearchQuery query = SearchQuery.parse(words != null ? String.join(" ", words) : "",
+                        kind, application, framework, dependencyType, limit);
+                SearchIndex.SearchResult result = searchService.search(results, query);
+                
+                System.out.printf(Locale.ROOT, "%d résultat(s) en %.1f ms%n", result.total(), result.millis());
+                for (SearchDocument hit : result.hits()) {
+                    StringBuilder line = new StringBuilder()
+                            .append(String.format("%-11s ", hit.kind())).append(hit.value())
+                            .append("  [").append(hit.application()).append(']');
+                    if (hit.endpoint() != null && hit.kind() != SearchDocument.Kind.ENDPOINT) {
+                        line.append("  ").append(hit.endpoint());
+                    }
+                    if (hit.className() != null && hit.kind() != SearchDocument.Kind.CLASS) {
+                        line.append("  ").append(hit.className());
+                        if (hit.methodName() != null) {
+                            line.append('#').append(hit.methodName());
+                        }
+                    }
+                    if (hit.location() != null) {
+                        line.append("  (").append(hit.location()).append(')');
+                    }
+                    System.out.println(line);
+                }
+                result.facets().forEach((facet, counts) -> {
+                    if (!counts.isEmpty()) {
+                        System.out.println(facet + " : " + counts);
+                    }
+                });
+                return 0;
+                
+            } catch (IllegalArgumentException e) {
+                log.error("Requête invalide : {}", e.getMessage());
+                return 2;
+            } catch (Exception e) {
+                log.error("Erreur lors de la recherche", e);
+                return 1;
+            }
+        }
+    }
+
+    @Component
+    @Command(name = "impact", description = "Applications, endpoints et requêtes qui utilisent une table ou une procédure stockée.")
+    @RequiredArgsConstructor
+    public static class ImpactCommand implements Callable<Integer> {
+        
+        private static final int MAX_QUERY_LENGTH = 120;
+        
+        private final ImpactService impactService;
+        private final AnalyzerConfiguration configuration;
+
+        @Parameters(arity = "1..*", description = "Tables ou procédures (sans casse, * final pour un préfixe : PKG_FACTURE.*)")
+        private List<String> objects;
+
+        @Option(names = {"-i", "--input"}, description = "Répertoire des résultats d'analyse (défaut : répertoire de sortie configuré)")
+        private Path inputDir;
+
+        @Option(names = {"--application"}, description = "Limiter à une application")
+        private String application;
+
+        @Option(names = {"--limit"}, description = "Nombre maximal de requêtes détaillées par objet", defaultValue = "50")
+        private int limit;
+
+        @Override
+        public Integer call() {
+            try {
+                Path results = inputDir != null ? inputDir : configuration.getOutputDirectory();
+                for (String object : objects) {
+                    ImpactIndex.Impact impact = impactService.lookup(results, object, application, limit);
+                    int endpoints = impact.applications().values().stream().mapToInt(Set::size).sum();
+                    System.out.printf(Locale.ROOT, "%s : %d usage(s), %d application(s), %d endpoint(s) en %.1f ms%n",
+                            impact.object(), impact.total(), impact.applications().size(), endpoints, impact.millis());
+                    impact.applications().forEach((app, appEndpoints) -> {
+                        System.out.println("  " + app);
+                        appEndpoints.forEach(endpoint -> System.out.println("    " + endpoint));
+                    });
+                    for (ImpactIndex.Usage usage : impact.usages()) {
+                        StringBuilder line = new StringBuilder("    ")
+                                .append(String.format("%-8s ", usage.operation() != null ? usage.operation() : "-"))
+                                .append(usage.object()).append("  [").append(usage.application()).append(']');
+                        if (usage.endpoint() != null) {
+                            line.append("  ").append(usage.endpoint());
+                        }
+                        if (usage.location() != null) {
+                            line.append("  (").append(usage.location()).append(')');
+                        }
+                        if (usage.query() != null) {
+                            line.append("  ").append(usage.query().length() > MAX_QUERY_LENGTH
+                                    ? usage.query().substring(0, MAX_QUERY_LENGTH) + "..." : usage.query());
+                        }
+                        System.out.println(line);
+                    }
+                    if (impact.total() > impact.usages().size()) {
+                        System.out.printf("    ... %d autre(s) usage(s) (--limit)%n", impact.total() - impact.usages().size());
+                    }
+                }
+                return 0;
+                
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse d'impact", e);
+                return 1;
+            }
+        }
+    }
+
     @Component
     @Command(name = "validate", description = "Valide la configuration")
     @RequiredArgsConstructor
@@ -0,0 +1,72 @@
+package com.legacy.analyzer.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application et extracteur en cours sur le thread courant, repris par les traitements émis
+ * en profondeur (événements JFR de parsing) qui n'ont pas ces informations sous la main.
+ * Une application est analysée de bout en bout sur un seul thread, séquentiel comme parallèle.
+ * L'activité de chaque thread est aussi publiée pour l'affichage de la progression.
+ */
+public final class AnalysisContext {
+
+    private static final ThreadLocal<String> APPLICATION = new ThreadLocal<>();
+    private static final ThreadLocal<String> EXTRACTOR = new ThreadLocal<>();
+    // nom du thread -> "application / extracteur"
+    private static final Map<String, String> ACTIVITIES = new ConcurrentHashMap<>();
+
+    private AnalysisContext() {
+    }
+
+    public static void enterApplication(String application) {
+        APPLICATION.set(application);
+        publish();
+    }
+
+    public static void exitApplication() {
+        APPLICATION.remove();
+        EXTRACTOR.remove();
+        ACTIVITIES.remove(Thread.currentThread().getName());
+    }
+
+    public static String application() {
+        return APPLICATION.get();
+    }
+
+    /** @return l'extracteur précédent, à restaurer par {@link #exitExtractor(String)} */
+    public static String enterExtractor(String extractor) {
+        String previous = EXTRACTOR.get();
+        EXTRACTOR.set(extractor);
+        publish();
+        return previous;
+    }
+
+    public static void exitExtractor(String previous) {
+        if (previous == null) {
+            EXTRACTOR.remove();
+        } else {
+            EXTRACTOR.set(previous);
+        }
+        publish();
+    }
+
+    public static String extractor() {
+        return EXTRACTOR.get();
+    }
+
+    /** Activité courante de chaque thread d'analyse, triée par nom de thread. */
+    public static Map<String, String> activities() {
+        return new TreeMap<>(ACTIVITIES);
+    }
+
+    private static void publish() {
+        String application = APPLICATION.get();
+        if (application == null) {
+            return;
+        }
+        String extractor = EXTRACTOR.get();
+        ACTIVITIES.put(Thread.currentThread().getName(), extractor != null ? application + " / " + extractor : application);
+    }
+}
@@ -7,23 +7,47 @@ import com.legacy.analyzer.generators.PseudoCodeGenerator;
 import com.legacy.analyzer.generators.ReportGenerator;
 import com.legacy.analyzer.generators.UMLDiagramGenerator;
 import com.legacy.analyzer.generators.DependencyGraphGenerator;
+import com.legacy.analyzer.impact.ImpactService;
+import com.legacy.analyzer.jfr.ApplicationAnalysisEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.AnalysisResult;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.persistence.AnalysisCheckpoint;
 import com.legacy.analyzer.persistence.ResultsPersistence;
+import com.legacy.analyzer.persistence.ShardManifest;
+import com.legacy.analyzer.persistence.StoredResults;
+import com.legacy.analyzer.progress.ProgressMonitor;
+import com.legacy.analyzer.scanner.FileInventory;
+import com.legacy.analyzer.scanner.FileInventoryService;
 import com.legacy.analyzer.scanner.WebLogicProjectScanner;
+import com.legacy.analyzer.symbols.SymbolTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,6 +64,11 @@ public class AnalysisOrchestrator {
     private final ReportGenerator reportGenerator;
     private final UMLDiagramGenerator umlDiagramGenerator;
     private final DependencyGraphGenerator dependencyGraphGenerator;
+    private final FileInventoryService fileInventoryService;
+    private final ProgressMonitor progressMonitor;
+    private final AnalysisCheckpoint checkpoint;
+    private final MetricsRegistry metrics;
+    private final ImpactService impactService;
     
     public void performAnalysis() throws IOException {
         LocalDateTime startTime = LocalDateTime.now();
@@ -50,12 +79,14 @@ public class AnalysisOrchestrator {
         try {
             // Validation de la configuration
             configuration.validate();
+            fileInventoryService.clear();
+            metrics.reset();
+            SymbolTable.startRun();
             
             // Phase 1: Scanner les projets
             log.info("Phase 1: Scan des projets WebLogic...");
-            List<WebLogicApplication> applications = projectScanner.scanDirectory(
-                configuration.getSourceDirectory()
-            );
+            List<WebLogicApplication> applications = metrics.timed(MetricsRegistry.DISCOVERY,
+                    () -> projectScanner.scanDirectory(configuration.getSourceDirectory()));
             
             if (applications.isEmpty()) {
                 log.warn("Aucune application trouvée dans le répertoire source");
@@ -72,46 +103,72 @@ public class AnalysisOrchestrator {
                 log.info("Analyse limitée à l'application: {}", configuration.getTargetApplication());
             }
             
+            // Shard : affectation calculée sur tout le portfolio, seule la part de cet agent est analysée
+            ShardPlan shard = configuration.getShard();
+            Map<String, Long> weights = null;
+            Map<String, Integer> assignment = null;
+            if (shard != null) {
+                weights = applicationWeights(applications);
+                assignment = ShardPlan.assign(weights, shard.getCount());
+                Map<String, Integer> shardAssignment = assignment;
+                int portfolioSize = applications.size();
+                applications = applications.stream()
+                        .filter(app -> shard.contains(shardAssignment, app.getName()))
+                        .collect(Collectors.toList());
+                log.info("Shard {}: {} application(s) sur {}", shard, applications.size(), portfolioSize);
+            }
+            
             // Phase 2: Analyser les applications
             log.info("Phase 2: Analyse des applications...");
             List<AnalysisResult> results;
             
-            ConsoleProgressBar progressBar = new ConsoleProgressBar("Analyse des applications", applications.size());
-            progressBar.start();
+            // Reprise : les applications terminées lors d'une exécution précédente sont rechargées
+            checkpoint.open(configuration.isResume());
+            results = new ArrayList<>();
+            List<WebLogicApplication> pending = new ArrayList<>();
+            for (WebLogicApplication application : applications) {
+                Optional<AnalysisResult> previous = configuration.isResume() ?
+                        checkpoint.restore(application) : Optional.empty();
+                if (previous.isPresent()) {
+                    results.add(previous.get());
+                } else {
+                    pending.add(application);
+                }
+            }
+            if (!results.isEmpty()) {
+                log.info("Reprise: {} application(s) rechargée(s), {} à analyser", results.size(), pending.size());
+                metrics.add(MetricsRegistry.APPLICATIONS_RESUMED, results.size());
+            }
+
+            progressMonitor.start(pending);
 
             try {
                 if (configuration.isParallelAnalysis()) {
-                    results = analyzeApplicationsParallel(applications, progressBar);
+                    results.addAll(analyzeApplicationsParallel(pending));
                 } else {
-                    results = analyzeApplicationsSequential(applications, progressBar);
+                    results.addAll(analyzeApplicationsSequential(pending));
                 }
             } finally {
-                progressBar.close(); // <<< NOUVEAU : Assure que la barre est fermée proprement
+                progressMonitor.stop();
+                checkpoint.close();
+            }
+            
+            if (shard != null) {
+                resultsPersistence.saveShardManifest(shardManifest(shard, assignment, weights, results));
             }
 
             // Phase d'enrichissement des endpoints 
-            if (configuration.getBusinessFunctionsFile() != null) {
-                log.info("Phase 2.5: Association des fonctions d'affaire...");
-                BusinessFunctionMapper mapper = new BusinessFunctionMapper(configuration.getBusinessFunctionsFile());
-                
-                List<Endpoint> allEndpoints = results.stream()
-                        .filter(r -> r.isSuccess() && r.getApplication() != null)
-                        .map(r -> r.getApplication().getEndpoints())
-                        .filter(Objects::nonNull)
-                        .flatMap(List::stream)
-                        .collect(Collectors.toList());
-
-                mapper.enrichEndpoints(allEndpoints);
-            }
+            enrichBusinessFunctions(results);
             
             // Phase 3: Générer les rapports
             log.info("Phase 3: Génération des rapports...");
-            generateReports(results);
+            metrics.timed(MetricsRegistry.REPORTING, () -> generateReports(results));
             
             // Afficher les statistiques
             LocalDateTime endTime = LocalDateTime.now();
             Duration duration = Duration.between(startTime, endTime);
             displayStatistics(results, duration);
+            metrics.export(configuration.getOutputDirectory());
             
             log.info("=== Analyse terminée avec succès ===");
             
@@ -121,12 +178,206 @@ public class AnalysisOrchestrator {
         }
     }
     
-    private List<AnalysisResult> analyzeApplicationsSequential(List<WebLogicApplication> applications, ConsoleProgressBar progressBar) {
+    /**
+     * Fusionne les sorties d'agents lancés avec {@code analyze --shard i/N} dans le répertoire de sortie
+     * configuré : résultats par application, index d'analyse, puis fonctions d'affaire et rapports
+     * globaux (graphe de dépendances, UML, Excel) recalculés sur le portfolio complet.
+     * <p>
+     * Les résultats complets sont relus dans le point de reprise de chaque shard
+     * ({@code checkpoint/results}), écrit pendant toute analyse.
+     */
+    public void mergeShards(List<Path> shardDirectories) throws IOException {
+        LocalDateTime startTime = LocalDateTime.now();
+        log.info("=== Fusion de {} shard(s) vers {} ===", shardDirectories.size(), configuration.getOutputDirectory());
+        configuration.validate();
+        metrics.reset();
+        SymbolTable.startRun();
+        
+        List<ShardManifest> manifests = new ArrayList<>();
+        for (Path shardDirectory : shardDirectories) {
+            manifests.add(resultsPersistence.loadShardManifest(shardDirectory));
+        }
+        verifyShards(shardDirectories, manifests);
+        
+        List<AnalysisResult> results = new ArrayList<>();
+        for (int i = 0; i < shardDirectories.size(); i++) {
+            Path shardDirectory = shardDirectories.get(i);
+            Map<String, AnalysisResult> completed = new HashMap<>();
+            for (AnalysisResult result : checkpoint.loadResults(shardDirectory)) {
+                completed.put(result.getApplication().getName(), result);
+            }
+            for (ShardManifest.Entry entry : manifests.get(i).getApplications()) {
+                AnalysisResult result = completed.get(entry.getName());
+                if (entry.isSuccess() && result != null) {
+                    resultsPersistence.importApplicationDirectory(shardDirectory, entry.getName());
+                    results.add(result);
+                } else {
+                    String error = entry.isSuccess() ? "Résultat absent du shard " + shardDirectory : entry.getError();
+                    results.add(AnalysisResult.builder()
+                            .application(WebLogicApplication.builder()
+                                    .name(entry.getName())
+                                    .sourcePath(entry.getSourcePath() != null ? Path.of(entry.getSourcePath()) : null)
+                                    .build())
+                            .success(false)
+                            .error(error)
+                            .build());
+                }
+            }
+            log.info("Shard {}/{} ({}): {} application(s)", manifests.get(i).getShardIndex(),
+                    manifests.get(i).getShardCount(), shardDirectory, manifests.get(i).getApplications().size());
+        }
+        results.sort(Comparator.comparing(r -> r.getApplication().getName()));
+        resultsPersistence.rebuildAnalysisIndex(results);
+        
+        enrichBusinessFunctions(results);
+        metrics.timed(MetricsRegistry.REPORTING, () -> generateReports(results));
+        displayStatistics(results, Duration.between(startTime, LocalDateTime.now()));
+        metrics.export(configuration.getOutputDirectory());
+        log.info("=== Fusion terminée ===");
+    }
+    
+    /**
+     * Les shards doivent provenir du même découpage (même N, même affectation) et être tous présents.
+     */
+    private void verifyShards(List<Path> shardDirectories, List<ShardManifest> manifests) {
+        ShardManifest reference = manifests.get(0);
+        Map<Integer, Path> byIndex = new TreeMap<>();
+        Set<String> applications = new HashSet<>();
+        int applicationCount = 0;
+        for (int i = 0; i < manifests.size(); i++) {
+            ShardManifest manifest = manifests.get(i);
+            if (manifest.getShardCount() != reference.getShardCount()
+                    || !Objects.equals(manifest.getAssignmentDigest(), reference.getAssignmentDigest())) {
+                throw new IllegalStateException("Shards incompatibles: " + shardDirectories.get(i) + " ("
+                        + manifest.getShardIndex() + "/" + manifest.getShardCount() + ") ne provient pas du même découpage que "
+                        + shardDirectories.get(0) + " (" + reference.getShardIndex() + "/" + reference.getShardCount() + ")");
+            }
+            Path previous = byIndex.put(manifest.getShardIndex(), shardDirectories.get(i));
+            if (previous != null) {
+                throw new IllegalStateException("Shard " + manifest.getShardIndex() + "/" + manifest.getShardCount()
+                        + " fourni deux fois: " + previous + " et " + shardDirectories.get(i));
+            }
+            for (ShardManifest.Entry entry : manifest.getApplications()) {
+                applications.add(entry.getName());
+                applicationCount++;
+            }
+        }
+        List<Integer> missing = new ArrayList<>();
+        for (int index = 1; index <= reference.getShardCount(); index++) {
+            if (!byIndex.containsKey(index)) {
+                missing.add(index);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Shard(s) manquant(s) sur " + reference.getShardCount() + ": " + missing);
+        }
+        if (applications.size() != applicationCount || applicationCount != reference.getPortfolioApplications()) {
+            throw new IllegalStateException("Fusion incohérente: " + applicationCount + " application(s) dans les shards, "
+                    + applications.size() + " distincte(s), " + reference.getPortfolioApplications() + " attendue(s)");
+        }
+    }
+    
+    /**
+     * Poids de chaque application pour le découpage : octets de sources Java, la mesure utilisée
+     * pour la progression. Les inventaires restent en cache pour les extracteurs.
+     */
+    private Map<String, Long> applicationWeights(List<WebLogicApplication> applications) {
+        Map<String, Long> weights = new HashMap<>();
+        for (WebLogicApplication application : applications) {
+            long bytes = 0;
+            if (application.getExtractedPath() != null) {
+                try {
+                    FileInventory inventory = fileInventoryService.inventoryFor(application.getExtractedPath());
+                    for (Path javaFile : inventory.findByExtension("java")) {
+                        bytes += inventory.sizeOf(javaFile);
+                    }
+                } catch (IOException e) {
+                    log.debug("Inventaire impossible pour {}: {}", application.getName(), e.getMessage());
+                }
+            }
+            weights.merge(application.getName(), bytes, Long::sum);
+        }
+        return weights;
+    }
+    
+    private ShardManifest shardManifest(ShardPlan shard, Map<String, Integer> assignment,
+                                        Map<String, Long> weights, List<AnalysisResult> results) {
+        List<ShardManifest.Entry> entries = results.stream()
+                .map(result -> ShardManifest.Entry.builder()
+                        .name(result.getApplication().getName())
+                        .sourcePath(result.getApplication().getSourcePath() != null ?
+                                result.getApplication().getSourcePath().toString() : null)
+                        .weight(weights.getOrDefault(result.getApplication().getName(), 0L))
+                        .success(result.isSuccess())
+                        .error(result.getError())
+                        .build())
+                .sorted(Comparator.comparing(ShardManifest.Entry::getName))
+                .collect(Collectors.toList());
+        return ShardManifest.builder()
+                .shardIndex(shard.getIndex())
+                .shardCount(shard.getCount())
+                .assignmentDigest(assignmentDigest(assignment))
+                .portfolioApplications(assignment.size())
+                .applications(entries)
+                .build();
+    }
+    
+    // Empreinte de l'affectation complète : deux shards d'un même découpage ont la même
+    private static String assignmentDigest(Map<String, Integer> assignment) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, Integer> entry : new TreeMap<>(assignment).entrySet()) {
+                digest.update((entry.getKey() + "=" + entry.getValue() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private void enrichBusinessFunctions(List<AnalysisResult> results) throws IOException {
+        if (configuration.getBusinessFunctionsFile() == null) {
+            return;
+        }
+        log.info("Phase 2.5: Association des fonctions d'affaire...");
+        BusinessFunctionMapper mapper = new BusinessFunctionMapper(configuration.getBusinessFunctionsFile());
+        
+        List<Endpoint> allEndpoints = results.stream()
+                .filter(r -> r.isSuccess() && r.getApplication() != null)
+                .map(r -> r.getApplication().getEndpoints())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        mapper.enrichEndpoints(allEndpoints);
+    }
+    
+    /**
+     * Analyse d'une ou plusieurs applications pour le démon d'analyse : ni reprise, ni rapports globaux.
+     * Les résultats de chaque application sont écrits comme lors d'une analyse complète et renvoyés
+     * à l'appelant, qui les garde en mémoire.
+     *
+     * @param applicationName nom de l'application à analyser dans {@code source}, null pour toutes
+     */
+    public List<AnalysisResult> analyzeApplications(Path source, String applicationName) throws IOException {
+        fileInventoryService.clear();
+        SymbolTable.startRun();
+        List<WebLogicApplication> applications = metrics.timed(MetricsRegistry.DISCOVERY,
+                () -> projectScanner.scanDirectory(source));
+        if (applicationName != null) {
+            applications = applications.stream()
+                    .filter(app -> app.getName().equals(applicationName))
+                    .collect(Collectors.toList());
+        }
+        return analyzeApplicationsSequential(applications);
+    }
+    
+    private List<AnalysisResult> analyzeApplicationsSequential(List<WebLogicApplication> applications) {
         List<AnalysisResult> results = new ArrayList<>();
         
         for (int i = 0; i < applications.size(); i++) {
             WebLogicApplication app = applications.get(i);
-            // Le log suivant est supprimé car la barre de progression le remplace
+            // Le log suivant est supprimé car la ligne de progression le remplace
             // log.info("Analyse de l'application {}/{}: {}", i + 1, applications.size(), app.getName());
             
             try {
@@ -134,7 +385,7 @@ public class AnalysisOrchestrator {
                 results.add(result);
                 
                 // Sauvegarder au fur et à mesure
-                resultsPersistence.saveApplicationResult(result);
+                saveApplicationResult(result);
                 
             } catch (Exception e) {
                 log.error("Erreur lors de l'analyse de l'application: {}", app.getName(), e);
@@ -145,14 +396,18 @@ public class AnalysisOrchestrator {
                         .build();
                 results.add(errorResult);
             } finally {
-                progressBar.step();
+                progressMonitor.applicationFinished(app);
             }
         }
         
         return results;
     }
     
-    private List<AnalysisResult> analyzeApplicationsParallel(List<WebLogicApplication> applications, ConsoleProgressBar progressBar) {
+    private List<AnalysisResult> analyzeApplicationsParallel(List<WebLogicApplication> applications) {
+        if (applications.isEmpty()) {
+            // Shard vide ou reprise complète : pas de pool à zéro thread
+            return new ArrayList<>();
+        }
         int threadCount = Math.min(configuration.getPerformance().getMaxThreads(), applications.size());
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         
@@ -165,7 +420,7 @@ public class AnalysisOrchestrator {
                             // Ce log peut être conservé pour les fichiers de log détaillés
                             log.debug("Début de l'analyse de: {}", app.getName());
                             AnalysisResult result = analyzeApplication(app);
-                            resultsPersistence.saveApplicationResult(result);
+                            saveApplicationResult(result);
                             return result;
                         } catch (Exception e) {
                             log.error("Erreur lors de l'analyse de: {}", app.getName(), e);
@@ -176,8 +431,8 @@ public class AnalysisOrchestrator {
                                     .build();
                         }
                     }, executor)
-                    // Met à jour la barre de progression à la fin de chaque tâche >>>
-                    .whenComplete((res, err) -> progressBar.step()))
+                    // Met à jour la progression à la fin de chaque tâche
+                    .whenComplete((res, err) -> progressMonitor.applicationFinished(app)))
                     .collect(Collectors.toList());
             
             // Attendre la fin de toutes les analyses
@@ -199,25 +454,29 @@ public class AnalysisOrchestrator {
     
     private AnalysisResult analyzeApplication(WebLogicApplication application) throws Exception {
         log.debug("Analyse détaillée de l'application: {}", application.getName());
+        checkpoint.started(application);
         LocalDateTime startTime = LocalDateTime.now();
         
         AnalysisResult.AnalysisResultBuilder resultBuilder = AnalysisResult.builder()
                 .application(application)
                 .startTime(startTime);
         
+        ApplicationAnalysisEvent analysisEvent = new ApplicationAnalysisEvent();
+        AnalysisContext.enterApplication(application.getName());
+        analysisEvent.begin();
         try {
             // Extraction des endpoints
             log.debug("Extraction des endpoints...");
-            endpointExtractor.extractEndpoints(application);
+            metrics.timed(MetricsRegistry.ENDPOINT_FINDING, () -> endpointExtractor.extractEndpoints(application));
             
             // Extraction des dépendances
             log.debug("Extraction des dépendances...");
-            dependencyExtractor.extractDependencies(application);
+            metrics.timed(MetricsRegistry.DEPENDENCY_TRAVERSAL, () -> dependencyExtractor.extractDependencies(application));
             
             // Génération du pseudo-code
             if (configuration.getOutput().getFormats().getJson().isPrettyPrint()) {
                 log.debug("Génération du pseudo-code...");
-                pseudoCodeGenerator.generatePseudoCode(application);
+                metrics.timed(MetricsRegistry.PSEUDO_CODE, () -> pseudoCodeGenerator.generatePseudoCode(application));
             }
             
             // Calcul des statistiques
@@ -226,20 +485,57 @@ public class AnalysisOrchestrator {
             resultBuilder.success(true);
             resultBuilder.endpointsCount(application.getEndpoints() != null ? 
                     application.getEndpoints().size() : 0);
+            metrics.increment(MetricsRegistry.APPLICATIONS_ANALYZED);
+            analysisEvent.successful = true;
             
         } catch (Exception e) {
             log.error("Erreur lors de l'analyse de l'application: {}", application.getName(), e);
+            metrics.increment(MetricsRegistry.APPLICATIONS_FAILED);
             resultBuilder.success(false);
             resultBuilder.error(e.getMessage());
             throw e;
         } finally {
             resultBuilder.endTime(LocalDateTime.now());
             resultBuilder.duration(Duration.between(startTime, LocalDateTime.now()));
+            AnalysisContext.exitApplication();
+            commitAnalysisEvent(analysisEvent, application);
         }
         
         return resultBuilder.build();
     }
     
+    private void commitAnalysisEvent(ApplicationAnalysisEvent event, WebLogicApplication application) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.application = application.getName();
+        event.type = application.getType() != null ? application.getType().name() : null;
+        Path sourcePath = application.getSourcePath();
+        if (sourcePath != null) {
+            event.file = sourcePath.toString();
+            try {
+                event.bytes = Files.isRegularFile(sourcePath) ? Files.size(sourcePath) : 0;
+            } catch (IOException e) {
+                event.bytes = 0;
+            }
+        }
+        event.modules = application.getModules() != null ? application.getModules().size() : 0;
+        event.endpoints = application.getEndpoints() != null ? application.getEndpoints().size() : 0;
+        event.commit();
+    }
+    
+    private void saveApplicationResult(AnalysisResult result) throws IOException {
+        metrics.timed(MetricsRegistry.SERIALIZATION, () -> {
+            resultsPersistence.saveApplicationResult(result);
+            impactService.record(result);
+        });
+        // Journalisée seulement une fois les résultats écrits : un arrêt avant ce point fait refaire l'application
+        if (result.isSuccess()) {
+            checkpoint.completed(result);
+        }
+    }
+    
     private WebLogicApplication.Statistics calculateStatistics(WebLogicApplication application) {
         WebLogicApplication.Statistics.StatisticsBuilder statsBuilder = 
                 WebLogicApplication.Statistics.builder();
@@ -283,38 +579,49 @@ public class AnalysisOrchestrator {
     public void generateReports(Path inputDir, String format) throws IOException {
         log.info("Génération des rapports depuis: {}", inputDir);
         
-        // Charger les résultats
-        List<AnalysisResult> results = resultsPersistence.loadAllResults(inputDir);
+        // Résultats relus application par application : seule l'application en cours reste en mémoire
+        StoredResults results = resultsPersistence.openResults(inputDir);
+        log.info("{} application(s) à relire", results.size());
         
         // Générer les rapports selon le format
-        generateReports(results, format);
+        generateReports(results, results::summaries, format);
     }
     
     private void generateReports(List<AnalysisResult> results) throws IOException {
-        generateReports(results, "all");
+        generateReports(results, () -> results, "all");
     }
     
-    private void generateReports(List<AnalysisResult> results, String format) throws IOException {
+    /**
+     * @param results   parcourus application par application (rapports détaillés)
+     * @param summaries résumés sans endpoints ni requêtes, pour les vues globales (JSON, UML, graphes)
+     */
+    private void generateReports(Iterable<AnalysisResult> results, Supplier<List<AnalysisResult>> summaries,
+                                 String format) throws IOException {
         if ("all".equals(format) || "excel".equals(format)) {
             log.info("Génération des rapports Excel...");
             reportGenerator.generateExcelReports(results);
         }
         
+        if ("excel".equals(format)) {
+            return;
+        }
+        List<AnalysisResult> overview = summaries.get();
+        
         if ("all".equals(format) || "json".equals(format)) {
             log.info("Génération du rapport JSON global...");
-            resultsPersistence.saveGlobalResults(results);
+            resultsPersistence.saveGlobalResults(overview);
         }
         
         // NOUVEAU : Génération des diagrammes UML
         if ("all".equals(format) || "uml".equals(format)) {
             log.info("Génération des diagrammes UML...");
-            umlDiagramGenerator.generateUMLDiagrams(results, configuration.getOutputDirectory());
+            umlDiagramGenerator.generateUMLDiagrams(results, overview, configuration.getOutputDirectory());
         }
         
         // NOUVEAU : Génération des graphiques de dépendances
         if ("all".equals(format) || "graphs".equals(format)) {
             log.info("Génération des graphiques de dépendances...");
-            dependencyGraphGenerator.generateDependencyGraphs(results, configuration.getOutputDirectory());
+            dependencyGraphGenerator.generateDependencyGraphs(results, overview, configuration.getOutputDirectory());
         }
     }
     
@@ -0,0 +1,96 @@
+package com.legacy.analyzer.core;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Part du portfolio analysée par un agent ({@code analyze --shard i/N}, i de 1 à N).
+ * <p>
+ * Chaque agent calcule la même affectation complète à partir de l'inventaire des sources, sans
+ * coordination : les applications sont triées par taille décroissante puis affectées une à une au
+ * shard le moins chargé (en octets de sources). À charge égale, le shard est choisi à partir d'un
+ * hachage stable du nom, ce qui répartit les petites applications de même taille. Deux agents qui
+ * voient les mêmes sources obtiennent donc la même affectation, quel que soit l'ordre du scan.
+ */
+@Getter
+public class ShardPlan {
+
+    private final int index;
+    private final int count;
+
+    public ShardPlan(int index, int count) {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("Shard invalide: " + index + "/" + count + " (attendu i/N avec 1 <= i <= N)");
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * @param spec {@code i/N}, par exemple {@code 2/4}
+     */
+    public static ShardPlan parse(String spec) {
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard invalide: '" + spec + "' (attendu i/N, ex: 2/4)");
+        }
+        try {
+            return new ShardPlan(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Shard invalide: '" + spec + "' (attendu i/N, ex: 2/4)", e);
+        }
+    }
+
+    /**
+     * Affectation complète du portfolio.
+     *
+     * @param weights nom de l'application -> taille de ses sources en octets
+     * @return nom de l'application -> numéro de shard (1 à N), dans l'ordre d'affectation
+     */
+    public static Map<String, Integer> assign(Map<String, Long> weights, int count) {
+        List<Map.Entry<String, Long>> ordered = new ArrayList<>(weights.entrySet());
+        ordered.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        long[] loads = new long[count];
+        Map<String, Integer> assignment = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> application : ordered) {
+            // Parcours des shards à partir du hachage du nom : le premier moins chargé l'emporte
+            int start = (int) (stableHash(application.getKey()) % count);
+            int target = start;
+            for (int offset = 1; offset < count; offset++) {
+                int candidate = (start + offset) % count;
+                if (loads[candidate] < loads[target]) {
+                    target = candidate;
+                }
+            }
+            loads[target] += Math.max(1, application.getValue());
+            assignment.put(application.getKey(), target + 1);
+        }
+        return assignment;
+    }
+
+    public boolean contains(Map<String, Integer> assignment, String applicationName) {
+        Integer shard = assignment.get(applicationName);
+        return shard != null && shard == index;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+
+    // CRC32 du nom : même valeur sur tous les agents, quelle que soit la JVM
+    private static long stableHash(String value) {
+        CRC32 crc = new CRC32();
+        crc.update(value.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -1,5 +1,6 @@
 package com.legacy.analyzer.core.config;
 
+import com.legacy.analyzer.core.ShardPlan;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -38,7 +39,11 @@ public class AnalyzerConfiguration {
     private Path businessFunctionsFile;
     private boolean parallelAnalysis = true;
     private boolean deepAnalysis = false;
+    // Reprise d'une analyse interrompue (--resume) : les applications déjà terminées sont rechargées
+    private boolean resume = false;
     private String targetApplication;
+    // Part du portfolio analysée par cet agent (--shard i/N), null pour tout le portfolio
+    private ShardPlan shard;
     
     @Value("${server.port:8080}")
     private int serverPort;
@@ -48,6 +53,8 @@ public class AnalyzerConfiguration {
         private String rootDirectory;
         private List<String> includePatterns = List.of("*.ear", "*.war", "*.jar");
         private List<String> excludePatterns = List.of("*-test.ear", "backup/*", "*.bak");
+        // Répertoires/fichiers ignorés lors de l'inventaire des arborescences (globs)
+        private List<String> inventoryExcludePatterns = List.of(".git", ".svn", ".idea", ".gradle", "node_modules");
     }
     
     @Data
@@ -129,6 +136,10 @@ public class AnalyzerConfiguration {
     public static class JsonConfig {
         private boolean prettyPrint = true;
         private boolean compress = false;
+        // Encodage des résultats : json, ou smile (JSON binaire, plus compact et plus rapide à relire)
+        private String encoding = "json";
+        // none, gzip ou zstd ; si absent, compress: true vaut gzip
+        private String compression;
     }
     
     @Data
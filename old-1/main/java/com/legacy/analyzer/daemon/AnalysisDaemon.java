@@ -0,0 +1,447 @@
+package com.legacy.analyzer.daemon;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.legacy.analyzer.core.AnalysisOrchestrator;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.persistence.AnalysisCheckpoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import jdk.net.ExtendedSocketOptions;
+
+/**
+ * Démon d'analyse : garde le contexte Spring, la JVM chaude et les résultats des applications
+ * analysées en mémoire, et répond sur une socket Unix locale (commande {@code daemon}).
+ * <p>
+ * Protocole ligne à ligne : chaque ligne reçue est une {@link Request} JSON, chaque réponse un objet
+ * JSON sur une ligne avec {@code "ok"} et la durée de traitement {@code "millis"}. Une application dont
+ * l'empreinte des sources (taille et date des fichiers) n'a pas changé est servie depuis la mémoire ;
+ * sinon elle est réanalysée seule, sans relancer le scan du portfolio.
+ * <p>
+ * Les analyses partagent les services de l'orchestrateur (inventaires, métriques) : elles sont
+ * sérialisées, les requêtes de lecture s'exécutent en parallèle entre deux analyses.
+ * <p>
+ * La socket est réservée à l'utilisateur qui lance le démon : droits {@code rw-------} dès sa création,
+ * et les connexions d'un autre utilisateur ({@code SO_PEERCRED}) sont refermées sans réponse.
+ * Une {@code OutOfMemoryError} arrête le démon, {@link #serve(Path)} la relance une fois la socket fermée.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisDaemon {
+
+    private final AnalysisOrchestrator orchestrator;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    // nom de l'application -> résultat gardé en mémoire
+    private final Map<String, ResidentApplication> applications = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long startedAt = System.currentTimeMillis();
+    private volatile ServerSocketChannel server;
+    private volatile UserPrincipal owner;
+    // Erreur de la JVM survenue dans une connexion : arrête le démon et sera relancée par serve()
+    private volatile VirtualMachineError fatal;
+
+    /**
+     * Requête adressée au démon, par exemple {@code {"command":"dependencies","application":"app-001","endpoint":"/orders"}}.
+     *
+     * @param command     analyze, reanalyze, endpoints, dependencies, status, evict ou shutdown
+     * @param source      répertoire (ou archive) à analyser (analyze)
+     * @param application nom de l'application visée
+     * @param endpoint    filtre sur l'URL ou sur {@code classe#méthode} (endpoints, dependencies)
+     * @param files       fichiers modifiés signalés par le client (reanalyze) : les applications qui les contiennent sont réanalysées
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Request(String command, String source, String application, String endpoint, List<String> files) {}
+
+    private record ResidentApplication(Path source, String fingerprint, AnalysisResult result, Instant analyzedAt) {}
+
+    /**
+     * Accepte les connexions jusqu'à la requête {@code shutdown}.
+     */
+    public void serve(Path socketPath) throws IOException {
+        Path socket = socketPath.toAbsolutePath();
+        removeStaleSocket(socket);
+        AtomicInteger clients = new AtomicInteger();
+        ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "demon-client-" + clients.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socket));
+        owner = restrictToOwner(socket);
+        log.info("Démon d'analyse à l'écoute sur {}", socket);
+        try {
+            while (true) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (ClosedChannelException e) {
+                    break; // shutdown
+                }
+                connections.submit(() -> handle(client));
+            }
+        } finally {
+            // Laisse le temps à la réponse au shutdown de partir
+            connections.shutdown();
+            try {
+                connections.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Files.deleteIfExists(socket);
+            log.info("Démon d'analyse arrêté.");
+        }
+        if (fatal != null) {
+            throw fatal;
+        }
+    }
+
+    /**
+     * Supprime la socket laissée par un démon arrêté brutalement. Refuse de démarrer si le chemin
+     * n'est pas une socket, ou si un démon y répond encore.
+     */
+    static void removeStaleSocket(Path socket) throws IOException {
+        if (!Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        if (!isSocket(socket)) {
+            throw new IOException(socket + " existe et n'est pas une socket : démarrage refusé");
+        }
+        try (SocketChannel probe = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            probe.connect(UnixDomainSocketAddress.of(socket));
+        } catch (ConnectException e) {
+            log.info("Suppression de la socket orpheline {}", socket);
+            Files.delete(socket);
+            return;
+        }
+        throw new IOException("Un démon écoute déjà sur " + socket);
+    }
+
+    private static boolean isSocket(Path path) throws IOException {
+        try {
+            int mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            return (mode & 0170000) == 0140000;
+        } catch (UnsupportedOperationException e) {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther();
+        }
+    }
+
+    /**
+     * Ramène les droits de la socket à {@code rw-------}.
+     * @return le propriétaire de la socket, seul utilisateur dont les connexions sont servies
+     */
+    private static UserPrincipal restrictToOwner(Path socket) throws IOException {
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            log.warn("Droits POSIX non supportés, la socket {} garde ses droits par défaut", socket);
+        }
+        return Files.getOwner(socket, LinkOption.NOFOLLOW_LINKS);
+    }
+
+    private boolean isOwner(SocketChannel channel) {
+        try {
+            return owner.equals(channel.getOption(ExtendedSocketOptions.SO_PEERCRED).user());
+        } catch (UnsupportedOperationException | IOException e) {
+            // Identité du pair indisponible sur ce système : seuls les droits du fichier protègent la socket
+            return true;
+        }
+    }
+
+    private void handle(SocketChannel channel) {
+        if (!isOwner(channel)) {
+            log.warn("Connexion refusée : l'utilisateur n'est pas le propriétaire de la socket");
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Connexion déjà perdue
+            }
+            return;
+        }
+        try (channel;
+             BufferedReader in = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+             Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                out.write(mapper.writeValueAsString(dispatch(line)));
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            log.debug("Connexion au démon interrompue: {}", e.getMessage());
+        } catch (VirtualMachineError e) {
+            // Pas de reprise en mémoire épuisée : le démon s'arrête, serve() relance l'erreur
+            fatal = e;
+            try {
+                server.close();
+            } catch (IOException ignored) {
+                // La boucle d'acceptation s'arrête de toute façon
+            }
+            throw e;
+        }
+    }
+
+    Map<String, Object> dispatch(String line) {
+        long start = System.nanoTime();
+        Map<String, Object> response = new LinkedHashMap<>();
+        try {
+            Request request = mapper.readValue(line, Request.class);
+            String command = request.command() != null ? request.command() : "";
+            response.put("ok", true);
+            response.put("command", command);
+            switch (command) {
+                case "analyze" -> analyze(request, response);
+                case "reanalyze" -> reanalyze(request, response);
+                case "endpoints" -> endpoints(request, response);
+                case "dependencies" -> dependencies(request, response);
+                case "status" -> status(response);
+                case "evict" -> response.put("evicted", applications.remove(applicationName(request)) != null);
+                case "shutdown" -> server.close();
+                default -> throw new IllegalArgumentException("Commande inconnue : '" + command + "'");
+            }
+        } catch (Exception | StackOverflowError e) {
+            // Une requête en erreur ne doit pas arrêter le démon (une OutOfMemoryError, elle, l'arrête : voir handle)
+            log.warn("Requête au démon en erreur: {}", e.getMessage());
+            response.clear();
+            response.put("ok", false);
+            response.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        response.put("millis", (System.nanoTime() - start) / 1_000_000.0);
+        return response;
+    }
+
+    private void analyze(Request request, Map<String, Object> response) throws IOException {
+        if (request.source() == null || request.source().isBlank()) {
+            throw new IllegalArgumentException("Champ 'source' manquant");
+        }
+        Path source = Paths.get(request.source()).toAbsolutePath().normalize();
+        if (!Files.exists(source)) {
+            throw new IllegalArgumentException("Source introuvable : " + source);
+        }
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            // Application déjà en mémoire et inchangée : rien à refaire
+            ResidentApplication resident = request.application() != null ? applications.get(request.application()) : null;
+            if (resident != null && resident.fingerprint() != null
+                    && resident.fingerprint().equals(AnalysisCheckpoint.fingerprint(resident.source()))) {
+                response.put("analyzed", List.of());
+                response.put("unchanged", List.of(request.application()));
+                return;
+            }
+            response.put("analyzed", keep(orchestrator.analyzeApplications(source, request.application())));
+            response.put("unchanged", List.of());
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private void reanalyze(Request request, Map<String, Object> response) throws IOException {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            List<ResidentApplication> targets = new ArrayList<>();
+            if (request.application() != null) {
+                targets.add(resident(request.application()));
+            } else if (request.files() != null && !request.files().isEmpty()) {
+                for (ResidentApplication resident : applications.values()) {
+                    boolean touched = request.files().stream()
+                            .map(file -> Paths.get(file).toAbsolutePath().normalize())
+                            .anyMatch(file -> file.startsWith(resident.source()));
+                    if (touched) {
+                        targets.add(resident);
+                    }
+                }
+            } else {
+                targets.addAll(applications.values());
+            }
+
+            boolean hinted = request.files() != null && !request.files().isEmpty();
+            List<String> analyzed = new ArrayList<>();
+            List<String> unchanged = new ArrayList<>();
+            for (ResidentApplication resident : targets) {
+                String name = resident.result().getApplication().getName();
+                String fingerprint = AnalysisCheckpoint.fingerprint(resident.source());
+                if (fingerprint == null) {
+                    // Sources supprimées : l'application sort de la mémoire
+                    applications.remove(name);
+                    continue;
+                }
+                if (!hinted && fingerprint.equals(resident.fingerprint())) {
+                    unchanged.add(name);
+                    continue;
+                }
+                // Une application éclatée se scanne directement, une archive depuis son répertoire
+                Path scanRoot = Files.isDirectory(resident.source()) ? resident.source() : resident.source().getParent();
+                analyzed.addAll(keep(orchestrator.analyzeApplications(scanRoot, name)));
+            }
+            response.put("analyzed", analyzed);
+            response.put("unchanged", unchanged);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    private List<String> keep(List<AnalysisResult> results) throws IOException {
+        List<String> names = new ArrayList<>();
+        for (AnalysisResult result : results) {
+            if (!result.isSuccess() || result.getApplication() == null) {
+                continue;
+            }
+            WebLogicApplication application = result.getApplication();
+            Path source = application.getSourcePath().toAbsolutePath().normalize();
+            applications.put(application.getName(), new ResidentApplication(
+                    source, AnalysisCheckpoint.fingerprint(source), result, Instant.now()));
+            names.add(application.getName());
+        }
+        return names;
+    }
+
+    private void endpoints(Request request, Map<String, Object> response) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            List<Map<String, Object>> summaries = new ArrayList<>();
+            for (Endpoint endpoint : find(resident(applicationName(request)), request.endpoint())) {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("id", endpoint.getId());
+                summary.put("url", endpoint.getUrl());
+                summary.put("httpMethods", endpoint.getHttpMethods());
+                summary.put("className", endpoint.getClassName());
+                summary.put("methodName", endpoint.getMethodName());
+                summary.put("moduleName", endpoint.getModuleName());
+                summaries.add(summary);
+            }
+            response.put("endpoints", summaries);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private void dependencies(Request request, Map<String, Object> response) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            List<Map<String, Object>> matches = new ArrayList<>();
+            for (Endpoint endpoint : find(resident(applicationName(request)), request.endpoint())) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("id", endpoint.getId());
+                entry.put("url", endpoint.getUrl());
+                entry.put("className", endpoint.getClassName());
+                entry.put("methodName", endpoint.getMethodName());
+                entry.put("dependencies", endpoint.getDependencies());
+                matches.add(entry);
+            }
+            response.put("endpoints", matches);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    private void status(Map<String, Object> response) {
+        List<Map<String, Object>> resident = new ArrayList<>();
+        applications.forEach((name, application) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("application", name);
+            entry.put("source", application.source().toString());
+            entry.put("endpoints", application.result().getEndpointsCount());
+            entry.put("analyzedAt", application.analyzedAt().toString());
+            resident.add(entry);
+        });
+        Runtime runtime = Runtime.getRuntime();
+        response.put("startedAt", Instant.ofEpochMilli(startedAt).toString());
+        response.put("heapUsedMb", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        response.put("heapMaxMb", runtime.maxMemory() / (1024 * 1024));
+        response.put("applications", resident);
+    }
+
+    /**
+     * Endpoints de l'application et de ses modules dont l'URL ou {@code classe#méthode} contient le filtre
+     * (tous si le filtre est vide).
+     */
+    private static List<Endpoint> find(ResidentApplication resident, String filter) {
+        WebLogicApplication application = resident.result().getApplication();
+        List<Endpoint> all = new ArrayList<>();
+        if (application.getEndpoints() != null) {
+            all.addAll(application.getEndpoints());
+        }
+        if (application.getModules() != null) {
+            for (WebLogicApplication.Module module : application.getModules()) {
+                if (module.getEndpoints() != null) {
+                    all.addAll(module.getEndpoints());
+                }
+            }
+        }
+        if (filter == null || filter.isBlank()) {
+            return all;
+        }
+        List<Endpoint> matches = new ArrayList<>();
+        for (Endpoint endpoint : all) {
+            String key = endpoint.getClassName() + "#" + endpoint.getMethodName();
+            if (key.contains(filter) || (endpoint.getUrl() != null && endpoint.getUrl().contains(filter))) {
+                matches.add(endpoint);
+            }
+        }
+        return matches;
+    }
+
+    private ResidentApplication resident(String name) {
+        ResidentApplication resident = applications.get(name);
+        if (resident == null) {
+            throw new IllegalStateException("Application non chargée, envoyer d'abord 'analyze' : " + name);
+        }
+        return resident;
+    }
+
+    private static String applicationName(Request request) {
+        if (request.application() == null || request.application().isBlank()) {
+            throw new IllegalArgumentException("Champ 'application' manquant");
+        }
+        return request.application();
+    }
+}
@@ -0,0 +1,130 @@
+package com.legacy.analyzer.descriptor;
+
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import com.legacy.analyzer.parser.ParserPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Descripteurs de déploiement lus une seule fois et partagés par le scanner, la détection des
+ * frameworks et les extracteurs : chacun demande le modèle typé du fichier au lieu de le reparser.
+ * <p>
+ * Le cache est indexé par chemin et contrôlé par le hachage du contenu : un descripteur modifié
+ * (mode démon, nouvelle livraison) est relu, un descripteur inchangé ne l'est jamais. Un descripteur
+ * illisible n'est signalé qu'une fois tant qu'il ne change pas.
+ */
+@Slf4j
+@Component
+public class DescriptorCache {
+
+    private static final int MAX_ENTRIES = 50_000;
+    private static final Object UNREADABLE = new Object();
+
+    private final ParserPool parserPool;
+    private final MetricsRegistry metrics;
+    private final int maxEntries;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(long hash, Object descriptor) {}
+
+    @Autowired
+    public DescriptorCache(ParserPool parserPool, MetricsRegistry metrics) {
+        this(parserPool, metrics, MAX_ENTRIES);
+    }
+
+    DescriptorCache(ParserPool parserPool, MetricsRegistry metrics, int maxEntries) {
+        this.parserPool = parserPool;
+        this.metrics = metrics;
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<WebXml> webXml(Path file) {
+        return get(file, WebXml.class, WebXml.Handler::new);
+    }
+
+    public Optional<StrutsConfig> strutsConfig(Path file) {
+        return get(file, StrutsConfig.class, StrutsConfig.Handler::new);
+    }
+
+    public Optional<EjbJar> ejbJar(Path file) {
+        return get(file, EjbJar.class, EjbJar.Handler::new);
+    }
+
+    public Optional<WeblogicEjbJar> weblogicEjbJar(Path file) {
+        return get(file, WeblogicEjbJar.class, WeblogicEjbJar.Handler::new);
+    }
+
+    public Optional<WeblogicXml> weblogicXml(Path file) {
+        return get(file, WeblogicXml.class, WeblogicXml.Handler::new);
+    }
+
+    public Optional<SpringContext> springContext(Path file) {
+        return get(file, SpringContext.class, SpringContext.Handler::new);
+    }
+
+    /**
+     * @return le descripteur, vide si le fichier n'existe pas ou n'est pas du XML valide
+     */
+    private <T> Optional<T> get(Path file, Class<T> type, Supplier<DescriptorHandler<T>> handler) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.error("Erreur lors de la lecture de {}", file, e);
+            return Optional.empty();
+        }
+        long hash = hash(content);
+        Path key = file.toAbsolutePath().normalize();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.hash() == hash) {
+            if (entry.descriptor() == UNREADABLE) {
+                return Optional.empty();
+            }
+            if (type.isInstance(entry.descriptor())) {
+                metrics.increment(MetricsRegistry.DESCRIPTOR_CACHE_HITS);
+                return Optional.of(type.cast(entry.descriptor()));
+            }
+        }
+
+        Object descriptor;
+        try {
+            XMLStreamReader reader = parserPool.openXml(new ByteArrayInputStream(content));
+            try {
+                descriptor = handler.get().read(reader);
+            } finally {
+                reader.close();
+            }
+            metrics.increment(MetricsRegistry.DESCRIPTORS_PARSED);
+        } catch (XMLStreamException e) {
+            log.error("Erreur lors du parsing de {}: {}", file, e.getMessage());
+            descriptor = UNREADABLE;
+        }
+        if (entries.size() < maxEntries || entries.containsKey(key)) {
+            entries.put(key, new Entry(hash, descriptor));
+        }
+        return descriptor == UNREADABLE ? Optional.empty() : Optional.of(type.cast(descriptor));
+    }
+
+    private static long hash(byte[] content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return (long) content.length << 32 | crc.getValue();
+    }
+}
@@ -0,0 +1,88 @@
+package com.legacy.analyzer.descriptor;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lecture StAX d'un descripteur en un seul passage, sans arbre en mémoire. Chaque élément est
+ * repéré par son chemin depuis la racine, racine exclue ({@code servlet/servlet-name} dans un
+ * {@code web.xml}), en noms locaux : un descripteur avec espace de noms (Java EE 5 et suivants)
+ * se lit comme un descripteur DTD.
+ */
+abstract class DescriptorHandler<T> {
+
+    /** Déclaration DOCTYPE, ou à défaut {@code xsi:schemaLocation} de la racine */
+    protected String schema;
+
+    /**
+     * Ouverture d'un élément ; ses attributs se lisent sur {@code reader}.
+     */
+    void start(String path, XMLStreamReader reader) {
+    }
+
+    /**
+     * Fermeture d'un élément avec son texte, sans les blancs qui l'entourent.
+     */
+    void end(String path, String text) {
+    }
+
+    abstract T result();
+
+    static String attribute(XMLStreamReader reader, String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    /**
+     * Copie non modifiable qui garde l'ordre du document ({@link Map#copyOf} ne le garde pas).
+     */
+    static <K, V> Map<K, V> unmodifiable(Map<K, V> map) {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+    }
+
+    final T read(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder path = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        int[] parents = new int[16];
+        int depth = 0;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.DTD -> schema = reader.getText();
+                case XMLStreamConstants.START_ELEMENT -> {
+                    if (depth == parents.length) {
+                        parents = Arrays.copyOf(parents, depth * 2);
+                    }
+                    parents[depth] = path.length();
+                    if (depth == 0) {
+                        if (schema == null) {
+                            schema = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "schemaLocation");
+                        }
+                    } else {
+                        if (depth > 1) {
+                            path.append('/');
+                        }
+                        path.append(reader.getLocalName());
+                    }
+                    depth++;
+                    text.setLength(0);
+                    start(path.toString(), reader);
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        text.append(reader.getText());
+                case XMLStreamConstants.END_ELEMENT -> {
+                    end(path.toString(), text.toString().trim());
+                    text.setLength(0);
+                    path.setLength(parents[--depth]);
+                }
+                default -> {
+                }
+            }
+        }
+        return result();
+    }
+}
@@ -0,0 +1,105 @@
+package com.legacy.analyzer.descriptor;
+
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code META-INF/ejb-jar.xml}.
+ *
+ * @param schema DOCTYPE ou {@code xsi:schemaLocation}, pour reconnaître la version EJB
+ */
+public record EjbJar(String schema, List<Bean> beans) {
+
+    public enum Kind {
+        SESSION, ENTITY, MESSAGE_DRIVEN
+    }
+
+    /**
+     * @param destinationType {@code javax.jms.Queue} ou {@code javax.jms.Topic} pour un MDB
+     * @param destination     destination d'un MDB : {@code message-destination-link} ou propriété
+     *                        d'activation {@code destination}/{@code destinationLookup}
+     */
+    public record Bean(Kind kind, String ejbName, String ejbClass, String home, String remote, String local,
+                       String sessionType, String destinationType, String destination) {}
+
+    public List<Bean> beans(Kind kind) {
+        return beans.stream().filter(bean -> bean.kind() == kind).toList();
+    }
+
+    static final class Handler extends DescriptorHandler<EjbJar> {
+        private static final String BEANS = "enterprise-beans/";
+
+        private final List<Bean> beans = new ArrayList<>();
+
+        // Bean en cours : chemin de l'élément et valeurs lues
+        private String beanPath;
+        private Kind kind;
+        private String ejbName;
+        private String ejbClass;
+        private String home;
+        private String remote;
+        private String local;
+        private String sessionType;
+        private String destinationType;
+        private String destination;
+        private String propertyName;
+        private String propertyValue;
+
+        @Override
+        void start(String path, XMLStreamReader reader) {
+            Kind started = switch (path) {
+                case BEANS + "session" -> Kind.SESSION;
+                case BEANS + "entity" -> Kind.ENTITY;
+                case BEANS + "message-driven" -> Kind.MESSAGE_DRIVEN;
+                default -> null;
+            };
+            if (started != null) {
+                beanPath = path;
+                kind = started;
+                ejbName = ejbClass = home = remote = local = sessionType = destinationType = destination = null;
+            }
+        }
+
+        @Override
+        void end(String path, String text) {
+            if (beanPath == null || !path.startsWith(beanPath)
+                    || (path.length() > beanPath.length() && path.charAt(beanPath.length()) != '/')) {
+                return;
+            }
+            if (path.length() == beanPath.length()) {
+                beans.add(new Bean(kind, ejbName, ejbClass, home, remote, local, sessionType, destinationType, destination));
+                beanPath = null;
+                return;
+            }
+            switch (path.substring(beanPath.length() + 1)) {
+                case "ejb-name" -> ejbName = text;
+                case "ejb-class" -> ejbClass = text;
+                case "home" -> home = text;
+                case "remote" -> remote = text;
+                case "local" -> local = text;
+                case "session-type" -> sessionType = text;
+                // EJB 2.0 : message-driven-destination ; EJB 2.1 et suivants : message-destination-*
+                case "message-driven-destination/destination-type", "message-destination-type" -> destinationType = text;
+                case "message-destination-link" -> destination = text;
+                case "activation-config/activation-config-property/activation-config-property-name" -> propertyName = text;
+                case "activation-config/activation-config-property/activation-config-property-value" -> propertyValue = text;
+                case "activation-config/activation-config-property" -> {
+                    if ("destination".equals(propertyName) || "destinationLookup".equals(propertyName)) {
+                        destination = propertyValue;
+                    } else if ("destinationType".equals(propertyName)) {
+                        destinationType = propertyValue;
+                    }
+                    propertyName = propertyValue = null;
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        EjbJar result() {
+            return new EjbJar(schema, List.copyOf(beans));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.legacy.analyzer.descriptor;
+
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Contexte Spring XML ({@code applicationContext.xml}, {@code *-servlet.xml}...).
+ *
+ * @param namespaces espaces de noms des éléments utilisés ({@code http://www.springframework.org/schema/jms}...)
+ * @param beans      beans déclarés, imbriqués compris
+ */
+public record SpringContext(Set<String> namespaces, List<Bean> beans) {
+
+    public record Bean(String id, String className) {}
+
+    public boolean usesNamespace(String fragment) {
+        return namespaces.stream().anyMatch(namespace -> namespace.contains(fragment));
+    }
+
+    /**
+     * @return {@code true} si un bean a une classe dont le nom contient {@code fragment}
+     */
+    public boolean declaresClass(String fragment) {
+        return beans.stream().anyMatch(bean -> bean.className() != null && bean.className().contains(fragment));
+    }
+
+    static final class Handler extends DescriptorHandler<SpringContext> {
+        private final Set<String> namespaces = new LinkedHashSet<>();
+        private final List<Bean> beans = new ArrayList<>();
+
+        @Override
+        void start(String path, XMLStreamReader reader) {
+            String namespace = reader.getNamespaceURI();
+            if (namespace != null && !namespace.isEmpty()) {
+                namespaces.add(namespace);
+            }
+            if (reader.getLocalName().equals("bean")) {
+                String id = attribute(reader, "id");
+                beans.add(new Bean(id != null ? id : attribute(reader, "name"), attribute(reader, "class")));
+            }
+        }
+
+        @Override
+        SpringContext result() {
+            return new SpringContext(Set.copyOf(namespaces), List.copyOf(beans));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.legacy.analyzer.descriptor;
+
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code WEB-INF/struts-config.xml} (Struts 1). Les attributs absents du descripteur valent
+ * {@code null} : les valeurs par défaut de Struts sont appliquées par les lecteurs.
+ *
+ * @param schema DOCTYPE, pour reconnaître la version Struts
+ */
+public record StrutsConfig(String schema,
+                           List<FormBean> formBeans,
+                           List<ExceptionHandler> globalExceptions,
+                           List<Forward> globalForwards,
+                           List<Action> actions,
+                           Map<String, String> controller,
+                           List<MessageResources> messageResources,
+                           List<PlugIn> plugIns) {
+
+    public record FormBean(String name, String type, String dynamic) {}
+
+    public record Forward(String name, String path, String redirect) {}
+
+    public record ExceptionHandler(String key, String type, String path, String handler) {}
+
+    public record Action(String path, String type, String name, String scope, String validate, String input,
+                         String parameter, String attribute, String forward, String include, String unknown,
+                         List<Forward> forwards, List<ExceptionHandler> exceptions) {}
+
+    public record MessageResources(String parameter, String key, String nullValue) {}
+
+    public record PlugIn(String className, Map<String, String> properties) {}
+
+    static final class Handler extends DescriptorHandler<StrutsConfig> {
+        private final List<FormBean> formBeans = new ArrayList<>();
+        private final List<ExceptionHandler> globalExceptions = new ArrayList<>();
+        private final List<Forward> globalForwards = new ArrayList<>();
+        private final List<Action> actions = new ArrayList<>();
+        private final Map<String, String> controller = new LinkedHashMap<>();
+        private final List<MessageResources> messageResources = new ArrayList<>();
+        private final List<PlugIn> plugIns = new ArrayList<>();
+
+        // Action ou plug-in en cours
+        private String[] action;
+        private List<Forward> forwards;
+        private List<ExceptionHandler> exceptions;
+        private String plugInClass;
+        private Map<String, String> properties;
+
+        @Override
+        void start(String path, XMLStreamReader reader) {
+            switch (path) {
+                case "form-beans/form-bean" -> formBeans.add(new FormBean(attribute(reader, "name"),
+                        attribute(reader, "type"), attribute(reader, "dynamic")));
+                case "global-exceptions/exception" -> globalExceptions.add(exception(reader));
+                case "global-forwards/forward" -> globalForwards.add(forward(reader));
+                case "action-mappings/action" -> {
+                    action = new String[]{attribute(reader, "path"), attribute(reader, "type"),
+                            attribute(reader, "name"), attribute(reader, "scope"), attribute(reader, "validate"),
+                            attribute(reader, "input"), attribute(reader, "parameter"), attribute(reader, "attribute"),
+                            attribute(reader, "forward"), attribute(reader, "include"), attribute(reader, "unknown")};
+                    forwards = new ArrayList<>();
+                    exceptions = new ArrayList<>();
+                }
+                case "action-mappings/action/forward" -> forwards.add(forward(reader));
+                case "action-mappings/action/exception" -> exceptions.add(exception(reader));
+                case "controller" -> {
+                    for (String name : List.of("processorClass", "contentType", "nocache", "locale")) {
+                        controller.put(name, attribute(reader, name));
+                    }
+                }
+                case "message-resources" -> messageResources.add(new MessageResources(attribute(reader, "parameter"),
+                        attribute(reader, "key"), attribute(reader, "null")));
+                case "plug-in" -> {
+                    plugInClass = attribute(reader, "className");
+                    properties = new LinkedHashMap<>();
+                }
+                case "plug-in/set-property" -> {
+                    String name = attribute(reader, "property");
+                    String value = attribute(reader, "value");
+                    if (name != null && value != null) {
+                        properties.put(name, value);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        void end(String path, String text) {
+            switch (path) {
+                case "action-mappings/action" -> actions.add(new Action(action[0], action[1], action[2], action[3],
+                        action[4], action[5], action[6], action[7], action[8], action[9], action[10],
+                        List.copyOf(forwards), List.copyOf(exceptions)));
+                case "plug-in" -> plugIns.add(new PlugIn(plugInClass, unmodifiable(properties)));
+                default -> {
+                }
+            }
+        }
+
+        private static Forward forward(XMLStreamReader reader) {
+            return new Forward(attribute(reader, "name"), attribute(reader, "path"), attribute(reader, "redirect"));
+        }
+
+        private static ExceptionHandler exception(XMLStreamReader reader) {
+            return new ExceptionHandler(attribute(reader, "key"), attribute(reader, "type"),
+                    attribute(reader, "path"), attribute(reader, "handler"));
+        }
+
+        @Override
+        StrutsConfig result() {
+            return new StrutsConfig(schema, List.copyOf(formBeans), List.copyOf(globalExceptions),
+                    List.copyOf(globalForwards), List.copyOf(actions), unmodifiable(controller),
+                    List.copyOf(messageResources), List.copyOf(plugIns));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.legacy.analyzer.descriptor;
+
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@code WEB-INF/web.xml}.
+ *
+ * @param schema DOCTYPE ou {@code xsi:schemaLocation}, pour reconnaître la version Servlet
+ */
+public record WebXml(String schema,
+                     String displayName,
+                     String description,
+                     Map<String, String> contextParams,
+                     List<Servlet> servlets,
+                     List<ServletMapping> servletMappings,
+                     List<Filter> filters,
+                     List<String> listeners,
+                     List<SecurityConstraint> securityConstraints,
+                     Map<String, String> errorPages) {
+
+    public record Servlet(String name, String className) {}
+
+    public record ServletMapping(String servletName, List<String> urlPatterns) {}
+
+    public record Filter(String name, String className) {}
+
+    public record SecurityConstraint(String resourceName, List<String> urlPatterns,
+                                     List<String> httpMethods, List<String> roles) {}
+
+    /**
+     * @return classe de servlet -> premier url-pattern de son mapping
+     */
+    public Map<String, String> urlPatternsByServletClass() {
+        Map<String, String> classes = new LinkedHashMap<>();
+        for (Servlet servlet : servlets) {
+            if (servlet.name() != null && servlet.className() != null) {
+                classes.put(servlet.name(), servlet.className());
+            }
+        }
+        Map<String, String> patterns = new LinkedHashMap<>();
+        for (ServletMapping mapping : servletMappings) {
+            String servletClass = classes.get(mapping.servletName());
+            if (servletClass != null && !mapping.urlPatterns().isEmpty()) {
+                patterns.put(servletClass, mapping.urlPatterns().get(0));
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * @return {@code true} si une servlet, un filtre ou un listener a une classe dont le nom contient {@code fragment}
+     */
+    public boolean declaresClass(String fragment) {
+        return Stream.of(servlets.stream().map(Servlet::className), filters.stream().map(Filter::className), listeners.stream())
+                .flatMap(classes -> classes)
+                .anyMatch(className -> className != null && className.contains(fragment));
+    }
+
+    static final class Handler extends DescriptorHandler<WebXml> {
+        private String displayName;
+        private String description;
+        private final Map<String, String> contextParams = new LinkedHashMap<>();
+        private final List<Servlet> servlets = new ArrayList<>();
+        private final List<ServletMapping> servletMappings = new ArrayList<>();
+        private final List<Filter> filters = new ArrayList<>();
+        private final List<String> listeners = new ArrayList<>();
+        private final List<SecurityConstraint> securityConstraints = new ArrayList<>();
+        private final Map<String, String> errorPages = new LinkedHashMap<>();
+
+        // Élément en cours : nom, classe ou code, valeur ou emplacement
+        private String name;
+        private String value;
+        private String location;
+        private List<String> urlPatterns = new ArrayList<>();
+        private List<String> httpMethods = new ArrayList<>();
+        private List<String> roles = new ArrayList<>();
+
+        @Override
+        void start(String path, XMLStreamReader reader) {
+            switch (path) {
+                case "context-param", "servlet", "filter", "error-page" -> {
+                    name = null;
+                    value = null;
+                    location = null;
+                }
+                case "servlet-mapping" -> {
+                    name = null;
+                    urlPatterns = new ArrayList<>();
+                }
+                case "security-constraint" -> {
+                    name = null;
+                    urlPatterns = new ArrayList<>();
+                    httpMethods = new ArrayList<>();
+                    roles = new ArrayList<>();
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        void end(String path, String text) {
+            switch (path) {
+                case "display-name" -> displayName = text;
+                case "description" -> description = text;
+                case "context-param/param-name", "servlet/servlet-name", "servlet-mapping/servlet-name",
+                     "filter/filter-name", "security-constraint/web-resource-collection/web-resource-name",
+                     "error-page/error-code" -> name = text;
+                case "context-param/param-value", "servlet/servlet-class", "filter/filter-class" -> value = text;
+                case "error-page/exception-type" -> {
+                    if (name == null) {
+                        value = text;
+                    }
+                }
+                case "error-page/location" -> location = text;
+                case "servlet-mapping/url-pattern", "security-constraint/web-resource-collection/url-pattern" ->
+                        urlPatterns.add(text);
+                case "security-constraint/web-resource-collection/http-method" -> httpMethods.add(text);
+                case "security-constraint/auth-constraint/role-name" -> roles.add(text);
+                case "listener/listener-class" -> listeners.add(text);
+                case "context-param" -> {
+                    if (name != null && value != null) {
+                        contextParams.put(name, value);
+                    }
+                }
+                case "servlet" -> servlets.add(new Servlet(name, value));
+                case "servlet-mapping" -> servletMappings.add(new ServletMapping(name, List.copyOf(urlPatterns)));
+                case "filter" -> filters.add(new Filter(name, value));
+                case "security-constraint" -> securityConstraints.add(new SecurityConstraint(name,
+                        List.copyOf(urlPatterns), List.copyOf(httpMethods), List.copyOf(roles)));
+                case "error-page" -> {
+                    if (location != null && name != null) {
+                        errorPages.put("error-" + name, location);
+                    } else if (location != null && value != null) {
+                        errorPages.put("exception-" + value, location);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        WebXml result() {
+            return new WebXml(schema, displayName, description, unmodifiable(contextParams), List.copyOf(servlets),
+                    List.copyOf(servletMappings), List.copyOf(filters), List.copyOf(listeners),
+                    List.copyOf(securityConstraints), unmodifiable(errorPages));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.legacy.analyzer.descriptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code META-INF/weblogic-ejb-jar.xml} : noms JNDI des EJB et destinations des MDB.
+ */
+public record WeblogicEjbJar(List<Bean> beans) {
+
+    /**
+     * @param jndiName            {@code jndi-binding/jndi-name} (WebLogic 10 et suivants) ou {@code jndi-name}
+     * @param destinationJndiName destination d'un MDB
+     */
+    public record Bean(String ejbName, String jndiName, String destinationJndiName) {}
+
+    static final class Handler extends DescriptorHandler<WeblogicEjbJar> {
+        private static final String BEAN = "weblogic-enterprise-bean";
+
+        private final List<Bean> beans = new ArrayList<>();
+        private String ejbName;
+        private String jndiName;
+        private String destinationJndiName;
+
+        @Override
+        void end(String path, String text) {
+            switch (path) {
+                case BEAN + "/ejb-name" -> ejbName = text;
+                case BEAN + "/jndi-name", BEAN + "/jndi-binding/jndi-name" -> jndiName = text;
+                case BEAN + "/message-driven-descriptor/destination-jndi-name" -> destinationJndiName = text;
+                case BEAN -> {
+                    beans.add(new Bean(ejbName, jndiName, destinationJndiName));
+                    ejbName = jndiName = destinationJndiName = null;
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        WeblogicEjbJar result() {
+            return new WeblogicEjbJar(List.copyOf(beans));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.legacy.analyzer.descriptor;
+
+/**
+ * {@code WEB-INF/weblogic.xml}.
+ */
+public record WeblogicXml(String contextRoot) {
+
+    static final class Handler extends DescriptorHandler<WeblogicXml> {
+        private String contextRoot;
+
+        @Override
+        void end(String path, String text) {
+            if (path.equals("context-root")) {
+                contextRoot = text;
+            }
+        }
+
+        @Override
+        WeblogicXml result() {
+            return new WeblogicXml(contextRoot);
+        }
+    }
+}
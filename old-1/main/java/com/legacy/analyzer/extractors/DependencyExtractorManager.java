@@ -2,6 +2,7 @@ package com.legacy.analyzer.extractors;
 
 import com.legacy.analyzer.core.config.AnalyzerConfiguration;
 import com.legacy.analyzer.extractors.dependencies.*;
+import com.legacy.analyzer.jfr.ExtractorVisitEvent;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
 import lombok.RequiredArgsConstructor;
@@ -75,7 +76,8 @@ public class DependencyExtractorManager {
         if (configuration.getAnalysis().getDatabase().isExtractQueries()) {
             log.debug("Extraction des dépendances base de données...");
             List<Dependencies.DatabaseDependency> dbDeps = 
-                    databaseExtractor.extractDependencies(path, application);
+                    ExtractorVisitEvent.record("database", path,
+                            () -> databaseExtractor.extractDependencies(path, application));
             dependencies.setDatabases(dbDeps);
         }
         
@@ -83,7 +85,8 @@ public class DependencyExtractorManager {
         if (configuration.getAnalysis().getIntegrations().getEjb().isAnalyzeRemoteCalls()) {
             log.debug("Extraction des dépendances EJB...");
             List<Dependencies.EJBDependency> ejbDeps = 
-                    ejbExtractor.extractDependencies(path, application);
+                    ExtractorVisitEvent.record("ejb", path,
+                            () -> ejbExtractor.extractDependencies(path, application));
             dependencies.setEjbs(ejbDeps);
         }
         
@@ -93,7 +96,8 @@ public class DependencyExtractorManager {
             configuration.getAnalysis().getIntegrations().getCobol().isDetectFileExchange()) {
             log.debug("Extraction des dépendances Cobol...");
             List<Dependencies.CobolDependency> cobolDeps = 
-                    cobolExtractor.extractDependencies(path, application);
+                    ExtractorVisitEvent.record("cobol", path,
+                            () -> cobolExtractor.extractDependencies(path, application));
             dependencies.setCobolPrograms(cobolDeps);
         }
         
@@ -102,20 +106,23 @@ public class DependencyExtractorManager {
             configuration.getAnalysis().getIntegrations().getWebservices().isAnalyzeRest()) {
             log.debug("Extraction des dépendances Web Services...");
             List<Dependencies.WebServiceDependency> wsDeps = 
-                    webServiceExtractor.extractDependencies(path, application);
+                    ExtractorVisitEvent.record("webservice", path,
+                            () -> webServiceExtractor.extractDependencies(path, application));
             dependencies.setWebServices(wsDeps);
         }
         
         // JMS
         log.debug("Extraction des dépendances JMS...");
         List<Dependencies.JMSDependency> jmsDeps = 
-                jmsExtractor.extractDependencies(path, application);
+                ExtractorVisitEvent.record("jms", path,
+                            () -> jmsExtractor.extractDependencies(path, application));
         dependencies.setJmsQueues(jmsDeps);
         
         // Fichiers
         log.debug("Extraction des dépendances fichiers...");
         List<Dependencies.FileDependency> fileDeps = 
-                fileExtractor.extractDependencies(path, application);
+                ExtractorVisitEvent.record("file", path,
+                            () -> fileExtractor.extractDependencies(path, application));
         dependencies.setFiles(fileDeps);
         
         return dependencies;
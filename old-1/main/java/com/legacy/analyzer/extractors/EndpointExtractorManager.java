@@ -2,6 +2,8 @@ package com.legacy.analyzer.extractors;
 
 import com.legacy.analyzer.core.config.AnalyzerConfiguration;
 import com.legacy.analyzer.extractors.endpoints.*;
+import com.legacy.analyzer.jfr.ExtractorVisitEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Endpoint;
 import com.legacy.analyzer.model.WebLogicApplication;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ public class EndpointExtractorManager {
     private final SpringEndpointExtractor springExtractor;
     private final JaxRsEndpointExtractor jaxRsExtractor;
     private final JsfEndpointExtractor jsfExtractor;
+    private final MetricsRegistry metrics;
     
     public void extractEndpoints(WebLogicApplication application) throws IOException {
         log.info("Extraction des endpoints pour l'application: {}", application.getName());
@@ -78,10 +81,10 @@ public class EndpointExtractorManager {
                 }
                 
                 try {
-                    List<Endpoint> frameworkEndpoints = extractByFramework(
-                            application, path, moduleName, framework
-                    );
+                    List<Endpoint> frameworkEndpoints = ExtractorVisitEvent.record(framework, path,
+                            () -> extractByFramework(application, path, moduleName, framework));
                     endpoints.addAll(frameworkEndpoints);
+                    metrics.add(MetricsRegistry.ENDPOINTS, frameworkEndpoints.size());
                 } catch (Exception e) {
                     log.error("Erreur lors de l'extraction des endpoints {}", framework, e);
                 }
@@ -91,10 +94,10 @@ public class EndpointExtractorManager {
         // Toujours extraire les servlets de base
         if (configuration.isFrameworkEnabled("servlet")) {
             try {
-                List<Endpoint> servletEndpoints = servletExtractor.extractEndpoints(
-                        path, application.getName(), moduleName
-                );
+                List<Endpoint> servletEndpoints = ExtractorVisitEvent.record("servlet", path,
+                        () -> servletExtractor.extractEndpoints(path, application.getName(), moduleName));
                 endpoints.addAll(servletEndpoints);
+                metrics.add(MetricsRegistry.ENDPOINTS, servletEndpoints.size());
             } catch (Exception e) {
                 log.error("Erreur lors de l'extraction des endpoints Servlet", e);
             }
@@ -1,6 +1,5 @@
 package com.legacy.analyzer.extractors.endpoints;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
@@ -8,25 +7,30 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.parser.ParserPool;
 import com.legacy.analyzer.parser.WebXmlParser;
+import com.legacy.analyzer.scanner.FileInventory;
+import com.legacy.analyzer.scanner.FileInventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ServletEndpointExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
     private final WebXmlParser webXmlParser;
     
     public List<Endpoint> extractEndpoints(Path modulePath, String applicationName, 
@@ -39,19 +43,18 @@ public class ServletEndpointExtractor {
         Map<String, String> servletMappings = extractServletMappingsFromWebXml(modulePath);
         
         // 2. Scanner les classes Java
-        Path classesPath = modulePath.resolve("WEB-INF/classes");
-        if (!Files.exists(classesPath)) {
-            classesPath = modulePath.resolve("classes");
-        }
+        FileInventory inventory = fileInventoryService.inventoryFor(modulePath);
+        String classesDir = inventory.exists("WEB-INF/classes") ? "WEB-INF/classes" : "classes";
+        Path classesPath = modulePath.resolve(classesDir);
         
-        if (Files.exists(classesPath)) {
+        if (inventory.exists(classesDir)) {
             extractFromJavaFiles(classesPath, applicationName, moduleName, 
                                servletMappings, endpoints);
         }
         
         // 3. Scanner les sources si disponibles
         Path srcPath = modulePath.resolve("src");
-        if (Files.exists(srcPath)) {
+        if (inventory.exists("src")) {
             extractFromJavaFiles(srcPath, applicationName, moduleName, 
                                servletMappings, endpoints);
         }
@@ -62,7 +65,7 @@ public class ServletEndpointExtractor {
     private Map<String, String> extractServletMappingsFromWebXml(Path modulePath) {
         try {
             Path webXml = modulePath.resolve("WEB-INF/web.xml");
-            if (Files.exists(webXml)) {
+            if (fileInventoryService.inventoryFor(modulePath).exists("WEB-INF/web.xml")) {
                 return webXmlParser.parseServletMappings(webXml);
             }
         } catch (Exception e) {
@@ -75,16 +78,13 @@ public class ServletEndpointExtractor {
                                     Map<String, String> servletMappings, 
                                     List<Endpoint> endpoints) throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, applicationName, moduleName, 
-                                           servletMappings, endpoints);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, applicationName, moduleName, 
+                                  servletMappings, endpoints);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -92,7 +92,10 @@ public class ServletEndpointExtractor {
                                    String moduleName, Map<String, String> servletMappings,
                                    List<Endpoint> endpoints) throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             log.warn("Impossible de parser le fichier: {}", javaFile);
             return;
@@ -1,28 +1,34 @@
 package com.legacy.analyzer.extractors.endpoints;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.*;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventory;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SpringEndpointExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
     
     public List<Endpoint> extractEndpoints(Path modulePath, String applicationName,
                                          String moduleName) throws IOException {
@@ -31,18 +37,17 @@ public class SpringEndpointExtractor {
         List<Endpoint> endpoints = new ArrayList<>();
         
         // Scanner les classes Java
-        Path classesPath = modulePath.resolve("WEB-INF/classes");
-        if (!Files.exists(classesPath)) {
-            classesPath = modulePath.resolve("classes");
-        }
+        FileInventory inventory = fileInventoryService.inventoryFor(modulePath);
+        String classesDir = inventory.exists("WEB-INF/classes") ? "WEB-INF/classes" : "classes";
+        Path classesPath = modulePath.resolve(classesDir);
         
-        if (Files.exists(classesPath)) {
+        if (inventory.exists(classesDir)) {
             extractFromPath(classesPath, applicationName, moduleName, endpoints);
         }
         
         // Scanner les sources si disponibles
         Path srcPath = modulePath.resolve("src");
-        if (Files.exists(srcPath)) {
+        if (inventory.exists("src")) {
             extractFromPath(srcPath, applicationName, moduleName, endpoints);
         }
         
@@ -52,15 +57,12 @@ public class SpringEndpointExtractor {
     private void extractFromPath(Path path, String applicationName, String moduleName,
                                List<Endpoint> endpoints) throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, applicationName, moduleName, endpoints);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, applicationName, moduleName, endpoints);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -68,7 +70,10 @@ public class SpringEndpointExtractor {
                                    String moduleName, List<Endpoint> endpoints) 
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -1,28 +1,32 @@
 package com.legacy.analyzer.extractors.endpoints;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.parser.ParserPool;
 import com.legacy.analyzer.parser.StrutsConfigParser;
+import com.legacy.analyzer.scanner.FileInventory;
+import com.legacy.analyzer.scanner.FileInventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StrutsEndpointExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
     private final StrutsConfigParser strutsConfigParser;
     
     public List<Endpoint> extractEndpoints(Path modulePath, String applicationName,
@@ -33,7 +37,7 @@ public class StrutsEndpointExtractor {
         
         // 1. Parser struts-config.xml
         Path strutsConfigPath = modulePath.resolve("WEB-INF/struts-config.xml");
-        if (!Files.exists(strutsConfigPath)) {
+        if (!fileInventoryService.inventoryFor(modulePath).exists("WEB-INF/struts-config.xml")) {
             log.debug("Pas de struts-config.xml trouvé");
             return endpoints;
         }
@@ -70,18 +74,17 @@ public class StrutsEndpointExtractor {
     private Map<String, ClassInfo> findActionClasses(Path modulePath) throws IOException {
         Map<String, ClassInfo> classes = new HashMap<>();
         
-        Path classesPath = modulePath.resolve("WEB-INF/classes");
-        if (!Files.exists(classesPath)) {
-            classesPath = modulePath.resolve("classes");
-        }
+        FileInventory inventory = fileInventoryService.inventoryFor(modulePath);
+        String classesDir = inventory.exists("WEB-INF/classes") ? "WEB-INF/classes" : "classes";
+        Path classesPath = modulePath.resolve(classesDir);
         
-        if (Files.exists(classesPath)) {
+        if (inventory.exists(classesDir)) {
             scanForActionClasses(classesPath, classes);
         }
         
         // Scanner aussi les sources si disponibles
         Path srcPath = modulePath.resolve("src");
-        if (Files.exists(srcPath)) {
+        if (inventory.exists("src")) {
             scanForActionClasses(srcPath, classes);
         }
         
@@ -90,21 +93,21 @@ public class StrutsEndpointExtractor {
     
     private void scanForActionClasses(Path path, Map<String, ClassInfo> classes) 
             throws IOException {
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         analyzeJavaFile(javaFile, classes);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                analyzeJavaFile(javaFile, classes);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
     private void analyzeJavaFile(Path javaFile, Map<String, ClassInfo> classes) 
             throws IOException {
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
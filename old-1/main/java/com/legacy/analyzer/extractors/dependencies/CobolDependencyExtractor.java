@@ -1,12 +1,16 @@
 package com.legacy.analyzer.extractors.dependencies;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -16,13 +20,15 @@ import java.nio.file.Path;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CobolDependencyExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
     
     // Patterns pour détecter les connexions Cobol
     private static final Pattern SOCKET_PATTERN = Pattern.compile(
@@ -61,15 +67,12 @@ public class CobolDependencyExtractor {
     private void scanJavaFiles(Path path, Map<String, Dependencies.CobolDependency> dependencyMap)
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -77,7 +80,10 @@ public class CobolDependencyExtractor {
                                    Map<String, Dependencies.CobolDependency> dependencyMap)
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -368,18 +374,16 @@ public class CobolDependencyExtractor {
             throws IOException {
         
         // Scanner les fichiers XML de configuration
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".xml") && 
-                             (p.toString().contains("cobol") || 
-                              p.toString().contains("mainframe") ||
-                              p.toString().contains("mq")))
-                 .forEach(configFile -> {
-                     try {
-                         extractFromConfigFile(configFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier de config: {}", configFile, e);
-                     }
-                 });
+        for (Path configFile : fileInventoryService.inventoryFor(path)
+                .findFiles(p -> p.toString().endsWith(".xml") &&
+                        (p.toString().contains("cobol") ||
+                         p.toString().contains("mainframe") ||
+                         p.toString().contains("mq")), "xml")) {
+            try {
+                extractFromConfigFile(configFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier de config: {}", configFile, e);
+            }
         }
     }
     
@@ -432,15 +436,12 @@ public class CobolDependencyExtractor {
                                  Map<String, Dependencies.CobolDependency> dependencyMap) 
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".properties"))
-                 .forEach(propFile -> {
-                     try {
-                         extractFromPropertyFile(propFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier properties: {}", propFile, e);
-                     }
-                 });
+        for (Path propFile : fileInventoryService.inventoryFor(path).findByExtension("properties")) {
+            try {
+                extractFromPropertyFile(propFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier properties: {}", propFile, e);
+            }
         }
     }
     
@@ -1,12 +1,16 @@
 package com.legacy.analyzer.extractors.dependencies;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -14,26 +18,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DatabaseDependencyExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
+    private final SqlAnalyzer sqlAnalyzer;
     
-    // Patterns pour détecter les requêtes SQL
-    private static final Pattern SQL_PATTERN = Pattern.compile(
-            "\\b(SELECT|INSERT|UPDATE|DELETE|MERGE|CREATE|DROP|ALTER|TRUNCATE|CALL|EXEC|EXECUTE)\\b",
-            Pattern.CASE_INSENSITIVE
-    );
-    
-    private static final Pattern TABLE_PATTERN = Pattern.compile(
-            "\\b(?:FROM|INTO|UPDATE|TABLE|JOIN)\\s+([a-zA-Z_][a-zA-Z0-9_]*)(?:\\s|,|$)",
-            Pattern.CASE_INSENSITIVE
-    );
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
     
     public List<Dependencies.DatabaseDependency> extractDependencies(Path path, 
                                                                    WebLogicApplication application) 
@@ -53,6 +50,12 @@ public class DatabaseDependencyExtractor {
         // 4. Scanner les fichiers SQL
         scanSqlFiles(path, dependencyMap);
         
+        // Tables et procédures ajoutées requête par requête : dédoublonnées une seule fois, à la fin
+        for (Dependencies.DatabaseDependency dependency : dependencyMap.values()) {
+            dependency.setTables(distinct(dependency.getTables()));
+            dependency.setStoredProcedures(distinct(dependency.getStoredProcedures()));
+        }
+        
         return new ArrayList<>(dependencyMap.values());
     }
     
@@ -98,15 +101,12 @@ public class DatabaseDependencyExtractor {
     private void scanJavaFiles(Path path, Map<String, Dependencies.DatabaseDependency> dependencyMap) 
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -114,7 +114,10 @@ public class DatabaseDependencyExtractor {
                                    Map<String, Dependencies.DatabaseDependency> dependencyMap) 
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -129,8 +132,8 @@ public class DatabaseDependencyExtractor {
                 k -> Dependencies.DatabaseDependency.builder()
                         .dataSourceName(defaultDsName)
                         .queries(new ArrayList<>())
-                        .tables(new HashSet<>())
-                        .storedProcedures(new HashSet<>())
+                        .tables(new ArrayList<>())
+                        .storedProcedures(new ArrayList<>())
                         .build()
         );
         
@@ -141,6 +144,8 @@ public class DatabaseDependencyExtractor {
     private class SqlExtractorVisitor extends VoidVisitorAdapter<Void> {
         private final Dependencies.DatabaseDependency dependency;
         private final Path sourceFile;
+        // Expressions déjà traitées (argument de createQuery, morceaux d'une concaténation) : une requête par texte
+        private final Set<Expression> handled = Collections.newSetFromMap(new IdentityHashMap<>());
         private int queryCounter = 0;
         
         public SqlExtractorVisitor(Dependencies.DatabaseDependency dependency, Path sourceFile) {
@@ -160,59 +165,22 @@ public class DatabaseDependencyExtractor {
         
         @Override
         public void visit(StringLiteralExpr expr, Void arg) {
-            String value = expr.getValue();
-            
-            // Vérifier si c'est une requête SQL
-            if (SQL_PATTERN.matcher(value).find()) {
-                queryCounter++;
-                
-                Dependencies.SQLQuery query = Dependencies.SQLQuery.builder()
-                        .id("query_" + sourceFile.getFileName() + "_" + queryCounter)
-                        .rawQuery(value)
-                        .normalizedQuery(normalizeQuery(value))
-                        .type(detectQueryType(value))
-                        .tables(extractTables(value))
-                        .lineNumber(expr.getBegin().map(pos -> pos.line).orElse(0))
-                        .isDynamic(false)
-                        .build();
-                
-                dependency.getQueries().add(query);
-                
-                // Ajouter les tables à la liste globale
-                dependency.getTables().addAll(query.getTables());
-                
-                // Détecter les procédures stockées
-                if (query.getType().equals("CALL")) {
-                    String procName = extractStoredProcedureName(value);
-                    if (procName != null) {
-                        dependency.getStoredProcedures().add(procName);
-                    }
-                }
+            if (handled.add(expr)) {
+                addQuery("query_", expr.getValue(), SqlStatement.Language.SQL, expr, false);
             }
-            
             super.visit(expr, arg);
         }
         
         @Override
         public void visit(BinaryExpr expr, Void arg) {
             // Détecter les concaténations de strings qui pourraient former une requête SQL
-            if (expr.getOperator() == BinaryExpr.Operator.PLUS) {
+            if (expr.getOperator() == BinaryExpr.Operator.PLUS && handled.add(expr)) {
                 String combined = extractConcatenatedString(expr);
-                if (combined != null && SQL_PATTERN.matcher(combined).find()) {
-                    queryCounter++;
-                    
-                    Dependencies.SQLQuery query = Dependencies.SQLQuery.builder()
-                            .id("query_dynamic_" + sourceFile.getFileName() + "_" + queryCounter)
-                            .rawQuery(combined)
-                            .normalizedQuery(normalizeQuery(combined))
-                            .type(detectQueryType(combined))
-                            .tables(extractTables(combined))
-                            .lineNumber(expr.getBegin().map(pos -> pos.line).orElse(0))
-                            .isDynamic(true)
-                            .build();
-                    
-                    dependency.getQueries().add(query);
-                    dependency.getTables().addAll(query.getTables());
+                if (combined != null
+                        && addQuery("query_dynamic_", combined, SqlStatement.Language.SQL, expr, true)) {
+                    // Les morceaux de la concaténation ne sont pas des requêtes à part entière
+                    expr.findAll(BinaryExpr.class).forEach(handled::add);
+                    expr.findAll(StringLiteralExpr.class).forEach(handled::add);
                 }
             }
             
@@ -223,105 +191,56 @@ public class DatabaseDependencyExtractor {
         public void visit(MethodCallExpr expr, Void arg) {
             String methodName = expr.getNameAsString();
             
-            // Détecter les appels PreparedStatement, CallableStatement
-            if (methodName.equals("prepareStatement") || methodName.equals("prepareCall")) {
-                if (!expr.getArguments().isEmpty()) {
-                    Expression sqlExpr = expr.getArguments().get(0);
-                    if (sqlExpr instanceof StringLiteralExpr) {
-                        String sql = ((StringLiteralExpr) sqlExpr).getValue();
-                        visit((StringLiteralExpr) sqlExpr, null);
-                    }
-                }
-            }
-            
-            // Détecter les appels Hibernate/JPA
-            if (methodName.equals("createQuery") || methodName.equals("createNativeQuery") ||
-                methodName.equals("createSQLQuery") || methodName.equals("createNamedQuery")) {
-                if (!expr.getArguments().isEmpty()) {
-                    Expression queryExpr = expr.getArguments().get(0);
-                    if (queryExpr instanceof StringLiteralExpr) {
-                        String query = ((StringLiteralExpr) queryExpr).getValue();
-                        
-                        // Pour les requêtes HQL/JPQL, extraire les entités
-                        if (methodName.equals("createQuery")) {
-                            extractEntitiesFromHQL(query);
-                        } else {
-                            visit((StringLiteralExpr) queryExpr, null);
-                        }
-                    }
-                }
+            // Requêtes HQL/JPQL : entités plutôt que tables
+            if (methodName.equals("createQuery") && !expr.getArguments().isEmpty()
+                    && expr.getArguments().get(0) instanceof StringLiteralExpr literal && handled.add(literal)) {
+                addQuery("hql_", literal.getValue(), SqlStatement.Language.HQL, literal, false);
             }
             
+            // prepareStatement, prepareCall, createNativeQuery... : le littéral est visité comme les autres
             super.visit(expr, arg);
         }
         
-        private void extractEntitiesFromHQL(String hql) {
-            // Extraction simplifiée des entités depuis HQL
-            Pattern entityPattern = Pattern.compile("FROM\\s+([a-zA-Z][a-zA-Z0-9]*)", 
-                                                   Pattern.CASE_INSENSITIVE);
-            Matcher matcher = entityPattern.matcher(hql);
-            
-            while (matcher.find()) {
-                String entity = matcher.group(1);
-                dependency.getTables().add(entity.toLowerCase());
-            }
-        }
-    }
-    
-    private String normalizeQuery(String query) {
-        // Normaliser la requête pour faciliter l'analyse
-        return query.replaceAll("\\s+", " ")
-                   .replaceAll("\\?", "?")
-                   .trim();
-    }
-    
-    private String detectQueryType(String query) {
-        String upperQuery = query.toUpperCase().trim();
-        
-        if (upperQuery.startsWith("SELECT")) return "SELECT";
-        if (upperQuery.startsWith("INSERT")) return "INSERT";
-        if (upperQuery.startsWith("UPDATE")) return "UPDATE";
-        if (upperQuery.startsWith("DELETE")) return "DELETE";
-        if (upperQuery.startsWith("MERGE")) return "MERGE";
-        if (upperQuery.startsWith("CALL") || upperQuery.startsWith("EXEC")) return "CALL";
-        if (upperQuery.startsWith("CREATE")) return "DDL";
-        if (upperQuery.startsWith("ALTER")) return "DDL";
-        if (upperQuery.startsWith("DROP")) return "DDL";
-        
-        return "UNKNOWN";
-    }
-    
-    private List<String> extractTables(String query) {
-        Set<String> tables = new HashSet<>();
-        
-        Matcher matcher = TABLE_PATTERN.matcher(query);
-        while (matcher.find()) {
-            String table = matcher.group(1);
-            if (table != null && !isKeyword(table)) {
-                tables.add(table.toLowerCase());
+        /**
+         * @return {@code true} si le texte est une requête
+         */
+        private boolean addQuery(String prefix, String text, SqlStatement.Language language,
+                                 Expression expr, boolean dynamic) {
+            SqlStatement statement = sqlAnalyzer.analyze(text, language);
+            if (!statement.isQuery()) {
+                return false;
             }
+            queryCounter++;
+            
+            Dependencies.SQLQuery query = Dependencies.SQLQuery.builder()
+                    .id(prefix + sourceFile.getFileName() + "_" + queryCounter)
+                    .rawQuery(text)
+                    .normalizedQuery(normalizeQuery(text))
+                    .fingerprint(statement.fingerprint())
+                    .type(statement.type())
+                    .tables(statement.tables())
+                    .procedures(statement.procedures())
+                    .sourceFile(sourceFile.toString())
+                    .lineNumber(expr.getBegin().map(pos -> pos.line).orElse(0))
+                    .isDynamic(dynamic)
+                    .build();
+            
+            dependency.getQueries().add(query);
+            
+            // Ajouter les tables et procédures à la liste globale
+            dependency.getTables().addAll(statement.tables());
+            dependency.getStoredProcedures().addAll(statement.procedures());
+            return true;
         }
-        
-        return new ArrayList<>(tables);
     }
     
-    private boolean isKeyword(String word) {
-        Set<String> keywords = Set.of("SELECT", "FROM", "WHERE", "AND", "OR", 
-                                      "ORDER", "GROUP", "BY", "HAVING", "JOIN",
-                                      "LEFT", "RIGHT", "INNER", "OUTER", "ON");
-        return keywords.contains(word.toUpperCase());
+    private static List<String> distinct(List<String> values) {
+        return values == null ? null : new ArrayList<>(new LinkedHashSet<>(values));
     }
     
-    private String extractStoredProcedureName(String query) {
-        Pattern pattern = Pattern.compile("(?:CALL|EXEC|EXECUTE)\\s+([a-zA-Z_][a-zA-Z0-9_\\.]*)",
-                                        Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(query);
-        
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        
-        return null;
+    private String normalizeQuery(String query) {
+        // Normaliser la requête pour faciliter l'analyse
+        return WHITESPACE.matcher(query).replaceAll(" ").trim();
     }
     
     private String extractConcatenatedString(BinaryExpr expr) {
@@ -350,29 +269,25 @@ public class DatabaseDependencyExtractor {
             throws IOException {
         
         // Scanner les fichiers Hibernate
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".hbm.xml") || 
-                             p.toString().endsWith("hibernate.cfg.xml"))
-                 .forEach(mappingFile -> {
-                     try {
-                         extractFromHibernateMapping(mappingFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier Hibernate: {}", mappingFile, e);
-                     }
-                 });
+        for (Path mappingFile : fileInventoryService.inventoryFor(path)
+                .findFiles(p -> p.toString().endsWith(".hbm.xml") ||
+                        p.toString().endsWith("hibernate.cfg.xml"), "xml")) {
+            try {
+                extractFromHibernateMapping(mappingFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier Hibernate: {}", mappingFile, e);
+            }
         }
         
         // Scanner les fichiers MyBatis
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith("-mapper.xml") || 
-                             p.toString().endsWith("Mapper.xml"))
-                 .forEach(mappingFile -> {
-                     try {
-                         extractFromMyBatisMapping(mappingFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier MyBatis: {}", mappingFile, e);
-                     }
-                 });
+        for (Path mappingFile : fileInventoryService.inventoryFor(path)
+                .findFiles(p -> p.toString().endsWith("-mapper.xml") ||
+                        p.toString().endsWith("Mapper.xml"), "xml")) {
+            try {
+                extractFromMyBatisMapping(mappingFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier MyBatis: {}", mappingFile, e);
+            }
         }
     }
     
@@ -391,15 +306,12 @@ public class DatabaseDependencyExtractor {
     private void scanSqlFiles(Path path, Map<String, Dependencies.DatabaseDependency> dependencyMap) 
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".sql"))
-                 .forEach(sqlFile -> {
-                     try {
-                         extractFromSqlFile(sqlFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier SQL: {}", sqlFile, e);
-                     }
-                 });
+        for (Path sqlFile : fileInventoryService.inventoryFor(path).findByExtension("sql")) {
+            try {
+                extractFromSqlFile(sqlFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier SQL: {}", sqlFile, e);
+            }
         }
     }
     
@@ -415,28 +327,68 @@ public class DatabaseDependencyExtractor {
                 k -> Dependencies.DatabaseDependency.builder()
                         .dataSourceName("sql_scripts")
                         .queries(new ArrayList<>())
-                        .tables(new HashSet<>())
-                        .storedProcedures(new HashSet<>())
+                        .tables(new ArrayList<>())
+                        .storedProcedures(new ArrayList<>())
                         .build()
         );
         
-        // Parser le contenu SQL
-        String[] statements = content.split(";");
-        for (int i = 0; i < statements.length; i++) {
-            String statement = statements[i].trim();
-            if (!statement.isEmpty() && SQL_PATTERN.matcher(statement).find()) {
-                Dependencies.SQLQuery query = Dependencies.SQLQuery.builder()
-                        .id("sql_" + sqlFile.getFileName() + "_" + i)
-                        .rawQuery(statement)
-                        .normalizedQuery(normalizeQuery(statement))
-                        .type(detectQueryType(statement))
-                        .tables(extractTables(statement))
-                        .isDynamic(false)
-                        .build();
-                
-                sqlDep.getQueries().add(query);
-                sqlDep.getTables().addAll(query.getTables());
+        // Découper aux ';' hors chaînes et commentaires
+        SqlLexer lexer = new SqlLexer(content);
+        int statementStart = -1;
+        int index = 0;
+        int line = 1;
+        int counted = 0;
+        for (int type = lexer.next(); ; type = lexer.next()) {
+            boolean separator = type == SqlLexer.SYMBOL && lexer.symbol() == ';';
+            if (type == SqlLexer.END || separator) {
+                if (statementStart >= 0) {
+                    line += countLines(content, counted, statementStart);
+                    counted = statementStart;
+                    addScriptStatement(sqlFile, sqlDep, content.substring(statementStart, lexer.start()).trim(),
+                            index++, line);
+                    statementStart = -1;
+                }
+                if (type == SqlLexer.END) {
+                    break;
+                }
+            } else if (statementStart < 0) {
+                // Début du premier jeton : les commentaires qui précèdent l'instruction sont exclus
+                statementStart = lexer.start() - (type == SqlLexer.QUOTED ? 1 : 0);
+            }
+        }
+    }
+    
+    private void addScriptStatement(Path sqlFile, Dependencies.DatabaseDependency sqlDep,
+                                    String statement, int index, int line) {
+        SqlStatement parsed = sqlAnalyzer.analyze(statement, SqlStatement.Language.SQL);
+        if (!parsed.isQuery()) {
+            return;
+        }
+        Dependencies.SQLQuery query = Dependencies.SQLQuery.builder()
+                .id("sql_" + sqlFile.getFileName() + "_" + index)
+                .rawQuery(statement)
+                .normalizedQuery(normalizeQuery(statement))
+                .fingerprint(parsed.fingerprint())
+                .type(parsed.type())
+                .tables(parsed.tables())
+                .procedures(parsed.procedures())
+                .sourceFile(sqlFile.toString())
+                .lineNumber(line)
+                .isDynamic(false)
+                .build();
+        
+        sqlDep.getQueries().add(query);
+        sqlDep.getTables().addAll(parsed.tables());
+        sqlDep.getStoredProcedures().addAll(parsed.procedures());
+    }
+    
+    private static int countLines(String text, int from, int to) {
+        int lines = 0;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == '\n') {
+                lines++;
             }
         }
+        return lines;
     }
 }
\ No newline at end of file
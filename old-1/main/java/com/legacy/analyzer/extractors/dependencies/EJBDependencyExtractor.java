@@ -1,32 +1,37 @@
 package com.legacy.analyzer.extractors.dependencies;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.descriptor.DescriptorCache;
+import com.legacy.analyzer.descriptor.EjbJar;
+import com.legacy.analyzer.descriptor.WeblogicEjbJar;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jdom2.Document;
-import org.jdom2.Element;
-import org.jdom2.input.SAXBuilder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class EJBDependencyExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
-    private final SAXBuilder saxBuilder = new SAXBuilder();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
+    private final DescriptorCache descriptorCache;
     
     public List<Dependencies.EJBDependency> extractDependencies(Path path, 
                                                               WebLogicApplication application) 
@@ -49,83 +54,56 @@ public class EJBDependencyExtractor {
     private void extractFromEjbDescriptors(Path path, 
                                          Map<String, Dependencies.EJBDependency> dependencyMap) {
         
-        Path ejbJarXml = path.resolve("META-INF/ejb-jar.xml");
-        if (Files.exists(ejbJarXml)) {
-            try {
-                Document document = saxBuilder.build(ejbJarXml.toFile());
-                Element root = document.getRootElement();
-                
-                // Parser les session beans
-                Element enterpriseBeans = root.getChild("enterprise-beans");
-                if (enterpriseBeans != null) {
-                    // Session beans
-                    List<Element> sessionBeans = enterpriseBeans.getChildren("session");
-                    for (Element sessionBean : sessionBeans) {
-                        Dependencies.EJBDependency ejb = parseSessionBean(sessionBean);
-                        dependencyMap.put(ejb.getEjbName(), ejb);
-                    }
-                    
-                    // Entity beans (legacy)
-                    List<Element> entityBeans = enterpriseBeans.getChildren("entity");
-                    for (Element entityBean : entityBeans) {
-                        Dependencies.EJBDependency ejb = parseEntityBean(entityBean);
-                        dependencyMap.put(ejb.getEjbName(), ejb);
-                    }
-                    
-                    // Message-driven beans
-                    List<Element> messageBeans = enterpriseBeans.getChildren("message-driven");
-                    for (Element messageBean : messageBeans) {
-                        Dependencies.EJBDependency ejb = parseMessageDrivenBean(messageBean);
-                        dependencyMap.put(ejb.getEjbName(), ejb);
-                    }
-                }
-                
-            } catch (Exception e) {
-                log.error("Erreur lors du parsing de ejb-jar.xml", e);
+        descriptorCache.ejbJar(path.resolve("META-INF/ejb-jar.xml")).ifPresent(ejbJar -> {
+            // Session beans
+            for (EjbJar.Bean sessionBean : ejbJar.beans(EjbJar.Kind.SESSION)) {
+                Dependencies.EJBDependency ejb = parseSessionBean(sessionBean);
+                dependencyMap.put(ejb.getEjbName(), ejb);
             }
-        }
+            
+            // Entity beans (legacy)
+            for (EjbJar.Bean entityBean : ejbJar.beans(EjbJar.Kind.ENTITY)) {
+                Dependencies.EJBDependency ejb = parseEntityBean(entityBean);
+                dependencyMap.put(ejb.getEjbName(), ejb);
+            }
+            
+            // Message-driven beans
+            for (EjbJar.Bean messageBean : ejbJar.beans(EjbJar.Kind.MESSAGE_DRIVEN)) {
+                Dependencies.EJBDependency ejb = parseMessageDrivenBean(messageBean);
+                dependencyMap.put(ejb.getEjbName(), ejb);
+            }
+        });
     }
     
-    private Dependencies.EJBDependency parseSessionBean(Element sessionBean) {
-        Dependencies.EJBDependency.EJBDependencyBuilder builder = Dependencies.EJBDependency.builder();
-        
-        builder.ejbName(sessionBean.getChildText("ejb-name"));
-        builder.interfaceClass(sessionBean.getChildText("ejb-class"));
-        builder.homeInterface(sessionBean.getChildText("home"));
-        builder.remoteInterface(sessionBean.getChildText("remote"));
-        
-        String sessionType = sessionBean.getChildText("session-type");
-        builder.isStateless("Stateless".equalsIgnoreCase(sessionType));
-        
-        builder.isLocal(sessionBean.getChild("local") != null);
-        builder.version("2.x"); // EJB 2.x si déclaré dans ejb-jar.xml
-        
-        // JNDI name depuis ejb-ref
-        String jndiName = sessionBean.getChildText("ejb-ref-name");
-        if (jndiName == null) {
-            jndiName = "ejb/" + sessionBean.getChildText("ejb-name");
-        }
-        builder.jndiName(jndiName);
-        
-        return builder.build();
+    private Dependencies.EJBDependency parseSessionBean(EjbJar.Bean sessionBean) {
+        return Dependencies.EJBDependency.builder()
+                .ejbName(sessionBean.ejbName())
+                .interfaceClass(sessionBean.ejbClass())
+                .homeInterface(sessionBean.home())
+                .remoteInterface(sessionBean.remote())
+                .isStateless("Stateless".equalsIgnoreCase(sessionBean.sessionType()))
+                .isLocal(sessionBean.local() != null)
+                .version("2.x") // EJB 2.x si déclaré dans ejb-jar.xml
+                .jndiName("ejb/" + sessionBean.ejbName())
+                .build();
     }
     
-    private Dependencies.EJBDependency parseEntityBean(Element entityBean) {
+    private Dependencies.EJBDependency parseEntityBean(EjbJar.Bean entityBean) {
         // Parser pour les entity beans (EJB 2.x)
         return Dependencies.EJBDependency.builder()
-                .ejbName(entityBean.getChildText("ejb-name"))
-                .interfaceClass(entityBean.getChildText("ejb-class"))
-                .homeInterface(entityBean.getChildText("home"))
-                .remoteInterface(entityBean.getChildText("remote"))
+                .ejbName(entityBean.ejbName())
+                .interfaceClass(entityBean.ejbClass())
+                .homeInterface(entityBean.home())
+                .remoteInterface(entityBean.remote())
                 .version("2.x")
                 .build();
     }
     
-    private Dependencies.EJBDependency parseMessageDrivenBean(Element messageBean) {
+    private Dependencies.EJBDependency parseMessageDrivenBean(EjbJar.Bean messageBean) {
         // Parser pour les MDB
         return Dependencies.EJBDependency.builder()
-                .ejbName(messageBean.getChildText("ejb-name"))
-                .interfaceClass(messageBean.getChildText("ejb-class"))
+                .ejbName(messageBean.ejbName())
+                .interfaceClass(messageBean.ejbClass())
                 .version("2.x")
                 .build();
     }
@@ -133,15 +111,12 @@ public class EJBDependencyExtractor {
     private void scanJavaFiles(Path path, Map<String, Dependencies.EJBDependency> dependencyMap) 
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -149,7 +124,10 @@ public class EJBDependencyExtractor {
                                    Map<String, Dependencies.EJBDependency> dependencyMap) 
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -389,34 +367,16 @@ public class EJBDependencyExtractor {
     private void extractFromWebLogicDescriptors(Path path,
                                               Map<String, Dependencies.EJBDependency> dependencyMap) {
         
-        Path weblogicEjbJar = path.resolve("META-INF/weblogic-ejb-jar.xml");
-        if (Files.exists(weblogicEjbJar)) {
-            try {
-                Document document = saxBuilder.build(weblogicEjbJar.toFile());
-                Element root = document.getRootElement();
-                
-                // Enrichir les EJB avec les infos WebLogic
-                List<Element> ejbDescriptors = root.getChildren("weblogic-enterprise-bean");
-                for (Element ejbDesc : ejbDescriptors) {
-                    String ejbName = ejbDesc.getChildText("ejb-name");
-                    
-                    Dependencies.EJBDependency ejb = dependencyMap.get(ejbName);
-                    if (ejb != null) {
-                        // JNDI name WebLogic
-                        Element jndiBinding = ejbDesc.getChild("jndi-binding");
-                        if (jndiBinding != null) {
-                            String jndiName = jndiBinding.getChildText("jndi-name");
-                            if (jndiName != null) {
-                                ejb.setJndiName(jndiName);
-                            }
-                        }
-                    }
+        descriptorCache.weblogicEjbJar(path.resolve("META-INF/weblogic-ejb-jar.xml")).ifPresent(weblogicEjbJar -> {
+            // Enrichir les EJB avec les infos WebLogic
+            for (WeblogicEjbJar.Bean ejbDesc : weblogicEjbJar.beans()) {
+                Dependencies.EJBDependency ejb = dependencyMap.get(ejbDesc.ejbName());
+                if (ejb != null && ejbDesc.jndiName() != null) {
+                    // JNDI name WebLogic
+                    ejb.setJndiName(ejbDesc.jndiName());
                 }
-                
-            } catch (Exception e) {
-                log.error("Erreur lors du parsing de weblogic-ejb-jar.xml", e);
             }
-        }
+        });
     }
     
     private String getFullClassName(ClassOrInterfaceDeclaration classDecl) {
@@ -1,12 +1,16 @@
 package com.legacy.analyzer.extractors.dependencies;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -15,13 +19,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileDependencyExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
     
     // Patterns pour détecter les chemins de fichiers
     private static final Pattern FILE_PATH_PATTERN = Pattern.compile(
@@ -55,15 +61,12 @@ public class FileDependencyExtractor {
     private void scanJavaFiles(Path path, Map<String, Dependencies.FileDependency> dependencyMap)
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -71,7 +74,10 @@ public class FileDependencyExtractor {
                                    Map<String, Dependencies.FileDependency> dependencyMap)
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -410,15 +416,12 @@ public class FileDependencyExtractor {
     private void scanPropertyFiles(Path path, Map<String, Dependencies.FileDependency> dependencyMap)
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".properties"))
-                 .forEach(propFile -> {
-                     try {
-                         extractFromPropertyFile(propFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier properties: {}", propFile, e);
-                     }
-                 });
+        for (Path propFile : fileInventoryService.inventoryFor(path).findByExtension("properties")) {
+            try {
+                extractFromPropertyFile(propFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier properties: {}", propFile, e);
+            }
         }
     }
     
@@ -455,16 +458,14 @@ public class FileDependencyExtractor {
             throws IOException {
         
         // Scanner les fichiers XML de configuration
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".xml") && 
-                             (p.toString().contains("config") || p.toString().contains("context")))
-                 .forEach(configFile -> {
-                     try {
-                         extractFromConfigFile(configFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier de config: {}", configFile, e);
-                     }
-                 });
+        for (Path configFile : fileInventoryService.inventoryFor(path)
+                .findFiles(p -> p.toString().endsWith(".xml") &&
+                        (p.toString().contains("config") || p.toString().contains("context")), "xml")) {
+            try {
+                extractFromConfigFile(configFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier de config: {}", configFile, e);
+            }
         }
     }
     
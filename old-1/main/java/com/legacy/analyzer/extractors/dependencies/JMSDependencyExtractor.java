@@ -1,27 +1,36 @@
 package com.legacy.analyzer.extractors.dependencies;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.descriptor.DescriptorCache;
+import com.legacy.analyzer.descriptor.EjbJar;
+import com.legacy.analyzer.descriptor.SpringContext;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JMSDependencyExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
+    private final DescriptorCache descriptorCache;
     
     public List<Dependencies.JMSDependency> extractDependencies(Path path,
                                                               WebLogicApplication application)
@@ -44,15 +53,12 @@ public class JMSDependencyExtractor {
     private void scanJavaFiles(Path path, Map<String, Dependencies.JMSDependency> dependencyMap)
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -60,7 +66,10 @@ public class JMSDependencyExtractor {
                                    Map<String, Dependencies.JMSDependency> dependencyMap)
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -377,13 +386,47 @@ public class JMSDependencyExtractor {
     }
     
     private void scanEJBDescriptors(Path path, Map<String, Dependencies.JMSDependency> dependencyMap) {
-        Path ejbJarXml = path.resolve("META-INF/ejb-jar.xml");
-        if (Files.exists(ejbJarXml)) {
-            try {
-                // TODO: Parser ejb-jar.xml pour les MDB
-                log.debug("Analyse de ejb-jar.xml pour JMS");
-            } catch (Exception e) {
-                log.error("Erreur lors du parsing de ejb-jar.xml", e);
+        EjbJar ejbJar = descriptorCache.ejbJar(path.resolve("META-INF/ejb-jar.xml")).orElse(null);
+        if (ejbJar == null) {
+            return;
+        }
+        
+        // Destinations physiques des MDB déclarées côté WebLogic
+        Map<String, String> weblogicDestinations = new HashMap<>();
+        descriptorCache.weblogicEjbJar(path.resolve("META-INF/weblogic-ejb-jar.xml"))
+                .ifPresent(weblogicEjbJar -> weblogicEjbJar.beans().forEach(bean -> {
+                    if (bean.ejbName() != null && bean.destinationJndiName() != null) {
+                        weblogicDestinations.put(bean.ejbName(), bean.destinationJndiName());
+                    }
+                }));
+        
+        for (EjbJar.Bean mdb : ejbJar.beans(EjbJar.Kind.MESSAGE_DRIVEN)) {
+            String jndiName = weblogicDestinations.get(mdb.ejbName());
+            String destination = jndiName != null ? jndiName : mdb.destination();
+            boolean topic = mdb.destinationType() != null && mdb.destinationType().contains("Topic");
+            
+            Map<String, String> properties = new HashMap<>();
+            if (mdb.ejbName() != null) {
+                properties.put("ejbName", mdb.ejbName());
+            }
+            if (mdb.destinationType() != null) {
+                properties.put("destinationType", mdb.destinationType());
+            }
+            
+            Dependencies.JMSDependency jms = Dependencies.JMSDependency.builder()
+                    .queueName(topic ? null : destination)
+                    .topicName(topic ? destination : null)
+                    .jndiName(jndiName)
+                    .messageType(mdb.ejbClass())
+                    .isConsumer(true)
+                    .isProducer(false)
+                    .properties(properties)
+                    .build();
+            
+            // Les annotations @MessageDriven déjà lues dans le code priment
+            String key = destination != null ? destination : mdb.ejbName();
+            if (key != null) {
+                dependencyMap.putIfAbsent(key, jms);
             }
         }
     }
@@ -392,32 +435,28 @@ public class JMSDependencyExtractor {
             throws IOException {
         
         // Scanner les fichiers de configuration Spring
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".xml") && 
-                             (p.toString().contains("spring") || p.toString().contains("context")))
-                 .forEach(configFile -> {
-                     try {
-                         extractFromSpringConfig(configFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse de la config Spring: {}", configFile, e);
-                     }
-                 });
+        for (Path configFile : fileInventoryService.inventoryFor(path)
+                .findFiles(p -> p.toString().endsWith(".xml") &&
+                        (p.toString().contains("spring") || p.toString().contains("context")), "xml")) {
+            try {
+                extractFromSpringConfig(configFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse de la config Spring: {}", configFile, e);
+            }
         }
     }
     
     private void extractFromSpringConfig(Path configFile, 
-                                       Map<String, Dependencies.JMSDependency> dependencyMap) 
-            throws IOException {
+                                       Map<String, Dependencies.JMSDependency> dependencyMap) {
         
-        String content = Files.readString(configFile);
+        SpringContext context = descriptorCache.springContext(configFile).orElse(null);
         
         // Rechercher les beans JMS
-        if (content.contains("jms:") || content.contains("JmsTemplate") || 
-            content.contains("MessageListenerContainer")) {
+        if (context != null && (context.usesNamespace("/schema/jms") || context.declaresClass("JmsTemplate") ||
+            context.declaresClass("MessageListenerContainer"))) {
             
             log.debug("Configuration JMS détectée dans: {}", configFile);
             
-            // Extraire basique - en réalité il faudrait parser le XML
             Dependencies.JMSDependency jms = Dependencies.JMSDependency.builder()
                     .connectionFactory("SPRING_JMS")
                     .properties(Map.of("configFile", configFile.toString()))
@@ -0,0 +1,676 @@
+package com.legacy.analyzer.extractors.dependencies;
+
+import com.legacy.analyzer.extractors.dependencies.SqlLexer.Keyword;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Analyse des requêtes SQL et HQL en une seule passe sur les jetons de {@link SqlLexer} : type de
+ * requête, tables (alias, schémas et sous-requêtes compris), procédures stockées et empreinte.
+ * <p>
+ * Les résultats sont mis en cache par texte : une requête répétée dans des milliers de fichiers
+ * n'est analysée qu'une fois. Deux textes de même empreinte (valeurs littérales, casse ou blancs
+ * différents) partagent le même {@link SqlStatement}. Les deux caches sont bornés : au-delà, les
+ * nouvelles requêtes sont analysées sans être gardées.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlAnalyzer {
+
+    private static final int MAX_CACHED_TEXTS = 100_000;
+    private static final int MAX_CACHED_FINGERPRINTS = 100_000;
+    private static final Set<Keyword> VERBS = EnumSet.of(Keyword.SELECT, Keyword.INSERT, Keyword.UPDATE,
+            Keyword.DELETE, Keyword.MERGE, Keyword.CALL, Keyword.EXEC, Keyword.EXECUTE, Keyword.BEGIN,
+            Keyword.DECLARE, Keyword.CREATE, Keyword.ALTER, Keyword.DROP, Keyword.TRUNCATE, Keyword.WITH);
+
+    private final MetricsRegistry metrics;
+    private final Map<String, SqlStatement> sqlByText = new ConcurrentHashMap<>();
+    private final Map<String, SqlStatement> hqlByText = new ConcurrentHashMap<>();
+    private final Map<String, SqlStatement> sqlByFingerprint = new ConcurrentHashMap<>();
+    private final Map<String, SqlStatement> hqlByFingerprint = new ConcurrentHashMap<>();
+
+    /**
+     * @return l'analyse du texte, {@link SqlStatement#isQuery()} faux si ce n'est pas une requête
+     */
+    public SqlStatement analyze(String text, SqlStatement.Language language) {
+        Map<String, SqlStatement> byText = language == SqlStatement.Language.HQL ? hqlByText : sqlByText;
+        SqlStatement cached = byText.get(text);
+        if (cached != null) {
+            metrics.increment(MetricsRegistry.SQL_CACHE_HITS);
+            return cached;
+        }
+        SqlStatement statement = parse(text, language);
+        // Les textes qui ne sont pas des requêtes sont rejetés dès le premier mot : inutile de les garder
+        if (!statement.isQuery()) {
+            return statement;
+        }
+        metrics.increment(MetricsRegistry.SQL_STATEMENTS_PARSED);
+        Map<String, SqlStatement> byFingerprint =
+                language == SqlStatement.Language.HQL ? hqlByFingerprint : sqlByFingerprint;
+        SqlStatement canonical = byFingerprint.get(statement.fingerprint());
+        if (canonical == null) {
+            canonical = statement;
+            if (byFingerprint.size() < MAX_CACHED_FINGERPRINTS) {
+                SqlStatement previous = byFingerprint.putIfAbsent(statement.fingerprint(), statement);
+                if (previous != null) {
+                    canonical = previous;
+                }
+            }
+        }
+        if (byText.size() < MAX_CACHED_TEXTS) {
+            byText.put(text, canonical);
+        }
+        return canonical;
+    }
+
+    /**
+     * @return nombre de requêtes de formes différentes gardées en cache
+     */
+    public int fingerprintCount() {
+        return sqlByFingerprint.size() + hqlByFingerprint.size();
+    }
+
+    /**
+     * Analyse sans cache.
+     */
+    public static SqlStatement parse(String text, SqlStatement.Language language) {
+        if (!startsWithVerb(text, language)) {
+            return SqlStatement.NOT_SQL;
+        }
+        return new Parser(text, language).parse();
+    }
+
+    /**
+     * Test rapide, sans construire l'automate : la plupart des littéraux d'un programme ne sont pas des requêtes.
+     */
+    private static boolean startsWithVerb(String text, SqlStatement.Language language) {
+        SqlLexer lexer = new SqlLexer(text);
+        for (int token = lexer.next(); token != SqlLexer.END; token = lexer.next()) {
+            if (token == SqlLexer.WORD) {
+                Keyword keyword = lexer.keyword();
+                return keyword != null && (VERBS.contains(keyword)
+                        || (keyword == Keyword.FROM && language == SqlStatement.Language.HQL));
+            }
+            // ( { ? = avant le verbe : sous-requête, échappement JDBC {? = call ...}
+            if (token != SqlLexer.SYMBOL && token != SqlLexer.PARAMETER) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Automate sur les jetons : {@code expect} indique ce que le prochain nom désigne. L'état de la
+     * clause est empilé à chaque parenthèse, pour reprendre après une sous-requête ({@code FROM (...) x, y}).
+     */
+    private static final class Parser {
+
+        private static final int NONE = 0;
+        // Table lue par FROM (liste séparée par des virgules), JOIN ou USING : un nom suivi de ( est une fonction
+        private static final int SOURCE_LIST = 1;
+        private static final int SOURCE = 2;
+        // Table écrite : INTO, UPDATE, DELETE, TABLE
+        private static final int TARGET = 3;
+        private static final int LIST_ALIAS = 4;
+        private static final int ALIAS = 5;
+        private static final int INSERT_TARGET = 6;
+        private static final int DELETE_TARGET = 7;
+        private static final int DDL_OBJECT = 8;
+        private static final int PROCEDURE = 9;
+        // Bloc BEGIN ... END : un nom suivi de ( ou ; est un appel de procédure
+        private static final int BLOCK = 10;
+        private static final int CTE_NAME = 11;
+        private static final int CTE_AFTER = 12;
+        // CREATE INDEX nom : la table suit ON
+        private static final int INDEX_NAME = 13;
+
+        // Mots-clés utilisables comme noms de table ou d'alias
+        private static final Set<Keyword> NON_RESERVED = EnumSet.of(Keyword.TYPE, Keyword.SCHEMA, Keyword.INDEX,
+                Keyword.VIEW, Keyword.SEQUENCE, Keyword.PACKAGE, Keyword.TRIGGER, Keyword.SYNONYM, Keyword.FUNCTION,
+                Keyword.PROCEDURE, Keyword.DEFAULT, Keyword.OUTPUT, Keyword.WINDOW, Keyword.PARTITION,
+                Keyword.START, Keyword.OFFSET, Keyword.LIMIT, Keyword.RECURSIVE, Keyword.IMMEDIATE, Keyword.DUAL);
+        private static final Set<Keyword> DDL_OBJECTS = EnumSet.of(Keyword.VIEW, Keyword.INDEX, Keyword.SEQUENCE,
+                Keyword.PROCEDURE, Keyword.FUNCTION, Keyword.PACKAGE, Keyword.TRIGGER, Keyword.SYNONYM,
+                Keyword.SCHEMA, Keyword.TYPE);
+        // Modificateurs entre le mot-clé et la table : JOIN FETCH, FROM ONLY, DROP TABLE IF EXISTS...
+        private static final Set<Keyword> TABLE_MODIFIERS = EnumSet.of(Keyword.FETCH, Keyword.ONLY,
+                Keyword.LATERAL, Keyword.IF, Keyword.NOT, Keyword.EXISTS, Keyword.TABLE);
+        // Mots-clés qui peuvent suivre un nom de table : "from Order o where", "update Group set"...
+        private static final Set<Keyword> AFTER_TABLE = EnumSet.of(Keyword.WHERE, Keyword.JOIN, Keyword.SET,
+                Keyword.ON, Keyword.AS, Keyword.INNER, Keyword.LEFT, Keyword.RIGHT, Keyword.FULL, Keyword.OUTER,
+                Keyword.CROSS, Keyword.NATURAL, Keyword.GROUP, Keyword.ORDER, Keyword.HAVING, Keyword.UNION,
+                Keyword.INTERSECT, Keyword.EXCEPT, Keyword.MINUS, Keyword.FOR, Keyword.USING, Keyword.VALUES,
+                Keyword.SELECT, Keyword.CONNECT, Keyword.RETURNING);
+
+        private final String text;
+        private final SqlLexer lexer;
+        private final boolean hql;
+        private final StringBuilder fingerprint;
+        private final StringBuilder name = new StringBuilder();
+
+        private String type;
+        private int expect = NONE;
+        private int depth;
+        private int[] savedExpect = new int[8];
+        // Parenthèse ouvrant une requête (et non un appel de fonction) : seul FROM y introduit des tables
+        private boolean[] query = new boolean[8];
+        private boolean statementStart = true;
+        private boolean firstWord = true;
+        private boolean withPending;
+        private boolean inBlock;
+        private boolean naming;
+        private boolean dotPending;
+        private int nameContext;
+        private boolean sawFrom;
+        private boolean sawSet;
+        private boolean sawInsertClause;
+        private boolean sawDdlObject;
+        // Verbe écrit comme en début de phrase ("Select", "Update") : une phrase si aucune ponctuation SQL ne suit
+        private boolean sentenceCaseVerb;
+        private boolean punctuated;
+
+        private final Set<String> tables = new LinkedHashSet<>();
+        private final Set<String> procedures = new LinkedHashSet<>();
+        private Set<String> ctes;
+        private Set<String> aliases;
+
+        Parser(String text, SqlStatement.Language language) {
+            this.text = text;
+            this.lexer = new SqlLexer(text);
+            this.hql = language == SqlStatement.Language.HQL;
+            this.fingerprint = new StringBuilder(Math.min(text.length(), 1024));
+        }
+
+        SqlStatement parse() {
+            for (int token = lexer.next(); ; token = lexer.next()) {
+                appendFingerprint(token);
+                if (token != SqlLexer.WORD && token != SqlLexer.END) {
+                    punctuated = true;
+                }
+                if (naming && continueName(token)) {
+                    continue;
+                }
+                if (token == SqlLexer.END) {
+                    break;
+                }
+                if (!accept(token)) {
+                    return SqlStatement.NOT_SQL;
+                }
+            }
+            if (!recognized() || (sentenceCaseVerb && !punctuated)) {
+                // "Select the option from list" : des mots seuls derrière un verbe en casse de phrase
+                return SqlStatement.NOT_SQL;
+            }
+            if (ctes != null) {
+                tables.removeAll(ctes);
+            }
+            return new SqlStatement(type, List.copyOf(tables), List.copyOf(procedures), fingerprint.toString());
+        }
+
+        /**
+         * @return {@code false} si le texte n'est manifestement pas une requête
+         */
+        private boolean accept(int token) {
+            switch (token) {
+                case SqlLexer.WORD -> {
+                    return word(lexer.keyword());
+                }
+                case SqlLexer.QUOTED -> {
+                    if (firstWord) {
+                        return false;
+                    }
+                    identifier();
+                }
+                case SqlLexer.SYMBOL -> symbol(lexer.symbol(), lexer.end() - lexer.start());
+                case SqlLexer.STRING, SqlLexer.NUMBER -> {
+                    if (firstWord && depth == 0) {
+                        return false;
+                    }
+                }
+                default -> {
+                    // Paramètre : {? = call ...}, EXEC @ret = proc, BEGIN ? := fn(...)
+                }
+            }
+            return true;
+        }
+
+        private boolean word(Keyword keyword) {
+            boolean verbAllowed = statementStart || expect == CTE_AFTER;
+            if (keyword != null && verbAllowed && verb(keyword)) {
+                if (firstWord) {
+                    sentenceCaseVerb = isSentenceCase();
+                }
+                firstWord = false;
+                statementStart = false;
+                return true;
+            }
+            if (firstWord) {
+                // Premier mot qui n'est pas un verbe SQL : message, clé de configuration, fragment
+                return false;
+            }
+            statementStart = false;
+            if (keyword != null && !NON_RESERVED.contains(keyword) && !namesTable(keyword)) {
+                clause(keyword);
+            } else if (keyword != null && expect == DDL_OBJECT && DDL_OBJECTS.contains(keyword)) {
+                sawDdlObject = true;
+                expect = keyword == Keyword.INDEX ? INDEX_NAME : NONE;
+            } else if (keyword == Keyword.DUAL && (expect == SOURCE_LIST || expect == SOURCE)) {
+                expect = expect == SOURCE_LIST ? LIST_ALIAS : ALIAS;
+            } else if (keyword == Keyword.RECURSIVE && expect == CTE_NAME) {
+                // WITH RECURSIVE nom AS (...)
+            } else if (keyword == Keyword.IMMEDIATE && expect == PROCEDURE) {
+                // EXECUTE IMMEDIATE : SQL dynamique, pas une procédure
+                expect = NONE;
+            } else {
+                identifier();
+            }
+            return true;
+        }
+
+        /**
+         * Verbe en début d'instruction : fixe le type et ce qu'attend la suite.
+         *
+         * @return {@code false} si le mot-clé n'est pas un verbe
+         */
+        private boolean verb(Keyword keyword) {
+            String verbType;
+            int next;
+            switch (keyword) {
+                case SELECT -> { verbType = "SELECT"; next = NONE; }
+                case INSERT -> { verbType = "INSERT"; next = INSERT_TARGET; }
+                case UPDATE -> { verbType = "UPDATE"; next = TARGET; }
+                case DELETE -> { verbType = "DELETE"; next = DELETE_TARGET; }
+                case MERGE -> { verbType = "MERGE"; next = INSERT_TARGET; }
+                case CALL, EXEC, EXECUTE -> { verbType = "CALL"; next = PROCEDURE; }
+                case BEGIN -> { verbType = "CALL"; next = BLOCK; inBlock = true; }
+                case DECLARE -> { verbType = "CALL"; next = NONE; inBlock = true; }
+                case CREATE, ALTER, DROP -> { verbType = "DDL"; next = DDL_OBJECT; }
+                case TRUNCATE -> { verbType = "DDL"; next = TARGET; }
+                case WITH -> { verbType = null; next = CTE_NAME; }
+                case FROM -> {
+                    if (!hql) {
+                        return false;
+                    }
+                    // HQL : "from Entite e where ..."
+                    verbType = "SELECT";
+                    next = SOURCE_LIST;
+                    sawFrom = true;
+                }
+                default -> {
+                    return false;
+                }
+            }
+            query[depth] = true;
+            if (keyword == Keyword.WITH) {
+                if (type == null && depth == 0) {
+                    withPending = true;
+                }
+            } else if (type == null && (depth == 0 || !withPending)) {
+                type = verbType;
+            }
+            expect = next;
+            return true;
+        }
+
+        /**
+         * Mot réservé à la place d'une table : entité HQL {@code Order}, {@code Group}... C'est un nom
+         * s'il est suivi d'un alias, d'une virgule, de la fin de l'instruction ou d'un mot-clé qui suit
+         * une table ({@code WHERE}, {@code JOIN}, {@code SET}...).
+         */
+        private boolean namesTable(Keyword keyword) {
+            if (expect != SOURCE_LIST && expect != SOURCE && expect != TARGET
+                    && expect != INSERT_TARGET && expect != DELETE_TARGET) {
+                return false;
+            }
+            // DELETE FROM t, INSERT INTO t, DROP TABLE IF EXISTS t : le mot-clé introduit la table
+            if (keyword == Keyword.FROM || keyword == Keyword.INTO || TABLE_MODIFIERS.contains(keyword)) {
+                return false;
+            }
+            lexer.mark();
+            int token = lexer.next();
+            boolean name = switch (token) {
+                case SqlLexer.END, SqlLexer.QUOTED -> true;
+                case SqlLexer.WORD -> {
+                    Keyword following = lexer.keyword();
+                    yield following == null || NON_RESERVED.contains(following) || AFTER_TABLE.contains(following);
+                }
+                case SqlLexer.SYMBOL -> lexer.end() - lexer.start() == 1 && (lexer.symbol() == ','
+                        || lexer.symbol() == ';' || lexer.symbol() == '.'
+                        || (lexer.symbol() == '(' && expect == TARGET));
+                default -> false;
+            };
+            lexer.reset();
+            return name;
+        }
+
+        private void clause(Keyword keyword) {
+            switch (keyword) {
+                case FROM -> {
+                    if (query[depth]) {
+                        expect = SOURCE_LIST;
+                        sawFrom = true;
+                    } else {
+                        expect = NONE;
+                    }
+                }
+                case JOIN -> expect = query[depth] ? SOURCE : NONE;
+                // CREATE INDEX nom ON table (colonnes)
+                case ON -> expect = expect == INDEX_NAME ? TARGET : NONE;
+                case INTO -> {
+                    if (expect == INSERT_TARGET) {
+                        expect = TARGET;
+                        sawInsertClause = true;
+                    } else {
+                        expect = NONE;
+                    }
+                }
+                case USING -> expect = "MERGE".equals(type) && depth == 0 ? SOURCE : NONE;
+                case TABLE -> {
+                    if (expect == DDL_OBJECT) {
+                        sawDdlObject = true;
+                        expect = TARGET;
+                    } else if (expect != TARGET) {
+                        expect = NONE;
+                    }
+                }
+                case SET -> {
+                    sawSet = true;
+                    expect = NONE;
+                }
+                case VALUES -> {
+                    sawInsertClause = true;
+                    expect = NONE;
+                }
+                case AS -> {
+                    if (expect != ALIAS && expect != LIST_ALIAS && expect != CTE_AFTER) {
+                        expect = NONE;
+                    }
+                }
+                case BEGIN -> {
+                    // Corps d'un bloc DECLARE ... BEGIN
+                    inBlock = true;
+                    expect = BLOCK;
+                }
+                case END -> expect = NONE;
+                default -> {
+                    if (expect == DDL_OBJECT) {
+                        // CREATE OR REPLACE VIEW, CREATE UNIQUE INDEX...
+                        return;
+                    }
+                    if (TABLE_MODIFIERS.contains(keyword)
+                            && (expect == SOURCE_LIST || expect == SOURCE || expect == TARGET || expect == INDEX_NAME)) {
+                        return;
+                    }
+                    // Toute autre clause (WHERE, ON, ORDER...) termine la liste de tables
+                    expect = NONE;
+                }
+            }
+        }
+
+        private void identifier() {
+            statementStart = false;
+            switch (expect) {
+                case SOURCE_LIST, SOURCE, TARGET, INSERT_TARGET, DELETE_TARGET, PROCEDURE, BLOCK, CTE_NAME -> {
+                    naming = true;
+                    dotPending = false;
+                    nameContext = expect;
+                    name.setLength(0);
+                    appendIdentifier();
+                }
+                case ALIAS, LIST_ALIAS -> {
+                    if (hql) {
+                        if (aliases == null) {
+                            aliases = new LinkedHashSet<>();
+                        }
+                        aliases.add(currentIdentifier());
+                    }
+                }
+                default -> {
+                    // Colonne, alias de colonne, mot non significatif
+                }
+            }
+        }
+
+        /**
+         * Suite d'un nom qualifié ({@code schema . table}, {@code table@lien}).
+         *
+         * @return {@code true} si le jeton fait partie du nom
+         */
+        private boolean continueName(int token) {
+            if (token == SqlLexer.SYMBOL && lexer.symbol() == '.' && lexer.end() - lexer.start() == 1 && !dotPending) {
+                name.append('.');
+                dotPending = true;
+                return true;
+            }
+            if (dotPending && (token == SqlLexer.WORD || token == SqlLexer.QUOTED)) {
+                appendIdentifier();
+                dotPending = false;
+                return true;
+            }
+            if (token == SqlLexer.PARAMETER && lexer.symbol() == '@' && !dotPending) {
+                // Lien de base Oracle : client_acct@central
+                return true;
+            }
+            naming = false;
+            boolean call = token == SqlLexer.SYMBOL && lexer.symbol() == '(';
+            boolean statementEnd = token == SqlLexer.END || (token == SqlLexer.SYMBOL && lexer.symbol() == ';');
+            finishName(call, statementEnd);
+            return false;
+        }
+
+        private void finishName(boolean call, boolean statementEnd) {
+            String qualified = name.toString();
+            switch (nameContext) {
+                case SOURCE_LIST, SOURCE -> {
+                    // Un nom suivi de ( dans FROM est une fonction de table
+                    if (!call && !association(qualified)) {
+                        tables.add(qualified);
+                    }
+                    expect = nameContext == SOURCE_LIST ? LIST_ALIAS : ALIAS;
+                }
+                case TARGET, INSERT_TARGET, DELETE_TARGET -> {
+                    tables.add(qualified);
+                    expect = ALIAS;
+                }
+                case PROCEDURE -> {
+                    procedures.add(qualified);
+                    expect = NONE;
+                }
+                case BLOCK -> {
+                    if (call || statementEnd || isEndKeyword()) {
+                        procedures.add(qualified);
+                    }
+                    expect = NONE;
+                }
+                case CTE_NAME -> {
+                    if (ctes == null) {
+                        ctes = new LinkedHashSet<>();
+                    }
+                    ctes.add(qualified);
+                    expect = CTE_AFTER;
+                }
+                default -> expect = NONE;
+            }
+        }
+
+        private boolean isSentenceCase() {
+            int start = lexer.start();
+            int end = lexer.end();
+            if (!Character.isUpperCase(text.charAt(start))) {
+                return false;
+            }
+            for (int i = start + 1; i < end; i++) {
+                if (!Character.isLowerCase(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isEndKeyword() {
+            return lexer.type() == SqlLexer.WORD && lexer.keyword() == Keyword.END;
+        }
+
+        /**
+         * HQL : {@code join a.lignes l} parcourt une association de l'alias {@code a}, ce n'est pas une entité.
+         */
+        private boolean association(String qualified) {
+            if (!hql || aliases == null) {
+                return false;
+            }
+            int dot = qualified.indexOf('.');
+            return dot > 0 && aliases.contains(qualified.substring(0, dot));
+        }
+
+        private void symbol(char c, int length) {
+            if (length > 1) {
+                return;
+            }
+            switch (c) {
+                case '(' -> {
+                    if (depth + 1 >= savedExpect.length) {
+                        savedExpect = Arrays.copyOf(savedExpect, savedExpect.length * 2);
+                        query = Arrays.copyOf(query, query.length * 2);
+                    }
+                    boolean tableReference = (expect == SOURCE_LIST || expect == SOURCE) && tableFollows();
+                    // Reprise après la parenthèse : alias d'une sous-requête, liste de CTE...
+                    savedExpect[depth] = switch (expect) {
+                        case SOURCE_LIST, LIST_ALIAS -> LIST_ALIAS;
+                        case SOURCE, TARGET, ALIAS -> ALIAS;
+                        case CTE_AFTER -> CTE_AFTER;
+                        default -> NONE;
+                    };
+                    depth++;
+                    if (tableReference) {
+                        // FROM (t1), JOIN (t2 b JOIN t3 c ON ...) : les tables continuent dans la parenthèse
+                        query[depth] = true;
+                        expect = SOURCE_LIST;
+                        statementStart = false;
+                    } else {
+                        query[depth] = false;
+                        expect = NONE;
+                        statementStart = true;
+                    }
+                }
+                case ')' -> {
+                    if (depth > 0) {
+                        depth--;
+                        expect = savedExpect[depth];
+                    }
+                    statementStart = false;
+                }
+                case ',' -> {
+                    if (expect == LIST_ALIAS) {
+                        expect = SOURCE_LIST;
+                    } else if (expect == CTE_AFTER) {
+                        expect = CTE_NAME;
+                    }
+                }
+                case ';' -> {
+                    if (inBlock) {
+                        expect = BLOCK;
+                        statementStart = true;
+                    } else {
+                        expect = NONE;
+                        statementStart = true;
+                    }
+                }
+                default -> {
+                    // { } de l'échappement JDBC, opérateurs
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} si le jeton après la parenthèse est un nom (table) plutôt qu'une sous-requête
+         */
+        private boolean tableFollows() {
+            lexer.mark();
+            int token = lexer.next();
+            Keyword keyword = lexer.keyword();
+            lexer.reset();
+            return token == SqlLexer.QUOTED
+                    || (token == SqlLexer.WORD && (keyword == null || NON_RESERVED.contains(keyword)));
+        }
+
+        private boolean recognized() {
+            if (type == null) {
+                return false;
+            }
+            return switch (type) {
+                case "SELECT" -> sawFrom;
+                case "INSERT" -> sawInsertClause || !tables.isEmpty();
+                case "UPDATE" -> sawSet;
+                case "DELETE", "MERGE" -> !tables.isEmpty();
+                case "CALL" -> !procedures.isEmpty() || !tables.isEmpty();
+                case "DDL" -> sawDdlObject || !tables.isEmpty();
+                default -> false;
+            };
+        }
+
+        private void appendIdentifier() {
+            int start = lexer.start();
+            int end = lexer.end();
+            for (int i = start; i < end; i++) {
+                name.append(Character.toLowerCase(text.charAt(i)));
+            }
+        }
+
+        private String currentIdentifier() {
+            return text.substring(lexer.start(), lexer.end()).toLowerCase();
+        }
+
+        /**
+         * Empreinte : jetons en minuscules séparés par un blanc, valeurs remplacées par {@code ?},
+         * listes de valeurs {@code (?, ?, ?)} réduites à {@code (?)}.
+         */
+        private void appendFingerprint(int token) {
+            switch (token) {
+                case SqlLexer.END -> {
+                    // rien
+                }
+                case SqlLexer.STRING, SqlLexer.NUMBER, SqlLexer.PARAMETER -> {
+                    int length = fingerprint.length();
+                    if (length >= 2 && fingerprint.charAt(length - 1) == ',' && fingerprint.charAt(length - 2) == '?') {
+                        fingerprint.setLength(length - 1);
+                        return;
+                    }
+                    separate();
+                    fingerprint.append('?');
+                }
+                case SqlLexer.SYMBOL -> {
+                    char c = lexer.symbol();
+                    if (c != ',' && c != ')' && c != '.' && c != ';') {
+                        separate();
+                    }
+                    fingerprint.append(text, lexer.start(), lexer.end());
+                }
+                default -> {
+                    separate();
+                    for (int i = lexer.start(); i < lexer.end(); i++) {
+                        fingerprint.append(Character.toLowerCase(text.charAt(i)));
+                    }
+                }
+            }
+        }
+
+        private void separate() {
+            int length = fingerprint.length();
+            if (length > 0) {
+                char last = fingerprint.charAt(length - 1);
+                if (last != '(' && last != '.') {
+                    fingerprint.append(' ');
+                }
+            }
+        }
+    }
+}
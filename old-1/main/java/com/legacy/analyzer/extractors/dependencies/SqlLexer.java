@@ -0,0 +1,312 @@
+package com.legacy.analyzer.extractors.dependencies;
+
+/**
+ * Lexer SQL/HQL écrit à la main : découpe un texte en mots, identifiants entre guillemets, chaînes,
+ * nombres, paramètres et symboles, en sautant les blancs et les commentaires.
+ * <p>
+ * Le lexer ne crée aucun objet par jeton : {@link #next()} avance sur le jeton suivant, dont le type,
+ * les bornes et le mot-clé éventuel se lisent ensuite sur le lexer. Les mots-clés sont reconnus sans
+ * casse et sans copier le texte.
+ */
+public final class SqlLexer {
+
+    public static final int END = 0;
+    /** Identifiant ou mot-clé */
+    public static final int WORD = 1;
+    /** Identifiant entre guillemets, backquotes ou crochets ; {@link #start()}/{@link #end()} excluent les délimiteurs */
+    public static final int QUOTED = 2;
+    /** Chaîne littérale */
+    public static final int STRING = 3;
+    public static final int NUMBER = 4;
+    /** {@code ?}, {@code ?1}, {@code :nom}, {@code $1}, {@code @variable} */
+    public static final int PARAMETER = 5;
+    /** Ponctuation ou opérateur ({@code <=}, {@code ||}, {@code :=}... sur plusieurs caractères) */
+    public static final int SYMBOL = 6;
+
+    /**
+     * Mots-clés utiles à l'analyse des requêtes ; les autres mots sont des identifiants.
+     */
+    public enum Keyword {
+        SELECT, INSERT, UPDATE, DELETE, MERGE, CALL, EXEC, EXECUTE, CREATE, ALTER, DROP, TRUNCATE,
+        WITH, RECURSIVE, FROM, JOIN, INTO, TABLE, USING, SET, VALUES, AS, ON, WHERE, BEGIN, DECLARE, END,
+        IF, NOT, EXISTS, ONLY, LATERAL, FETCH, IMMEDIATE, DUAL, VIEW, INDEX, SEQUENCE, PROCEDURE, FUNCTION,
+        PACKAGE, TRIGGER, SYNONYM, SCHEMA, TYPE, INNER, LEFT, RIGHT, FULL, OUTER, CROSS, NATURAL, GROUP,
+        ORDER, HAVING, UNION, INTERSECT, EXCEPT, MINUS, LIMIT, OFFSET, FOR, WHEN, THEN, ELSE, CONNECT,
+        START, RETURNING, WINDOW, PARTITION, AND, OR, IN, BY, DEFAULT, OUTPUT, DISTINCT, ALL, CASE
+    }
+
+    private static final Keyword[] KEYWORDS = Keyword.values();
+    // Table de hachage ouverte : hachage sans casse du mot -> ordinal + 1 (0 = case vide)
+    private static final int[] KEYWORD_TABLE = new int[256];
+
+    static {
+        for (Keyword keyword : KEYWORDS) {
+            String name = keyword.name();
+            int slot = hash(name, 0, name.length()) & (KEYWORD_TABLE.length - 1);
+            while (KEYWORD_TABLE[slot] != 0) {
+                slot = (slot + 1) & (KEYWORD_TABLE.length - 1);
+            }
+            KEYWORD_TABLE[slot] = keyword.ordinal() + 1;
+        }
+    }
+
+    private final CharSequence text;
+    private final int length;
+    private int position;
+    private int type;
+    private int start;
+    private int end;
+    private int markedPosition;
+    private int markedType;
+    private int markedStart;
+    private int markedEnd;
+
+    public SqlLexer(CharSequence text) {
+        this.text = text;
+        this.length = text.length();
+    }
+
+    public int type() {
+        return type;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    public CharSequence text() {
+        return text;
+    }
+
+    /**
+     * @return premier caractère d'un symbole
+     */
+    public char symbol() {
+        return text.charAt(start);
+    }
+
+    /**
+     * @return le mot-clé du jeton courant, ou {@code null} si ce n'est pas un mot-clé
+     */
+    public Keyword keyword() {
+        if (type != WORD) {
+            return null;
+        }
+        int slot = hash(text, start, end) & (KEYWORD_TABLE.length - 1);
+        for (int code = KEYWORD_TABLE[slot]; code != 0; code = KEYWORD_TABLE[slot]) {
+            Keyword keyword = KEYWORDS[code - 1];
+            if (matches(keyword.name())) {
+                return keyword;
+            }
+            slot = (slot + 1) & (KEYWORD_TABLE.length - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Mémorise le jeton courant avant une lecture anticipée ; {@link #reset()} y revient.
+     */
+    public void mark() {
+        markedPosition = position;
+        markedType = type;
+        markedStart = start;
+        markedEnd = end;
+    }
+
+    /**
+     * Revient au jeton mémorisé par {@link #mark()}.
+     */
+    public void reset() {
+        position = markedPosition;
+        type = markedType;
+        start = markedStart;
+        end = markedEnd;
+    }
+
+    /**
+     * Avance sur le jeton suivant.
+     *
+     * @return son type, {@link #END} à la fin du texte
+     */
+    public int next() {
+        skipBlanksAndComments();
+        start = position;
+        if (position >= length) {
+            end = position;
+            return type = END;
+        }
+        char c = text.charAt(position);
+
+        if ((c == 'N' || c == 'n' || c == 'E' || c == 'e') && position + 1 < length && text.charAt(position + 1) == '\'') {
+            // N'...' (national), E'...' (échappements PostgreSQL)
+            position++;
+            return string();
+        }
+        if (Character.isLetter(c) || c == '_') {
+            position++;
+            while (position < length && isIdentifierPart(text.charAt(position))) {
+                position++;
+            }
+            end = position;
+            return type = WORD;
+        }
+        if (c == '\'') {
+            return string();
+        }
+        if (c == '"' || c == '`' || c == '[') {
+            char close = c == '[' ? ']' : c;
+            int contentStart = ++position;
+            while (position < length) {
+                if (text.charAt(position) == close) {
+                    // "" double dans un identifiant
+                    if (close != ']' && position + 1 < length && text.charAt(position + 1) == close) {
+                        position += 2;
+                        continue;
+                    }
+                    break;
+                }
+                position++;
+            }
+            start = contentStart;
+            end = Math.min(position, length);
+            position = Math.min(position + 1, length);
+            return type = QUOTED;
+        }
+        if (Character.isDigit(c) || (c == '.' && position + 1 < length && Character.isDigit(text.charAt(position + 1)))) {
+            return number();
+        }
+        if (c == '?') {
+            position++;
+            while (position < length && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            end = position;
+            return type = PARAMETER;
+        }
+        if ((c == ':' || c == '$' || c == '@') && position + 1 < length
+                && (isIdentifierPart(text.charAt(position + 1)) && text.charAt(position + 1) != '$')) {
+            position++;
+            while (position < length && isIdentifierPart(text.charAt(position))) {
+                position++;
+            }
+            end = position;
+            return type = PARAMETER;
+        }
+        return symbolToken(c);
+    }
+
+    private int string() {
+        position++;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == '\'') {
+                if (position + 1 < length && text.charAt(position + 1) == '\'') {
+                    position += 2;
+                    continue;
+                }
+                position++;
+                break;
+            }
+            position++;
+        }
+        end = position;
+        return type = STRING;
+    }
+
+    private int number() {
+        if (text.charAt(position) == '0' && position + 1 < length
+                && (text.charAt(position + 1) == 'x' || text.charAt(position + 1) == 'X')) {
+            position += 2;
+            while (position < length && Character.digit(text.charAt(position), 16) >= 0) {
+                position++;
+            }
+        } else {
+            while (position < length && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+                position++;
+            }
+            if (position < length && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+                int exponent = position + 1;
+                if (exponent < length && (text.charAt(exponent) == '+' || text.charAt(exponent) == '-')) {
+                    exponent++;
+                }
+                if (exponent < length && Character.isDigit(text.charAt(exponent))) {
+                    position = exponent;
+                    while (position < length && Character.isDigit(text.charAt(position))) {
+                        position++;
+                    }
+                }
+            }
+        }
+        end = position;
+        return type = NUMBER;
+    }
+
+    private int symbolToken(char c) {
+        position++;
+        if (position < length) {
+            char n = text.charAt(position);
+            if ((c == '<' && (n == '=' || n == '>')) || (c == '>' && n == '=') || (c == '!' && n == '=')
+                    || (c == '|' && n == '|') || (c == ':' && (n == '=' || n == ':')) || (c == '=' && n == '>')) {
+                position++;
+            }
+        }
+        end = position;
+        return type = SYMBOL;
+    }
+
+    private void skipBlanksAndComments() {
+        while (position < length) {
+            char c = text.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '-' && position + 1 < length && text.charAt(position + 1) == '-') {
+                while (position < length && text.charAt(position) != '\n') {
+                    position++;
+                }
+            } else if (c == '/' && position + 1 < length && text.charAt(position + 1) == '*') {
+                // Un hint Oracle (/*+ ... */) est un commentaire comme un autre
+                int close = indexOf("*/", position + 2);
+                position = close < 0 ? length : close + 2;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int indexOf(String needle, int from) {
+        for (int i = from; i + needle.length() <= length; i++) {
+            if (text.charAt(i) == needle.charAt(0) && text.charAt(i + 1) == needle.charAt(1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(String keyword) {
+        if (end - start != keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (Character.toUpperCase(text.charAt(start + i)) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence value, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + Character.toUpperCase(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+    }
+}
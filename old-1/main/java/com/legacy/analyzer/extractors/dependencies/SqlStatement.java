@@ -0,0 +1,28 @@
+package com.legacy.analyzer.extractors.dependencies;
+
+import java.util.List;
+
+/**
+ * Résultat de l'analyse d'un texte SQL ou HQL par {@link SqlAnalyzer}.
+ *
+ * @param type        SELECT, INSERT, UPDATE, DELETE, MERGE, CALL, DDL ou UNKNOWN
+ * @param tables      tables, vues ou entités HQL, en minuscules, qualifiées par leur schéma s'il est écrit
+ * @param procedures  procédures stockées appelées (CALL, EXEC, bloc BEGIN ... END)
+ * @param fingerprint requête normalisée : minuscules, sans commentaires ni valeurs littérales ({@code ?}),
+ *                    listes de valeurs réduites à une seule ; identique pour deux requêtes de même forme
+ */
+public record SqlStatement(String type, List<String> tables, List<String> procedures, String fingerprint) {
+
+    public enum Language {
+        SQL, HQL
+    }
+
+    static final SqlStatement NOT_SQL = new SqlStatement("UNKNOWN", List.of(), List.of(), null);
+
+    /**
+     * @return {@code false} pour un texte qui n'est pas une requête (message, clé, fragment)
+     */
+    public boolean isQuery() {
+        return fingerprint != null;
+    }
+}
@@ -1,13 +1,17 @@
 package com.legacy.analyzer.extractors.dependencies;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.jfr.FileParseEvent;
+import com.legacy.analyzer.metrics.MetricsRegistry;
 import com.legacy.analyzer.model.Dependencies;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -17,13 +21,15 @@ import java.nio.file.Path;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 @Slf4j
-@Component  
+@Component
+@RequiredArgsConstructor
 public class WebServiceDependencyExtractor {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
+    private final FileInventoryService fileInventoryService;
+    private final MetricsRegistry metrics;
     
     // Patterns pour détecter les URLs de web services
     private static final Pattern URL_PATTERN = Pattern.compile(
@@ -57,15 +63,12 @@ public class WebServiceDependencyExtractor {
     private void scanJavaFiles(Path path, Map<String, Dependencies.WebServiceDependency> dependencyMap)
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".java"))
-                 .forEach(javaFile -> {
-                     try {
-                         extractFromJavaFile(javaFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
-                     }
-                 });
+        for (Path javaFile : fileInventoryService.inventoryFor(path).findByExtension("java")) {
+            try {
+                extractFromJavaFile(javaFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier: {}", javaFile, e);
+            }
         }
     }
     
@@ -73,7 +76,10 @@ public class WebServiceDependencyExtractor {
                                    Map<String, Dependencies.WebServiceDependency> dependencyMap)
             throws IOException {
         
-        ParseResult<CompilationUnit> parseResult = javaParser.parse(javaFile);
+        FileParseEvent parseEvent = FileParseEvent.start();
+        ParseResult<CompilationUnit> parseResult = parserPool.parseJava(javaFile);
+        parseEvent.finish(javaFile, parseResult);
+        metrics.recordParse(javaFile, parseResult.isSuccessful());
         if (!parseResult.isSuccessful()) {
             return;
         }
@@ -392,15 +398,12 @@ public class WebServiceDependencyExtractor {
     private void scanWSDLFiles(Path path, Map<String, Dependencies.WebServiceDependency> dependencyMap)
             throws IOException {
         
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> p.toString().endsWith(".wsdl"))
-                 .forEach(wsdlFile -> {
-                     try {
-                         extractFromWSDL(wsdlFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du WSDL: {}", wsdlFile, e);
-                     }
-                 });
+        for (Path wsdlFile : fileInventoryService.inventoryFor(path).findByExtension("wsdl")) {
+            try {
+                extractFromWSDL(wsdlFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du WSDL: {}", wsdlFile, e);
+            }
         }
     }
     
@@ -421,17 +424,15 @@ public class WebServiceDependencyExtractor {
             throws IOException {
         
         // Scanner les fichiers de configuration Spring, CXF, etc.
-        try (Stream<Path> paths = Files.walk(path)) {
-            paths.filter(p -> (p.toString().endsWith(".xml") || p.toString().endsWith(".properties")) &&
-                             (p.toString().contains("ws") || p.toString().contains("service") ||
-                              p.toString().contains("endpoint")))
-                 .forEach(configFile -> {
-                     try {
-                         extractFromConfigFile(configFile, dependencyMap);
-                     } catch (Exception e) {
-                         log.error("Erreur lors de l'analyse du fichier de config: {}", configFile, e);
-                     }
-                 });
+        for (Path configFile : fileInventoryService.inventoryFor(path)
+                .findFiles(p -> (p.toString().endsWith(".xml") || p.toString().endsWith(".properties")) &&
+                        (p.toString().contains("ws") || p.toString().contains("service") ||
+                        p.toString().contains("endpoint")), "xml", "properties")) {
+            try {
+                extractFromConfigFile(configFile, dependencyMap);
+            } catch (Exception e) {
+                log.error("Erreur lors de l'analyse du fichier de config: {}", configFile, e);
+            }
         }
     }
     
@@ -19,24 +19,30 @@ public class DependencyGraphGenerator {
     
     private final ObjectMapper objectMapper;
     
-    public void generateDependencyGraphs(List<AnalysisResult> results, Path outputDir) throws IOException {
+    /**
+     * @param results  parcourus une fois, application par application, pour relever les classes des endpoints
+     * @param overview résumés sans endpoints, pour tous les graphes
+     */
+    public void generateDependencyGraphs(Iterable<AnalysisResult> results, List<AnalysisResult> overview,
+                                         Path outputDir) throws IOException {
         Path graphsDir = outputDir.resolve("dependency-graphs");
         Files.createDirectories(graphsDir);
         
         // Générer différents formats de graphiques
-        generateMermaidGraph(results, graphsDir);
-        generateGraphvizDot(results, graphsDir);
-        generateD3JsonGraph(results, graphsDir);
-        generateInteractiveHTML(results, graphsDir);
+        generateMermaidGraph(overview, componentToApp(results), graphsDir);
+        generateGraphvizDot(overview, graphsDir);
+        generateD3JsonGraph(overview, graphsDir);
+        generateInteractiveHTML(overview, graphsDir);
         
         // Générer des graphiques par type de dépendance
-        generateDatabaseDependencyGraph(results, graphsDir);
-        generateEJBDependencyGraph(results, graphsDir);
-        generateWebServiceDependencyGraph(results, graphsDir);
-        generateCobolDependencyGraph(results, graphsDir);
+        generateDatabaseDependencyGraph(overview, graphsDir);
+        generateEJBDependencyGraph(overview, graphsDir);
+        generateWebServiceDependencyGraph(overview, graphsDir);
+        generateCobolDependencyGraph(overview, graphsDir);
     }
     
-    private void generateMermaidGraph(List<AnalysisResult> results, Path outputDir) throws IOException {
+    private void generateMermaidGraph(List<AnalysisResult> results, Map<String, String> componentToApp,
+                                      Path outputDir) throws IOException {
         StringBuilder mermaid = new StringBuilder();
         mermaid.append("graph TB\n");
         mermaid.append("    classDef application fill:#f9f,stroke:#333,stroke-width:4px\n");
@@ -121,7 +127,7 @@ public class DependencyGraphGenerator {
         }
         
         // Ajouter les liens inter-applications
-        addInterApplicationLinks(results, mermaid);
+        addInterApplicationLinks(results, componentToApp, mermaid);
         
         Path mermaidFile = outputDir.resolve("dependency-graph.mmd");
         Files.writeString(mermaidFile, mermaid.toString());
@@ -863,18 +869,16 @@ public class DependencyGraphGenerator {
         }
     }
     
-    private void addInterApplicationLinks(List<AnalysisResult> results, StringBuilder mermaid) {
-        // Analyser les dépendances inter-applications
-        // Basé sur les noms d'EJB et de Web Services
-        
+    /**
+     * Classes des endpoints (en minuscules) vers le nom de leur application, relevées en parcourant
+     * les résultats complets une application à la fois : seule cette table reste en mémoire.
+     */
+    private Map<String, String> componentToApp(Iterable<AnalysisResult> results) {
         Map<String, String> componentToApp = new HashMap<>();
-        
-        // Construire une map des composants vers les applications
         for (AnalysisResult result : results) {
             if (!result.isSuccess()) continue;
             
             WebLogicApplication app = result.getApplication();
-            String appName = app.getName().toLowerCase();
             
             // Indexer les endpoints par nom de classe
             if (app.getEndpoints() != null) {
@@ -885,6 +889,13 @@ public class DependencyGraphGenerator {
                 }
             }
         }
+        return componentToApp;
+    }
+    
+    private void addInterApplicationLinks(List<AnalysisResult> results, Map<String, String> componentToApp,
+                                          StringBuilder mermaid) {
+        // Analyser les dépendances inter-applications
+        // Basé sur les noms d'EJB et de Web Services
         
         // Détecter les liens inter-applications
         for (AnalysisResult result : results) {
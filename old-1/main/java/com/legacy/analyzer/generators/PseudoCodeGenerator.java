@@ -1,6 +1,5 @@
 package com.legacy.analyzer.generators;
 
-import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Node;
@@ -8,8 +7,11 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.expr.*;
 import com.github.javaparser.ast.stmt.*;
 import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.legacy.analyzer.jfr.EndpointTraversalEvent;
+import com.legacy.analyzer.jfr.FileParseEvent;
 import com.legacy.analyzer.model.Endpoint;
 import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.parser.ParserPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -25,7 +27,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PseudoCodeGenerator {
     
-    private final JavaParser javaParser = new JavaParser();
+    private final ParserPool parserPool;
     
     public void generatePseudoCode(WebLogicApplication application) throws IOException {
         log.info("Génération du pseudo-code pour l'application: {}", application.getName());
@@ -55,6 +57,8 @@ public class PseudoCodeGenerator {
             return;
         }
         
+        EndpointTraversalEvent traversalEvent = new EndpointTraversalEvent();
+        traversalEvent.begin();
         try {
             Path sourceFile = Paths.get(endpoint.getSourceLocation().getFilePath());
             if (!Files.exists(sourceFile)) {
@@ -66,7 +70,9 @@ public class PseudoCodeGenerator {
                 }
             }
             
-            ParseResult<CompilationUnit> parseResult = javaParser.parse(sourceFile);
+            FileParseEvent parseEvent = FileParseEvent.start();
+            ParseResult<CompilationUnit> parseResult = parserPool.parseJava(sourceFile);
+            parseEvent.finish(sourceFile, parseResult);
             if (!parseResult.isSuccessful()) {
                 log.warn("Impossible de parser le fichier source: {}", sourceFile);
                 return;
@@ -83,6 +89,16 @@ public class PseudoCodeGenerator {
                 endpoint.setPseudoCode(pseudoCode);
             }
             
+            traversalEvent.end();
+            if (traversalEvent.shouldCommit()) {
+                traversalEvent.application = application.getName();
+                traversalEvent.endpoint = endpoint.getId();
+                traversalEvent.file = sourceFile.toString();
+                traversalEvent.bytes = Files.size(sourceFile);
+                traversalEvent.nodes = method.map(m -> m.findAll(Node.class).size()).orElse(0);
+                traversalEvent.commit();
+            }
+            
         } catch (Exception e) {
             log.error("Erreur lors de la génération du pseudo-code pour l'endpoint: {}", 
                      endpoint.getId(), e);
@@ -23,31 +23,43 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReportGenerator {
     
+    // Limite de la feuille "Analyse des Endpoints", pour éviter un fichier trop gros
+    private static final int MAX_GLOBAL_ENDPOINTS = 1000;
+    
     private final AnalyzerConfiguration configuration;
     
-    public void generateExcelReports(List<AnalysisResult> results) throws IOException {
+    /**
+     * Une seule passe sur {@code results} : le rapport détaillé de chaque application est écrit
+     * pendant qu'elle est en mémoire, et seules des lignes compactes (résultat sans endpoints,
+     * premiers endpoints, endpoints rattachés à une fonction d'affaire) sont gardées pour le
+     * rapport global. {@code results} peut donc relire les applications depuis le disque une à une.
+     */
+    public void generateExcelReports(Iterable<AnalysisResult> results) throws IOException {
         Path reportsDir = configuration.getOutputDirectory().resolve("reports");
         Files.createDirectories(reportsDir);
         
-        // Générer le rapport global
-        generateGlobalReport(results, reportsDir);
-        
         // Générer les rapports par application
         Path perAppDir = reportsDir.resolve("per-application");
         Files.createDirectories(perAppDir);
         
+        GlobalReportData data = new GlobalReportData();
         for (AnalysisResult result : results) {
             if (result.isSuccess()) {
                 generateApplicationReport(result, perAppDir);
             }
+            data.add(result);
         }
+        
+        // Générer le rapport global
+        generateGlobalReport(data, reportsDir);
     }
     
-    private void generateGlobalReport(List<AnalysisResult> results, Path reportsDir) 
+    private void generateGlobalReport(GlobalReportData data, Path reportsDir) 
             throws IOException {
         
         log.info("Génération du rapport global...");
         
+        List<AnalysisResult> results = data.summaries;
         XSSFWorkbook workbook = new XSSFWorkbook();
         
         // Styles
@@ -63,7 +75,7 @@ public class ReportGenerator {
         createApplicationsListSheet(workbook, results, headerStyle, dataStyle);
         
         // Feuille 3: Analyse des endpoints
-        createEndpointsAnalysisSheet(workbook, results, headerStyle, dataStyle);
+        createEndpointsAnalysisSheet(workbook, data, headerStyle, dataStyle);
         
         // Feuille 4: Matrice des dépendances
         createDependencyMatrixSheet(workbook, results, headerStyle, dataStyle);
@@ -75,7 +87,7 @@ public class ReportGenerator {
         createDetailedStatisticsSheet(workbook, results, headerStyle, dataStyle, numberStyle);
 
         // Feuille 7: Fonctions d'Affaire
-        createBusinessFunctionSheet(workbook, results, headerStyle, dataStyle);
+        createBusinessFunctionSheet(workbook, data.businessFunctionRows, headerStyle, dataStyle);
         
         // Sauvegarder le fichier
         Path reportFile = reportsDir.resolve("global-analysis-report.xlsx");
@@ -87,13 +99,7 @@ public class ReportGenerator {
         log.info("Rapport global généré: {}", reportFile);
     }
 
-    private void createBusinessFunctionSheet(XSSFWorkbook workbook, List<AnalysisResult> results, CellStyle headerStyle, CellStyle dataStyle) {
-        
-        List<Endpoint> endpointsWithFunction = results.stream()
-                .filter(r -> r.isSuccess() && r.getApplication() != null && r.getApplication().getEndpoints() != null)
-                .flatMap(r -> r.getApplication().getEndpoints().stream())
-                .filter(e -> e.getBusinessFunction() != null && !e.getBusinessFunction().isEmpty())
-                .collect(Collectors.toList());
+    private void createBusinessFunctionSheet(XSSFWorkbook workbook, List<BusinessFunctionRow> endpointsWithFunction, CellStyle headerStyle, CellStyle dataStyle) {
 
         if (endpointsWithFunction.isEmpty()) {
             return; // Ne pas créer la feuille si aucune fonction n'a été associée
@@ -118,22 +124,22 @@ public class ReportGenerator {
             cell.setCellStyle(headerStyle);
         }
 
-        Map<String, List<Endpoint>> groupedByFunction = endpointsWithFunction.stream()
-                .collect(Collectors.groupingBy(Endpoint::getBusinessFunction, TreeMap::new, Collectors.toList()));
+        Map<String, List<BusinessFunctionRow>> groupedByFunction = endpointsWithFunction.stream()
+                .collect(Collectors.groupingBy(BusinessFunctionRow::businessFunction, TreeMap::new, Collectors.toList()));
         
-        for (Map.Entry<String, List<Endpoint>> entry : groupedByFunction.entrySet()) {
+        for (Map.Entry<String, List<BusinessFunctionRow>> entry : groupedByFunction.entrySet()) {
             String functionName = entry.getKey();
-            List<Endpoint> endpoints = entry.getValue();
+            List<BusinessFunctionRow> endpoints = entry.getValue();
             int firstRowForFunction = rowNum;
 
-            for (Endpoint endpoint : endpoints) {
+            for (BusinessFunctionRow endpoint : endpoints) {
                 Row row = sheet.createRow(rowNum++);
                 row.createCell(0).setCellValue(functionName);
-                row.createCell(1).setCellValue(endpoint.getApplicationName());
-                row.createCell(2).setCellValue(endpoint.getUrl());
-                row.createCell(3).setCellValue(endpoint.getHttpMethods() != null ? endpoint.getHttpMethods().stream().map(Enum::toString).collect(Collectors.joining(", ")) : "");
-                row.createCell(4).setCellValue(endpoint.getClassName());
-                row.createCell(5).setCellValue(endpoint.getMethodName());
+                row.createCell(1).setCellValue(endpoint.applicationName());
+                row.createCell(2).setCellValue(endpoint.url());
+                row.createCell(3).setCellValue(endpoint.httpMethods());
+                row.createCell(4).setCellValue(endpoint.className());
+                row.createCell(5).setCellValue(endpoint.methodName());
             }
 
             if (endpoints.size() > 1) {
@@ -268,7 +274,7 @@ public class ReportGenerator {
         }
     }
     
-    private void createEndpointsAnalysisSheet(XSSFWorkbook workbook, List<AnalysisResult> results,
+    private void createEndpointsAnalysisSheet(XSSFWorkbook workbook, GlobalReportData data,
                                             CellStyle headerStyle, CellStyle dataStyle) {
         
         XSSFSheet sheet = workbook.createSheet("Analyse des Endpoints");
@@ -285,54 +291,24 @@ public class ReportGenerator {
             cell.setCellStyle(headerStyle);
         }
         
-        // Limiter à 1000 endpoints pour éviter un fichier trop gros
-        int endpointCount = 0;
-        
-        for (AnalysisResult result : results) {
-            if (!result.isSuccess()) continue;
-            
-            WebLogicApplication app = result.getApplication();
-            List<Endpoint> allEndpoints = new ArrayList<>();
-            
-            if (app.getEndpoints() != null) {
-                allEndpoints.addAll(app.getEndpoints());
-            }
-            
-            if (app.getModules() != null) {
-                for (WebLogicApplication.Module module : app.getModules()) {
-                    if (module.getEndpoints() != null) {
-                        allEndpoints.addAll(module.getEndpoints());
-                    }
-                }
-            }
+        for (EndpointRow endpoint : data.endpointRows) {
+            Row row = sheet.createRow(rowNum++);
+            int colNum = 0;
             
-            for (Endpoint endpoint : allEndpoints) {
-                if (endpointCount++ > 1000) break;
-                
-                Row row = sheet.createRow(rowNum++);
-                int colNum = 0;
-                
-                row.createCell(colNum++).setCellValue(app.getName());
-                row.createCell(colNum++).setCellValue(endpoint.getModuleName() != null ? 
-                        endpoint.getModuleName() : "");
-                row.createCell(colNum++).setCellValue(endpoint.getUrl());
-                row.createCell(colNum++).setCellValue(endpoint.getHttpMethods() != null ?
-                        endpoint.getHttpMethods().stream()
-                                .map(Enum::toString)
-                                .collect(Collectors.joining(", ")) : "");
-                row.createCell(colNum++).setCellValue(endpoint.getClassName());
-                row.createCell(colNum++).setCellValue(endpoint.getMethodName());
-                row.createCell(colNum++).setCellValue(endpoint.getParameters() != null ?
-                        endpoint.getParameters().size() : 0);
-                row.createCell(colNum++).setCellValue(endpoint.getSecurity() != null &&
-                        endpoint.getSecurity().isRequiresAuthentication() ? "Oui" : "Non");
-            }
+            row.createCell(colNum++).setCellValue(endpoint.applicationName());
+            row.createCell(colNum++).setCellValue(endpoint.moduleName());
+            row.createCell(colNum++).setCellValue(endpoint.url());
+            row.createCell(colNum++).setCellValue(endpoint.httpMethods());
+            row.createCell(colNum++).setCellValue(endpoint.className());
+            row.createCell(colNum++).setCellValue(endpoint.methodName());
+            row.createCell(colNum++).setCellValue(endpoint.parameters());
+            row.createCell(colNum++).setCellValue(endpoint.secured() ? "Oui" : "Non");
         }
         
         // Note si tronqué
-        if (endpointCount > 1000) {
+        if (data.endpointsTruncated) {
             Row noteRow = sheet.createRow(rowNum++);
-            noteRow.createCell(0).setCellValue("Note: Liste limitée aux 1000 premiers endpoints");
+            noteRow.createCell(0).setCellValue("Note: Liste limitée aux " + MAX_GLOBAL_ENDPOINTS + " premiers endpoints");
         }
         
         // Ajuster les largeurs
@@ -910,4 +886,68 @@ public class ReportGenerator {
     private String sanitizeFileName(String fileName) {
         return fileName.replaceAll("[^a-zA-Z0-9.-]", "_");
     }
-}
\ No newline at end of file
+
+    private static String joinHttpMethods(Endpoint endpoint) {
+        return endpoint.getHttpMethods() != null ?
+                endpoint.getHttpMethods().stream()
+                        .map(Enum::toString)
+                        .collect(Collectors.joining(", ")) : "";
+    }
+    
+    /**
+     * Ce que le rapport global garde de chaque application une fois son rapport détaillé écrit.
+     */
+    private static class GlobalReportData {
+        private final List<AnalysisResult> summaries = new ArrayList<>();
+        private final List<EndpointRow> endpointRows = new ArrayList<>();
+        private final List<BusinessFunctionRow> businessFunctionRows = new ArrayList<>();
+        private boolean endpointsTruncated;
+        
+        void add(AnalysisResult result) {
+            summaries.add(result.summary());
+            if (!result.isSuccess() || result.getApplication() == null) {
+                return;
+            }
+            
+            WebLogicApplication app = result.getApplication();
+            if (app.getEndpoints() != null) {
+                for (Endpoint endpoint : app.getEndpoints()) {
+                    addEndpointRow(app, endpoint);
+                    if (endpoint.getBusinessFunction() != null && !endpoint.getBusinessFunction().isEmpty()) {
+                        businessFunctionRows.add(new BusinessFunctionRow(endpoint.getBusinessFunction(),
+                                endpoint.getApplicationName(), endpoint.getUrl(), joinHttpMethods(endpoint),
+                                endpoint.getClassName(), endpoint.getMethodName()));
+                    }
+                }
+            }
+            
+            if (app.getModules() != null) {
+                for (WebLogicApplication.Module module : app.getModules()) {
+                    if (module.getEndpoints() != null) {
+                        module.getEndpoints().forEach(endpoint -> addEndpointRow(app, endpoint));
+                    }
+                }
+            }
+        }
+        
+        private void addEndpointRow(WebLogicApplication app, Endpoint endpoint) {
+            if (endpointRows.size() >= MAX_GLOBAL_ENDPOINTS) {
+                endpointsTruncated = true;
+                return;
+            }
+            endpointRows.add(new EndpointRow(app.getName(),
+                    endpoint.getModuleName() != null ? endpoint.getModuleName() : "",
+                    endpoint.getUrl(), joinHttpMethods(endpoint), endpoint.getClassName(), endpoint.getMethodName(),
+                    endpoint.getParameters() != null ? endpoint.getParameters().size() : 0,
+                    endpoint.getSecurity() != null && endpoint.getSecurity().isRequiresAuthentication()));
+        }
+    }
+    
+    private record EndpointRow(String applicationName, String moduleName, String url, String httpMethods,
+                               String className, String methodName, int parameters, boolean secured) {
+    }
+    
+    private record BusinessFunctionRow(String businessFunction, String applicationName, String url,
+                                       String httpMethods, String className, String methodName) {
+    }
+}
@@ -24,6 +24,15 @@ public class UMLDiagramGenerator {
             "skinparam stereotypeIBackgroundColor #B4A7E5\n";
     
     public void generateUMLDiagrams(List<AnalysisResult> results, Path outputDir) throws IOException {
+        generateUMLDiagrams(results, results, outputDir);
+    }
+    
+    /**
+     * @param results  parcourus une fois, une application à la fois (diagrammes par application)
+     * @param overview résultats sans endpoints, pour le diagramme global du système
+     */
+    public void generateUMLDiagrams(Iterable<AnalysisResult> results, List<AnalysisResult> overview, 
+                                    Path outputDir) throws IOException {
         Path umlDir = outputDir.resolve("uml-diagrams");
         Files.createDirectories(umlDir);
         
@@ -40,7 +49,7 @@ public class UMLDiagramGenerator {
         }
         
         // Générer un diagramme global du système
-        generateSystemOverviewDiagram(results, umlDir);
+        generateSystemOverviewDiagram(overview, umlDir);
     }
     
     private void generateClassDiagram(WebLogicApplication app, Path outputDir) throws IOException {
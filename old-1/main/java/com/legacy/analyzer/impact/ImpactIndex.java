@@ -0,0 +1,158 @@
+package com.legacy.analyzer.impact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Index inversé des usages base de données du portfolio : objet (table, procédure) -> usages.
+ * <p>
+ * Construit à partir des {@link ImpactSegment} des applications, sans recopier leurs chaînes : un
+ * usage est référencé par son segment et sa ligne. Les noms sont comparés sans casse ; un nom non
+ * qualifié trouve aussi les objets qualifiés ({@code client_acct} trouve {@code compta.client_acct})
+ * et un {@code *} final cherche par préfixe ({@code pkg_facture.*}).
+ */
+public class ImpactIndex {
+
+    /**
+     * Un usage : l'objet, la requête qui l'utilise, où elle se trouve et l'endpoint qui l'émet.
+     *
+     * @param kind      TABLE ou PROCEDURE
+     * @param operation SELECT, INSERT, UPDATE, DELETE, CALL... ; absent si l'objet est connu sans requête
+     * @param location  fichier source et ligne de la requête
+     * @param endpoint  méthodes HTTP et URL de l'endpoint, absent si la requête n'est rattachée à aucun
+     * @param handler   classe#méthode de l'endpoint
+     */
+    public record Usage(String object, String kind, String operation, String query, String location,
+                        String endpoint, String handler, String application) {}
+
+    /**
+     * @param applications application -> endpoints concernés (tous les usages, même au-delà de la limite)
+     * @param usages       usages triés par application, objet, endpoint puis emplacement, tronqués à la limite
+     */
+    public record Impact(String object, int total, Map<String, Set<String>> applications,
+                         List<Usage> usages, double millis) {}
+
+    // Segments triés par application : l'ordre des références est celui de l'affichage
+    private final List<ImpactSegment> segments;
+    // nom en minuscules -> références (segment << 32 | ligne) croissantes
+    private final TreeMap<String, long[]> postings = new TreeMap<>();
+    private final int size;
+
+    public ImpactIndex(Collection<ImpactSegment> segments) {
+        this.segments = segments.stream()
+                .sorted(Comparator.comparing(ImpactSegment::application, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        Map<String, Postings> building = new HashMap<>();
+        int usages = 0;
+        for (int segment = 0; segment < this.segments.size(); segment++) {
+            ImpactSegment impactSegment = this.segments.get(segment);
+            for (int row = 0; row < impactSegment.size(); row++) {
+                long reference = ((long) segment << 32) | row;
+                String name = impactSegment.string(row, ImpactSegment.OBJECT).toLowerCase(Locale.ROOT);
+                add(building, name, reference);
+                int dot = name.lastIndexOf('.');
+                if (dot >= 0 && dot < name.length() - 1) {
+                    add(building, name.substring(dot + 1), reference);
+                }
+                usages++;
+            }
+        }
+        building.forEach((name, references) -> postings.put(name, Arrays.copyOf(references.references, references.size)));
+        this.size = usages;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int objectCount() {
+        return postings.size();
+    }
+
+    /**
+     * @param name        table ou procédure, sans casse ; {@code *} final pour un préfixe
+     * @param application limite aux usages de cette application (sans casse), ignoré si vide
+     * @param limit       nombre maximal d'usages détaillés
+     */
+    public Impact lookup(String name, String application, int limit) {
+        long start = System.nanoTime();
+        String key = name.trim().toLowerCase(Locale.ROOT);
+        long[] references;
+        if (key.endsWith("*")) {
+            // Un objet qualifié est référencé sous ses deux noms : fusion triée sans doublon
+            String prefix = key.substring(0, key.length() - 1);
+            references = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values().stream()
+                    .flatMapToLong(Arrays::stream)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+        } else {
+            references = postings.getOrDefault(key, new long[0]);
+        }
+
+        boolean filtered = application != null && !application.isBlank();
+        // Endpoints concernés, par segment : codes dans sa table de chaînes
+        Map<Integer, BitSet> endpoints = new TreeMap<>();
+        List<Usage> usages = new ArrayList<>();
+        int total = 0;
+        for (long reference : references) {
+            int segmentIndex = (int) (reference >>> 32);
+            int row = (int) reference;
+            ImpactSegment segment = segments.get(segmentIndex);
+            if (filtered && !application.equalsIgnoreCase(segment.application())) {
+                continue;
+            }
+            total++;
+            BitSet segmentEndpoints = endpoints.computeIfAbsent(segmentIndex, s -> new BitSet());
+            int endpoint = segment.usages()[row * ImpactSegment.COLUMNS + ImpactSegment.ENDPOINT];
+            if (endpoint != ImpactSegment.NONE) {
+                segmentEndpoints.set(endpoint);
+            }
+            if (usages.size() < limit) {
+                usages.add(usage(segment, row));
+            }
+        }
+
+        Map<String, Set<String>> applications = new TreeMap<>();
+        endpoints.forEach((segmentIndex, codes) -> {
+            ImpactSegment segment = segments.get(segmentIndex);
+            Set<String> labels = applications.computeIfAbsent(
+                    segment.application() != null ? segment.application() : "", a -> new TreeSet<>());
+            codes.stream().forEach(code -> labels.add(segment.strings().get(code)));
+        });
+        return new Impact(name.trim(), total, applications, usages, (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    private static Usage usage(ImpactSegment segment, int row) {
+        String file = segment.string(row, ImpactSegment.FILE);
+        int line = segment.line(row);
+        String location = file != null && line > 0 ? file + ":" + line : file;
+        return new Usage(segment.string(row, ImpactSegment.OBJECT), segment.string(row, ImpactSegment.KIND),
+                segment.string(row, ImpactSegment.OPERATION), segment.string(row, ImpactSegment.QUERY), location,
+                segment.string(row, ImpactSegment.ENDPOINT), segment.string(row, ImpactSegment.HANDLER),
+                segment.application());
+    }
+
+    private static void add(Map<String, Postings> building, String name, long reference) {
+        Postings references = building.computeIfAbsent(name, n -> new Postings());
+        if (references.size == references.references.length) {
+            references.references = Arrays.copyOf(references.references, references.size * 2);
+        }
+        references.references[references.size++] = reference;
+    }
+
+    private static final class Postings {
+        private long[] references = new long[4];
+        private int size;
+    }
+}
@@ -0,0 +1,270 @@
+package com.legacy.analyzer.impact;
+
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Usages base de données d'une application : table ou procédure stockée -> requête -> fichier et
+ * ligne -> endpoint. Enregistré à côté des résultats de l'application ({@code impact.json}) dès
+ * qu'elle est analysée.
+ * <p>
+ * Format compact : chaque chaîne (objet, requête, fichier, endpoint...) n'est stockée qu'une fois
+ * dans {@code strings} ; un usage occupe {@link #COLUMNS} entiers consécutifs de {@code usages},
+ * indices dans {@code strings} ({@link #NONE} si absent) sauf la ligne.
+ * <p>
+ * Une requête est rattachée à l'endpoint dont la méthode la contient, sinon à tous les endpoints
+ * déclarés dans le même fichier. Une requête d'une autre classe (DAO) n'est rattachée qu'à l'application.
+ */
+public record ImpactSegment(String application, List<String> strings, int[] usages) {
+
+    static final int OBJECT = 0;
+    static final int KIND = 1;
+    static final int OPERATION = 2;
+    static final int QUERY = 3;
+    static final int FILE = 4;
+    static final int LINE = 5;
+    static final int ENDPOINT = 6;
+    static final int HANDLER = 7;
+    static final int COLUMNS = 8;
+    static final int NONE = -1;
+
+    static final String TABLE = "TABLE";
+    static final String PROCEDURE = "PROCEDURE";
+
+    public int size() {
+        return usages.length / COLUMNS;
+    }
+
+    String string(int row, int column) {
+        int code = usages[row * COLUMNS + column];
+        return code == NONE ? null : strings.get(code);
+    }
+
+    int line(int row) {
+        return usages[row * COLUMNS + LINE];
+    }
+
+    public static ImpactSegment of(AnalysisResult result) {
+        WebLogicApplication app = result.getApplication();
+        Builder builder = new Builder();
+        if (app == null) {
+            return new ImpactSegment(null, List.of(), new int[0]);
+        }
+
+        // Endpoints indexés par fichier source
+        Map<String, List<Endpoint>> endpointsByFile = new HashMap<>();
+        List<Endpoint> endpoints = new ArrayList<>();
+        if (app.getEndpoints() != null) {
+            endpoints.addAll(app.getEndpoints());
+        }
+        if (app.getModules() != null) {
+            for (WebLogicApplication.Module module : app.getModules()) {
+                if (module.getEndpoints() != null) {
+                    endpoints.addAll(module.getEndpoints());
+                }
+            }
+        }
+        for (Endpoint endpoint : endpoints) {
+            Endpoint.SourceLocation source = endpoint.getSourceLocation();
+            if (source != null && source.getFilePath() != null) {
+                endpointsByFile.computeIfAbsent(normalize(source.getFilePath()), f -> new ArrayList<>()).add(endpoint);
+            }
+        }
+
+        // Les dépendances globales regroupent celles des modules
+        Dependencies dependencies = app.getGlobalDependencies();
+        if (dependencies != null && dependencies.getDatabases() != null) {
+            for (Dependencies.DatabaseDependency database : dependencies.getDatabases()) {
+                Set<String> procedures = database.getStoredProcedures() != null
+                        ? new LinkedHashSet<>(database.getStoredProcedures()) : Set.of();
+                Set<String> used = new LinkedHashSet<>();
+                if (database.getQueries() != null) {
+                    for (Dependencies.SQLQuery query : database.getQueries()) {
+                        List<Endpoint> owners = owners(query, endpointsByFile);
+                        if (query.getTables() != null) {
+                            for (String table : query.getTables()) {
+                                builder.add(TABLE, table, query, owners);
+                                used.add(TABLE + ":" + table);
+                            }
+                        }
+                        if (query.getProcedures() != null && !query.getProcedures().isEmpty()) {
+                            for (String procedure : query.getProcedures()) {
+                                builder.add(PROCEDURE, procedure, query, owners);
+                                used.add(PROCEDURE + ":" + procedure);
+                            }
+                        } else if ("CALL".equals(query.getType()) && query.getRawQuery() != null) {
+                            // Résultats enregistrés avant l'analyse des procédures : recherche dans le texte
+                            String raw = query.getRawQuery().toLowerCase(Locale.ROOT);
+                            for (String procedure : procedures) {
+                                if (mentions(raw, procedure.toLowerCase(Locale.ROOT))) {
+                                    builder.add(PROCEDURE, procedure, query, owners);
+                                    used.add(PROCEDURE + ":" + procedure);
+                                }
+                            }
+                        }
+                    }
+                }
+                // Objets connus sans requête (entités HQL, vues, procédures) : rattachés à l'application seule
+                addUnlinked(builder, TABLE, database.getTables(), used);
+                addUnlinked(builder, TABLE, database.getViews(), used);
+                addUnlinked(builder, PROCEDURE, database.getStoredProcedures(), used);
+            }
+        }
+        return builder.build(app.getName());
+    }
+
+    /**
+     * Le nom apparaît comme identifiant entier : {@code pkg.proc_1} n'est pas cité par {@code call pkg.proc_10}.
+     */
+    private static boolean mentions(String query, String name) {
+        for (int at = query.indexOf(name); at >= 0; at = query.indexOf(name, at + 1)) {
+            int end = at + name.length();
+            if ((at == 0 || !isIdentifierPart(query.charAt(at - 1)))
+                    && (end == query.length() || !isIdentifierPart(query.charAt(end)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.';
+    }
+
+    private static void addUnlinked(Builder builder, String kind, List<String> names, Set<String> used) {
+        if (names != null) {
+            for (String name : names) {
+                if (!used.contains(kind + ":" + name)) {
+                    builder.add(kind, name, null, List.of());
+                }
+            }
+        }
+    }
+
+    /**
+     * Endpoint dont la méthode contient la requête, sinon tous ceux du fichier de la requête.
+     */
+    private static List<Endpoint> owners(Dependencies.SQLQuery query, Map<String, List<Endpoint>> endpointsByFile) {
+        if (query.getSourceFile() == null) {
+            return List.of();
+        }
+        List<Endpoint> inFile = endpointsByFile.getOrDefault(normalize(query.getSourceFile()), List.of());
+        Integer line = query.getLineNumber();
+        if (line != null && line > 0) {
+            List<Endpoint> enclosing = inFile.stream()
+                    .filter(endpoint -> contains(endpoint.getSourceLocation(), line))
+                    .toList();
+            if (!enclosing.isEmpty()) {
+                return enclosing;
+            }
+        }
+        return inFile;
+    }
+
+    private static boolean contains(Endpoint.SourceLocation source, int line) {
+        return source.getStartLine() != null && source.getEndLine() != null
+                && source.getStartLine() <= line && line <= source.getEndLine();
+    }
+
+    private static String normalize(String file) {
+        try {
+            return Path.of(file).normalize().toString();
+        } catch (InvalidPathException e) {
+            return file;
+        }
+    }
+
+    static String label(Endpoint endpoint) {
+        String methods = endpoint.getHttpMethods() != null && !endpoint.getHttpMethods().isEmpty()
+                ? endpoint.getHttpMethods().stream().map(Enum::name).sorted().collect(Collectors.joining(",")) + " "
+                : "";
+        return methods + endpoint.getUrl();
+    }
+
+    private record Row(int object, int kind, int operation, int query, int file, int line, int endpoint, int handler) {}
+
+    /**
+     * Table des chaînes et usages sans doublon (une requête visitée deux fois n'ajoute rien).
+     */
+    private static final class Builder {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Set<Row> rows = new LinkedHashSet<>();
+
+        void add(String kind, String object, Dependencies.SQLQuery query, List<Endpoint> owners) {
+            if (object == null || object.isBlank()) {
+                return;
+            }
+            int objectCode = code(object);
+            int kindCode = code(kind);
+            int operation = query != null ? code(query.getType()) : NONE;
+            int text = query != null ? code(query.getNormalizedQuery() != null ? query.getNormalizedQuery() : query.getRawQuery()) : NONE;
+            int file = query != null ? code(query.getSourceFile()) : NONE;
+            int line = query != null && query.getLineNumber() != null ? query.getLineNumber() : 0;
+            if (owners.isEmpty()) {
+                rows.add(new Row(objectCode, kindCode, operation, text, file, line, NONE, NONE));
+            }
+            for (Endpoint owner : owners) {
+                String handler = owner.getClassName() != null
+                        ? owner.getClassName() + (owner.getMethodName() != null ? "#" + owner.getMethodName() : "")
+                        : null;
+                rows.add(new Row(objectCode, kindCode, operation, text, file, line, code(label(owner)), code(handler)));
+            }
+        }
+
+        private String string(int code) {
+            return code == NONE ? null : strings.get(code);
+        }
+
+        private int code(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                strings.add(v);
+                return strings.size() - 1;
+            });
+        }
+
+        /**
+         * Usages triés par objet, endpoint puis emplacement : l'index les restitue dans cet ordre sans trier.
+         */
+        ImpactSegment build(String application) {
+            Comparator<String> text = Comparator.nullsLast(Comparator.naturalOrder());
+            List<Row> sorted = rows.stream()
+                    .sorted(Comparator.comparing((Row row) -> string(row.object()), text)
+                            .thenComparing(row -> string(row.endpoint()), text)
+                            .thenComparing(row -> string(row.file()), text)
+                            .thenComparingInt(Row::line))
+                    .toList();
+            int[] usages = new int[sorted.size() * COLUMNS];
+            int offset = 0;
+            for (Row row : sorted) {
+                usages[offset + OBJECT] = row.object();
+                usages[offset + KIND] = row.kind();
+                usages[offset + OPERATION] = row.operation();
+                usages[offset + QUERY] = row.query();
+                usages[offset + FILE] = row.file();
+                usages[offset + LINE] = row.line();
+                usages[offset + ENDPOINT] = row.endpoint();
+                usages[offset + HANDLER] = row.handler();
+                offset += COLUMNS;
+            }
+            return new ImpactSegment(application, List.copyOf(strings), usages);
+        }
+    }
+}
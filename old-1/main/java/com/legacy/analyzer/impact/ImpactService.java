@@ -0,0 +1,148 @@
+package com.legacy.analyzer.impact;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import com.legacy.analyzer.persistence.ResultsPersistence;
+import com.legacy.analyzer.persistence.StoredResults;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Index d'impact base de données du portfolio ({@code impact}, {@code serve}).
+ * <p>
+ * Chaque application analysée enregistre ses usages ({@link ImpactSegment}) dans
+ * {@code applications/<app>/impact.json}, avec l'encodage des résultats. L'index relit seulement
+ * les segments ajoutés ou modifiés depuis la dernière consultation, d'après leur date : une analyse
+ * en cours est visible application par application, et une consultation sans changement ne lit
+ * aucun fichier. Une application analysée avant l'existence de l'index
+ * est convertie depuis ses résultats à la première consultation, sans emplacement de requête.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImpactService {
+
+    static final String SEGMENT_FILE = "impact.json";
+
+    private final AnalyzerConfiguration configuration;
+    private final ResultsPersistence resultsPersistence;
+    private final ResultsCodec codec;
+
+    private Path indexedDirectory;
+    // répertoire de l'application -> segment et date du fichier lu
+    private final Map<Path, Loaded> segments = new HashMap<>();
+    private ImpactIndex index;
+
+    private record Loaded(FileTime stamp, ImpactSegment segment) {}
+
+    /**
+     * Enregistre les usages d'une application dont les résultats viennent d'être écrits.
+     */
+    public void record(AnalysisResult result) throws IOException {
+        if (result.getApplication() == null || result.getApplication().getName() == null) {
+            return;
+        }
+        Path outputDir = configuration.getOutputDirectory();
+        Path appDir = resultsPersistence.applicationDirectory(outputDir, result.getApplication().getName());
+        ImpactSegment segment = ImpactSegment.of(result);
+        Path segmentFile = appDir.resolve(SEGMENT_FILE);
+        codec.write(segmentFile, segment);
+        synchronized (this) {
+            if (outputDir.equals(indexedDirectory)) {
+                segments.put(appDir, new Loaded(Files.getLastModifiedTime(codec.fileFor(segmentFile)), segment));
+                index = null;
+            }
+        }
+    }
+
+    public synchronized ImpactIndex index(Path outputDir) throws IOException {
+        if (!outputDir.equals(indexedDirectory)) {
+            segments.clear();
+            index = null;
+            indexedDirectory = outputDir;
+        }
+
+        long start = System.currentTimeMillis();
+        // Dates des segments seulement : les résultats ne sont ouverts que pour une application sans segment
+        List<Path> appDirs = applicationDirectories(outputDir);
+        boolean changed = segments.keySet().retainAll(new HashSet<>(appDirs));
+        List<Path> missing = new ArrayList<>();
+        int read = 0;
+        for (Path appDir : appDirs) {
+            Optional<Path> file = codec.locate(appDir.resolve(SEGMENT_FILE));
+            if (file.isEmpty()) {
+                missing.add(appDir);
+                continue;
+            }
+            FileTime stamp = Files.getLastModifiedTime(file.get());
+            Loaded cached = segments.get(appDir);
+            if (cached != null && cached.stamp().equals(stamp)) {
+                continue;
+            }
+            segments.put(appDir, new Loaded(stamp, codec.readFile(file.get(), ImpactSegment.class)));
+            changed = true;
+            read++;
+        }
+        if (!missing.isEmpty()) {
+            StoredResults stored = resultsPersistence.openResults(outputDir);
+            for (Path appDir : missing) {
+                AnalysisResult result = load(stored, appDir);
+                if (result == null) {
+                    continue;
+                }
+                Path segmentFile = appDir.resolve(SEGMENT_FILE);
+                ImpactSegment segment = ImpactSegment.of(result);
+                codec.write(segmentFile, segment);
+                segments.put(appDir, new Loaded(Files.getLastModifiedTime(codec.fileFor(segmentFile)), segment));
+                changed = true;
+                read++;
+            }
+        }
+
+        if (index == null || changed) {
+            List<ImpactSegment> loaded = new ArrayList<>(segments.size());
+            segments.values().forEach(entry -> loaded.add(entry.segment()));
+            index = new ImpactIndex(loaded);
+            log.info("Index d'impact : {} usage(s) de {} objet(s), {} application(s) relue(s) en {} ms",
+                    index.size(), index.objectCount(), read, System.currentTimeMillis() - start);
+        }
+        return index;
+    }
+
+    public ImpactIndex.Impact lookup(Path outputDir, String name, String application, int limit) throws IOException {
+        return index(outputDir).lookup(name, application, limit);
+    }
+
+    private static List<Path> applicationDirectories(Path outputDir) throws IOException {
+        Path applicationsDir = outputDir.resolve("applications");
+        if (!Files.isDirectory(applicationsDir)) {
+            return List.of();
+        }
+        try (Stream<Path> entries = Files.list(applicationsDir)) {
+            return entries.filter(Files::isDirectory).sorted().toList();
+        }
+    }
+
+    private static AnalysisResult load(StoredResults stored, Path appDir) {
+        try {
+            return stored.load(appDir);
+        } catch (Exception e) {
+            log.error("Erreur lors du chargement des résultats de: {}", appDir, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.legacy.analyzer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Analyse complète d'une application WebLogic : endpoints, dépendances et pseudo-code.
+ */
+@Name("analyzer.ApplicationAnalysis")
+@Label("Analyse d'application")
+@Description("Analyse complète d'une application WebLogic")
+@Category({"Analyzer", "Application"})
+@Threshold("1 s")
+@StackTrace(false)
+public class ApplicationAnalysisEvent extends Event {
+
+    @Label("Application")
+    public String application;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Archive")
+    public String file;
+
+    @Label("Taille de l'archive")
+    @DataAmount
+    public long bytes;
+
+    @Label("Modules")
+    public int modules;
+
+    @Label("Endpoints")
+    public int endpoints;
+
+    @Label("Succès")
+    public boolean successful;
+}
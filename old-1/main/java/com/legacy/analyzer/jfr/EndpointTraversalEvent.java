@@ -0,0 +1,39 @@
+package com.legacy.analyzer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Traitement d'un endpoint par le générateur de pseudo-code (parsing de sa source
+ * et parcours de la méthode).
+ */
+@Name("analyzer.EndpointTraversal")
+@Label("Parcours d'un endpoint")
+@Description("Génération du pseudo-code d'un endpoint")
+@Category({"Analyzer", "Pseudo-code"})
+@Threshold("50 ms")
+@StackTrace(false)
+public class EndpointTraversalEvent extends Event {
+
+    @Label("Application")
+    public String application;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Fichier")
+    public String file;
+
+    @Label("Taille du fichier")
+    @DataAmount
+    public long bytes;
+
+    @Label("Nœuds de la méthode")
+    public int nodes;
+}
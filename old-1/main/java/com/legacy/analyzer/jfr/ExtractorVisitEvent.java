@@ -0,0 +1,65 @@
+package com.legacy.analyzer.jfr;
+
+import com.legacy.analyzer.core.AnalysisContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Passage d'un extracteur (endpoints ou dépendances) sur un module d'application.
+ * L'extracteur est aussi publié dans {@link AnalysisContext} pour les {@link FileParseEvent} émis pendant sa visite.
+ */
+@Name("analyzer.ExtractorVisit")
+@Label("Visite d'un extracteur")
+@Description("Passage d'un extracteur d'endpoints ou de dépendances sur un module")
+@Category({"Analyzer", "Extraction"})
+@Threshold("200 ms")
+@StackTrace(false)
+public class ExtractorVisitEvent extends Event {
+
+    @Label("Application")
+    public String application;
+
+    @Label("Extracteur")
+    public String extractor;
+
+    @Label("Répertoire")
+    public String path;
+
+    @Label("Éléments extraits")
+    public int results;
+
+    @FunctionalInterface
+    public interface Extraction<T> {
+        List<T> extract() throws IOException;
+    }
+
+    public static <T> List<T> record(String extractor, Path path, Extraction<T> extraction) throws IOException {
+        ExtractorVisitEvent event = new ExtractorVisitEvent();
+        String previous = AnalysisContext.enterExtractor(extractor);
+        event.begin();
+        List<T> results = null;
+        try {
+            results = extraction.extract();
+            return results;
+        } finally {
+            event.end();
+            AnalysisContext.exitExtractor(previous);
+            if (event.shouldCommit()) {
+                event.application = AnalysisContext.application();
+                event.extractor = extractor;
+                event.path = String.valueOf(path);
+                event.results = results != null ? results.size() : 0;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.legacy.analyzer.jfr;
+
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.legacy.analyzer.core.AnalysisContext;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Parsing d'un fichier Java par un extracteur. Usage :
+ * <pre>
+ * FileParseEvent parseEvent = FileParseEvent.start();
+ * ParseResult&lt;CompilationUnit&gt; parseResult = javaParser.parse(javaFile);
+ * parseEvent.finish(javaFile, parseResult);
+ * </pre>
+ * Taille et nombre de nœuds ne sont calculés que pour les fichiers retenus par le seuil.
+ */
+@Name("analyzer.FileParse")
+@Label("Parsing d'un fichier")
+@Description("Parsing d'un fichier Java par un extracteur")
+@Category({"Analyzer", "Parsing"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class FileParseEvent extends Event {
+
+    @Label("Application")
+    public String application;
+
+    @Label("Extracteur")
+    public String extractor;
+
+    @Label("Fichier")
+    public String file;
+
+    @Label("Taille du fichier")
+    @DataAmount
+    public long bytes;
+
+    @Label("Nœuds de l'AST")
+    public int nodes;
+
+    @Label("Succès")
+    public boolean successful;
+
+    public static FileParseEvent start() {
+        FileParseEvent event = new FileParseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(Path javaFile, ParseResult<CompilationUnit> parseResult) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        application = AnalysisContext.application();
+        extractor = AnalysisContext.extractor();
+        file = javaFile.toString();
+        try {
+            bytes = Files.size(javaFile);
+        } catch (IOException e) {
+            bytes = 0;
+        }
+        nodes = parseResult.getResult().map(cu -> cu.findAll(Node.class).size()).orElse(0);
+        successful = parseResult.isSuccessful();
+        commit();
+    }
+}
@@ -0,0 +1,56 @@
+package com.legacy.analyzer.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Enregistrement Java Flight Recorder démarré par l'option {@code --jfr} : profil "default"
+ * de la JVM plus les événements {@code analyzer.*}, chacun avec le seuil déclaré sur sa classe.
+ * Lecture : {@code jfr print --events 'analyzer.*' <fichier>} ou JDK Mission Control.
+ */
+@Slf4j
+public final class FlightRecording implements AutoCloseable {
+
+    private final Recording recording;
+    private final Path destination;
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    public static FlightRecording start(Path destination) throws IOException {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration("default");
+        } catch (ParseException e) {
+            throw new IOException("Configuration JFR 'default' illisible", e);
+        }
+        Path parent = destination.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName("legacy-analyzer");
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        log.info("Enregistrement JFR démarré: {}", destination);
+        return new FlightRecording(recording, destination);
+    }
+
+    /** Arrête l'enregistrement, ce qui écrit le fichier de destination. */
+    @Override
+    public void close() {
+        recording.stop();
+        recording.close();
+        log.info("Enregistrement JFR écrit: {}", destination);
+    }
+}
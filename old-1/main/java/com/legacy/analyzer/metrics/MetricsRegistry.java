@@ -0,0 +1,210 @@
+package com.legacy.analyzer.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chronomètres par phase et compteurs d'une analyse, partagés par l'orchestrateur et les extracteurs.
+ * Thread-safe : les applications analysées en parallèle alimentent les mêmes métriques.
+ * Les noms de phases et de compteurs, le chronométrage et l'export sont communs aux autres moteurs
+ * d'analyse ; sont propres à celui-ci la remise à zéro du singleton Spring ({@link #reset()}),
+ * {@link #recordParse} et la lecture d'un compteur ({@link #get}).
+ */
+@Slf4j
+@Component
+public class MetricsRegistry {
+
+    // Phases instrumentées
+    public static final String DISCOVERY = "discovery";
+    public static final String ENDPOINT_FINDING = "endpoint_finding";
+    public static final String DEPENDENCY_TRAVERSAL = "dependency_traversal";
+    public static final String PSEUDO_CODE = "pseudo_code";
+    public static final String SERIALIZATION = "serialization";
+    public static final String REPORTING = "reporting";
+
+    // Compteurs
+    public static final String APPLICATIONS_ANALYZED = "applications_analyzed";
+    public static final String APPLICATIONS_FAILED = "applications_failed";
+    public static final String APPLICATIONS_RESUMED = "applications_resumed";
+    public static final String FILES_PARSED = "files_parsed";
+    public static final String PARSE_FAILURES = "parse_failures";
+    public static final String BYTES_PARSED = "bytes_parsed";
+    public static final String ENDPOINTS = "endpoints";
+    public static final String CACHE_HITS = "cache_hits";
+    public static final String CACHE_MISSES = "cache_misses";
+    public static final String SQL_STATEMENTS_PARSED = "sql_statements_parsed";
+    public static final String SQL_CACHE_HITS = "sql_cache_hits";
+    public static final String DESCRIPTORS_PARSED = "descriptors_parsed";
+    public static final String DESCRIPTOR_CACHE_HITS = "descriptor_cache_hits";
+
+    private static final String PROMETHEUS_PREFIX = "analyzer_";
+
+    private final Map<String, PhaseTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile long startedAt = System.currentTimeMillis();
+
+    /** Remet les métriques à zéro en début d'analyse (le registre est un singleton Spring). */
+    public void reset() {
+        timers.clear();
+        counters.clear();
+        startedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Exécute un traitement en chronométrant la phase, y compris s'il échoue :
+     * {@code model = metrics.timed(MODEL_BUILD, () -> build(sources));}
+     */
+    public <T, E extends Exception> T timed(String phase, TimedCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            recordNanos(phase, System.nanoTime() - start);
+        }
+    }
+
+    /** Variante sans résultat : {@code metrics.timed(SERIALIZATION, () -> writer.write(report));} */
+    public <E extends Exception> void timed(String phase, TimedRun<E> run) throws E {
+        long start = System.nanoTime();
+        try {
+            run.run();
+        } finally {
+            recordNanos(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void recordNanos(String phase, long nanos) {
+        timers.computeIfAbsent(phase, name -> new PhaseTimer()).record(1, nanos, nanos);
+    }
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public void add(String counter, long delta) {
+        counters.computeIfAbsent(counter, name -> new LongAdder()).add(delta);
+    }
+
+    /** Comptabilise un fichier Java parsé par un extracteur (alimente aussi le débit affiché par la progression). */
+    public void recordParse(Path javaFile, boolean successful) {
+        increment(FILES_PARSED);
+        if (!successful) {
+            increment(PARSE_FAILURES);
+        }
+        try {
+            add(BYTES_PARSED, Files.size(javaFile));
+        } catch (IOException e) {
+            log.debug("Taille illisible pour {}", javaFile);
+        }
+    }
+
+    /** Valeur courante d'un compteur, 0 s'il n'a jamais été alimenté. */
+    public long get(String counter) {
+        LongAdder adder = counters.get(counter);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /** Statistiques d'une phase : nombre d'exécutions, durée cumulée et durée maximale. */
+    public record PhaseStats(long count, long totalNanos, long maxNanos) {}
+
+    public Map<String, PhaseStats> getPhases() {
+        Map<String, PhaseStats> phases = new TreeMap<>();
+        timers.forEach((name, timer) -> phases.put(name, timer.stats()));
+        return phases;
+    }
+
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, adder) -> values.put(name, adder.sum()));
+        return values;
+    }
+
+    /**
+     * Écrit {@code metrics.json} et {@code metrics.prom} (format texte Prometheus) dans le répertoire de sortie.
+     */
+    public void export(Path directory) throws IOException {
+        Map<String, PhaseStats> phases = getPhases();
+        Map<String, Long> values = getCounters();
+        long durationMillis = System.currentTimeMillis() - startedAt;
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("startedAt", Instant.ofEpochMilli(startedAt).toString());
+        document.put("durationSeconds", durationMillis / 1000.0);
+        document.put("phases", phases);
+        document.put("counters", values);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("metrics.json").toFile(), document);
+        Files.writeString(directory.resolve("metrics.prom"), toPrometheus(phases, values, durationMillis));
+        log.info("Métriques d'exécution écrites dans {}", directory.resolve("metrics.json"));
+    }
+
+    private static String toPrometheus(Map<String, PhaseStats> phases, Map<String, Long> values, long durationMillis) {
+        StringBuilder out = new StringBuilder();
+        String phase = PROMETHEUS_PREFIX + "phase_duration_seconds";
+        out.append("# HELP ").append(phase).append(" Durée cumulée des phases d'analyse.\n")
+           .append("# TYPE ").append(phase).append(" summary\n");
+        phases.forEach((name, stats) -> {
+            out.append(phase).append("_sum{phase=\"").append(name).append("\"} ").append(seconds(stats.totalNanos())).append('\n');
+            out.append(phase).append("_count{phase=\"").append(name).append("\"} ").append(stats.count()).append('\n');
+        });
+        out.append("# HELP ").append(phase).append("_max Durée maximale d'une exécution de la phase.\n")
+           .append("# TYPE ").append(phase).append("_max gauge\n");
+        phases.forEach((name, stats) ->
+                out.append(phase).append("_max{phase=\"").append(name).append("\"} ").append(seconds(stats.maxNanos())).append('\n'));
+        values.forEach((name, value) -> {
+            String metric = PROMETHEUS_PREFIX + name + "_total";
+            out.append("# TYPE ").append(metric).append(" counter\n")
+               .append(metric).append(' ').append(value).append('\n');
+        });
+        String run = PROMETHEUS_PREFIX + "run_duration_seconds";
+        out.append("# TYPE ").append(run).append(" gauge\n")
+           .append(run).append(' ').append(seconds(durationMillis * 1_000_000L)).append('\n');
+        return out.toString();
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1e9);
+    }
+
+    /** Traitement chronométré par {@link #timed(String, TimedCall)}. */
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /** Traitement sans résultat chronométré par {@link #timed(String, TimedRun)}. */
+    @FunctionalInterface
+    public interface TimedRun<E extends Exception> {
+        void run() throws E;
+    }
+
+    private static final class PhaseTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long executions, long nanos, long max) {
+            count.add(executions);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(max);
+        }
+
+        PhaseStats stats() {
+            return new PhaseStats(count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -8,9 +8,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -25,6 +26,35 @@ public class AnalysisResult {
     private int endpointsCount;
     private AnalysisMetrics metrics;
     
+    /**
+     * Copie sans les endpoints de l'application ni ceux de ses modules, ni le texte des requêtes :
+     * suffisante pour les vues globales du portfolio (compteurs, frameworks, dépendances), bien plus
+     * légère à garder en mémoire.
+     */
+    public AnalysisResult summary() {
+        if (application == null) {
+            return toBuilder().build();
+        }
+        List<WebLogicApplication.Module> modules = application.getModules() == null ? null :
+                application.getModules().stream()
+                        .map(module -> module.toBuilder()
+                                .endpoints(null)
+                                .dependencies(withoutQueries(module.getDependencies()))
+                                .build())
+                        .toList();
+        return toBuilder()
+                .application(application.toBuilder()
+                        .endpoints(null)
+                        .modules(modules)
+                        .globalDependencies(withoutQueries(application.getGlobalDependencies()))
+                        .build())
+                .build();
+    }
+    
+    private static Dependencies withoutQueries(Dependencies dependencies) {
+        return dependencies == null ? null : dependencies.withoutQueries();
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -24,6 +24,21 @@ public class Dependencies {
     private List<FileDependency> files;
     private List<ExternalSystemDependency> externalSystems;
     
+    /**
+     * Copie sans le texte des requêtes SQL/HQL : tables, vues et procédures restent, c'est tout ce
+     * qu'utilisent les vues globales du portfolio.
+     */
+    public Dependencies withoutQueries() {
+        if (databases == null) {
+            return this;
+        }
+        List<DatabaseDependency> lightDatabases = databases.stream()
+                .map(db -> new DatabaseDependency(db.getConnectionName(), db.getDataSourceName(), db.getTables(),
+                        db.getViews(), db.getStoredProcedures(), null, db.getDatabaseType()))
+                .toList();
+        return new Dependencies(lightDatabases, ejbs, cobolPrograms, webServices, jmsQueues, files, externalSystems);
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -48,7 +63,12 @@ public class Dependencies {
         private String rawQuery;
         private String normalizedQuery;
         private List<String> tables;
+        private List<String> procedures;
+        // Forme normalisée (minuscules, valeurs remplacées par ?) : identique pour deux requêtes de même forme
+        private String fingerprint;
         private List<String> parameters;
+        // Fichier d'origine (source Java ou script SQL) : relie la requête aux endpoints de ce fichier
+        private String sourceFile;
         private Integer lineNumber;
         private boolean isDynamic;
     }
@@ -1,10 +1,17 @@
 package com.legacy.analyzer.model;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Builder;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.legacy.analyzer.symbols.SymbolTable;
 
 import java.util.List;
 import java.util.Set;
@@ -21,7 +28,18 @@ public class Endpoint {
     private String applicationName;
     private String moduleName;
     private String businessFunction;
-    private String className;
+    // Nom de classe interné (symbole + 1, 0 = absent) dans la table de l'analyse qui a construit
+    // l'endpoint, exposé en String par getClassName()
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int classNameSymbol;
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private SymbolTable symbols;
     private String methodName;
     private String url;
     private Set<HttpMethod> httpMethods;
@@ -35,6 +53,25 @@ public class Endpoint {
     private Map<String, Object> metadata;
     private SourceLocation sourceLocation;
     
+    @EqualsAndHashCode.Include
+    @ToString.Include(name = "className")
+    public String getClassName() {
+        return classNameSymbol == 0 ? null : symbols.resolve(classNameSymbol - 1);
+    }
+    
+    public void setClassName(String className) {
+        this.symbols = className == null ? null : SymbolTable.current();
+        this.classNameSymbol = className == null ? 0 : symbols.intern(className) + 1;
+    }
+    
+    public static class EndpointBuilder {
+        public EndpointBuilder className(String className) {
+            this.symbols = className == null ? null : SymbolTable.current();
+            this.classNameSymbol = className == null ? 0 : symbols.intern(className) + 1;
+            return this;
+        }
+    }
+    
     public enum HttpMethod {
         GET, POST, PUT, DELETE, PATCH, HEAD, OPTIONS
     }
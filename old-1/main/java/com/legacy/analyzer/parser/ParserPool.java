@@ -0,0 +1,65 @@
+package com.legacy.analyzer.parser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Parseurs Java et XML des extracteurs. Les extracteurs sont des singletons appelés par tous les
+ * threads d'analyse à la fois, alors que {@link JavaParser} n'est pas thread-safe et que la
+ * spécification StAX ne garantit rien pour {@link XMLInputFactory} : chaque thread reçoit ses
+ * propres instances, créées à sa première demande puis réutilisées pour tous les fichiers qu'il
+ * analyse. Aucun verrou n'est pris pendant le parsing.
+ * <p>
+ * Les descripteurs XML ne chargent pas leur DTD externe ({@code web-app_2_3.dtd},
+ * {@code struts-config_1_1.dtd}...) : elle n'apporte rien à la lecture et son téléchargement
+ * ralentit, voire fait échouer, l'analyse sur un poste sans accès réseau.
+ */
+@Component
+public class ParserPool {
+
+    private final ThreadLocal<JavaParser> javaParsers = ThreadLocal.withInitial(this::newJavaParser);
+    private final ThreadLocal<XMLInputFactory> xmlInputFactories = ThreadLocal.withInitial(this::newXmlInputFactory);
+
+    public ParseResult<CompilationUnit> parseJava(Path javaFile) throws IOException {
+        return javaParser().parse(javaFile);
+    }
+
+    /**
+     * Lecteur StAX sur un document XML, à fermer par l'appelant (le flux reste à sa charge).
+     */
+    public XMLStreamReader openXml(InputStream input) throws XMLStreamException {
+        return xmlInputFactory().createXMLStreamReader(input);
+    }
+
+    JavaParser javaParser() {
+        return javaParsers.get();
+    }
+
+    XMLInputFactory xmlInputFactory() {
+        return xmlInputFactories.get();
+    }
+
+    private JavaParser newJavaParser() {
+        // Une configuration par parseur : ses processeurs (échappements unicode...) gardent un état pendant le parsing
+        return new JavaParser(new ParserConfiguration());
+    }
+
+    private XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -1,104 +1,67 @@
 package com.legacy.analyzer.parser;
 
+import com.legacy.analyzer.descriptor.DescriptorCache;
+import com.legacy.analyzer.descriptor.StrutsConfig;
 import com.legacy.analyzer.extractors.endpoints.StrutsEndpointExtractor.StrutsActionMapping;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jdom2.Document;
-import org.jdom2.Element;
-import org.jdom2.input.SAXBuilder;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class StrutsConfigParser {
     
-    private final SAXBuilder saxBuilder = new SAXBuilder();
+    private final DescriptorCache descriptorCache;
     
     public Map<String, StrutsActionMapping> parseStrutsConfig(Path strutsConfigPath) {
         Map<String, StrutsActionMapping> mappings = new HashMap<>();
         
-        try {
-            Document document = saxBuilder.build(strutsConfigPath.toFile());
-            Element root = document.getRootElement();
-            
-            // Parser les form-beans pour référence
-            Map<String, String> formBeans = parseFormBeans(root);
-            
-            // Parser les action-mappings
-            Element actionMappings = root.getChild("action-mappings");
-            if (actionMappings != null) {
-                List<Element> actions = actionMappings.getChildren("action");
-                
-                for (Element action : actions) {
-                    StrutsActionMapping mapping = parseActionMapping(action, formBeans);
-                    if (mapping != null && mapping.getPath() != null) {
-                        mappings.put(mapping.getPath(), mapping);
-                    }
-                }
-            }
-            
-            log.debug("Nombre de mappings Struts trouvés: {}", mappings.size());
-            
-        } catch (Exception e) {
-            log.error("Erreur lors du parsing de struts-config.xml: {}", strutsConfigPath, e);
+        StrutsConfig strutsConfig = descriptorCache.strutsConfig(strutsConfigPath).orElse(null);
+        if (strutsConfig == null) {
+            return mappings;
         }
         
-        return mappings;
-    }
-    
-    private Map<String, String> parseFormBeans(Element root) {
-        Map<String, String> formBeans = new HashMap<>();
-        
-        Element formBeansElement = root.getChild("form-beans");
-        if (formBeansElement != null) {
-            List<Element> formBeanElements = formBeansElement.getChildren("form-bean");
-            
-            for (Element formBean : formBeanElements) {
-                String name = formBean.getAttributeValue("name");
-                String type = formBean.getAttributeValue("type");
-                
-                if (name != null && type != null) {
-                    formBeans.put(name, type);
-                }
+        // Parser les action-mappings
+        for (StrutsConfig.Action action : strutsConfig.actions()) {
+            StrutsActionMapping mapping = parseActionMapping(action);
+            if (mapping.getPath() != null) {
+                mappings.put(mapping.getPath(), mapping);
             }
         }
         
-        return formBeans;
+        log.debug("Nombre de mappings Struts trouvés: {}", mappings.size());
+        return mappings;
     }
     
-    private StrutsActionMapping parseActionMapping(Element action, Map<String, String> formBeans) {
+    private StrutsActionMapping parseActionMapping(StrutsConfig.Action action) {
         StrutsActionMapping mapping = new StrutsActionMapping();
         
         // Attributs principaux
-        mapping.setPath(action.getAttributeValue("path"));
-        mapping.setType(action.getAttributeValue("type"));
-        mapping.setName(action.getAttributeValue("name"));
-        mapping.setScope(action.getAttributeValue("scope", "session"));
-        mapping.setValidate(action.getAttributeValue("validate", "true"));
+        mapping.setPath(action.path());
+        mapping.setType(action.type());
+        mapping.setName(action.name());
+        mapping.setScope(action.scope() != null ? action.scope() : "session");
+        mapping.setValidate(action.validate() != null ? action.validate() : "true");
         
         // Paramètre pour DispatchAction
-        String parameter = action.getAttributeValue("parameter");
-        if (parameter != null) {
-            mapping.setMethods(List.of(parameter));
+        if (action.parameter() != null) {
+            mapping.setMethods(List.of(action.parameter()));
         }
         
-        // Parser les forwards
+        // Forwards
         Map<String, String> forwards = new HashMap<>();
-        List<Element> forwardElements = action.getChildren("forward");
-        
-        for (Element forward : forwardElements) {
-            String name = forward.getAttributeValue("name");
-            String path = forward.getAttributeValue("path");
-            
-            if (name != null && path != null) {
-                forwards.put(name, path);
+        for (StrutsConfig.Forward forward : action.forwards()) {
+            if (forward.name() != null && forward.path() != null) {
+                forwards.put(forward.name(), forward.path());
             }
         }
-        
         mapping.setForwards(forwards);
         
         return mapping;
@@ -107,202 +70,115 @@ public class StrutsConfigParser {
     public Map<String, Object> parseStrutsConfigComplete(Path strutsConfigPath) {
         Map<String, Object> config = new HashMap<>();
         
-        try {
-            Document document = saxBuilder.build(strutsConfigPath.toFile());
-            Element root = document.getRootElement();
-            
-            // Form beans
-            config.put("formBeans", parseFormBeansComplete(root));
-            
-            // Global exceptions
-            config.put("globalExceptions", parseGlobalExceptions(root));
-            
-            // Global forwards
-            config.put("globalForwards", parseGlobalForwards(root));
-            
-            // Action mappings
-            config.put("actionMappings", parseActionMappingsComplete(root));
-            
-            // Controller
-            config.put("controller", parseController(root));
-            
-            // Message resources
-            config.put("messageResources", parseMessageResources(root));
-            
-            // Plug-ins
-            config.put("plugins", parsePlugins(root));
-            
-        } catch (Exception e) {
-            log.error("Erreur lors du parsing complet de struts-config.xml", e);
+        StrutsConfig strutsConfig = descriptorCache.strutsConfig(strutsConfigPath).orElse(null);
+        if (strutsConfig == null) {
+            return config;
         }
         
-        return config;
-    }
-    
-    private List<Map<String, String>> parseFormBeansComplete(Element root) {
-        List<Map<String, String>> formBeans = new java.util.ArrayList<>();
-        
-        Element formBeansElement = root.getChild("form-beans");
-        if (formBeansElement != null) {
-            List<Element> formBeanElements = formBeansElement.getChildren("form-bean");
-            
-            for (Element formBean : formBeanElements) {
-                Map<String, String> bean = new HashMap<>();
-                bean.put("name", formBean.getAttributeValue("name"));
-                bean.put("type", formBean.getAttributeValue("type"));
-                bean.put("dynamic", formBean.getAttributeValue("dynamic", "false"));
-                
-                formBeans.add(bean);
-            }
+        // Form beans
+        List<Map<String, String>> formBeans = new ArrayList<>();
+        for (StrutsConfig.FormBean formBean : strutsConfig.formBeans()) {
+            Map<String, String> bean = new HashMap<>();
+            bean.put("name", formBean.name());
+            bean.put("type", formBean.type());
+            bean.put("dynamic", formBean.dynamic() != null ? formBean.dynamic() : "false");
+            formBeans.add(bean);
         }
+        config.put("formBeans", formBeans);
         
-        return formBeans;
-    }
-    
-    private List<Map<String, String>> parseGlobalExceptions(Element root) {
-        List<Map<String, String>> exceptions = new java.util.ArrayList<>();
+        // Global exceptions
+        config.put("globalExceptions", exceptions(strutsConfig.globalExceptions(), true));
         
-        Element globalExceptionsElement = root.getChild("global-exceptions");
-        if (globalExceptionsElement != null) {
-            List<Element> exceptionElements = globalExceptionsElement.getChildren("exception");
-            
-            for (Element exception : exceptionElements) {
-                Map<String, String> exc = new HashMap<>();
-                exc.put("key", exception.getAttributeValue("key"));
-                exc.put("type", exception.getAttributeValue("type"));
-                exc.put("path", exception.getAttributeValue("path"));
-                exc.put("handler", exception.getAttributeValue("handler"));
-                
-                exceptions.add(exc);
-            }
+        // Global forwards
+        List<Map<String, String>> globalForwards = new ArrayList<>();
+        for (StrutsConfig.Forward forward : strutsConfig.globalForwards()) {
+            globalForwards.add(forward(forward, "false"));
         }
+        config.put("globalForwards", globalForwards);
         
-        return exceptions;
-    }
-    
-    private List<Map<String, String>> parseGlobalForwards(Element root) {
-        List<Map<String, String>> forwards = new java.util.ArrayList<>();
+        // Action mappings
+        config.put("actionMappings", parseActionMappingsComplete(strutsConfig));
         
-        Element globalForwardsElement = root.getChild("global-forwards");
-        if (globalForwardsElement != null) {
-            List<Element> forwardElements = globalForwardsElement.getChildren("forward");
-            
-            for (Element forward : forwardElements) {
-                Map<String, String> fwd = new HashMap<>();
-                fwd.put("name", forward.getAttributeValue("name"));
-                fwd.put("path", forward.getAttributeValue("path"));
-                fwd.put("redirect", forward.getAttributeValue("redirect", "false"));
-                
-                forwards.add(fwd);
-            }
-        }
+        // Controller
+        config.put("controller", new HashMap<>(strutsConfig.controller()));
         
-        return forwards;
-    }
-    
-    private List<Map<String, Object>> parseActionMappingsComplete(Element root) {
-        List<Map<String, Object>> actions = new java.util.ArrayList<>();
-        
-        Element actionMappingsElement = root.getChild("action-mappings");
-        if (actionMappingsElement != null) {
-            List<Element> actionElements = actionMappingsElement.getChildren("action");
-            
-            for (Element action : actionElements) {
-                Map<String, Object> act = new HashMap<>();
-                act.put("path", action.getAttributeValue("path"));
-                act.put("type", action.getAttributeValue("type"));
-                act.put("name", action.getAttributeValue("name"));
-                act.put("scope", action.getAttributeValue("scope"));
-                act.put("validate", action.getAttributeValue("validate"));
-                act.put("input", action.getAttributeValue("input"));
-                act.put("parameter", action.getAttributeValue("parameter"));
-                act.put("attribute", action.getAttributeValue("attribute"));
-                act.put("forward", action.getAttributeValue("forward"));
-                act.put("include", action.getAttributeValue("include"));
-                act.put("unknown", action.getAttributeValue("unknown"));
-                
-                // Forwards locaux
-                List<Map<String, String>> localForwards = new java.util.ArrayList<>();
-                List<Element> forwardElements = action.getChildren("forward");
-                for (Element forward : forwardElements) {
-                    Map<String, String> fwd = new HashMap<>();
-                    fwd.put("name", forward.getAttributeValue("name"));
-                    fwd.put("path", forward.getAttributeValue("path"));
-                    fwd.put("redirect", forward.getAttributeValue("redirect"));
-                    localForwards.add(fwd);
-                }
-                act.put("forwards", localForwards);
-                
-                // Exceptions locales
-                List<Map<String, String>> localExceptions = new java.util.ArrayList<>();
-                List<Element> exceptionElements = action.getChildren("exception");
-                for (Element exception : exceptionElements) {
-                    Map<String, String> exc = new HashMap<>();
-                    exc.put("key", exception.getAttributeValue("key"));
-                    exc.put("type", exception.getAttributeValue("type"));
-                    exc.put("path", exception.getAttributeValue("path"));
-                    localExceptions.add(exc);
-                }
-                act.put("exceptions", localExceptions);
-                
-                actions.add(act);
-            }
+        // Message resources
+        List<Map<String, String>> resources = new ArrayList<>();
+        for (StrutsConfig.MessageResources resource : strutsConfig.messageResources()) {
+            Map<String, String> res = new HashMap<>();
+            res.put("parameter", resource.parameter());
+            res.put("key", resource.key());
+            res.put("null", resource.nullValue());
+            resources.add(res);
         }
+        config.put("messageResources", resources);
         
-        return actions;
-    }
-    
-    private Map<String, String> parseController(Element root) {
-        Map<String, String> controller = new HashMap<>();
-        
-        Element controllerElement = root.getChild("controller");
-        if (controllerElement != null) {
-            controller.put("processorClass", controllerElement.getAttributeValue("processorClass"));
-            controller.put("contentType", controllerElement.getAttributeValue("contentType"));
-            controller.put("nocache", controllerElement.getAttributeValue("nocache"));
-            controller.put("locale", controllerElement.getAttributeValue("locale"));
+        // Plug-ins
+        List<Map<String, String>> plugins = new ArrayList<>();
+        for (StrutsConfig.PlugIn plugIn : strutsConfig.plugIns()) {
+            Map<String, String> plg = new HashMap<>();
+            plg.put("className", plugIn.className());
+            plugIn.properties().forEach((name, value) -> plg.put("property." + name, value));
+            plugins.add(plg);
         }
+        config.put("plugins", plugins);
         
-        return controller;
+        return config;
     }
     
-    private List<Map<String, String>> parseMessageResources(Element root) {
-        List<Map<String, String>> resources = new java.util.ArrayList<>();
-        
-        List<Element> resourceElements = root.getChildren("message-resources");
-        for (Element resource : resourceElements) {
-            Map<String, String> res = new HashMap<>();
-            res.put("parameter", resource.getAttributeValue("parameter"));
-            res.put("key", resource.getAttributeValue("key"));
-            res.put("null", resource.getAttributeValue("null"));
+    private List<Map<String, Object>> parseActionMappingsComplete(StrutsConfig strutsConfig) {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        
+        for (StrutsConfig.Action action : strutsConfig.actions()) {
+            Map<String, Object> act = new HashMap<>();
+            act.put("path", action.path());
+            act.put("type", action.type());
+            act.put("name", action.name());
+            act.put("scope", action.scope());
+            act.put("validate", action.validate());
+            act.put("input", action.input());
+            act.put("parameter", action.parameter());
+            act.put("attribute", action.attribute());
+            act.put("forward", action.forward());
+            act.put("include", action.include());
+            act.put("unknown", action.unknown());
+            
+            // Forwards locaux
+            List<Map<String, String>> localForwards = new ArrayList<>();
+            for (StrutsConfig.Forward forward : action.forwards()) {
+                localForwards.add(forward(forward, null));
+            }
+            act.put("forwards", localForwards);
             
-            resources.add(res);
+            // Exceptions locales
+            act.put("exceptions", exceptions(action.exceptions(), false));
+            
+            actions.add(act);
         }
         
-        return resources;
+        return actions;
     }
     
-    private List<Map<String, String>> parsePlugins(Element root) {
-        List<Map<String, String>> plugins = new java.util.ArrayList<>();
-        
-        List<Element> pluginElements = root.getChildren("plug-in");
-        for (Element plugin : pluginElements) {
-            Map<String, String> plg = new HashMap<>();
-            plg.put("className", plugin.getAttributeValue("className"));
-            
-            // Propriétés du plugin
-            List<Element> properties = plugin.getChildren("set-property");
-            for (Element property : properties) {
-                String propName = property.getAttributeValue("property");
-                String propValue = property.getAttributeValue("value");
-                if (propName != null && propValue != null) {
-                    plg.put("property." + propName, propValue);
-                }
+    private Map<String, String> forward(StrutsConfig.Forward forward, String defaultRedirect) {
+        Map<String, String> fwd = new HashMap<>();
+        fwd.put("name", forward.name());
+        fwd.put("path", forward.path());
+        fwd.put("redirect", forward.redirect() != null ? forward.redirect() : defaultRedirect);
+        return fwd;
+    }
+    
+    private List<Map<String, String>> exceptions(List<StrutsConfig.ExceptionHandler> handlers, boolean withHandler) {
+        List<Map<String, String>> exceptions = new ArrayList<>();
+        for (StrutsConfig.ExceptionHandler handler : handlers) {
+            Map<String, String> exc = new HashMap<>();
+            exc.put("key", handler.key());
+            exc.put("type", handler.type());
+            exc.put("path", handler.path());
+            if (withHandler) {
+                exc.put("handler", handler.handler());
             }
-            
-            plugins.add(plg);
+            exceptions.add(exc);
         }
-        
-        return plugins;
+        return exceptions;
     }
-}
\ No newline at end of file
+}
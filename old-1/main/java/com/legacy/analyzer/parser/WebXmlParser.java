@@ -1,185 +1,89 @@
 package com.legacy.analyzer.parser;
 
+import com.legacy.analyzer.descriptor.DescriptorCache;
+import com.legacy.analyzer.descriptor.WebXml;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jdom2.Document;
-import org.jdom2.Element;
-import org.jdom2.input.SAXBuilder;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebXmlParser {
     
-    private final SAXBuilder saxBuilder = new SAXBuilder();
+    private final DescriptorCache descriptorCache;
     
     public Map<String, String> parseServletMappings(Path webXmlPath) {
-        Map<String, String> mappings = new HashMap<>();
-        
-        try {
-            Document document = saxBuilder.build(webXmlPath.toFile());
-            Element root = document.getRootElement();
-            
-            // Extraire les servlets
-            Map<String, String> servletNameToClass = new HashMap<>();
-            List<Element> servlets = root.getChildren("servlet");
-            
-            for (Element servlet : servlets) {
-                String servletName = servlet.getChildText("servlet-name");
-                String servletClass = servlet.getChildText("servlet-class");
-                
-                if (servletName != null && servletClass != null) {
-                    servletNameToClass.put(servletName, servletClass);
-                }
-            }
-            
-            // Extraire les mappings
-            List<Element> servletMappings = root.getChildren("servlet-mapping");
-            
-            for (Element mapping : servletMappings) {
-                String servletName = mapping.getChildText("servlet-name");
-                String urlPattern = mapping.getChildText("url-pattern");
-                
-                if (servletName != null && urlPattern != null) {
-                    String servletClass = servletNameToClass.get(servletName);
-                    if (servletClass != null) {
-                        mappings.put(servletClass, urlPattern);
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("Erreur lors du parsing de web.xml: {}", webXmlPath, e);
-        }
-        
-        return mappings;
+        return descriptorCache.webXml(webXmlPath)
+                .map(webXml -> (Map<String, String>) new HashMap<>(webXml.urlPatternsByServletClass()))
+                .orElseGet(HashMap::new);
     }
     
     public Map<String, Object> parseWebXml(Path webXmlPath) {
         Map<String, Object> result = new HashMap<>();
         
-        try {
-            Document document = saxBuilder.build(webXmlPath.toFile());
-            Element root = document.getRootElement();
-            
-            // Display name
-            String displayName = root.getChildText("display-name");
-            if (displayName != null) {
-                result.put("displayName", displayName);
-            }
-            
-            // Description
-            String description = root.getChildText("description");
-            if (description != null) {
-                result.put("description", description);
-            }
-            
-            // Context params
-            Map<String, String> contextParams = new HashMap<>();
-            List<Element> contextParamElements = root.getChildren("context-param");
-            for (Element param : contextParamElements) {
-                String name = param.getChildText("param-name");
-                String value = param.getChildText("param-value");
-                if (name != null && value != null) {
-                    contextParams.put(name, value);
-                }
-            }
-            result.put("contextParams", contextParams);
-            
-            // Filters
-            List<Map<String, String>> filters = parseFilters(root);
-            result.put("filters", filters);
-            
-            // Listeners
-            List<String> listeners = parseListeners(root);
-            result.put("listeners", listeners);
-            
-            // Security constraints
-            List<Map<String, Object>> securityConstraints = parseSecurityConstraints(root);
-            result.put("securityConstraints", securityConstraints);
-            
-            // Error pages
-            Map<String, String> errorPages = parseErrorPages(root);
-            result.put("errorPages", errorPages);
-            
-        } catch (Exception e) {
-            log.error("Erreur lors du parsing complet de web.xml: {}", webXmlPath, e);
+        WebXml webXml = descriptorCache.webXml(webXmlPath).orElse(null);
+        if (webXml == null) {
+            return result;
         }
         
-        return result;
-    }
-    
-    private List<Map<String, String>> parseFilters(Element root) {
-        List<Map<String, String>> filters = new java.util.ArrayList<>();
+        // Display name
+        if (webXml.displayName() != null) {
+            result.put("displayName", webXml.displayName());
+        }
+        
+        // Description
+        if (webXml.description() != null) {
+            result.put("description", webXml.description());
+        }
         
-        List<Element> filterElements = root.getChildren("filter");
-        for (Element filter : filterElements) {
+        // Context params
+        result.put("contextParams", new HashMap<>(webXml.contextParams()));
+        
+        // Filters
+        List<Map<String, String>> filters = new ArrayList<>();
+        for (WebXml.Filter filter : webXml.filters()) {
             Map<String, String> filterInfo = new HashMap<>();
-            filterInfo.put("name", filter.getChildText("filter-name"));
-            filterInfo.put("class", filter.getChildText("filter-class"));
+            filterInfo.put("name", filter.name());
+            filterInfo.put("class", filter.className());
             filters.add(filterInfo);
         }
+        result.put("filters", filters);
         
-        return filters;
-    }
-    
-    private List<String> parseListeners(Element root) {
-        List<String> listeners = new java.util.ArrayList<>();
+        // Listeners
+        result.put("listeners", new ArrayList<>(webXml.listeners()));
         
-        List<Element> listenerElements = root.getChildren("listener");
-        for (Element listener : listenerElements) {
-            String listenerClass = listener.getChildText("listener-class");
-            if (listenerClass != null) {
-                listeners.add(listenerClass);
-            }
-        }
+        // Security constraints
+        result.put("securityConstraints", parseSecurityConstraints(webXml));
         
-        return listeners;
+        // Error pages
+        result.put("errorPages", new HashMap<>(webXml.errorPages()));
+        
+        return result;
     }
     
-    private List<Map<String, Object>> parseSecurityConstraints(Element root) {
-        List<Map<String, Object>> constraints = new java.util.ArrayList<>();
+    private List<Map<String, Object>> parseSecurityConstraints(WebXml webXml) {
+        List<Map<String, Object>> constraints = new ArrayList<>();
         
-        List<Element> constraintElements = root.getChildren("security-constraint");
-        for (Element constraint : constraintElements) {
+        for (WebXml.SecurityConstraint constraint : webXml.securityConstraints()) {
             Map<String, Object> constraintInfo = new HashMap<>();
             
             // Web resource collection
-            Element webResourceCollection = constraint.getChild("web-resource-collection");
-            if (webResourceCollection != null) {
-                Map<String, Object> resourceInfo = new HashMap<>();
-                resourceInfo.put("name", webResourceCollection.getChildText("web-resource-name"));
-                
-                List<String> urlPatterns = new java.util.ArrayList<>();
-                List<Element> urlPatternElements = webResourceCollection.getChildren("url-pattern");
-                for (Element pattern : urlPatternElements) {
-                    urlPatterns.add(pattern.getText());
-                }
-                resourceInfo.put("urlPatterns", urlPatterns);
-                
-                List<String> httpMethods = new java.util.ArrayList<>();
-                List<Element> httpMethodElements = webResourceCollection.getChildren("http-method");
-                for (Element method : httpMethodElements) {
-                    httpMethods.add(method.getText());
-                }
-                resourceInfo.put("httpMethods", httpMethods);
-                
-                constraintInfo.put("webResourceCollection", resourceInfo);
-            }
+            Map<String, Object> resourceInfo = new HashMap<>();
+            resourceInfo.put("name", constraint.resourceName());
+            resourceInfo.put("urlPatterns", new ArrayList<>(constraint.urlPatterns()));
+            resourceInfo.put("httpMethods", new ArrayList<>(constraint.httpMethods()));
+            constraintInfo.put("webResourceCollection", resourceInfo);
             
             // Auth constraint
-            Element authConstraint = constraint.getChild("auth-constraint");
-            if (authConstraint != null) {
-                List<String> roles = new java.util.ArrayList<>();
-                List<Element> roleElements = authConstraint.getChildren("role-name");
-                for (Element role : roleElements) {
-                    roles.add(role.getText());
-                }
-                constraintInfo.put("roles", roles);
+            if (!constraint.roles().isEmpty()) {
+                constraintInfo.put("roles", new ArrayList<>(constraint.roles()));
             }
             
             constraints.add(constraintInfo);
@@ -187,25 +91,4 @@ public class WebXmlParser {
         
         return constraints;
     }
-    
-    private Map<String, String> parseErrorPages(Element root) {
-        Map<String, String> errorPages = new HashMap<>();
-        
-        List<Element> errorPageElements = root.getChildren("error-page");
-        for (Element errorPage : errorPageElements) {
-            String errorCode = errorPage.getChildText("error-code");
-            String exceptionType = errorPage.getChildText("exception-type");
-            String location = errorPage.getChildText("location");
-            
-            if (location != null) {
-                if (errorCode != null) {
-                    errorPages.put("error-" + errorCode, location);
-                } else if (exceptionType != null) {
-                    errorPages.put("exception-" + exceptionType, location);
-                }
-            }
-        }
-        
-        return errorPages;
-    }
-}
\ No newline at end of file
+}
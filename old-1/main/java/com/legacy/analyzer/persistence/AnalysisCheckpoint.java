@@ -0,0 +1,244 @@
+package com.legacy.analyzer.persistence;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.WebLogicApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Points de reprise d'une analyse de portfolio, dans {@code <sortie>/checkpoint} :
+ * <ul>
+ *     <li>{@code journal.log} : journal en ajout seul, une ligne {@code STARTED|COMPLETED<TAB>application<TAB>empreinte<TAB>horodatage}
+ *         forcée sur disque à chaque écriture ;</li>
+ *     <li>{@code results/<application>.json} : le résultat complet de chaque application terminée,
+ *         écrit par renommage atomique avant que la ligne {@code COMPLETED} ne soit journalisée.</li>
+ * </ul>
+ * Avec {@code --resume}, une application dont la dernière ligne est {@code COMPLETED} et dont
+ * l'empreinte des sources n'a pas changé est rechargée au lieu d'être réanalysée. Une application
+ * seulement {@code STARTED} (JVM arrêtée pendant son analyse) est refaite.
+ */
+@Slf4j
+@Component
+public class AnalysisCheckpoint {
+
+    private static final String DIRECTORY = "checkpoint";
+    private static final String JOURNAL = "journal.log";
+    private static final String RESULTS = "results";
+    private static final String STARTED = "STARTED";
+    private static final String COMPLETED = "COMPLETED";
+
+    private final AnalyzerConfiguration configuration;
+    private final ResultsCodec codec;
+    // application -> empreinte des sources, pour les applications terminées d'après le journal
+    private final Map<String, String> completed = new ConcurrentHashMap<>();
+    // application -> empreinte calculée pour l'exécution en cours
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    // null hors d'une analyse de portfolio (ex: démon d'analyse) : aucun point de reprise n'est écrit
+    private volatile FileChannel journal;
+
+    public AnalysisCheckpoint(AnalyzerConfiguration configuration, ResultsCodec codec) {
+        this.configuration = configuration;
+        this.codec = codec;
+    }
+
+    /**
+     * Ouvre le journal. Sans reprise, les points de reprise d'une exécution précédente sont effacés.
+     */
+    public synchronized void open(boolean resume) throws IOException {
+        close();
+        completed.clear();
+        fingerprints.clear();
+        Path directory = directory();
+        Path journalFile = directory.resolve(JOURNAL);
+        Files.createDirectories(directory.resolve(RESULTS));
+        // Fichiers temporaires laissés par un arrêt brutal pendant une écriture
+        try (Stream<Path> files = Files.list(directory.resolve(RESULTS))) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(AtomicFiles.TEMP_SUFFIX)).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        if (resume && Files.exists(journalFile)) {
+            replay(journalFile);
+            log.info("Reprise: {} application(s) déjà terminée(s) dans le journal {}", completed.size(), journalFile);
+        } else {
+            Files.deleteIfExists(journalFile);
+            try (Stream<Path> files = Files.list(directory.resolve(RESULTS))) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        journal = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void replay(Path journalFile) throws IOException {
+        for (String line : Files.readAllLines(journalFile, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t");
+            // Une dernière ligne tronquée par un arrêt brutal est ignorée
+            if (fields.length < 4) {
+                continue;
+            }
+            if (COMPLETED.equals(fields[0])) {
+                completed.put(fields[1], fields[2]);
+            } else if (STARTED.equals(fields[0])) {
+                completed.remove(fields[1]);
+            }
+        }
+    }
+
+    /**
+     * @return le résultat sauvegardé si l'application est terminée dans le journal avec la même
+     * empreinte de sources, vide si elle doit être (ré)analysée
+     */
+    public Optional<AnalysisResult> restore(WebLogicApplication application) {
+        String fingerprint = fingerprintOf(application);
+        if (fingerprint == null || !fingerprint.equals(completed.get(sanitize(application.getName())))) {
+            return Optional.empty();
+        }
+        Path resultFile = resultFile(application.getName());
+        try {
+            return Optional.of(codec.read(resultFile, AnalysisResult.class));
+        } catch (IOException e) {
+            log.warn("Résultat de reprise illisible pour {}, l'application sera réanalysée: {}",
+                    application.getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Résultats complets des applications terminées dans un répertoire de sortie (ex: celui d'un shard),
+     * quel que soit le journal ouvert dans cette exécution.
+     */
+    public List<AnalysisResult> loadResults(Path outputDirectory) throws IOException {
+        Path resultsDirectory = outputDirectory.resolve(DIRECTORY).resolve(RESULTS);
+        if (!Files.isDirectory(resultsDirectory)) {
+            return List.of();
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(resultsDirectory)) {
+            files = stream.filter(f -> !f.getFileName().toString().endsWith(AtomicFiles.TEMP_SUFFIX)).sorted().toList();
+        }
+        List<AnalysisResult> results = new ArrayList<>();
+        for (Path file : files) {
+            results.add(codec.readFile(file, AnalysisResult.class));
+        }
+        return results;
+    }
+
+    public void started(WebLogicApplication application) throws IOException {
+        if (journal == null) {
+            return;
+        }
+        append(STARTED, application.getName(), fingerprintOf(application));
+    }
+
+    /** À appeler une fois les résultats de l'application écrits dans le répertoire de sortie. */
+    public void completed(AnalysisResult result) throws IOException {
+        if (journal == null) {
+            return;
+        }
+        WebLogicApplication application = result.getApplication();
+        codec.write(resultFile(application.getName()), result);
+        append(COMPLETED, application.getName(), fingerprintOf(application));
+    }
+
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private synchronized void append(String status, String application, String fingerprint) throws IOException {
+        if (journal == null) {
+            return;
+        }
+        String line = String.join("\t", status, sanitize(application),
+                fingerprint != null ? fingerprint : "-", Instant.now().toString()) + "\n";
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        journal.force(false);
+    }
+
+    private String fingerprintOf(WebLogicApplication application) {
+        return fingerprints.computeIfAbsent(application.getName(), name -> {
+            try {
+                return fingerprint(application.getSourcePath());
+            } catch (IOException e) {
+                log.warn("Empreinte impossible pour {}: {}", name, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Empreinte SHA-256 des sources d'une application : taille et date de modification de l'archive,
+     * ou de chaque fichier (chemin relatif trié) pour une application éclatée.
+     * @return null si la source n'existe pas
+     */
+    public static String fingerprint(Path source) throws IOException {
+        if (source == null || !Files.exists(source)) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+        if (Files.isDirectory(source)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(source)) {
+                files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                update(digest, source.relativize(file).toString().replace('\\', '/'), file);
+            }
+        } else {
+            update(digest, source.getFileName().toString(), source);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String name, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        String entry = name + '\0' + attributes.size() + '\0' + attributes.lastModifiedTime().toMillis() + '\n';
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path directory() {
+        return configuration.getOutputDirectory().resolve(DIRECTORY);
+    }
+
+    private Path resultFile(String application) {
+        return directory().resolve(RESULTS).resolve(application.replaceAll("[^a-zA-Z0-9.-]", "_") + ".json");
+    }
+
+    private static String sanitize(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ');
+    }
+}
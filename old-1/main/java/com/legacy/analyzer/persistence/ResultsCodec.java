@@ -0,0 +1,223 @@
+package com.legacy.analyzer.persistence;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodage des fichiers de résultats ({@code output.formats.json}) : JSON indenté ou Smile
+ * (JSON binaire), éventuellement compressé en gzip ou zstd.
+ * <p>
+ * Les appelants désignent un fichier par son nom logique ({@code endpoints.json}) ; le nom réel
+ * porte l'extension de l'encodage courant ({@code endpoints.smile.zst}). La lecture accepte
+ * n'importe quelle variante présente et détecte format et compression d'après les premiers
+ * octets : un répertoire écrit avec d'autres réglages reste lisible par {@code report} et {@code serve}.
+ */
+@Component
+public class ResultsCodec {
+
+    public enum Encoding {
+        JSON("json"),
+        SMILE("smile");
+
+        private final String extension;
+
+        Encoding(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    public enum Compression {
+        NONE(""),
+        GZIP(".gz"),
+        ZSTD(".zst");
+
+        private final String extension;
+
+        Compression(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    private static final String LOGICAL_EXTENSION = ".json";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AnalyzerConfiguration configuration;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+
+    public ResultsCodec(AnalyzerConfiguration configuration) {
+        this.configuration = configuration;
+        this.jsonMapper = configure(new ObjectMapper())
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        // Noms de classes, tables et méthodes répétés : écrits une fois puis référencés
+        this.smileMapper = configure(new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build()));
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public static Encoding parseEncoding(String value) {
+        return Encoding.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static Compression parseCompression(String value) {
+        return Compression.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public Encoding getEncoding() {
+        String encoding = configuration.getOutput().getFormats().getJson().getEncoding();
+        return encoding != null ? parseEncoding(encoding) : Encoding.JSON;
+    }
+
+    public Compression getCompression() {
+        AnalyzerConfiguration.JsonConfig json = configuration.getOutput().getFormats().getJson();
+        if (json.getCompression() != null) {
+            return parseCompression(json.getCompression());
+        }
+        // Ancien réglage booléen : compress: true vaut gzip
+        return json.isCompress() ? Compression.GZIP : Compression.NONE;
+    }
+
+    /**
+     * @return le fichier réellement écrit pour un nom logique avec les réglages courants
+     */
+    public Path fileFor(Path logical) {
+        return variant(logical, getEncoding(), getCompression());
+    }
+
+    /**
+     * Écriture atomique avec l'encodage courant. Une variante laissée par une exécution
+     * aux réglages différents est supprimée, pour qu'un seul fichier fasse foi.
+     */
+    public void write(Path logical, Object value) throws IOException {
+        Encoding encoding = getEncoding();
+        Compression compression = getCompression();
+        Path target = variant(logical, encoding, compression);
+        ObjectMapper mapper = encoding == Encoding.SMILE ? smileMapper : jsonMapper;
+        // writeValue ferme le flux de compression, ce qui termine la trame gzip/zstd
+        AtomicFiles.write(target, out -> mapper.writeValue(compress(out, compression), value));
+        for (Path other : variants(logical)) {
+            if (!other.equals(target)) {
+                Files.deleteIfExists(other);
+            }
+        }
+    }
+
+    /**
+     * @return le fichier présent pour ce nom logique, quel que soit son encodage
+     */
+    public Optional<Path> locate(Path logical) {
+        Path current = fileFor(logical);
+        if (Files.exists(current)) {
+            return Optional.of(current);
+        }
+        return variants(logical).stream().filter(Files::exists).findFirst();
+    }
+
+    public boolean exists(Path logical) {
+        return locate(logical).isPresent();
+    }
+
+    public <T> T read(Path logical, Class<T> type) throws IOException {
+        return readFile(require(logical), jsonMapper.constructType(type));
+    }
+
+    public <T> T read(Path logical, TypeReference<T> type) throws IOException {
+        return readFile(require(logical), jsonMapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * Lecture d'un fichier réel (ex: parcours d'un répertoire), format et compression détectés.
+     */
+    public <T> T readFile(Path file, Class<T> type) throws IOException {
+        return readFile(file, jsonMapper.constructType(type));
+    }
+
+    private <T> T readFile(Path file, JavaType type) throws IOException {
+        try (InputStream in = decompress(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            // En-tête Smile : ":)\n"
+            byte[] header = peek(in, 3);
+            boolean smile = header.length == 3 && header[0] == ':' && header[1] == ')' && header[2] == '\n';
+            return (smile ? smileMapper : jsonMapper).readValue(in, type);
+        }
+    }
+
+    private Path require(Path logical) throws IOException {
+        return locate(logical).orElseThrow(() -> new NoSuchFileException(logical.toString()));
+    }
+
+    private static Path variant(Path logical, Encoding encoding, Compression compression) {
+        String name = logical.getFileName().toString();
+        String base = name.endsWith(LOGICAL_EXTENSION) ? name.substring(0, name.length() - LOGICAL_EXTENSION.length()) : name;
+        return logical.resolveSibling(base + "." + encoding.extension + compression.extension);
+    }
+
+    private static List<Path> variants(Path logical) {
+        List<Path> variants = new ArrayList<>();
+        for (Encoding encoding : Encoding.values()) {
+            for (Compression compression : Compression.values()) {
+                variants.add(variant(logical, encoding, compression));
+            }
+        }
+        return variants;
+    }
+
+    private static OutputStream compress(OutputStream out, Compression compression) throws IOException {
+        return switch (compression) {
+            case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE);
+            case ZSTD -> new ZstdOutputStream(out);
+            case NONE -> out;
+        };
+    }
+
+    private static InputStream decompress(InputStream in) throws IOException {
+        byte[] magic = peek(in, 4);
+        if (magic.length >= 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b) {
+            return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+        }
+        // Trame zstd : 28 B5 2F FD
+        if (magic.length == 4 && (magic[0] & 0xff) == 0x28 && (magic[1] & 0xff) == 0xb5
+                && (magic[2] & 0xff) == 0x2f && (magic[3] & 0xff) == 0xfd) {
+            return new BufferedInputStream(new ZstdInputStream(in), BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    private static byte[] peek(InputStream in, int length) throws IOException {
+        in.mark(length);
+        try {
+            return in.readNBytes(length);
+        } finally {
+            in.reset();
+        }
+    }
+}
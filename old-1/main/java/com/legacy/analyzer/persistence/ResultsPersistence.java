@@ -1,18 +1,21 @@
 package com.legacy.analyzer.persistence;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.legacy.analyzer.core.config.AnalyzerConfiguration;
 import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
 import com.legacy.analyzer.model.WebLogicApplication;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,14 +25,18 @@ import java.util.stream.Stream;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ResultsPersistence {
     
+    private static final TypeReference<List<Endpoint>> ENDPOINT_LIST = new TypeReference<>() {};
+    
     private final AnalyzerConfiguration configuration;
+    private final ResultsCodec codec;
+    // Index et manifestes : toujours en JSON lisible, quel que soit l'encodage des résultats
     private final ObjectMapper objectMapper;
     
-    public ResultsPersistence(AnalyzerConfiguration configuration) {
+    public ResultsPersistence(AnalyzerConfiguration configuration, ResultsCodec codec) {
         this.configuration = configuration;
+        this.codec = codec;
         this.objectMapper = createObjectMapper();
     }
     
@@ -75,10 +82,15 @@ public class ResultsPersistence {
         updateAnalysisIndex(result);
     }
     
+    /**
+     * @return le répertoire des résultats d'une application sous {@code outputDir}
+     */
+    public Path applicationDirectory(Path outputDir, String applicationName) {
+        return outputDir.resolve("applications").resolve(sanitizeFileName(applicationName));
+    }
+    
     private Path createApplicationDirectory(String applicationName) throws IOException {
-        Path appDir = configuration.getOutputDirectory()
-                .resolve("applications")
-                .resolve(sanitizeFileName(applicationName));
+        Path appDir = applicationDirectory(configuration.getOutputDirectory(), applicationName);
         
         Files.createDirectories(appDir);
         
@@ -106,49 +118,49 @@ public class ResultsPersistence {
         info.put("dataSources", application.getDataSources());
         info.put("libraries", application.getLibraries());
         
-        objectMapper.writeValue(infoFile.toFile(), info);
+        write(infoFile, info);
     }
     
     private void saveEndpoints(Path appDir, List<com.legacy.analyzer.model.Endpoint> endpoints) 
             throws IOException {
         Path endpointsFile = appDir.resolve("endpoints.json");
-        objectMapper.writeValue(endpointsFile.toFile(), endpoints);
+        write(endpointsFile, endpoints);
     }
     
     private void saveDependencies(Path appDir, com.legacy.analyzer.model.Dependencies dependencies) 
             throws IOException {
         Path depsFile = appDir.resolve("dependencies.json");
-        objectMapper.writeValue(depsFile.toFile(), dependencies);
+        write(depsFile, dependencies);
         
         // Sauvegarder aussi par type
         if (dependencies.getDatabases() != null && !dependencies.getDatabases().isEmpty()) {
             Path dbFile = appDir.resolve("database/queries.json");
-            objectMapper.writeValue(dbFile.toFile(), dependencies.getDatabases());
+            write(dbFile, dependencies.getDatabases());
         }
         
         if (dependencies.getEjbs() != null && !dependencies.getEjbs().isEmpty()) {
             Path ejbFile = appDir.resolve("integrations/ejb-calls.json");
-            objectMapper.writeValue(ejbFile.toFile(), dependencies.getEjbs());
+            write(ejbFile, dependencies.getEjbs());
         }
         
         if (dependencies.getCobolPrograms() != null && !dependencies.getCobolPrograms().isEmpty()) {
             Path cobolFile = appDir.resolve("integrations/cobol-connections.json");
-            objectMapper.writeValue(cobolFile.toFile(), dependencies.getCobolPrograms());
+            write(cobolFile, dependencies.getCobolPrograms());
         }
         
         if (dependencies.getWebServices() != null && !dependencies.getWebServices().isEmpty()) {
             Path wsFile = appDir.resolve("integrations/webservices.json");
-            objectMapper.writeValue(wsFile.toFile(), dependencies.getWebServices());
+            write(wsFile, dependencies.getWebServices());
         }
         
         if (dependencies.getJmsQueues() != null && !dependencies.getJmsQueues().isEmpty()) {
             Path jmsFile = appDir.resolve("integrations/jms-queues.json");
-            objectMapper.writeValue(jmsFile.toFile(), dependencies.getJmsQueues());
+            write(jmsFile, dependencies.getJmsQueues());
         }
         
         if (dependencies.getFiles() != null && !dependencies.getFiles().isEmpty()) {
             Path filesFile = appDir.resolve("integrations/file-dependencies.json");
-            objectMapper.writeValue(filesFile.toFile(), dependencies.getFiles());
+            write(filesFile, dependencies.getFiles());
         }
     }
     
@@ -166,18 +178,18 @@ public class ResultsPersistence {
             moduleInfo.put("frameworks", module.getFrameworks());
             
             Path moduleInfoFile = moduleDir.resolve("module-info.json");
-            objectMapper.writeValue(moduleInfoFile.toFile(), moduleInfo);
+            write(moduleInfoFile, moduleInfo);
             
             // Sauvegarder les endpoints du module
             if (module.getEndpoints() != null && !module.getEndpoints().isEmpty()) {
                 Path endpointsFile = moduleDir.resolve("endpoints.json");
-                objectMapper.writeValue(endpointsFile.toFile(), module.getEndpoints());
+                write(endpointsFile, module.getEndpoints());
             }
             
             // Sauvegarder les dépendances du module
             if (module.getDependencies() != null) {
                 Path depsFile = moduleDir.resolve("dependencies.json");
-                objectMapper.writeValue(depsFile.toFile(), module.getDependencies());
+                write(depsFile, module.getDependencies());
             }
         }
     }
@@ -230,17 +242,18 @@ public class ResultsPersistence {
             classPseudoCode.put("methods", methods);
             
             Path pseudoCodeFile = pseudoCodeDir.resolve(className + ".json");
-            objectMapper.writeValue(pseudoCodeFile.toFile(), classPseudoCode);
+            write(pseudoCodeFile, classPseudoCode);
         }
     }
     
     private void saveStatistics(Path appDir, WebLogicApplication.Statistics statistics) 
             throws IOException {
         Path statsFile = appDir.resolve("statistics.json");
-        objectMapper.writeValue(statsFile.toFile(), statistics);
+        write(statsFile, statistics);
     }
     
-    private void updateAnalysisIndex(AnalysisResult result) throws IOException {
+    // Lecture-modification-écriture de l'index partagé : sérialisée entre les threads d'analyse
+    private synchronized void updateAnalysisIndex(AnalysisResult result) throws IOException {
         Path indexFile = configuration.getOutputDirectory().resolve("analysis-index.json");
         
         AnalysisIndex index;
@@ -275,7 +288,51 @@ public class ResultsPersistence {
                 .sum());
         
         // Sauvegarder l'index
-        objectMapper.writeValue(indexFile.toFile(), index);
+        writeJson(indexFile, index);
+    }
+    
+    /**
+     * Réécrit {@code analysis-index.json} à partir d'un ensemble de résultats (fusion de shards).
+     */
+    public void rebuildAnalysisIndex(List<AnalysisResult> results) throws IOException {
+        Files.deleteIfExists(configuration.getOutputDirectory().resolve("analysis-index.json"));
+        for (AnalysisResult result : results) {
+            updateAnalysisIndex(result);
+        }
+    }
+    
+    public void saveShardManifest(ShardManifest manifest) throws IOException {
+        writeJson(configuration.getOutputDirectory().resolve("shard.json"), manifest);
+    }
+    
+    public ShardManifest loadShardManifest(Path shardOutput) throws IOException {
+        Path manifestFile = shardOutput.resolve("shard.json");
+        if (!Files.exists(manifestFile)) {
+            throw new IOException("Pas de manifeste de shard (shard.json) dans " + shardOutput
+                    + " : le répertoire ne provient pas d'une analyse --shard");
+        }
+        return objectMapper.readValue(manifestFile.toFile(), ShardManifest.class);
+    }
+    
+    /**
+     * Copie les fichiers de résultats d'une application depuis la sortie d'un shard.
+     */
+    public void importApplicationDirectory(Path shardOutput, String applicationName) throws IOException {
+        Path source = shardOutput.resolve("applications").resolve(sanitizeFileName(applicationName));
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+        Path target = configuration.getOutputDirectory().resolve("applications").resolve(sanitizeFileName(applicationName));
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : files.toList()) {
+                Path copy = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(copy);
+                } else if (!file.getFileName().toString().endsWith(AtomicFiles.TEMP_SUFFIX)) {
+                    Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
     }
     
     public void saveGlobalResults(List<AnalysisResult> results) throws IOException {
@@ -323,7 +380,7 @@ public class ResultsPersistence {
         overview.put("applicationTypes", appTypes);
         
         Path overviewFile = globalDir.resolve("ecosystem-overview.json");
-        objectMapper.writeValue(overviewFile.toFile(), overview);
+        write(overviewFile, overview);
     }
     
     private void saveDependenciesGraph(Path globalDir, List<AnalysisResult> results) 
@@ -389,7 +446,7 @@ public class ResultsPersistence {
         graph.put("edges", edges);
         
         Path graphFile = globalDir.resolve("dependencies-graph.json");
-        objectMapper.writeValue(graphFile.toFile(), graph);
+        write(graphFile, graph);
     }
     
     private void saveGlobalStatistics(Path globalDir, List<AnalysisResult> results) 
@@ -414,7 +471,7 @@ public class ResultsPersistence {
         // TODO: Calculer les métriques de complexité
         
         Path statsFile = globalDir.resolve("statistics.json");
-        objectMapper.writeValue(statsFile.toFile(), stats);
+        write(statsFile, stats);
     }
     
     private void saveWebLogicConfig(Path globalDir, List<AnalysisResult> results) 
@@ -443,55 +500,123 @@ public class ResultsPersistence {
         config.put("dataSources", allDataSources);
         
         Path configFile = globalDir.resolve("weblogic-config.json");
-        objectMapper.writeValue(configFile.toFile(), config);
+        write(configFile, config);
     }
     
-    public List<AnalysisResult> loadAllResults(Path inputDir) throws IOException {
-        List<AnalysisResult> results = new ArrayList<>();
-        
+    /**
+     * Résultats d'une analyse précédente, relus une application à la fois à chaque parcours
+     * (commande {@code report}) : la mémoire ne dépend plus de la taille du portfolio.
+     */
+    public StoredResults openResults(Path inputDir) throws IOException {
         Path applicationsDir = inputDir.resolve("applications");
         if (!Files.exists(applicationsDir)) {
-            return results;
+            return new StoredResults(List.of(), (appDir, withEndpoints) -> null);
         }
         
-        try (Stream<Path> appDirs = Files.list(applicationsDir)) {
-            appDirs.filter(Files::isDirectory)
-                   .forEach(appDir -> {
-                       try {
-                           AnalysisResult result = loadApplicationResult(appDir);
-                           if (result != null) {
-                               results.add(result);
-                           }
-                       } catch (Exception e) {
-                           log.error("Erreur lors du chargement des résultats de: {}", appDir, e);
-                       }
-                   });
+        List<Path> appDirs;
+        try (Stream<Path> entries = Files.list(applicationsDir)) {
+            appDirs = entries.filter(Files::isDirectory).sorted().toList();
         }
         
-        return results;
+        // Statut et nombre d'endpoints de chaque application, tels qu'enregistrés à l'analyse
+        Map<String, ApplicationSummary> summaries = new HashMap<>();
+        Path indexFile = inputDir.resolve("analysis-index.json");
+        if (Files.exists(indexFile)) {
+            AnalysisIndex index = objectMapper.readValue(indexFile.toFile(), AnalysisIndex.class);
+            if (index.getApplicationsAnalyzed() != null) {
+                for (ApplicationSummary summary : index.getApplicationsAnalyzed()) {
+                    summaries.put(sanitizeFileName(summary.getName()), summary);
+                }
+            }
+        }
+        
+        return new StoredResults(appDirs, (appDir, withEndpoints) -> 
+                loadApplicationResult(appDir, summaries.get(appDir.getFileName().toString()), withEndpoints));
     }
     
-    private AnalysisResult loadApplicationResult(Path appDir) throws IOException {
+    private AnalysisResult loadApplicationResult(Path appDir, ApplicationSummary summary, boolean withEndpoints) 
+            throws IOException {
         // Charger les informations de l'application
         Path infoFile = appDir.resolve("application-info.json");
-        if (!Files.exists(infoFile)) {
+        if (!codec.exists(infoFile)) {
             return null;
         }
         
-        // TODO: Implémenter le chargement complet
-        // Pour l'instant, créer un résultat basique
-        Map<String, Object> info = objectMapper.readValue(infoFile.toFile(), Map.class);
+        WebLogicApplication app = codec.read(infoFile, WebLogicApplication.class);
         
-        WebLogicApplication app = WebLogicApplication.builder()
-                .name((String) info.get("name"))
-                .build();
+        if (withEndpoints && codec.exists(appDir.resolve("endpoints.json"))) {
+            app.setEndpoints(codec.read(appDir.resolve("endpoints.json"), ENDPOINT_LIST));
+        }
+        
+        if (codec.exists(appDir.resolve("dependencies.json"))) {
+            app.setGlobalDependencies(codec.read(appDir.resolve("dependencies.json"), Dependencies.class));
+        }
+        
+        app.setModules(loadModules(appDir.resolve("modules"), withEndpoints));
+        
+        if (codec.exists(appDir.resolve("statistics.json"))) {
+            app.setStatistics(codec.read(appDir.resolve("statistics.json"), WebLogicApplication.Statistics.class));
+        }
+        
+        boolean success = summary == null || !"failed".equals(summary.getStatus());
+        int endpointsCount;
+        if (summary != null) {
+            endpointsCount = summary.getEndpointsCount();
+        } else if (app.getStatistics() != null && app.getStatistics().getTotalEndpoints() != null) {
+            endpointsCount = app.getStatistics().getTotalEndpoints();
+        } else {
+            endpointsCount = app.getEndpoints() != null ? app.getEndpoints().size() : 0;
+        }
         
         return AnalysisResult.builder()
                 .application(app)
-                .success(true)
+                .success(success)
+                .error(summary != null && summary.getErrors() != null && !summary.getErrors().isEmpty() ? 
+                        summary.getErrors().get(0) : null)
+                .endpointsCount(endpointsCount)
                 .build();
     }
     
+    private List<WebLogicApplication.Module> loadModules(Path modulesDir, boolean withEndpoints) throws IOException {
+        if (!Files.isDirectory(modulesDir)) {
+            return new ArrayList<>();
+        }
+        
+        List<Path> moduleDirs;
+        try (Stream<Path> entries = Files.list(modulesDir)) {
+            moduleDirs = entries.filter(Files::isDirectory).sorted().toList();
+        }
+        
+        List<WebLogicApplication.Module> modules = new ArrayList<>();
+        for (Path moduleDir : moduleDirs) {
+            Path moduleInfoFile = moduleDir.resolve("module-info.json");
+            if (!codec.exists(moduleInfoFile)) {
+                continue;
+            }
+            WebLogicApplication.Module module = codec.read(moduleInfoFile, WebLogicApplication.Module.class);
+            if (withEndpoints && codec.exists(moduleDir.resolve("endpoints.json"))) {
+                module.setEndpoints(codec.read(moduleDir.resolve("endpoints.json"), ENDPOINT_LIST));
+            }
+            if (codec.exists(moduleDir.resolve("dependencies.json"))) {
+                module.setDependencies(codec.read(moduleDir.resolve("dependencies.json"), Dependencies.class));
+            }
+            modules.add(module);
+        }
+        return modules;
+    }
+    
+    /**
+     * Écriture atomique : un arrêt brutal ne laisse jamais un fichier de résultat tronqué.
+     * {@code file} est le nom logique ({@code .json}), l'extension réelle dépend de l'encodage configuré.
+     */
+    private void write(Path file, Object value) throws IOException {
+        codec.write(file, value);
+    }
+    
+    private void writeJson(Path file, Object value) throws IOException {
+        AtomicFiles.write(file, out -> objectMapper.writeValue(out, value));
+    }
+    
     private String sanitizeFileName(String fileName) {
         return fileName.replaceAll("[^a-zA-Z0-9.-]", "_");
     }
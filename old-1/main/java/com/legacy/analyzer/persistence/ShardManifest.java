@@ -0,0 +1,42 @@
+package com.legacy.analyzer.persistence;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Manifeste d'un shard ({@code <sortie>/shard.json}) : les applications qui lui revenaient et leur
+ * statut. La commande {@code merge} s'en sert pour vérifier que les shards fusionnés couvrent tout le
+ * portfolio, une seule fois, avec la même affectation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ShardManifest {
+
+    private int shardIndex;
+    private int shardCount;
+    // Empreinte de l'affectation complète (application -> shard) : identique sur tous les shards d'une même exécution
+    private String assignmentDigest;
+    private int portfolioApplications;
+    private List<Entry> applications;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Entry {
+        private String name;
+        private String sourcePath;
+        private long weight;
+        private boolean success;
+        private String error;
+    }
+}
@@ -0,0 +1,97 @@
+package com.legacy.analyzer.persistence;
+
+import com.legacy.analyzer.model.AnalysisResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Résultats d'une analyse précédente, relus depuis {@code applications/} une application à la fois.
+ * <p>
+ * Chaque parcours relit les fichiers : seule l'application courante est en mémoire, et les
+ * générateurs peuvent faire plusieurs passes (agrégats puis détail) sans garder tout le portfolio.
+ * {@link #summaries()} ne charge pas les endpoints et ne garde pas le texte des requêtes, qui
+ * représentent l'essentiel du volume.
+ * Une application illisible est journalisée puis ignorée, comme avant.
+ */
+@Slf4j
+public class StoredResults implements Iterable<AnalysisResult> {
+
+    @FunctionalInterface
+    interface Loader {
+        AnalysisResult load(Path applicationDirectory, boolean withEndpoints) throws IOException;
+    }
+
+    private final List<Path> applicationDirectories;
+    private final Loader loader;
+
+    StoredResults(List<Path> applicationDirectories, Loader loader) {
+        this.applicationDirectories = List.copyOf(applicationDirectories);
+        this.loader = loader;
+    }
+
+    public int size() {
+        return applicationDirectories.size();
+    }
+
+    public List<Path> directories() {
+        return applicationDirectories;
+    }
+
+    /**
+     * @return le résultat complet d'une seule application, ou {@code null} si elle n'a pas de résultats
+     */
+    public AnalysisResult load(Path applicationDirectory) throws IOException {
+        return loader.load(applicationDirectory, true);
+    }
+
+    @Override
+    public Iterator<AnalysisResult> iterator() {
+        return iterator(true);
+    }
+
+    /**
+     * @return les résumés de toutes les applications, en mémoire (compteurs, frameworks, dépendances) :
+     *         voir {@link AnalysisResult#summary()}
+     */
+    public List<AnalysisResult> summaries() {
+        List<AnalysisResult> summaries = new ArrayList<>(applicationDirectories.size());
+        iterator(false).forEachRemaining(result -> summaries.add(result.summary()));
+        return summaries;
+    }
+
+    private Iterator<AnalysisResult> iterator(boolean withEndpoints) {
+        return new Iterator<>() {
+            private int position;
+            private AnalysisResult next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && position < applicationDirectories.size()) {
+                    Path applicationDirectory = applicationDirectories.get(position++);
+                    try {
+                        next = loader.load(applicationDirectory, withEndpoints);
+                    } catch (Exception e) {
+                        log.error("Erreur lors du chargement des résultats de: {}", applicationDirectory, e);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public AnalysisResult next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                AnalysisResult result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.legacy.analyzer.progress;
+
+import com.legacy.analyzer.core.AnalysisContext;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.scanner.FileInventory;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Progression en direct de l'analyse : débit (fichiers/s, Mo/s), endpoints trouvés,
+ * activité de chaque thread et temps restant estimé à partir de l'inventaire des sources.
+ * <p>
+ * Les extracteurs n'appellent rien ici : le moniteur lit périodiquement les compteurs
+ * sans verrou de {@link MetricsRegistry} (fichiers et octets parsés, endpoints) et l'activité
+ * publiée par {@link AnalysisContext}. Dans une console interactive, une ligne d'état est
+ * réécrite chaque seconde ; sinon (batch, redirection vers un fichier) une ligne de log
+ * structurée {@code cle=valeur} est écrite toutes les 30 secondes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgressMonitor {
+
+    private static final long CONSOLE_PERIOD_MILLIS = 1_000;
+    private static final long LOG_PERIOD_MILLIS = 30_000;
+    private static final int MAX_WORKERS_SHOWN = 4;
+
+    private final MetricsRegistry metrics;
+    private final FileInventoryService fileInventoryService;
+
+    // application -> octets de sources Java inventoriés
+    private final Map<String, Long> inventoryBytes = new ConcurrentHashMap<>();
+    private final LongAdder completedApplications = new LongAdder();
+    private final LongAdder completedBytes = new LongAdder();
+    private volatile int totalApplications;
+    private volatile long totalFiles;
+    private volatile long totalBytes;
+    private volatile long startedAt;
+    private boolean interactive;
+    private int lastLineLength;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Inventorie les sources Java de chaque application (inventaires mis en cache et réutilisés
+     * par les extracteurs) puis démarre l'affichage périodique.
+     */
+    public synchronized void start(List<WebLogicApplication> applications) {
+        inventoryBytes.clear();
+        completedApplications.reset();
+        completedBytes.reset();
+        long files = 0;
+        long bytes = 0;
+        for (WebLogicApplication application : applications) {
+            if (application.getExtractedPath() == null) {
+                continue;
+            }
+            try {
+                FileInventory inventory = fileInventoryService.inventoryFor(application.getExtractedPath());
+                long applicationBytes = 0;
+                for (Path javaFile : inventory.findByExtension("java")) {
+                    applicationBytes += inventory.sizeOf(javaFile);
+                    files++;
+                }
+                inventoryBytes.merge(application.getName(), applicationBytes, Long::sum);
+                bytes += applicationBytes;
+            } catch (IOException e) {
+                log.debug("Inventaire impossible pour {}: {}", application.getName(), e.getMessage());
+            }
+        }
+        totalApplications = applications.size();
+        totalFiles = files;
+        totalBytes = bytes;
+        startedAt = System.nanoTime();
+        lastLineLength = 0;
+        log.info("Progression: {} applications, {} fichiers Java ({} Mo) à analyser",
+                totalApplications, totalFiles, String.format(Locale.ROOT, "%.1f", bytes / 1e6));
+
+        interactive = System.console() != null;
+        long period = reportPeriodMillis();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::report, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /** Thread-safe : appelé par chaque thread d'analyse à la fin d'une application (succès ou échec). */
+    public void applicationFinished(WebLogicApplication application) {
+        completedApplications.increment();
+        completedBytes.add(inventoryBytes.getOrDefault(application.getName(), 0L));
+    }
+
+    /** Arrête l'affichage et écrit l'état final. */
+    public synchronized void stop() {
+        if (ticker == null) {
+            return;
+        }
+        ticker.shutdownNow();
+        ticker = null;
+        Status status = status();
+        if (interactive) {
+            printConsole(status);
+            System.out.println();
+        } else {
+            log.info(status.toLogLine());
+        }
+    }
+
+    private synchronized void report() {
+        try {
+            Status status = status();
+            if (interactive) {
+                printConsole(status);
+            } else {
+                log.info(status.toLogLine());
+            }
+        } catch (RuntimeException e) {
+            // Une erreur d'affichage ne doit pas arrêter le ticker
+            log.debug("Erreur d'affichage de la progression", e);
+        }
+    }
+
+    /** Console : une ligne réécrite chaque seconde ; batch : une ligne de log toutes les 30 secondes. */
+    long reportPeriodMillis() {
+        return interactive ? CONSOLE_PERIOD_MILLIS : LOG_PERIOD_MILLIS;
+    }
+
+    private void printConsole(Status status) {
+        String line = status.toConsoleLine();
+        // Efface la fin d'une ligne précédente plus longue
+        int padding = Math.max(0, lastLineLength - line.length());
+        System.out.print('\r' + line + " ".repeat(padding));
+        System.out.flush();
+        lastLineLength = line.length();
+    }
+
+    private Status status() {
+        return status(System.nanoTime() - startedAt);
+    }
+
+    Status status(long elapsedNanos) {
+        double elapsedSeconds = Math.max(1e-3, elapsedNanos / 1e9);
+        long files = metrics.get(MetricsRegistry.FILES_PARSED);
+        long bytes = metrics.get(MetricsRegistry.BYTES_PARSED);
+        long done = completedApplications.sum();
+        // Part de l'inventaire déjà couverte : en octets si l'inventaire est connu, en applications sinon
+        double fraction = totalBytes > 0
+                ? (double) completedBytes.sum() / totalBytes
+                : totalApplications > 0 ? (double) done / totalApplications : 0;
+        long etaSeconds = fraction > 0 && fraction < 1 ? Math.round(elapsedSeconds * (1 - fraction) / fraction) : -1;
+        return new Status(done, totalApplications, files, totalFiles, bytes,
+                metrics.get(MetricsRegistry.ENDPOINTS), files / elapsedSeconds, bytes / 1e6 / elapsedSeconds,
+                etaSeconds, AnalysisContext.activities());
+    }
+
+    /** État instantané de la progression. */
+    record Status(long applicationsDone, int applicationsTotal, long filesParsed, long inventoryFiles,
+                  long bytesParsed, long endpoints, double filesPerSecond, double megabytesPerSecond,
+                  long etaSeconds, Map<String, String> workers) {
+
+        String toConsoleLine() {
+            String shown = workers.entrySet().stream()
+                    .limit(MAX_WORKERS_SHOWN)
+                    .map(worker -> worker.getKey() + ": " + worker.getValue())
+                    .collect(Collectors.joining(", "));
+            if (workers.size() > MAX_WORKERS_SHOWN) {
+                shown += ", +" + (workers.size() - MAX_WORKERS_SHOWN);
+            }
+            return String.format(Locale.ROOT, "Applications %d/%d | %d fichiers parsés (%.0f/s, %.1f Mo/s) | %d endpoints | ETA %s | %s",
+                    applicationsDone, applicationsTotal, filesParsed, filesPerSecond, megabytesPerSecond,
+                    endpoints, formatEta(etaSeconds), shown);
+        }
+
+        String toLogLine() {
+            String active = workers.entrySet().stream()
+                    .map(worker -> worker.getKey() + "=" + worker.getValue())
+                    .collect(Collectors.joining(";"));
+            return String.format(Locale.ROOT,
+                    "progress applications_done=%d applications_total=%d files_parsed=%d inventory_files=%d bytes_parsed=%d"
+                            + " files_per_s=%.1f mb_per_s=%.2f endpoints=%d eta_s=%d workers=\"%s\"",
+                    applicationsDone, applicationsTotal, filesParsed, inventoryFiles, bytesParsed,
+                    filesPerSecond, megabytesPerSecond, endpoints, etaSeconds, active);
+        }
+
+        private static String formatEta(long seconds) {
+            if (seconds < 0) {
+                return "--:--:--";
+            }
+            return String.format(Locale.ROOT, "%02d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.legacy.analyzer.scanner;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Inventaire immuable des fichiers d'une arborescence, construit en un seul parcours parallèle
+ * qui élague les répertoires exclus. Toutes les recherches (nom, extension, chemin relatif,
+ * contenu d'un répertoire) se font ensuite en mémoire, avec des résultats triés par chemin.
+ */
+public class FileInventory {
+
+    /**
+     * Répertoires de sortie de build, élagués seulement à la racine d'un module (à côté de son
+     * descripteur de build) : un package {@code build} ou {@code bin} fait partie des sources.
+     */
+    public static final List<String> BUILD_OUTPUT_DIRECTORIES = List.of("target", "build", "bin", "node_modules");
+
+    private static final List<String> MODULE_DESCRIPTORS =
+            List.of("pom.xml", "build.gradle", "build.gradle.kts", "build.xml", "package.json");
+
+    @Getter
+    private final Path root;
+    private final List<Path> files = new ArrayList<>();
+    private final Map<String, List<Path>> byName = new HashMap<>();
+    private final Map<String, List<Path>> byExtension = new HashMap<>();
+    private final Map<String, List<Path>> byParent = new HashMap<>();
+    private final Set<String> relativeFiles = new HashSet<>();
+    private final Set<String> relativeDirectories = new TreeSet<>();
+    private final Map<Path, Long> sizes = new HashMap<>();
+    @Getter
+    private long totalBytes;
+
+    private FileInventory(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * @param excludeGlobs globs testés sur le chemin relatif et sur le nom de chaque entrée
+     *                     (ex: ".git", "node_modules", "*.bak")
+     */
+    public static FileInventory build(Path root, List<String> excludeGlobs) throws IOException {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        FileInventory inventory = new FileInventory(normalizedRoot);
+        if (!Files.isDirectory(normalizedRoot)) {
+            return inventory;
+        }
+
+        List<PathMatcher> excludes = new ArrayList<>();
+        for (String glob : excludeGlobs) {
+            excludes.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+        }
+
+        Queue<Path> directories = new ConcurrentLinkedQueue<>();
+        Queue<Map.Entry<Path, Long>> entries = new ConcurrentLinkedQueue<>();
+        try {
+            ForkJoinPool.commonPool().invoke(
+                    new DirectoryScan(normalizedRoot, normalizedRoot, excludes, directories, entries));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Tri : l'ordre des résultats ne dépend pas de l'ordre de fin des tâches du parcours
+        directories.forEach(dir -> inventory.relativeDirectories.add(inventory.relativize(dir)));
+        entries.stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> inventory.add(entry.getKey(), entry.getValue()));
+        return inventory;
+    }
+
+    private void add(Path file, long size) {
+        String name = file.getFileName().toString();
+        files.add(file);
+        byName.computeIfAbsent(name, k -> new ArrayList<>()).add(file);
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            byExtension.computeIfAbsent(name.substring(dot + 1).toLowerCase(Locale.ROOT),
+                    k -> new ArrayList<>()).add(file);
+        }
+        String relative = relativize(file);
+        int slash = relative.lastIndexOf('/');
+        byParent.computeIfAbsent(slash < 0 ? "" : relative.substring(0, slash),
+                k -> new ArrayList<>()).add(file);
+        relativeFiles.add(relative);
+        sizes.put(file, size);
+        totalBytes += size;
+    }
+
+    private String relativize(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    /**
+     * Vue restreinte à un sous-répertoire, construite sans accès disque.
+     */
+    public FileInventory subInventory(Path directory) {
+        Path normalized = directory.toAbsolutePath().normalize();
+        if (normalized.equals(root)) {
+            return this;
+        }
+        FileInventory sub = new FileInventory(normalized);
+        if (!normalized.startsWith(root)) {
+            return sub;
+        }
+        String prefix = relativize(normalized) + "/";
+        for (String dir : relativeDirectories) {
+            if (dir.startsWith(prefix)) {
+                sub.relativeDirectories.add(dir.substring(prefix.length()));
+            }
+        }
+        for (Path file : files) {
+            if (file.startsWith(normalized)) {
+                sub.add(file, sizes.get(file));
+            }
+        }
+        return sub;
+    }
+
+    public Stream<Path> stream() {
+        return files.stream();
+    }
+
+    public List<Path> findByName(String fileName) {
+        return Collections.unmodifiableList(byName.getOrDefault(fileName, Collections.emptyList()));
+    }
+
+    /** Extension sans le point, insensible à la casse (ex: "java", "xml"). */
+    public List<Path> findByExtension(String extension) {
+        return Collections.unmodifiableList(
+                byExtension.getOrDefault(extension.toLowerCase(Locale.ROOT), Collections.emptyList()));
+    }
+
+    public List<Path> findFiles(Predicate<Path> filter) {
+        List<Path> matches = new ArrayList<>();
+        for (Path file : files) {
+            if (filter.test(file)) {
+                matches.add(file);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Comme {@link #findFiles(Predicate)}, en ne testant que les fichiers des extensions données
+     * (sans le point, insensibles à la casse) : le filtre ne parcourt pas tout l'inventaire.
+     */
+    public List<Path> findFiles(Predicate<Path> filter, String... extensions) {
+        List<Path> matches = new ArrayList<>();
+        for (String extension : extensions) {
+            for (Path file : findByExtension(extension)) {
+                if (filter.test(file)) {
+                    matches.add(file);
+                }
+            }
+        }
+        if (extensions.length > 1) {
+            Collections.sort(matches);
+        }
+        return matches;
+    }
+
+    /** Fichiers directement contenus dans un répertoire relatif à la racine (ex: "WEB-INF/lib"). */
+    public List<Path> listFiles(String relativeDirectory) {
+        return Collections.unmodifiableList(byParent.getOrDefault(relativeDirectory, Collections.emptyList()));
+    }
+
+    /** Équivalent en mémoire de {@code Files.exists(root.resolve(relativePath))}. */
+    public boolean exists(String relativePath) {
+        return relativeFiles.contains(relativePath) || relativeDirectories.contains(relativePath);
+    }
+
+    /** Sous-répertoires dont la profondeur relative est comprise entre 1 et maxDepth. */
+    public List<Path> findDirectories(int maxDepth) {
+        List<Path> matches = new ArrayList<>();
+        for (String dir : relativeDirectories) {
+            if (dir.chars().filter(c -> c == '/').count() < maxDepth) {
+                matches.add(root.resolve(dir));
+            }
+        }
+        return matches;
+    }
+
+    public long sizeOf(Path file) {
+        return sizes.getOrDefault(file, 0L);
+    }
+
+    public int getFileCount() {
+        return files.size();
+    }
+
+    private static class DirectoryScan extends RecursiveAction {
+        private final Path root;
+        private final Path directory;
+        private final List<PathMatcher> excludes;
+        private final Queue<Path> directories;
+        private final Queue<Map.Entry<Path, Long>> entries;
+
+        DirectoryScan(Path root, Path directory, List<PathMatcher> excludes,
+                      Queue<Path> directories, Queue<Map.Entry<Path, Long>> entries) {
+            this.root = root;
+            this.directory = directory;
+            this.excludes = excludes;
+            this.directories = directories;
+            this.entries = entries;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryScan> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path entry : stream) {
+                    if (isExcluded(entry)) {
+                        continue;
+                    }
+                    BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class,
+                            LinkOption.NOFOLLOW_LINKS);
+                    if (attrs.isDirectory()) {
+                        if (isBuildOutput(entry)) {
+                            continue;
+                        }
+                        directories.add(entry);
+                        subTasks.add(new DirectoryScan(root, entry, excludes, directories, entries));
+                    } else if (attrs.isRegularFile()) {
+                        entries.add(Map.entry(entry, attrs.size()));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            invokeAll(subTasks);
+        }
+
+        private boolean isExcluded(Path entry) {
+            Path relative = root.relativize(entry);
+            Path name = entry.getFileName();
+            return excludes.stream().anyMatch(m -> m.matches(relative) || m.matches(name));
+        }
+
+        private static boolean isBuildOutput(Path directory) {
+            if (!BUILD_OUTPUT_DIRECTORIES.contains(directory.getFileName().toString())) {
+                return false;
+            }
+            Path parent = directory.getParent();
+            return MODULE_DESCRIPTORS.stream().anyMatch(descriptor -> Files.isRegularFile(parent.resolve(descriptor)));
+        }
+    }
+}
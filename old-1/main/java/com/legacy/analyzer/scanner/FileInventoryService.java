@@ -0,0 +1,66 @@
+package com.legacy.analyzer.scanner;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Point d'accès unique aux inventaires de fichiers : chaque arborescence n'est parcourue
+ * qu'une seule fois par analyse, et un sous-répertoire d'une arborescence déjà inventoriée
+ * (module, WEB-INF/classes, src...) est servi depuis l'inventaire parent, sauf s'il n'y contient
+ * aucun fichier : il est alors parcouru à nouveau, au cas où il aurait été rempli depuis.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileInventoryService {
+
+    private final AnalyzerConfiguration configuration;
+    private final MetricsRegistry metrics;
+    private final Map<Path, FileInventory> inventories = new ConcurrentHashMap<>();
+
+    public FileInventory inventoryFor(Path directory) throws IOException {
+        Path normalized = directory.toAbsolutePath().normalize();
+        FileInventory cached = inventories.get(normalized);
+        if (cached != null) {
+            metrics.increment(MetricsRegistry.CACHE_HITS);
+            return cached;
+        }
+
+        for (FileInventory inventory : inventories.values()) {
+            if (normalized.startsWith(inventory.getRoot())) {
+                FileInventory sub = inventory.subInventory(normalized);
+                // Rien sous ce préfixe : le répertoire a pu être rempli après l'inventaire parent
+                // (archive extraite sous la racine), il est alors parcouru pour lui-même
+                if (sub.getFileCount() > 0 || !Files.isDirectory(normalized)) {
+                    metrics.increment(MetricsRegistry.CACHE_HITS);
+                    FileInventory existing = inventories.putIfAbsent(normalized, sub);
+                    return existing != null ? existing : sub;
+                }
+                break;
+            }
+        }
+
+        metrics.increment(MetricsRegistry.CACHE_MISSES);
+        long start = System.currentTimeMillis();
+        FileInventory inventory = FileInventory.build(normalized,
+                configuration.getSource().getInventoryExcludePatterns());
+        log.debug("Inventaire de {} : {} fichiers ({} octets) en {} ms", normalized,
+                inventory.getFileCount(), inventory.getTotalBytes(), System.currentTimeMillis() - start);
+        FileInventory existing = inventories.putIfAbsent(normalized, inventory);
+        return existing != null ? existing : inventory;
+    }
+
+    /** À appeler en début d'analyse pour ne pas servir un inventaire périmé. */
+    public void clear() {
+        inventories.clear();
+    }
+}
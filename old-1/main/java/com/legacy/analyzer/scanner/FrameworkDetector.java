@@ -1,34 +1,44 @@
 package com.legacy.analyzer.scanner;
 
+import com.legacy.analyzer.descriptor.DescriptorCache;
+import com.legacy.analyzer.descriptor.EjbJar;
+import com.legacy.analyzer.descriptor.StrutsConfig;
+import com.legacy.analyzer.descriptor.WebXml;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FrameworkDetector {
     
+    private final FileInventoryService fileInventoryService;
+    private final DescriptorCache descriptorCache;
+    
     public Set<String> detectFrameworks(Path applicationPath) {
         Set<String> frameworks = new HashSet<>();
         
         try {
+            // Les sondes de présence de fichiers sont résolues sur l'inventaire, sans accès disque
+            FileInventory inventory = fileInventoryService.inventoryFor(applicationPath);
+            
             // Détection par fichiers de configuration
-            detectByConfigFiles(applicationPath, frameworks);
+            detectByConfigFiles(inventory, frameworks);
             
             // Détection par structure de répertoires
-            detectByDirectoryStructure(applicationPath, frameworks);
+            detectByDirectoryStructure(inventory, frameworks);
             
             // Détection par bibliothèques
-            detectByLibraries(applicationPath, frameworks);
+            detectByLibraries(inventory, frameworks);
             
             // Détection par descripteurs
-            detectByDescriptors(applicationPath, frameworks);
+            detectByDescriptors(inventory, frameworks);
             
         } catch (IOException e) {
             log.error("Erreur lors de la détection des frameworks", e);
@@ -38,201 +48,205 @@ public class FrameworkDetector {
         return frameworks;
     }
     
-    private void detectByConfigFiles(Path appPath, Set<String> frameworks) throws IOException {
+    private void detectByConfigFiles(FileInventory inventory, Set<String> frameworks) {
+        Path appPath = inventory.getRoot();
+        
         // Struts
-        if (Files.exists(appPath.resolve("WEB-INF/struts-config.xml"))) {
+        if (inventory.exists("WEB-INF/struts-config.xml")) {
             frameworks.add("struts");
             
             // Détection de la version Struts
-            String content = Files.readString(appPath.resolve("WEB-INF/struts-config.xml"));
-            if (content.contains("struts-config_1_1.dtd") || content.contains("struts-config_1_2.dtd")) {
+            String schema = descriptorCache.strutsConfig(appPath.resolve("WEB-INF/struts-config.xml"))
+                    .map(StrutsConfig::schema)
+                    .orElse("");
+            if (schema.contains("struts-config_1_1.dtd") || schema.contains("struts-config_1_2.dtd")) {
                 frameworks.add("struts-1.x");
-            } else if (content.contains("struts-2")) {
+            } else if (schema.contains("struts-2")) {
                 frameworks.add("struts-2.x");
             }
         }
         
         // Spring
-        if (Files.exists(appPath.resolve("WEB-INF/applicationContext.xml")) ||
-            Files.exists(appPath.resolve("WEB-INF/spring")) ||
-            Files.exists(appPath.resolve("WEB-INF/dispatcher-servlet.xml"))) {
+        if (inventory.exists("WEB-INF/applicationContext.xml") ||
+            inventory.exists("WEB-INF/spring") ||
+            inventory.exists("WEB-INF/dispatcher-servlet.xml")) {
             frameworks.add("spring");
             frameworks.add("spring-mvc");
         }
         
         // JSF
-        if (Files.exists(appPath.resolve("WEB-INF/faces-config.xml"))) {
+        if (inventory.exists("WEB-INF/faces-config.xml")) {
             frameworks.add("jsf");
         }
         
         // Hibernate
-        if (Files.exists(appPath.resolve("WEB-INF/classes/hibernate.cfg.xml")) ||
-            existsInClasspath(appPath, "hibernate.properties")) {
+        if (inventory.exists("WEB-INF/classes/hibernate.cfg.xml") ||
+            existsInClasspath(inventory, "hibernate.properties")) {
             frameworks.add("hibernate");
         }
         
         // MyBatis
-        if (existsInClasspath(appPath, "mybatis-config.xml") ||
-            existsInClasspath(appPath, "sqlmap-config.xml")) {
+        if (existsInClasspath(inventory, "mybatis-config.xml") ||
+            existsInClasspath(inventory, "sqlmap-config.xml")) {
             frameworks.add("mybatis");
         }
     }
     
-    private void detectByDirectoryStructure(Path appPath, Set<String> frameworks) {
+    private void detectByDirectoryStructure(FileInventory inventory, Set<String> frameworks) {
+        Path appPath = inventory.getRoot();
+        
         // Structure Maven standard
-        if (Files.exists(appPath.resolve("src/main/java"))) {
+        if (inventory.exists("src/main/java")) {
             frameworks.add("maven-structure");
         }
         
         // EJB
-        if (Files.exists(appPath.resolve("META-INF/ejb-jar.xml"))) {
+        if (inventory.exists("META-INF/ejb-jar.xml")) {
             frameworks.add("ejb");
             
-            try {
-                String content = Files.readString(appPath.resolve("META-INF/ejb-jar.xml"));
-                if (content.contains("ejb-jar_2_1.xsd")) {
-                    frameworks.add("ejb-2.x");
-                } else if (content.contains("ejb-jar_3_0.xsd") || content.contains("ejb-jar_3_1.xsd")) {
-                    frameworks.add("ejb-3.x");
-                }
-            } catch (IOException e) {
-                log.error("Erreur lors de la lecture de ejb-jar.xml", e);
+            String schema = descriptorCache.ejbJar(appPath.resolve("META-INF/ejb-jar.xml"))
+                    .map(EjbJar::schema)
+                    .orElse("");
+            if (schema.contains("ejb-jar_2_1.xsd")) {
+                frameworks.add("ejb-2.x");
+            } else if (schema.contains("ejb-jar_3_0.xsd") || schema.contains("ejb-jar_3_1.xsd")) {
+                frameworks.add("ejb-3.x");
             }
         }
     }
     
-    private void detectByLibraries(Path appPath, Set<String> frameworks) throws IOException {
-        Path libPath = appPath.resolve("WEB-INF/lib");
-        if (Files.exists(libPath)) {
-            try (Stream<Path> libs = Files.list(libPath)) {
-                libs.filter(p -> p.toString().endsWith(".jar"))
-                    .forEach(jar -> {
-                        String jarName = jar.getFileName().toString().toLowerCase();
-                        
-                        // Struts
-                        if (jarName.contains("struts")) {
-                            frameworks.add("struts");
-                            if (jarName.contains("struts-1") || jarName.contains("struts1")) {
-                                frameworks.add("struts-1.x");
-                            } else if (jarName.contains("struts2") || jarName.contains("struts-2")) {
-                                frameworks.add("struts-2.x");
-                            }
-                        }
-                        
-                        // Spring
-                        if (jarName.contains("spring")) {
-                            frameworks.add("spring");
-                            if (jarName.contains("spring-mvc") || jarName.contains("spring-webmvc")) {
-                                frameworks.add("spring-mvc");
-                            }
-                            if (jarName.contains("spring-boot")) {
-                                frameworks.add("spring-boot");
-                            }
-                        }
-                        
-                        // JAX-RS
-                        if (jarName.contains("jersey") || jarName.contains("resteasy") || 
-                            jarName.contains("cxf") || jarName.contains("jaxrs")) {
-                            frameworks.add("jax-rs");
+    private void detectByLibraries(FileInventory inventory, Set<String> frameworks) {
+        inventory.listFiles("WEB-INF/lib").stream()
+                .filter(p -> p.toString().endsWith(".jar"))
+                .forEach(jar -> {
+                    String jarName = jar.getFileName().toString().toLowerCase();
+                    
+                    // Struts
+                    if (jarName.contains("struts")) {
+                        frameworks.add("struts");
+                        if (jarName.contains("struts-1") || jarName.contains("struts1")) {
+                            frameworks.add("struts-1.x");
+                        } else if (jarName.contains("struts2") || jarName.contains("struts-2")) {
+                            frameworks.add("struts-2.x");
                         }
-                        
-                        // JSF
-                        if (jarName.contains("jsf") || jarName.contains("myfaces") || 
-                            jarName.contains("richfaces") || jarName.contains("primefaces")) {
-                            frameworks.add("jsf");
+                    }
+                    
+                    // Spring
+                    if (jarName.contains("spring")) {
+                        frameworks.add("spring");
+                        if (jarName.contains("spring-mvc") || jarName.contains("spring-webmvc")) {
+                            frameworks.add("spring-mvc");
                         }
-                        
-                        // Hibernate
-                        if (jarName.contains("hibernate")) {
-                            frameworks.add("hibernate");
+                        if (jarName.contains("spring-boot")) {
+                            frameworks.add("spring-boot");
                         }
-                        
-                        // JPA
-                        if (jarName.contains("jpa") || jarName.contains("eclipselink") || 
-                            jarName.contains("openjpa")) {
-                            frameworks.add("jpa");
-                        }
-                        
-                        // MyBatis
-                        if (jarName.contains("mybatis") || jarName.contains("ibatis")) {
-                            frameworks.add("mybatis");
-                        }
-                        
-                        // Apache CXF
-                        if (jarName.contains("cxf")) {
-                            frameworks.add("apache-cxf");
-                            frameworks.add("soap-ws");
-                        }
-                        
-                        // Axis
-                        if (jarName.contains("axis")) {
-                            frameworks.add("axis");
-                            frameworks.add("soap-ws");
-                        }
-                    });
-            }
-        }
+                    }
+                    
+                    // JAX-RS
+                    if (jarName.contains("jersey") || jarName.contains("resteasy") || 
+                        jarName.contains("cxf") || jarName.contains("jaxrs")) {
+                        frameworks.add("jax-rs");
+                    }
+                    
+                    // JSF
+                    if (jarName.contains("jsf") || jarName.contains("myfaces") || 
+                        jarName.contains("richfaces") || jarName.contains("primefaces")) {
+                        frameworks.add("jsf");
+                    }
+                    
+                    // Hibernate
+                    if (jarName.contains("hibernate")) {
+                        frameworks.add("hibernate");
+                    }
+                    
+                    // JPA
+                    if (jarName.contains("jpa") || jarName.contains("eclipselink") || 
+                        jarName.contains("openjpa")) {
+                        frameworks.add("jpa");
+                    }
+                    
+                    // MyBatis
+                    if (jarName.contains("mybatis") || jarName.contains("ibatis")) {
+                        frameworks.add("mybatis");
+                    }
+                    
+                    // Apache CXF
+                    if (jarName.contains("cxf")) {
+                        frameworks.add("apache-cxf");
+                        frameworks.add("soap-ws");
+                    }
+                    
+                    // Axis
+                    if (jarName.contains("axis")) {
+                        frameworks.add("axis");
+                        frameworks.add("soap-ws");
+                    }
+                });
     }
     
-    private void detectByDescriptors(Path appPath, Set<String> frameworks) throws IOException {
+    private void detectByDescriptors(FileInventory inventory, Set<String> frameworks) {
         // Analyse du web.xml
-        Path webXml = appPath.resolve("WEB-INF/web.xml");
-        if (Files.exists(webXml)) {
-            String content = Files.readString(webXml);
-            
-            // Servlets
-            if (content.contains("<servlet>") && content.contains("<servlet-class>")) {
-                frameworks.add("servlet");
-                
-                // Version Servlet
-                if (content.contains("web-app_2_5.xsd")) {
-                    frameworks.add("servlet-2.5");
-                } else if (content.contains("web-app_3_0.xsd")) {
-                    frameworks.add("servlet-3.0");
-                } else if (content.contains("web-app_3_1.xsd")) {
-                    frameworks.add("servlet-3.1");
-                } else if (content.contains("web-app_4_0.xsd")) {
-                    frameworks.add("servlet-4.0");
-                }
-            }
-            
-            // Struts
-            if (content.contains("org.apache.struts.action.ActionServlet")) {
-                frameworks.add("struts");
-                frameworks.add("struts-1.x");
-            }
-            if (content.contains("org.apache.struts2")) {
-                frameworks.add("struts");
-                frameworks.add("struts-2.x");
-            }
-            
-            // Spring
-            if (content.contains("org.springframework.web.servlet.DispatcherServlet")) {
-                frameworks.add("spring");
-                frameworks.add("spring-mvc");
-            }
-            
-            // JSF
-            if (content.contains("javax.faces.webapp.FacesServlet")) {
-                frameworks.add("jsf");
-            }
-            
-            // JAX-RS
-            if (content.contains("jersey.spi.container.servlet.ServletContainer") ||
-                content.contains("org.jboss.resteasy.plugins.server.servlet")) {
-                frameworks.add("jax-rs");
-            }
+        if (!inventory.exists("WEB-INF/web.xml")) {
+            return;
+        }
+        WebXml webXml = descriptorCache.webXml(inventory.getRoot().resolve("WEB-INF/web.xml")).orElse(null);
+        if (webXml == null) {
+            return;
+        }
+        
+        // Servlets
+        if (webXml.servlets().stream().anyMatch(servlet -> servlet.className() != null)) {
+            frameworks.add("servlet");
             
-            // JAX-WS
-            if (content.contains("com.sun.xml.ws.transport.http.servlet.WSServlet")) {
-                frameworks.add("jax-ws");
-                frameworks.add("soap-ws");
+            // Version Servlet
+            String schema = webXml.schema() != null ? webXml.schema() : "";
+            if (schema.contains("web-app_2_5.xsd")) {
+                frameworks.add("servlet-2.5");
+            } else if (schema.contains("web-app_3_0.xsd")) {
+                frameworks.add("servlet-3.0");
+            } else if (schema.contains("web-app_3_1.xsd")) {
+                frameworks.add("servlet-3.1");
+            } else if (schema.contains("web-app_4_0.xsd")) {
+                frameworks.add("servlet-4.0");
             }
         }
+        
+        // Struts
+        if (webXml.declaresClass("org.apache.struts.action.ActionServlet")) {
+            frameworks.add("struts");
+            frameworks.add("struts-1.x");
+        }
+        if (webXml.declaresClass("org.apache.struts2")) {
+            frameworks.add("struts");
+            frameworks.add("struts-2.x");
+        }
+        
+        // Spring
+        if (webXml.declaresClass("org.springframework.web.servlet.DispatcherServlet")) {
+            frameworks.add("spring");
+            frameworks.add("spring-mvc");
+        }
+        
+        // JSF
+        if (webXml.declaresClass("javax.faces.webapp.FacesServlet")) {
+            frameworks.add("jsf");
+        }
+        
+        // JAX-RS
+        if (webXml.declaresClass("jersey.spi.container.servlet.ServletContainer") ||
+            webXml.declaresClass("org.jboss.resteasy.plugins.server.servlet")) {
+            frameworks.add("jax-rs");
+        }
+        
+        // JAX-WS
+        if (webXml.declaresClass("com.sun.xml.ws.transport.http.servlet.WSServlet")) {
+            frameworks.add("jax-ws");
+            frameworks.add("soap-ws");
+        }
     }
     
-    private boolean existsInClasspath(Path appPath, String filename) {
-        return Files.exists(appPath.resolve("WEB-INF/classes/" + filename)) ||
-               Files.exists(appPath.resolve("classes/" + filename));
+    private boolean existsInClasspath(FileInventory inventory, String filename) {
+        return inventory.exists("WEB-INF/classes/" + filename) ||
+               inventory.exists("classes/" + filename);
     }
 }
\ No newline at end of file
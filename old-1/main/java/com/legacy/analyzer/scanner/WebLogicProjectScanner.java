@@ -1,6 +1,7 @@
 package com.legacy.analyzer.scanner;
 
 import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.descriptor.DescriptorCache;
 import com.legacy.analyzer.model.WebLogicApplication;
 import com.legacy.analyzer.model.WebLogicApplication.ApplicationType;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.stereotype.Component;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
@@ -27,6 +27,8 @@ public class WebLogicProjectScanner {
     
     private final AnalyzerConfiguration configuration;
     private final FrameworkDetector frameworkDetector;
+    private final FileInventoryService fileInventoryService;
+    private final DescriptorCache descriptorCache;
     
     public List<WebLogicApplication> scanDirectory(Path rootPath) throws IOException {
         log.info("Scan du répertoire: {}", rootPath);
@@ -53,24 +55,16 @@ public class WebLogicProjectScanner {
     }
     
     private List<Path> findApplicationFiles(Path rootPath) throws IOException {
-        List<Path> applicationFiles = new ArrayList<>();
+        // Un seul parcours du répertoire racine : archives et applications exploded
+        // sont ensuite recherchées dans l'inventaire
+        FileInventory inventory = fileInventoryService.inventoryFor(rootPath);
         
-        Files.walkFileTree(rootPath, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-                String fileName = file.getFileName().toString();
-                
-                // Vérifier si le fichier correspond aux patterns d'inclusion
-                if (matchesIncludePatterns(fileName) && !matchesExcludePatterns(file)) {
-                    applicationFiles.add(file);
-                }
-                
-                return FileVisitResult.CONTINUE;
-            }
-        });
+        // Vérifier si le fichier correspond aux patterns d'inclusion
+        List<Path> applicationFiles = inventory.findFiles(file ->
+                matchesIncludePatterns(file.getFileName().toString()) && !matchesExcludePatterns(file));
         
         // Recherche aussi des applications déployées (exploded)
-        findExplodedApplications(rootPath, applicationFiles);
+        findExplodedApplications(inventory, applicationFiles);
         
         return applicationFiles;
     }
@@ -86,18 +80,22 @@ public class WebLogicProjectScanner {
                 .anyMatch(pattern -> FilenameUtils.wildcardMatch(relativePath, pattern));
     }
     
-    private void findExplodedApplications(Path rootPath, List<Path> applicationFiles) throws IOException {
-        Files.walk(rootPath, 2)
-                .filter(Files::isDirectory)
-                .filter(this::isExplodedApplication)
+    private void findExplodedApplications(FileInventory inventory, List<Path> applicationFiles) {
+        List<Path> candidates = new ArrayList<>();
+        candidates.add(inventory.getRoot());
+        candidates.addAll(inventory.findDirectories(2));
+        candidates.stream()
+                .filter(dir -> isExplodedApplication(inventory, dir))
                 .forEach(applicationFiles::add);
     }
     
-    private boolean isExplodedApplication(Path dir) {
+    private boolean isExplodedApplication(FileInventory inventory, Path dir) {
         // Vérifier la présence de descripteurs WebLogic
-        return Files.exists(dir.resolve("WEB-INF/web.xml")) ||
-               Files.exists(dir.resolve("META-INF/application.xml")) ||
-               Files.exists(dir.resolve("META-INF/weblogic-application.xml"));
+        String prefix = dir.equals(inventory.getRoot()) ? ""
+                : inventory.getRoot().relativize(dir).toString().replace('\\', '/') + "/";
+        return inventory.exists(prefix + "WEB-INF/web.xml") ||
+               inventory.exists(prefix + "META-INF/application.xml") ||
+               inventory.exists(prefix + "META-INF/weblogic-application.xml");
     }
     
     private WebLogicApplication analyzeApplication(Path appPath) throws IOException {
@@ -121,13 +119,14 @@ public class WebLogicProjectScanner {
         return builder.build();
     }
     
-    private ApplicationType determineApplicationType(Path appPath) {
+    private ApplicationType determineApplicationType(Path appPath) throws IOException {
         String fileName = appPath.getFileName().toString().toLowerCase();
         
         if (Files.isDirectory(appPath)) {
-            if (Files.exists(appPath.resolve("META-INF/application.xml"))) {
+            FileInventory inventory = fileInventoryService.inventoryFor(appPath);
+            if (inventory.exists("META-INF/application.xml")) {
                 return ApplicationType.EXPLODED_EAR;
-            } else if (Files.exists(appPath.resolve("WEB-INF/web.xml"))) {
+            } else if (inventory.exists("WEB-INF/web.xml")) {
                 return ApplicationType.EXPLODED_WAR;
             }
         } else {
@@ -218,10 +217,11 @@ public class WebLogicProjectScanner {
                 WebLogicApplication.DeploymentInfo.builder();
         
         Map<String, String> descriptors = new HashMap<>();
+        FileInventory inventory = fileInventoryService.inventoryFor(appPath);
         
         // web.xml
         Path webXml = appPath.resolve("WEB-INF/web.xml");
-        if (Files.exists(webXml)) {
+        if (inventory.exists("WEB-INF/web.xml")) {
             descriptors.put("web.xml", Files.readString(webXml));
             // Parser le web.xml pour extraire les infos de base
             parseWebXml(webXml, infoBuilder);
@@ -229,21 +229,21 @@ public class WebLogicProjectScanner {
         
         // weblogic.xml
         Path weblogicXml = appPath.resolve("WEB-INF/weblogic.xml");
-        if (Files.exists(weblogicXml)) {
+        if (inventory.exists("WEB-INF/weblogic.xml")) {
             descriptors.put("weblogic.xml", Files.readString(weblogicXml));
             parseWebLogicXml(weblogicXml, infoBuilder);
         }
         
         // application.xml pour les EAR
         Path applicationXml = appPath.resolve("META-INF/application.xml");
-        if (Files.exists(applicationXml)) {
+        if (inventory.exists("META-INF/application.xml")) {
             descriptors.put("application.xml", Files.readString(applicationXml));
             parseApplicationXml(applicationXml, infoBuilder);
         }
         
         // weblogic-application.xml
         Path weblogicAppXml = appPath.resolve("META-INF/weblogic-application.xml");
-        if (Files.exists(weblogicAppXml)) {
+        if (inventory.exists("META-INF/weblogic-application.xml")) {
             descriptors.put("weblogic-application.xml", Files.readString(weblogicAppXml));
             parseWebLogicApplicationXml(weblogicAppXml, infoBuilder);
         }
@@ -253,33 +253,16 @@ public class WebLogicProjectScanner {
     }
     
     private void parseWebXml(Path webXml, WebLogicApplication.DeploymentInfo.DeploymentInfoBuilder builder) {
-        // Implémentation basique - sera enrichie avec JDOM2
-        try {
-            String content = Files.readString(webXml);
-            if (content.contains("<display-name>")) {
-                String displayName = extractXmlValue(content, "display-name");
-                builder.displayName(displayName);
-            }
-            if (content.contains("<description>")) {
-                String description = extractXmlValue(content, "description");
-                builder.description(description);
-            }
-        } catch (IOException e) {
-            log.error("Erreur lors du parsing de web.xml", e);
-        }
+        descriptorCache.webXml(webXml).ifPresent(descriptor -> {
+            builder.displayName(descriptor.displayName());
+            builder.description(descriptor.description());
+        });
     }
     
     private void parseWebLogicXml(Path weblogicXml, 
                                   WebLogicApplication.DeploymentInfo.DeploymentInfoBuilder builder) {
-        try {
-            String content = Files.readString(weblogicXml);
-            if (content.contains("<context-root>")) {
-                String contextRoot = extractXmlValue(content, "context-root");
-                builder.contextRoot(contextRoot);
-            }
-        } catch (IOException e) {
-            log.error("Erreur lors du parsing de weblogic.xml", e);
-        }
+        descriptorCache.weblogicXml(weblogicXml)
+                .ifPresent(descriptor -> builder.contextRoot(descriptor.contextRoot()));
     }
     
     private void parseApplicationXml(Path applicationXml, 
@@ -292,21 +275,14 @@ public class WebLogicProjectScanner {
         // Parsing basique - à enrichir
     }
     
-    private String extractXmlValue(String xml, String tagName) {
-        int start = xml.indexOf("<" + tagName + ">");
-        int end = xml.indexOf("</" + tagName + ">");
-        if (start != -1 && end != -1) {
-            return xml.substring(start + tagName.length() + 2, end).trim();
-        }
-        return null;
-    }
-    
     private List<WebLogicApplication.Module> discoverModules(Path appPath) throws IOException {
         List<WebLogicApplication.Module> modules = new ArrayList<>();
         
         // Pour un EAR, chercher les modules WAR et EJB
-        if (Files.exists(appPath.resolve("META-INF/application.xml"))) {
-            Files.walk(appPath, 2)
+        FileInventory inventory = fileInventoryService.inventoryFor(appPath);
+        if (inventory.exists("META-INF/application.xml")) {
+            inventory.findFiles(p -> appPath.relativize(p).getNameCount() <= 2)
+                    .stream()
                     .filter(p -> p.toString().endsWith(".war") || p.toString().endsWith(".jar"))
                     .forEach(modulePath -> {
                         try {
@@ -334,10 +310,11 @@ public class WebLogicProjectScanner {
                 .build();
     }
     
-    private WebLogicApplication.ModuleType determineModuleType(Path modulePath) {
-        if (Files.exists(modulePath.resolve("WEB-INF/web.xml"))) {
+    private WebLogicApplication.ModuleType determineModuleType(Path modulePath) throws IOException {
+        FileInventory inventory = fileInventoryService.inventoryFor(modulePath);
+        if (inventory.exists("WEB-INF/web.xml")) {
             return WebLogicApplication.ModuleType.WEB;
-        } else if (Files.exists(modulePath.resolve("META-INF/ejb-jar.xml"))) {
+        } else if (inventory.exists("META-INF/ejb-jar.xml")) {
             return WebLogicApplication.ModuleType.EJB;
         }
         return WebLogicApplication.ModuleType.UTILITY;
@@ -353,17 +330,14 @@ public class WebLogicProjectScanner {
     private List<WebLogicApplication.Library> analyzeLibraries(Path appPath) throws IOException {
         List<WebLogicApplication.Library> libraries = new ArrayList<>();
         
-        Path libPath = appPath.resolve("WEB-INF/lib");
-        if (Files.exists(libPath)) {
-            Files.list(libPath)
-                    .filter(p -> p.toString().endsWith(".jar"))
-                    .forEach(jarPath -> {
-                        WebLogicApplication.Library library = WebLogicApplication.Library.builder()
-                                .jarFile(jarPath.getFileName().toString())
-                                .build();
-                        libraries.add(library);
-                    });
-        }
+        fileInventoryService.inventoryFor(appPath).listFiles("WEB-INF/lib").stream()
+                .filter(p -> p.toString().endsWith(".jar"))
+                .forEach(jarPath -> {
+                    WebLogicApplication.Library library = WebLogicApplication.Library.builder()
+                            .jarFile(jarPath.getFileName().toString())
+                            .build();
+                    libraries.add(library);
+                });
         
         return libraries;
     }
@@ -0,0 +1,194 @@
+package com.legacy.analyzer.search;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Élément recherchable des résultats d'analyse : un endpoint, une classe ou une dépendance (table,
+ * procédure stockée, nom JNDI, file JMS, fichier...), avec l'application et, quand il est connu,
+ * l'endpoint qui l'utilise.
+ *
+ * @param dependencyType database, ejb, jms, file, webservice ou cobol ; absent pour les endpoints et classes
+ * @param endpoint       méthodes HTTP et URL de l'endpoint concerné
+ * @param location       fichier source et ligne
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SearchDocument(Kind kind, String value, String application, Set<String> frameworks,
+                             String dependencyType, String endpoint, String className, String methodName,
+                             String location) {
+
+    public enum Kind {
+        ENDPOINT, CLASS, TABLE, PROCEDURE, JNDI, QUEUE, FILE, WEB_SERVICE, COBOL
+    }
+
+    /**
+     * Documents d'une application : ses endpoints (et ceux de ses modules), leurs classes, les
+     * dépendances de chaque endpoint puis celles de l'application qui n'ont été rattachées à aucun endpoint.
+     */
+    public static List<SearchDocument> of(AnalysisResult result) {
+        List<SearchDocument> documents = new ArrayList<>();
+        WebLogicApplication app = result.getApplication();
+        if (app == null) {
+            return documents;
+        }
+        String application = app.getName();
+        Set<String> frameworks = app.getFrameworks() != null ? Set.copyOf(app.getFrameworks()) : Set.of();
+        // kind + valeur déjà indexés avec un endpoint : pas de doublon sans endpoint
+        Set<String> linked = new LinkedHashSet<>();
+        Set<String> classes = new LinkedHashSet<>();
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        if (app.getEndpoints() != null) {
+            endpoints.addAll(app.getEndpoints());
+        }
+        if (app.getModules() != null) {
+            for (WebLogicApplication.Module module : app.getModules()) {
+                if (module.getEndpoints() != null) {
+                    endpoints.addAll(module.getEndpoints());
+                }
+            }
+        }
+
+        for (Endpoint endpoint : endpoints) {
+            String label = label(endpoint);
+            String location = location(endpoint);
+            documents.add(new SearchDocument(Kind.ENDPOINT, endpoint.getUrl(), application, frameworks, null,
+                    label, endpoint.getClassName(), endpoint.getMethodName(), location));
+            if (endpoint.getClassName() != null && classes.add(endpoint.getClassName())) {
+                documents.add(new SearchDocument(Kind.CLASS, endpoint.getClassName(), application, frameworks, null,
+                        null, endpoint.getClassName(), null, location));
+            }
+            if (endpoint.getDependencies() != null) {
+                Collector collector = new Collector(documents, application, frameworks, label,
+                        endpoint.getClassName(), endpoint.getMethodName(), location);
+                collector.add(endpoint.getDependencies());
+                collector.added.forEach(linked::add);
+            }
+        }
+
+        Collector global = new Collector(documents, application, frameworks, null, null, null, null);
+        global.skip.addAll(linked);
+        global.add(app.getGlobalDependencies());
+        if (app.getModules() != null) {
+            for (WebLogicApplication.Module module : app.getModules()) {
+                global.add(module.getDependencies());
+            }
+        }
+        return documents;
+    }
+
+    private static String label(Endpoint endpoint) {
+        String methods = endpoint.getHttpMethods() != null && !endpoint.getHttpMethods().isEmpty()
+                ? endpoint.getHttpMethods().stream().map(Enum::name).sorted().collect(Collectors.joining(",")) + " "
+                : "";
+        return methods + endpoint.getUrl();
+    }
+
+    private static String location(Endpoint endpoint) {
+        Endpoint.SourceLocation source = endpoint.getSourceLocation();
+        if (source == null || source.getFilePath() == null) {
+            return null;
+        }
+        return source.getStartLine() != null ? source.getFilePath() + ":" + source.getStartLine() : source.getFilePath();
+    }
+
+    /**
+     * Dépendances d'un endpoint (ou de l'application) converties en documents, sans doublon.
+     */
+    private static final class Collector {
+        private final List<SearchDocument> documents;
+        private final String application;
+        private final Set<String> frameworks;
+        private final String endpoint;
+        private final String className;
+        private final String methodName;
+        private final String location;
+        private final Set<String> added = new LinkedHashSet<>();
+        private final Set<String> skip = new LinkedHashSet<>();
+
+        private Collector(List<SearchDocument> documents, String application, Set<String> frameworks, String endpoint,
+                          String className, String methodName, String location) {
+            this.documents = documents;
+            this.application = application;
+            this.frameworks = frameworks;
+            this.endpoint = endpoint;
+            this.className = className;
+            this.methodName = methodName;
+            this.location = location;
+        }
+
+        void add(Dependencies dependencies) {
+            if (dependencies == null) {
+                return;
+            }
+            if (dependencies.getDatabases() != null) {
+                for (Dependencies.DatabaseDependency database : dependencies.getDatabases()) {
+                    addAll(Kind.TABLE, "database", database.getTables(), className);
+                    addAll(Kind.TABLE, "database", database.getViews(), className);
+                    addAll(Kind.PROCEDURE, "database", database.getStoredProcedures(), className);
+                    if (database.getQueries() != null) {
+                        for (Dependencies.SQLQuery query : database.getQueries()) {
+                            addAll(Kind.TABLE, "database", query.getTables(), className);
+                        }
+                    }
+                }
+            }
+            if (dependencies.getEjbs() != null) {
+                for (Dependencies.EJBDependency ejb : dependencies.getEjbs()) {
+                    add(Kind.JNDI, "ejb", ejb.getJndiName() != null ? ejb.getJndiName() : ejb.getEjbName(),
+                            ejb.getInterfaceClass() != null ? ejb.getInterfaceClass() : className);
+                }
+            }
+            if (dependencies.getJmsQueues() != null) {
+                for (Dependencies.JMSDependency jms : dependencies.getJmsQueues()) {
+                    add(Kind.QUEUE, "jms", jms.getQueueName(), className);
+                    add(Kind.QUEUE, "jms", jms.getTopicName(), className);
+                    add(Kind.JNDI, "jms", jms.getJndiName(), className);
+                }
+            }
+            if (dependencies.getFiles() != null) {
+                for (Dependencies.FileDependency file : dependencies.getFiles()) {
+                    add(Kind.FILE, "file", file.getFilePath(), className);
+                }
+            }
+            if (dependencies.getWebServices() != null) {
+                for (Dependencies.WebServiceDependency webService : dependencies.getWebServices()) {
+                    add(Kind.WEB_SERVICE, "webservice",
+                            webService.getUrl() != null ? webService.getUrl() : webService.getServiceName(), className);
+                }
+            }
+            if (dependencies.getCobolPrograms() != null) {
+                for (Dependencies.CobolDependency cobol : dependencies.getCobolPrograms()) {
+                    add(Kind.COBOL, "cobol", cobol.getProgramName(), className);
+                }
+            }
+        }
+
+        private void addAll(Kind kind, String dependencyType, List<String> values, String owner) {
+            if (values != null) {
+                values.forEach(value -> add(kind, dependencyType, value, owner));
+            }
+        }
+
+        private void add(Kind kind, String dependencyType, String value, String owner) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            String key = kind + ":" + value;
+            if (skip.contains(key) || !added.add(key)) {
+                return;
+            }
+            documents.add(new SearchDocument(kind, value, application, frameworks, dependencyType,
+                    endpoint, owner, methodName, location));
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.legacy.analyzer.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Index inversé en mémoire sur les {@link SearchDocument} : terme -> identifiants des documents triés.
+ * <p>
+ * Sont indexés la valeur, l'endpoint, la classe et la méthode de chaque document. Un identifiant
+ * ({@code com.acme.AccountService}, {@code CLIENT_ACCT}) est indexé entier et par morceaux. Les termes
+ * sont triés : un mot de la requête trouve aussi les termes qu'il préfixe. Les filtres et facettes
+ * sont évalués sur les seuls documents qui contiennent tous les mots.
+ */
+public class SearchIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}_$.]+");
+    private static final Pattern SEGMENTS = Pattern.compile("[.$]+");
+    private static final Pattern PARTS = Pattern.compile("[_.$]+");
+    private static final int MAX_FACET_VALUES = 50;
+
+    /**
+     * @param facets facette (application, kind, framework, dependencyType) -> valeur -> nombre de documents
+     */
+    public record SearchResult(String query, int total, List<SearchDocument> hits,
+                               Map<String, Map<String, Integer>> facets, double millis) {}
+
+    private final List<SearchDocument> documents;
+    private final TreeMap<String, int[]> postings;
+    // Facettes codées par document (indice dans les tables de valeurs) : comptage sans hachage
+    private final Facet applications = new Facet();
+    private final Facet dependencyTypes = new Facet();
+    private final Facet frameworks = new Facet();
+    private final List<int[]> frameworkSets = new ArrayList<>();
+    private final int[] applicationOf;
+    private final int[] dependencyTypeOf;
+    private final int[] frameworkSetOf;
+
+    public SearchIndex(List<SearchDocument> documents) {
+        this.documents = List.copyOf(documents);
+        int size = this.documents.size();
+        applicationOf = new int[size];
+        dependencyTypeOf = new int[size];
+        frameworkSetOf = new int[size];
+        Map<Set<String>, Integer> frameworkSetIds = new HashMap<>();
+        Map<String, Postings> building = new HashMap<>();
+        for (int id = 0; id < size; id++) {
+            SearchDocument document = this.documents.get(id);
+            index(building, id, document.value());
+            index(building, id, document.endpoint());
+            index(building, id, document.className());
+            index(building, id, document.methodName());
+            applicationOf[id] = applications.code(document.application());
+            dependencyTypeOf[id] = dependencyTypes.code(document.dependencyType());
+            Set<String> documentFrameworks = document.frameworks() != null ? document.frameworks() : Set.of();
+            frameworkSetOf[id] = frameworkSetIds.computeIfAbsent(documentFrameworks, set -> {
+                frameworkSets.add(set.stream().mapToInt(frameworks::code).toArray());
+                return frameworkSets.size() - 1;
+            });
+        }
+        this.postings = new TreeMap<>();
+        building.forEach((term, ids) -> postings.put(term, Arrays.copyOf(ids.ids, ids.size)));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    public List<SearchDocument> getDocuments() {
+        return documents;
+    }
+
+    public SearchResult search(SearchQuery query) {
+        long start = System.nanoTime();
+        BitSet candidates = null;
+        for (String word : words(query.text())) {
+            BitSet matches = new BitSet(documents.size());
+            // Le mot et tous les termes qu'il préfixe
+            for (int[] ids : postings.subMap(word, true, word + Character.MAX_VALUE, true).values()) {
+                for (int id : ids) {
+                    matches.set(id);
+                }
+            }
+            if (candidates == null) {
+                candidates = matches;
+            } else {
+                candidates.and(matches);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        if (candidates == null) {
+            candidates = new BitSet(documents.size());
+            candidates.set(0, documents.size());
+        }
+
+        int application = query.application() != null ? applications.find(query.application()) : Facet.ANY;
+        int dependencyType = query.dependencyType() != null ? dependencyTypes.find(query.dependencyType()) : Facet.ANY;
+        int framework = query.framework() != null ? frameworks.find(query.framework()) : Facet.ANY;
+        List<SearchDocument> exact = new ArrayList<>();
+        List<SearchDocument> others = new ArrayList<>();
+        int[] applicationCounts = new int[applications.size()];
+        int[] kindCounts = new int[SearchDocument.Kind.values().length];
+        int[] dependencyTypeCounts = new int[dependencyTypes.size()];
+        int[] frameworkSetCounts = new int[frameworkSets.size()];
+        int total = 0;
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            SearchDocument document = documents.get(id);
+            if ((query.kind() != null && document.kind() != query.kind())
+                    || (application != Facet.ANY && applicationOf[id] != application)
+                    || (dependencyType != Facet.ANY && dependencyTypeOf[id] != dependencyType)
+                    || (framework != Facet.ANY && !contains(frameworkSets.get(frameworkSetOf[id]), framework))) {
+                continue;
+            }
+            total++;
+            applicationCounts[applicationOf[id]]++;
+            kindCounts[document.kind().ordinal()]++;
+            dependencyTypeCounts[dependencyTypeOf[id]]++;
+            frameworkSetCounts[frameworkSetOf[id]]++;
+            // Valeur identique à la requête en tête de liste
+            if (query.text().equalsIgnoreCase(document.value())) {
+                if (exact.size() < query.limit()) {
+                    exact.add(document);
+                }
+            } else if (others.size() < query.limit()) {
+                others.add(document);
+            }
+        }
+
+        List<SearchDocument> hits = new ArrayList<>(exact);
+        others.stream().limit(Math.max(0, query.limit() - exact.size())).forEach(hits::add);
+
+        int[] frameworkCounts = new int[frameworks.size()];
+        for (int set = 0; set < frameworkSetCounts.length; set++) {
+            for (int code : frameworkSets.get(set)) {
+                frameworkCounts[code] += frameworkSetCounts[set];
+            }
+        }
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        facets.put("application", applications.counts(applicationCounts));
+        Map<String, Integer> kinds = new HashMap<>();
+        for (SearchDocument.Kind kind : SearchDocument.Kind.values()) {
+            if (kindCounts[kind.ordinal()] > 0) {
+                kinds.put(kind.name(), kindCounts[kind.ordinal()]);
+            }
+        }
+        facets.put("kind", sorted(kinds));
+        facets.put("framework", frameworks.counts(frameworkCounts));
+        facets.put("dependencyType", dependencyTypes.counts(dependencyTypeCounts));
+        return new SearchResult(query.text(), total, hits, facets, (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    private static boolean contains(int[] codes, int code) {
+        for (int candidate : codes) {
+            if (candidate == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Integer> sorted(Map<String, Integer> counts) {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_FACET_VALUES)
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Mots de la requête, découpés comme les valeurs indexées mais sans être redécoupés en morceaux.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            word = trimDots(word);
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static void index(Map<String, Postings> building, int id, String value) {
+        for (String word : words(value)) {
+            add(building, word, id);
+            // pkg.proc_3 : aussi proc_3, pkg, proc et 3
+            for (String segment : SEGMENTS.split(word)) {
+                if (!segment.isEmpty() && !segment.equals(word)) {
+                    add(building, segment, id);
+                }
+            }
+            for (String part : PARTS.split(word)) {
+                if (!part.isEmpty() && !part.equals(word)) {
+                    add(building, part, id);
+                }
+            }
+        }
+    }
+
+    private static void add(Map<String, Postings> building, String term, int id) {
+        Postings ids = building.computeIfAbsent(term, t -> new Postings());
+        // Documents indexés dans l'ordre : un doublon ne peut être que le dernier ajouté
+        if (ids.size > 0 && ids.ids[ids.size - 1] == id) {
+            return;
+        }
+        if (ids.size == ids.ids.length) {
+            ids.ids = Arrays.copyOf(ids.ids, ids.size * 2);
+        }
+        ids.ids[ids.size++] = id;
+    }
+
+    private static String trimDots(String word) {
+        int start = 0;
+        int end = word.length();
+        while (start < end && word.charAt(start) == '.') {
+            start++;
+        }
+        while (end > start && word.charAt(end - 1) == '.') {
+            end--;
+        }
+        return word.substring(start, end);
+    }
+
+    /**
+     * Valeurs d'une facette, codées par ordre d'apparition ; 0 représente l'absence de valeur.
+     */
+    private static final class Facet {
+        private static final int ANY = -1;
+        private static final int NONE = -2;
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(List.of(""));
+
+        int code(String value) {
+            if (value == null) {
+                return 0;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        // Sans casse ; NONE si la valeur n'existe pas, pour qu'aucun document ne corresponde
+        int find(String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            for (int i = 1; i < values.size(); i++) {
+                if (values.get(i).equalsIgnoreCase(value)) {
+                    return i;
+                }
+            }
+            return NONE;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        Map<String, Integer> counts(int[] counts) {
+            Map<String, Integer> byValue = new HashMap<>();
+            for (int code = 1; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    byValue.put(values.get(code), counts[code]);
+                }
+            }
+            return sorted(byValue);
+        }
+    }
+
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+    }
+}
@@ -0,0 +1,58 @@
+package com.legacy.analyzer.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recherche : texte libre et filtres de facettes.
+ * <p>
+ * Le texte accepte des filtres en ligne : {@code kind:table app:Compta framework:STRUTS type:ejb}.
+ * Tous les mots doivent correspondre ; chaque mot vaut aussi comme préfixe ({@code client_ac}
+ * trouve {@code CLIENT_ACCT}).
+ *
+ * @param application    nom exact de l'application, ignoré si absent
+ * @param framework      framework de l'application, ignoré si absent
+ * @param dependencyType database, ejb, jms, file, webservice ou cobol, ignoré si absent
+ */
+public record SearchQuery(String text, SearchDocument.Kind kind, String application, String framework,
+                          String dependencyType, int limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Extrait les filtres {@code champ:valeur} du texte ; les paramètres explicites non vides l'emportent.
+     */
+    public static SearchQuery parse(String text, String kind, String application, String framework,
+                                    String dependencyType, Integer limit) {
+        List<String> words = new ArrayList<>();
+        if (text != null) {
+            for (String word : text.trim().split("\\s+")) {
+                int colon = word.indexOf(':');
+                String field = colon > 0 ? word.substring(0, colon).toLowerCase(Locale.ROOT) : "";
+                String value = colon > 0 ? word.substring(colon + 1) : word;
+                switch (field) {
+                    case "kind" -> kind = blank(kind) ? value : kind;
+                    case "app", "application" -> application = blank(application) ? value : application;
+                    case "framework" -> framework = blank(framework) ? value : framework;
+                    case "type" -> dependencyType = blank(dependencyType) ? value : dependencyType;
+                    default -> {
+                        if (!word.isEmpty()) {
+                            words.add(word);
+                        }
+                    }
+                }
+            }
+        }
+        return new SearchQuery(String.join(" ", words),
+                blank(kind) ? null : SearchDocument.Kind.valueOf(kind.trim().toUpperCase(Locale.ROOT).replace('-', '_')),
+                blank(application) ? null : application.trim(),
+                blank(framework) ? null : framework.trim(),
+                blank(dependencyType) ? null : dependencyType.trim().toLowerCase(Locale.ROOT),
+                limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    private static boolean blank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,88 @@
+package com.legacy.analyzer.search;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import com.legacy.analyzer.persistence.ResultsPersistence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Index de recherche d'un répertoire de résultats ({@code query}, {@code serve}).
+ * <p>
+ * Les documents sont extraits des résultats une application à la fois puis enregistrés dans
+ * {@code search/documents.json} (même encodage que les résultats) : les exécutions suivantes relisent
+ * ce fichier et reconstruisent seulement l'index inversé en mémoire. Il est réextrait quand
+ * {@code analysis-index.json} est plus récent, c'est-à-dire après une nouvelle analyse.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final TypeReference<List<SearchDocument>> DOCUMENT_LIST = new TypeReference<>() {};
+
+    private final ResultsPersistence resultsPersistence;
+    private final ResultsCodec codec;
+
+    private Path indexedDirectory;
+    private FileTime indexedStamp;
+    private SearchIndex index;
+
+    public synchronized SearchIndex index(Path outputDir) throws IOException {
+        FileTime stamp = resultsStamp(outputDir);
+        if (index != null && outputDir.equals(indexedDirectory) && stamp.equals(indexedStamp)) {
+            return index;
+        }
+
+        long start = System.currentTimeMillis();
+        Path documentsFile = outputDir.resolve("search").resolve("documents.json");
+        Optional<Path> stored = codec.locate(documentsFile);
+        List<SearchDocument> documents;
+        if (stored.isPresent() && Files.getLastModifiedTime(stored.get()).compareTo(stamp) >= 0) {
+            documents = codec.read(documentsFile, DOCUMENT_LIST);
+        } else {
+            documents = extract(outputDir);
+            codec.write(documentsFile, documents);
+        }
+
+        index = new SearchIndex(documents);
+        indexedDirectory = outputDir;
+        indexedStamp = stamp;
+        log.info("Index de recherche : {} document(s), {} terme(s) en {} ms",
+                index.size(), index.termCount(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    public SearchIndex.SearchResult search(Path outputDir, SearchQuery query) throws IOException {
+        return index(outputDir).search(query);
+    }
+
+    private List<SearchDocument> extract(Path outputDir) throws IOException {
+        List<SearchDocument> documents = new ArrayList<>();
+        // Une seule application en mémoire à la fois : seuls les documents sont gardés
+        for (AnalysisResult result : resultsPersistence.openResults(outputDir)) {
+            if (result.isSuccess()) {
+                documents.addAll(SearchDocument.of(result));
+            }
+        }
+        return documents;
+    }
+
+    private static FileTime resultsStamp(Path outputDir) throws IOException {
+        Path analysisIndex = outputDir.resolve("analysis-index.json");
+        if (!Files.exists(analysisIndex)) {
+            throw new IOException("Pas de résultats d'analyse (analysis-index.json) dans " + outputDir);
+        }
+        return Files.getLastModifiedTime(analysisIndex);
+    }
+}
@@ -0,0 +1,195 @@
+package com.legacy.analyzer.symbols;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Table de symboles d'une analyse (noms de classes des endpoints...).
+ * Sur un portfolio, les mêmes noms reviennent des milliers de fois : ils sont stockés
+ * une seule fois, en UTF-8, et les modèles ne conservent qu'un identifiant entier avec
+ * une référence à la table qui l'a attribué. L'orchestrateur ouvre une table neuve à chaque
+ * analyse ({@link #startRun()}) : celle d'une analyse précédente est libérée avec ses modèles.
+ * Les lectures se font sans verrou : les threads d'analyse ne se disputent que l'ajout
+ * d'un nom encore inconnu.
+ */
+public final class SymbolTable {
+
+    public static final int ABSENT = -1;
+
+    private static volatile SymbolTable current = new SymbolTable();
+
+    /**
+     * État publié aux lecteurs. Les symboles d'identifiant inférieur à {@code size} ne
+     * changent plus une fois publiés : un lecteur peut les lire sans verrou. Les cases
+     * d'index renseignées après la publication désignent des identifiants >= {@code size},
+     * que le lecteur ignore.
+     */
+    private record State(byte[] bytes, int[] offsets, int[] hashes, int[] slots, int size) {}
+
+    private final Object writeLock = new Object();
+
+    // Tableaux de travail de l'écrivain, protégés par writeLock
+    private byte[] bytes = new byte[64 * 1024];
+    // Le symbole i occupe bytes[offsets[i], offsets[i + 1])
+    private int[] offsets = new int[1025];
+    private int[] hashes = new int[1024];
+    // Adressage ouvert : identifiant + 1, 0 pour une case vide
+    private int[] slots = new int[2048];
+    private int size;
+
+    private volatile State state = new State(bytes, offsets, hashes, slots, 0);
+
+    /**
+     * Table de l'analyse en cours, dans laquelle les modèles construits internent leurs noms.
+     */
+    public static SymbolTable current() {
+        return current;
+    }
+
+    /**
+     * Ouvre la table d'une nouvelle analyse. Les modèles déjà construits gardent la leur.
+     */
+    public static void startRun() {
+        current = new SymbolTable();
+    }
+
+    /**
+     * Retourne l'identifiant du symbole, en l'ajoutant à la table s'il est inconnu.
+     * Un symbole déjà présent est trouvé sans verrou ; seul l'ajout est sérialisé.
+     */
+    public int intern(String value) {
+        int hash = value.hashCode();
+        int id = find(state, value, hash);
+        if (id != ABSENT) {
+            return id;
+        }
+        synchronized (writeLock) {
+            int slot = findSlot(value, hash);
+            if (slots[slot] != 0) {
+                return slots[slot] - 1;
+            }
+            id = append(value, hash);
+            slots[slot] = id + 1;
+            if (size * 2 > slots.length) {
+                rehash();
+            }
+            state = new State(bytes, offsets, hashes, slots, size);
+            return id;
+        }
+    }
+
+    /**
+     * Retourne l'identifiant du symbole sans l'ajouter, ou {@link #ABSENT}.
+     * À utiliser pour les recherches : une clé inconnue ne fait pas grossir la table.
+     */
+    public int lookup(String value) {
+        return find(state, value, value.hashCode());
+    }
+
+    public String resolve(int id) {
+        State current = state;
+        if (id < 0 || id >= current.size()) {
+            throw new IllegalArgumentException("Symbole inconnu : " + id);
+        }
+        int start = current.offsets()[id];
+        return new String(current.bytes(), start, current.offsets()[id + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return state.size();
+    }
+
+    /**
+     * Octets occupés par le contenu des symboles (hors index).
+     */
+    public int getStoredBytes() {
+        State current = state;
+        return current.offsets()[current.size()];
+    }
+
+    private static int find(State current, String value, int hash) {
+        int[] table = current.slots();
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int id = entry - 1;
+            // Un identifiant >= size a été ajouté après la publication de cet état : ignoré
+            if (id < current.size() && current.hashes()[id] == hash
+                    && matches(current.bytes(), current.offsets(), id, value)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private int findSlot(String value, int hash) {
+        int mask = slots.length - 1;
+        int slot = mix(hash) & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (hashes[id] == hash && matches(bytes, offsets, id, value)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static boolean matches(byte[] bytes, int[] offsets, int id, String value) {
+        int start = offsets[id];
+        int length = offsets[id + 1] - start;
+        int chars = value.length();
+        if (length == chars) {
+            // Même nombre d'octets que de caractères : comparaison directe, sans décodage.
+            // Un caractère non ASCII ne peut pas égaler un octet ASCII stocké.
+            for (int i = 0; i < chars; i++) {
+                if (bytes[start + i] != value.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (length < chars) {
+            return false;
+        }
+        return new String(bytes, start, length, StandardCharsets.UTF_8).equals(value);
+    }
+
+    private int append(String value, int hash) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        int start = offsets[size];
+        // Les tableaux sont recopiés, jamais modifiés en place au-delà de leur fin publiée
+        if (start + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, start + encoded.length));
+        }
+        if (size + 1 >= hashes.length) {
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            offsets = Arrays.copyOf(offsets, hashes.length + 1);
+        }
+        System.arraycopy(encoded, 0, bytes, start, encoded.length);
+        hashes[size] = hash;
+        offsets[size + 1] = start + encoded.length;
+        return size++;
+    }
+
+    private void rehash() {
+        int[] rehashed = new int[slots.length * 2];
+        int mask = rehashed.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(hashes[id]) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = id + 1;
+        }
+        slots = rehashed;
+    }
+
+    private static int mix(int hash) {
+        // Étale les bits faibles : les hashCode de chaînes proches diffèrent surtout en poids faible
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,86 @@
+package com.legacy.analyzer.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * API JSON du tableau de bord, servie depuis {@link DashboardReadModel}.
+ * <p>
+ * L'ETag d'une réponse est la génération des données lues (et les paramètres de la requête) :
+ * un client qui renvoie {@code If-None-Match} reçoit un 304 sans que rien ne soit sérialisé tant
+ * que les fichiers de résultats n'ont pas changé. La compression gzip est assurée par le
+ * serveur ({@code server.compression} dans application.yml).
+ */
+@RestController
+@RequestMapping("/api/applications")
+@RequiredArgsConstructor
+public class DashboardApiController {
+
+    private final DashboardReadModel readModel;
+
+    @GetMapping
+    public List<Map<String, Object>> applications(WebRequest request) {
+        if (request.checkNotModified(etag("applications", readModel.generation()))) {
+            return null;
+        }
+        return readModel.applications();
+    }
+
+    @GetMapping("/{appName}")
+    public Map<String, Object> application(@PathVariable String appName, WebRequest request) throws IOException {
+        DashboardReadModel.ApplicationDetails application = require(appName);
+        if (request.checkNotModified(etag(appName, application.generation()))) {
+            return null;
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("info", application.info());
+        body.put("endpointsCount", application.endpoints().size());
+        body.put("dependencies", application.dependencies());
+        return body;
+    }
+
+    /**
+     * @param q      texte cherché dans l'URL, la classe ou la méthode
+     * @param method méthode HTTP (GET, POST...)
+     */
+    @GetMapping("/{appName}/endpoints")
+    public DashboardReadModel.EndpointPage endpoints(@PathVariable String appName,
+                                                     @RequestParam(defaultValue = "") String q,
+                                                     @RequestParam(defaultValue = "") String method,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "50") int size,
+                                                     WebRequest request) throws IOException {
+        DashboardReadModel.ApplicationDetails application = require(appName);
+        String etag = etag(appName + "-endpoints", application.generation()) 
+                + "-" + Integer.toHexString(Objects.hash(q, method, page, size));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return DashboardReadModel.endpoints(application, q, method, page, Math.min(size, 1000));
+    }
+
+    private DashboardReadModel.ApplicationDetails require(String appName) throws IOException {
+        DashboardReadModel.ApplicationDetails application = readModel.application(appName);
+        if (application == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application inconnue : " + appName);
+        }
+        return application;
+    }
+
+    private static String etag(String resource, long generation) {
+        return resource + "-" + generation;
+    }
+}
@@ -1,26 +1,17 @@
 package com.legacy.analyzer.web;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.legacy.analyzer.core.config.AnalyzerConfiguration;
-import com.legacy.analyzer.model.AnalysisResult;
-import com.legacy.analyzer.model.WebLogicApplication;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Controller
@@ -28,7 +19,7 @@ import java.util.stream.Stream;
 public class DashboardController {
 
     private final AnalyzerConfiguration configuration;
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final DashboardReadModel readModel;
 
     @GetMapping("/")
     public String dashboard(Model model) {
@@ -36,9 +27,8 @@ public class DashboardController {
         model.addAttribute("outputDir", outputDir.toAbsolutePath());
 
         try {
-            List<Map<String, Object>> applications = loadApplicationSummaries(outputDir);
-            model.addAttribute("applications", applications);
-        } catch (IOException e) {
+            model.addAttribute("applications", readModel.applications());
+        } catch (IllegalStateException e) {
             log.error("Impossible de lire les résultats d'analyse", e);
             model.addAttribute("error", "Impossible de lire les résultats d'analyse depuis : " + outputDir.toAbsolutePath());
             model.addAttribute("applications", new ArrayList<>());
@@ -47,27 +37,25 @@ public class DashboardController {
     }
 
     @GetMapping("/application/{appName}")
-    public String applicationDetails(@PathVariable String appName, Model model) {
-        Path appDir = configuration.getOutputDirectory().resolve("applications").resolve(appName);
+    public String applicationDetails(@PathVariable String appName,
+                                     @RequestParam(defaultValue = "") String q,
+                                     @RequestParam(defaultValue = "") String method,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "50") int size,
+                                     Model model) {
         model.addAttribute("appName", appName);
+        model.addAttribute("q", q);
+        model.addAttribute("method", method);
 
         try {
-            Path infoFile = appDir.resolve("application-info.json");
-            Map<String, Object> appInfo = objectMapper.readValue(infoFile.toFile(), new TypeReference<>() {});
-            model.addAttribute("appInfo", appInfo);
-
-            Path endpointsFile = appDir.resolve("endpoints.json");
-            if(Files.exists(endpointsFile)) {
-                 List<Map<String, Object>> endpoints = objectMapper.readValue(endpointsFile.toFile(), new TypeReference<>() {});
-                 model.addAttribute("endpoints", endpoints);
+            DashboardReadModel.ApplicationDetails application = readModel.application(appName);
+            if (application == null) {
+                model.addAttribute("error", "Application inconnue : " + appName);
+                return "application";
             }
-
-            Path depsFile = appDir.resolve("dependencies.json");
-             if(Files.exists(depsFile)) {
-                Map<String, Object> dependencies = objectMapper.readValue(depsFile.toFile(), new TypeReference<>() {});
-                model.addAttribute("dependencies", dependencies);
-             }
-
+            model.addAttribute("appInfo", application.info());
+            model.addAttribute("endpointPage", DashboardReadModel.endpoints(application, q, method, page, size));
+            model.addAttribute("dependencies", application.dependencies());
         } catch (IOException e) {
             log.error("Impossible de lire les détails de l'application {}", appName, e);
             model.addAttribute("error", "Impossible de charger les détails pour l'application : " + appName);
@@ -75,28 +63,4 @@ public class DashboardController {
 
         return "application"; // Nom du template Thymeleaf
     }
-
-    private List<Map<String, Object>> loadApplicationSummaries(Path outputDir) throws IOException {
-        Path applicationsRoot = outputDir.resolve("applications");
-        if (!Files.exists(applicationsRoot)) {
-            return new ArrayList<>();
-        }
-        try (Stream<Path> appDirs = Files.list(applicationsRoot)) {
-            return appDirs.filter(Files::isDirectory)
-                    .map(this::readSummary)
-                    .collect(Collectors.toList());
-        }
-    }
-
-    private Map<String, Object> readSummary(Path appDir) {
-        try {
-            Path infoFile = appDir.resolve("application-info.json");
-            if (Files.exists(infoFile)) {
-                return objectMapper.readValue(infoFile.toFile(), new TypeReference<>() {});
-            }
-        } catch (IOException e) {
-            log.error("Erreur de lecture du résumé pour {}", appDir.getFileName(), e);
-        }
-        return Map.of("name", appDir.getFileName().toString(), "error", "Fichier info manquant");
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,331 @@
+package com.legacy.analyzer.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Modèle de lecture du tableau de bord ({@code serve}) : les résumés des applications sont lus une
+ * fois au démarrage, le détail d'une application (endpoints, dépendances) à sa première consultation.
+ * <p>
+ * Un {@link WatchService} sur {@code applications/} et sur chaque répertoire d'application invalide
+ * l'entrée dont un fichier change : une analyse qui réécrit des résultats pendant que le serveur tourne
+ * est visible au rechargement suivant, sans relire les autres applications. Chaque entrée porte une
+ * génération, qui sert d'ETag aux réponses JSON. Seuls les détails des applications récemment
+ * consultées sont gardés, pour que la mémoire ne dépende pas de la taille du portfolio.
+ */
+@Slf4j
+@Component
+public class DashboardReadModel {
+
+    private static final int MAX_RESIDENT_DETAILS = 32;
+
+    /**
+     * Détail d'une application tel qu'affiché : informations, endpoints et dépendances.
+     */
+    public record ApplicationDetails(String directory, long generation, Map<String, Object> info,
+                                     List<Map<String, Object>> endpoints, Map<String, Object> dependencies) {}
+
+    /**
+     * Page d'endpoints après filtrage.
+     */
+    public record EndpointPage(int page, int size, int total, int pages, List<Map<String, Object>> items) {}
+
+    private final AnalyzerConfiguration configuration;
+    private final ResultsCodec codec;
+    private final int maxResidentDetails;
+
+    // répertoire de l'application -> entrée, triées par nom ; remplacée d'un bloc par load()
+    private volatile Map<String, Entry> entries = new ConcurrentSkipListMap<>();
+    // détails consultés, du moins récent au plus récent
+    private final Map<String, ApplicationDetails> details = new LinkedHashMap<>(16, 0.75f, true);
+    // Démarre à l'heure courante : un ETag émis avant un redémarrage du serveur ne peut pas resservir
+    private final AtomicLong generations = new AtomicLong(System.currentTimeMillis());
+    private volatile long generation;
+    private volatile boolean loaded;
+    private volatile WatchService watchService;
+
+    private static final class Entry {
+        private final long generation;
+        private volatile Map<String, Object> summary;
+
+        private Entry(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    @Autowired
+    public DashboardReadModel(AnalyzerConfiguration configuration, ResultsCodec codec) {
+        this(configuration, codec, MAX_RESIDENT_DETAILS);
+    }
+
+    DashboardReadModel(AnalyzerConfiguration configuration, ResultsCodec codec, int maxResidentDetails) {
+        this.configuration = configuration;
+        this.codec = codec;
+        this.maxResidentDetails = maxResidentDetails;
+    }
+
+    /**
+     * Lit les résumés et démarre la surveillance du répertoire de résultats.
+     */
+    public synchronized void start() throws IOException {
+        load();
+        Path applicationsRoot = applicationsRoot();
+        Files.createDirectories(applicationsRoot);
+        watchService = FileSystems.getDefault().newWatchService();
+        register(applicationsRoot);
+        try (Stream<Path> appDirs = Files.list(applicationsRoot)) {
+            for (Path appDir : appDirs.filter(Files::isDirectory).toList()) {
+                register(appDir);
+            }
+        }
+        Thread thread = new Thread(this::watch, "dashboard-watch");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Tableau de bord : {} application(s) chargée(s), surveillance de {}", entries.size(), applicationsRoot);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        WatchService service = watchService;
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    /**
+     * @return génération courante de la liste : change dès qu'une application change
+     */
+    public long generation() {
+        ensureLoaded();
+        return generation;
+    }
+
+    public List<Map<String, Object>> applications() {
+        ensureLoaded();
+        Map<String, Entry> current = entries;
+        List<Map<String, Object>> summaries = new ArrayList<>(current.size());
+        for (Map.Entry<String, Entry> entry : current.entrySet()) {
+            summaries.add(summary(entry.getKey(), entry.getValue()));
+        }
+        return summaries;
+    }
+
+    /**
+     * @return le détail de l'application, ou {@code null} si son répertoire n'existe pas
+     */
+    public ApplicationDetails application(String directory) throws IOException {
+        ensureLoaded();
+        Entry entry = entries.get(directory);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (details) {
+            ApplicationDetails cached = details.get(directory);
+            if (cached != null && cached.generation() == entry.generation) {
+                return cached;
+            }
+        }
+
+        Path appDir = applicationsRoot().resolve(directory);
+        Map<String, Object> info = codec.read(appDir.resolve("application-info.json"), new TypeReference<>() {});
+        List<Map<String, Object>> endpoints = codec.exists(appDir.resolve("endpoints.json"))
+                ? codec.read(appDir.resolve("endpoints.json"), new TypeReference<>() {})
+                : List.of();
+        Map<String, Object> dependencies = codec.exists(appDir.resolve("dependencies.json"))
+                ? codec.read(appDir.resolve("dependencies.json"), new TypeReference<>() {})
+                : null;
+        ApplicationDetails loadedDetails = new ApplicationDetails(directory, entry.generation, info, endpoints, dependencies);
+
+        synchronized (details) {
+            details.put(directory, loadedDetails);
+            if (details.size() > maxResidentDetails) {
+                details.remove(details.keySet().iterator().next());
+            }
+        }
+        return loadedDetails;
+    }
+
+    /**
+     * Filtre puis découpe les endpoints d'une application.
+     *
+     * @param query  texte cherché dans l'URL, la classe ou la méthode (sans casse), ignoré si vide
+     * @param method méthode HTTP exigée, ignorée si vide
+     * @param page   numéro de page, à partir de 0
+     */
+    public static EndpointPage endpoints(ApplicationDetails application, String query, String method, int page, int size) {
+        String needle = query != null && !query.isBlank() ? query.trim().toLowerCase(Locale.ROOT) : null;
+        String httpMethod = method != null && !method.isBlank() ? method.trim().toUpperCase(Locale.ROOT) : null;
+
+        List<Map<String, Object>> matching = new ArrayList<>();
+        for (Map<String, Object> endpoint : application.endpoints()) {
+            if (needle != null && !contains(endpoint.get("url"), needle)
+                    && !contains(endpoint.get("className"), needle) && !contains(endpoint.get("methodName"), needle)) {
+                continue;
+            }
+            if (httpMethod != null && !(endpoint.get("httpMethods") instanceof Collection<?> methods
+                    && methods.stream().anyMatch(m -> httpMethod.equals(String.valueOf(m))))) {
+                continue;
+            }
+            matching.add(endpoint);
+        }
+
+        int pageSize = Math.max(1, size);
+        int pages = Math.max(1, (matching.size() + pageSize - 1) / pageSize);
+        int current = Math.min(Math.max(0, page), pages - 1);
+        int from = current * pageSize;
+        int to = Math.min(matching.size(), from + pageSize);
+        return new EndpointPage(current, pageSize, matching.size(), pages, List.copyOf(matching.subList(from, to)));
+    }
+
+    private static boolean contains(Object value, String needle) {
+        return value != null && value.toString().toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            // Contrôleur appelé hors de la commande serve (tests, autre point d'entrée) : lecture sans surveillance
+            synchronized (this) {
+                if (!loaded) {
+                    try {
+                        load();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Impossible de lire les résultats d'analyse depuis : " + applicationsRoot(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Relit tous les résumés, par exemple après des événements de surveillance perdus. La liste
+     * précédente reste servie jusqu'à ce que la nouvelle soit complète.
+     */
+    synchronized void load() throws IOException {
+        Map<String, Entry> loadedEntries = new ConcurrentSkipListMap<>();
+        Path applicationsRoot = applicationsRoot();
+        if (Files.isDirectory(applicationsRoot)) {
+            try (Stream<Path> appDirs = Files.list(applicationsRoot)) {
+                for (Path appDir : appDirs.filter(Files::isDirectory).toList()) {
+                    String directory = appDir.getFileName().toString();
+                    Entry entry = new Entry(generations.incrementAndGet());
+                    summary(directory, entry);
+                    loadedEntries.put(directory, entry);
+                }
+            }
+        }
+        entries = loadedEntries;
+        generation = generations.incrementAndGet();
+        loaded = true;
+    }
+
+    private Map<String, Object> summary(String directory, Entry entry) {
+        Map<String, Object> summary = entry.summary;
+        if (summary == null) {
+            summary = readSummary(applicationsRoot().resolve(directory));
+            entry.summary = summary;
+        }
+        return summary;
+    }
+
+    private Map<String, Object> readSummary(Path appDir) {
+        String directory = appDir.getFileName().toString();
+        try {
+            Path infoFile = appDir.resolve("application-info.json");
+            if (codec.exists(infoFile)) {
+                Map<String, Object> info = codec.read(infoFile, new TypeReference<>() {});
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("name", info.get("name"));
+                summary.put("type", info.get("type"));
+                summary.put("frameworks", info.get("frameworks"));
+                summary.put("directory", directory);
+                return summary;
+            }
+        } catch (IOException e) {
+            log.error("Erreur de lecture du résumé pour {}", directory, e);
+        }
+        return Map.of("name", directory, "directory", directory, "error", "Fichier info manquant");
+    }
+
+    private void invalidate(String directory) {
+        Path appDir = applicationsRoot().resolve(directory);
+        if (Files.isDirectory(appDir)) {
+            // Résumé relu à la prochaine consultation
+            entries.put(directory, new Entry(generations.incrementAndGet()));
+        } else {
+            entries.remove(directory);
+        }
+        synchronized (details) {
+            details.remove(directory);
+        }
+        generation = generations.incrementAndGet();
+    }
+
+    private void watch() {
+        Path applicationsRoot = applicationsRoot();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path watched = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Événements perdus : tout relire
+                        load();
+                        continue;
+                    }
+                    if (watched.equals(applicationsRoot)) {
+                        // Application ajoutée ou supprimée
+                        Path appDir = applicationsRoot.resolve((Path) event.context());
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(appDir)) {
+                            register(appDir);
+                        }
+                        invalidate(appDir.getFileName().toString());
+                    } else {
+                        invalidate(watched.getFileName().toString());
+                    }
+                }
+                if (!key.reset() && !watched.equals(applicationsRoot)) {
+                    invalidate(watched.getFileName().toString());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Arrêt du serveur
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Surveillance des résultats interrompue", e);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    private Path applicationsRoot() {
+        return configuration.getOutputDirectory().resolve("applications");
+    }
+}
@@ -0,0 +1,33 @@
+package com.legacy.analyzer.web;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.impact.ImpactIndex;
+import com.legacy.analyzer.impact.ImpactService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * API d'analyse d'impact : {@code /api/impact?object=CLIENT_ACCT} renvoie les applications, endpoints
+ * et requêtes qui utilisent la table ou la procédure ({@code *} final pour un préfixe).
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImpactController {
+
+    private static final int DEFAULT_LIMIT = 200;
+
+    private final AnalyzerConfiguration configuration;
+    private final ImpactService impactService;
+
+    @GetMapping("/api/impact")
+    public ImpactIndex.Impact impact(@RequestParam String object,
+                                     @RequestParam(required = false) String application,
+                                     @RequestParam(required = false) Integer limit) throws IOException {
+        return impactService.lookup(configuration.getOutputDirectory(), object, application,
+                limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,71 @@
+package com.legacy.analyzer.web;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.search.SearchIndex;
+import com.legacy.analyzer.search.SearchQuery;
+import com.legacy.analyzer.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Recherche dans les résultats : page {@code /search} et API {@code /api/search}.
+ * Les paramètres sont ceux de {@link SearchQuery} ; le texte accepte aussi les filtres en ligne.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final AnalyzerConfiguration configuration;
+    private final SearchService searchService;
+
+    @GetMapping("/search")
+    public String search(@RequestParam(defaultValue = "") String q,
+                         @RequestParam(required = false) String kind,
+                         @RequestParam(required = false) String application,
+                         @RequestParam(required = false) String framework,
+                         @RequestParam(required = false) String type,
+                         Model model) {
+        model.addAttribute("q", q);
+        if (q.isBlank() && kind == null && application == null && framework == null && type == null) {
+            return "search";
+        }
+        try {
+            model.addAttribute("result", run(q, kind, application, framework, type, null));
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Recherche impossible : {}", q, e);
+            model.addAttribute("error", "Recherche impossible : " + e.getMessage());
+        }
+        return "search";
+    }
+
+    @GetMapping("/api/search")
+    @ResponseBody
+    public SearchIndex.SearchResult searchApi(@RequestParam(defaultValue = "") String q,
+                                              @RequestParam(required = false) String kind,
+                                              @RequestParam(required = false) String application,
+                                              @RequestParam(required = false) String framework,
+                                              @RequestParam(required = false) String type,
+                                              @RequestParam(required = false) Integer limit) throws IOException {
+        try {
+            return run(q, kind, application, framework, type, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private SearchIndex.SearchResult run(String q, String kind, String application, String framework,
+                                         String type, Integer limit) throws IOException {
+        SearchQuery query = SearchQuery.parse(q, kind, application, framework, type, limit);
+        return searchService.search(configuration.getOutputDirectory(), query);
+    }
+}
@@ -0,0 +1,133 @@
+package com.legacy.analyzer.persistence;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.WebLogicApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalysisCheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    private AnalyzerConfiguration configuration;
+    private AnalysisCheckpoint checkpoint;
+    private WebLogicApplication application;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(dir.resolve("sortie"));
+        checkpoint = newCheckpoint();
+        Path archive = dir.resolve("facturation.ear");
+        Files.writeString(archive, "contenu de l'archive");
+        application = WebLogicApplication.builder().name("facturation").sourcePath(archive).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        checkpoint.close();
+    }
+
+    @Test
+    void resumeRestoresCompletedApplications() throws IOException {
+        complete(application, 12);
+
+        checkpoint = newCheckpoint();
+        checkpoint.open(true);
+        Optional<AnalysisResult> restored = checkpoint.restore(application);
+
+        assertTrue(restored.isPresent());
+        assertEquals(12, restored.get().getEndpointsCount());
+        assertEquals("facturation", restored.get().getApplication().getName());
+    }
+
+    @Test
+    void changedSourcesAreAnalyzedAgain() throws IOException {
+        complete(application, 12);
+        Files.writeString(application.getSourcePath(), "archive redéployée, plus longue");
+
+        checkpoint = newCheckpoint();
+        checkpoint.open(true);
+
+        assertFalse(checkpoint.restore(application).isPresent());
+    }
+
+    @Test
+    void applicationStartedAgainWithoutCompletingIsAnalyzedAgain() throws IOException {
+        complete(application, 12);
+        // Seconde exécution arrêtée pendant l'analyse : STARTED sans COMPLETED
+        checkpoint = newCheckpoint();
+        checkpoint.open(true);
+        checkpoint.started(application);
+        checkpoint.close();
+
+        checkpoint = newCheckpoint();
+        checkpoint.open(true);
+
+        assertFalse(checkpoint.restore(application).isPresent());
+    }
+
+    @Test
+    void truncatedLastJournalLineIsIgnored() throws IOException {
+        complete(application, 12);
+        Path journal = dir.resolve("sortie/checkpoint/journal.log");
+        Files.writeString(journal, "STARTED\tfacturat", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        checkpoint = newCheckpoint();
+        checkpoint.open(true);
+
+        assertTrue(checkpoint.restore(application).isPresent());
+    }
+
+    @Test
+    void runWithoutResumeDiscardsPreviousCheckpoints() throws IOException {
+        complete(application, 12);
+
+        checkpoint = newCheckpoint();
+        checkpoint.open(false);
+
+        assertFalse(checkpoint.restore(application).isPresent());
+        assertTrue(checkpoint.loadResults(configuration.getOutputDirectory()).isEmpty());
+    }
+
+    @Test
+    void fingerprintFollowsSizeAndModificationTime() throws IOException {
+        Path exploded = dir.resolve("paie");
+        Files.createDirectories(exploded.resolve("WEB-INF"));
+        Files.writeString(exploded.resolve("WEB-INF/web.xml"), "<web-app/>");
+        String before = AnalysisCheckpoint.fingerprint(exploded);
+
+        assertEquals(before, AnalysisCheckpoint.fingerprint(exploded));
+        Files.writeString(exploded.resolve("WEB-INF/web.xml"), "<web-app version=\"3.0\"/>");
+        assertNotEquals(before, AnalysisCheckpoint.fingerprint(exploded));
+        assertNull(AnalysisCheckpoint.fingerprint(dir.resolve("absente")));
+    }
+
+    private void complete(WebLogicApplication app, int endpoints) throws IOException {
+        checkpoint.open(false);
+        checkpoint.started(app);
+        checkpoint.completed(AnalysisResult.builder().application(app).success(true).endpointsCount(endpoints).build());
+        checkpoint.close();
+    }
+
+    private AnalysisCheckpoint newCheckpoint() {
+        return new AnalysisCheckpoint(configuration, new ResultsCodec(configuration));
+    }
+}
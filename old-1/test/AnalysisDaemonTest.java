@@ -0,0 +1,53 @@
+package com.legacy.analyzer.daemon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalysisDaemonTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void staleSocketIsRemoved() throws IOException {
+        Path socket = dir.resolve("demon.sock");
+        // Fermer le serveur laisse le fichier de socket en place, comme un démon tué
+        ServerSocketChannel.open(StandardProtocolFamily.UNIX).bind(UnixDomainSocketAddress.of(socket)).close();
+        assertTrue(Files.exists(socket));
+
+        AnalysisDaemon.removeStaleSocket(socket);
+
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    void refusesToReplaceALiveSocket() throws IOException {
+        Path socket = dir.resolve("demon.sock");
+        try (ServerSocketChannel live = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            live.bind(UnixDomainSocketAddress.of(socket));
+
+            assertThrows(IOException.class, () -> AnalysisDaemon.removeStaleSocket(socket));
+            assertTrue(Files.exists(socket));
+        }
+    }
+
+    @Test
+    void refusesToDeleteAnythingElse() throws IOException {
+        Path file = Files.writeString(dir.resolve("rapport.json"), "[]");
+
+        assertThrows(IOException.class, () -> AnalysisDaemon.removeStaleSocket(file));
+        assertEquals("[]", Files.readString(file));
+    }
+}
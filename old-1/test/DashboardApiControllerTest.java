@@ -0,0 +1,82 @@
+package com.legacy.analyzer.web;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DashboardApiControllerTest {
+
+    @TempDir
+    Path dir;
+
+    private DashboardApiController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(dir);
+        ResultsCodec codec = new ResultsCodec(configuration);
+        Path appDir = Files.createDirectories(dir.resolve("applications").resolve("ventes"));
+        codec.write(appDir.resolve("application-info.json"), Map.of("name", "ventes"));
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            endpoints.add(Map.of("url", "/commandes/" + i));
+        }
+        codec.write(appDir.resolve("endpoints.json"), endpoints);
+        controller = new DashboardApiController(new DashboardReadModel(configuration, codec));
+    }
+
+    @Test
+    void unchangedListAnswersNotModified() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertNotNull(controller.applications(new ServletWebRequest(new MockHttpServletRequest("GET", "/api/applications"), first)));
+        String etag = first.getHeader("ETag");
+        assertNotNull(etag);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertNull(controller.applications(new ServletWebRequest(request, second)));
+        assertEquals(304, second.getStatus());
+    }
+
+    @Test
+    void endpointPagesAreCapped() throws IOException {
+        DashboardReadModel.EndpointPage page = controller.endpoints("ventes", "", "", 0, 5000, webRequest());
+
+        assertEquals(1000, page.size());
+        assertEquals(1000, page.items().size());
+        assertEquals(1200, page.total());
+        assertEquals(2, page.pages());
+    }
+
+    @Test
+    void unknownApplicationIsNotFound() {
+        ResponseStatusException error = assertThrows(ResponseStatusException.class,
+                () -> controller.application("inconnue", webRequest()));
+        assertEquals(404, error.getStatusCode().value());
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/applications/ventes"), new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,157 @@
+package com.legacy.analyzer.web;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DashboardReadModelTest {
+
+    @TempDir
+    Path dir;
+
+    private AnalyzerConfiguration configuration;
+    private ResultsCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(dir);
+        codec = new ResultsCodec(configuration);
+    }
+
+    @Test
+    void detailsAreReadAtFirstConsultation() throws IOException {
+        writeApplication("facturation", "/factures");
+        DashboardReadModel readModel = new DashboardReadModel(configuration, codec);
+        assertEquals("facturation", readModel.applications().get(0).get("name"));
+
+        // Écrit après la lecture des résumés : le détail n'a pas encore été lu
+        writeEndpoints("facturation", "/factures", "/avoirs");
+
+        assertEquals(2, readModel.application("facturation").endpoints().size());
+        assertNull(readModel.application("inconnue"));
+    }
+
+    @Test
+    void leastRecentlyConsultedDetailsAreEvicted() throws IOException {
+        for (String name : List.of("a", "b", "c")) {
+            writeApplication(name, "/" + name);
+        }
+        DashboardReadModel readModel = new DashboardReadModel(configuration, codec, 2);
+        DashboardReadModel.ApplicationDetails a = readModel.application("a");
+        DashboardReadModel.ApplicationDetails b = readModel.application("b");
+        readModel.application("a");
+
+        readModel.application("c");
+
+        assertSame(a, readModel.application("a"));
+        assertNotSame(b, readModel.application("b"));
+    }
+
+    @Test
+    void modifiedResultsBumpTheGeneration() throws Exception {
+        writeApplication("facturation", "/factures");
+        DashboardReadModel readModel = new DashboardReadModel(configuration, codec);
+        readModel.start();
+        try {
+            long listGeneration = readModel.generation();
+            long detailGeneration = readModel.application("facturation").generation();
+
+            writeEndpoints("facturation", "/factures", "/avoirs");
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (readModel.generation() == listGeneration && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertNotEquals(listGeneration, readModel.generation());
+            DashboardReadModel.ApplicationDetails reloaded = readModel.application("facturation");
+            assertNotEquals(detailGeneration, reloaded.generation());
+            assertEquals(2, reloaded.endpoints().size());
+        } finally {
+            readModel.stop();
+        }
+    }
+
+    @Test
+    void reloadKeepsServingThePreviousList() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            writeApplication("app" + i, "/" + i);
+        }
+        DashboardReadModel readModel = new DashboardReadModel(configuration, codec);
+        readModel.applications();
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        AtomicInteger incomplete = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (reloading.get()) {
+                if (readModel.applications().size() != 20) {
+                    incomplete.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < 50; i++) {
+                readModel.load();
+            }
+        } finally {
+            reloading.set(false);
+            reader.join();
+        }
+
+        assertEquals(0, incomplete.get());
+    }
+
+    @Test
+    void endpointsAreFilteredThenPaged() throws IOException {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            urls.add("/commandes/" + i);
+        }
+        urls.add("/clients");
+        writeApplication("ventes", urls.toArray(String[]::new));
+        DashboardReadModel.ApplicationDetails application =
+                new DashboardReadModel(configuration, codec).application("ventes");
+
+        DashboardReadModel.EndpointPage page = DashboardReadModel.endpoints(application, "COMMANDES", "", 2, 10);
+
+        assertEquals(25, page.total());
+        assertEquals(3, page.pages());
+        assertEquals(5, page.items().size());
+        // Une page au-delà de la dernière renvoie la dernière
+        assertEquals(2, DashboardReadModel.endpoints(application, "commandes", "", 9, 10).page());
+        assertTrue(DashboardReadModel.endpoints(application, "", "POST", 0, 10).items().isEmpty());
+    }
+
+    private void writeApplication(String name, String... urls) throws IOException {
+        Path appDir = dir.resolve("applications").resolve(name);
+        Files.createDirectories(appDir);
+        codec.write(appDir.resolve("application-info.json"), Map.of("name", name, "type", "WAR"));
+        writeEndpoints(name, urls);
+    }
+
+    private void writeEndpoints(String name, String... urls) throws IOException {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (String url : urls) {
+            endpoints.add(Map.of("url", url, "className", "com.acme.Controller", "httpMethods", List.of("GET")));
+        }
+        codec.write(dir.resolve("applications").resolve(name).resolve("endpoints.json"), endpoints);
+    }
+}
@@ -0,0 +1,62 @@
+package com.legacy.analyzer.generators;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import com.legacy.analyzer.persistence.ResultsPersistence;
+import com.legacy.analyzer.persistence.StoredResults;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyGraphGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void storedResultsKeepInterApplicationEdges() throws IOException {
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(dir.resolve("resultats"));
+        ResultsPersistence persistence = new ResultsPersistence(configuration, new ResultsCodec(configuration));
+
+        // "commandes" appelle l'EJB exposé par "facturation"
+        WebLogicApplication billing = WebLogicApplication.builder()
+                .name("facturation")
+                .sourcePath(dir.resolve("facturation.ear"))
+                .type(WebLogicApplication.ApplicationType.EAR)
+                .frameworks(Set.of("EJB"))
+                .endpoints(List.of(Endpoint.builder().url("/factures").className("com.acme.BillingFacade").build()))
+                .build();
+        WebLogicApplication orders = WebLogicApplication.builder()
+                .name("commandes")
+                .sourcePath(dir.resolve("commandes.ear"))
+                .type(WebLogicApplication.ApplicationType.EAR)
+                .frameworks(Set.of("EJB"))
+                .globalDependencies(Dependencies.builder()
+                        .ejbs(List.of(Dependencies.EJBDependency.builder().ejbName("com.acme.BillingFacade").build()))
+                        .build())
+                .build();
+        persistence.saveApplicationResult(AnalysisResult.builder().application(billing).success(true).build());
+        persistence.saveApplicationResult(AnalysisResult.builder().application(orders).success(true).build());
+
+        // Comme la commande report : résultats relus depuis le disque, résumés pour les vues globales
+        StoredResults stored = persistence.openResults(configuration.getOutputDirectory());
+        new DependencyGraphGenerator(new ObjectMapper())
+                .generateDependencyGraphs(stored, stored.summaries(), dir.resolve("rapports"));
+
+        String mermaid = Files.readString(dir.resolve("rapports/dependency-graphs/dependency-graph.mmd"));
+        assertTrue(mermaid.contains("commandes -.->|EJB| facturation"), mermaid);
+    }
+}
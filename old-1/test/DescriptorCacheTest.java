@@ -0,0 +1,98 @@
+package com.legacy.analyzer.descriptor;
+
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import com.legacy.analyzer.parser.ParserPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DescriptorCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    void unchangedDescriptorIsParsedOnce() throws IOException {
+        DescriptorCache cache = new DescriptorCache(new ParserPool(), metrics);
+        Path file = write("weblogic.xml", "/facturation");
+
+        WeblogicXml first = cache.weblogicXml(file).orElseThrow();
+        WeblogicXml second = cache.weblogicXml(file).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, metrics.get(MetricsRegistry.DESCRIPTORS_PARSED));
+        assertEquals(1, metrics.get(MetricsRegistry.DESCRIPTOR_CACHE_HITS));
+    }
+
+    @Test
+    void changedContentIsParsedAgain() throws IOException {
+        DescriptorCache cache = new DescriptorCache(new ParserPool(), metrics);
+        Path file = write("weblogic.xml", "/facturation");
+        cache.weblogicXml(file);
+
+        write("weblogic.xml", "/factures");
+
+        assertEquals("/factures", cache.weblogicXml(file).orElseThrow().contextRoot());
+        assertEquals(2, metrics.get(MetricsRegistry.DESCRIPTORS_PARSED));
+    }
+
+    @Test
+    void entriesBeyondTheCapAreNotKept() throws IOException {
+        DescriptorCache cache = new DescriptorCache(new ParserPool(), metrics, 2);
+        Path first = write("a/weblogic.xml", "/a");
+        cache.weblogicXml(first);
+        cache.weblogicXml(write("b/weblogic.xml", "/b"));
+        Path third = write("c/weblogic.xml", "/c");
+
+        cache.weblogicXml(third);
+        cache.weblogicXml(third);
+        cache.weblogicXml(first);
+
+        // Le troisième fichier est relu à chaque demande, le premier reste en cache
+        assertEquals(4, metrics.get(MetricsRegistry.DESCRIPTORS_PARSED));
+        assertEquals(1, metrics.get(MetricsRegistry.DESCRIPTOR_CACHE_HITS));
+    }
+
+    @Test
+    void missingOrInvalidDescriptorIsEmpty() throws IOException {
+        DescriptorCache cache = new DescriptorCache(new ParserPool(), metrics);
+        Path invalid = Files.writeString(dir.resolve("web.xml"), "<web-app><servlet>");
+
+        assertFalse(cache.webXml(dir.resolve("absent.xml")).isPresent());
+        assertFalse(cache.webXml(invalid).isPresent());
+        assertFalse(cache.webXml(invalid).isPresent());
+        assertEquals(0, metrics.get(MetricsRegistry.DESCRIPTORS_PARSED));
+    }
+
+    @Test
+    void externalEntitiesAreNotResolved() throws IOException {
+        DescriptorCache cache = new DescriptorCache(new ParserPool(), metrics);
+        Path secret = Files.writeString(dir.resolve("secret.txt"), "mot-de-passe");
+        Path file = Files.writeString(dir.resolve("weblogic.xml"), """
+                <!DOCTYPE weblogic-web-app [<!ENTITY secret SYSTEM "%s">]>
+                <weblogic-web-app><context-root>&secret;</context-root></weblogic-web-app>
+                """.formatted(secret.toUri()));
+
+        Optional<WeblogicXml> descriptor = cache.weblogicXml(file);
+
+        assertTrue(descriptor.map(WeblogicXml::contextRoot).filter(root -> root.contains("mot-de-passe")).isEmpty());
+    }
+
+    private Path write(String relativePath, String contextRoot) throws IOException {
+        Path file = dir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file,
+                "<weblogic-web-app><context-root>" + contextRoot + "</context-root></weblogic-web-app>");
+    }
+}
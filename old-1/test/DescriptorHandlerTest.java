@@ -0,0 +1,265 @@
+package com.legacy.analyzer.descriptor;
+
+import com.legacy.analyzer.parser.ParserPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DescriptorHandlerTest {
+
+    @TempDir
+    Path dir;
+
+    private final ParserPool parserPool = new ParserPool();
+
+    @Test
+    void webXml23WithDoctype() throws XMLStreamException {
+        WebXml webXml = read(new WebXml.Handler(), """
+                <?xml version="1.0" encoding="ISO-8859-1"?>
+                <!DOCTYPE web-app PUBLIC "-//Sun Microsystems, Inc.//DTD Web Application 2.3//EN"
+                    "http://java.sun.com/dtd/web-app_2_3.dtd">
+                <web-app>
+                  <display-name>Facturation</display-name>
+                  <context-param><param-name>env</param-name><param-value>prod</param-value></context-param>
+                  <filter><filter-name>encoding</filter-name><filter-class>com.acme.EncodingFilter</filter-class></filter>
+                  <listener><listener-class>com.acme.StartupListener</listener-class></listener>
+                  <servlet><servlet-name>action</servlet-name>
+                    <servlet-class>org.apache.struts.action.ActionServlet</servlet-class></servlet>
+                  <servlet-mapping><servlet-name>action</servlet-name><url-pattern>*.do</url-pattern></servlet-mapping>
+                  <error-page><error-code>404</error-code><location>/404.jsp</location></error-page>
+                  <error-page><exception-type>java.lang.Exception</exception-type><location>/erreur.jsp</location></error-page>
+                  <security-constraint>
+                    <web-resource-collection>
+                      <web-resource-name>admin</web-resource-name>
+                      <url-pattern>/admin/*</url-pattern>
+                      <http-method>POST</http-method>
+                    </web-resource-collection>
+                    <auth-constraint><role-name>ADMIN</role-name></auth-constraint>
+                  </security-constraint>
+                </web-app>
+                """);
+
+        assertTrue(webXml.schema().contains("Web Application 2.3"));
+        assertEquals("Facturation", webXml.displayName());
+        assertEquals(Map.of("env", "prod"), webXml.contextParams());
+        assertEquals(List.of(new WebXml.Filter("encoding", "com.acme.EncodingFilter")), webXml.filters());
+        assertEquals(List.of("com.acme.StartupListener"), webXml.listeners());
+        assertEquals(Map.of("org.apache.struts.action.ActionServlet", "*.do"), webXml.urlPatternsByServletClass());
+        assertTrue(webXml.declaresClass("struts"));
+        assertEquals(Map.of("error-404", "/404.jsp", "exception-java.lang.Exception", "/erreur.jsp"), webXml.errorPages());
+        assertEquals(List.of(new WebXml.SecurityConstraint("admin", List.of("/admin/*"), List.of("POST"), List.of("ADMIN"))),
+                webXml.securityConstraints());
+    }
+
+    @Test
+    void namespacedWebXmlIsReadLikeADtdOne() throws XMLStreamException {
+        for (String version : List.of("2.5", "3.1")) {
+            WebXml webXml = read(new WebXml.Handler(), """
+                    <web-app xmlns="http://xmlns.jcp.org/xml/ns/javaee"
+                             xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                             xsi:schemaLocation="http://xmlns.jcp.org/xml/ns/javaee web-app_%s.xsd" version="%s">
+                      <servlet><servlet-name>api</servlet-name>
+                        <servlet-class>org.glassfish.jersey.servlet.ServletContainer</servlet-class></servlet>
+                      <servlet-mapping><servlet-name>api</servlet-name>
+                        <url-pattern>/api/*</url-pattern><url-pattern>/rest/*</url-pattern></servlet-mapping>
+                    </web-app>
+                    """.formatted(version.replace('.', '_'), version));
+
+            assertTrue(webXml.schema().contains("web-app_" + version.replace('.', '_')), version);
+            assertEquals(List.of(new WebXml.ServletMapping("api", List.of("/api/*", "/rest/*"))),
+                    webXml.servletMappings(), version);
+            assertEquals(Map.of("org.glassfish.jersey.servlet.ServletContainer", "/api/*"),
+                    webXml.urlPatternsByServletClass(), version);
+        }
+    }
+
+    @Test
+    void strutsConfig1() throws XMLStreamException {
+        StrutsConfig config = read(new StrutsConfig.Handler(), """
+                <!DOCTYPE struts-config PUBLIC "-//Apache Software Foundation//DTD Struts Configuration 1.3//EN"
+                    "http://struts.apache.org/dtds/struts-config_1_3.dtd">
+                <struts-config>
+                  <form-beans><form-bean name="orderForm" type="com.acme.OrderForm"/></form-beans>
+                  <global-exceptions><exception key="erreur" type="java.lang.Exception" path="/erreur.jsp"/></global-exceptions>
+                  <global-forwards><forward name="accueil" path="/index.jsp" redirect="true"/></global-forwards>
+                  <action-mappings>
+                    <action path="/order/save" type="com.acme.SaveOrderAction" name="orderForm" scope="request"
+                            validate="true" input="/order.jsp" parameter="method">
+                      <forward name="success" path="/order/ok.jsp"/>
+                      <exception key="stock" type="com.acme.StockException" path="/stock.jsp"/>
+                    </action>
+                  </action-mappings>
+                  <controller processorClass="com.acme.RequestProcessor"/>
+                  <message-resources parameter="ApplicationResources" null="false"/>
+                  <plug-in className="org.apache.struts.validator.ValidatorPlugIn">
+                    <set-property property="pathnames" value="/WEB-INF/validation.xml"/>
+                  </plug-in>
+                </struts-config>
+                """);
+
+        assertTrue(config.schema().contains("Struts Configuration 1.3"));
+        assertEquals(List.of(new StrutsConfig.FormBean("orderForm", "com.acme.OrderForm", null)), config.formBeans());
+        assertEquals(List.of(new StrutsConfig.Forward("accueil", "/index.jsp", "true")), config.globalForwards());
+        assertEquals("java.lang.Exception", config.globalExceptions().get(0).type());
+        StrutsConfig.Action action = config.actions().get(0);
+        assertEquals("/order/save", action.path());
+        assertEquals("com.acme.SaveOrderAction", action.type());
+        assertEquals("method", action.parameter());
+        assertNull(action.unknown());
+        assertEquals(List.of(new StrutsConfig.Forward("success", "/order/ok.jsp", null)), action.forwards());
+        assertEquals("com.acme.StockException", action.exceptions().get(0).type());
+        assertEquals("com.acme.RequestProcessor", config.controller().get("processorClass"));
+        assertEquals("false", config.messageResources().get(0).nullValue());
+        assertEquals(List.of(new StrutsConfig.PlugIn("org.apache.struts.validator.ValidatorPlugIn",
+                Map.of("pathnames", "/WEB-INF/validation.xml"))), config.plugIns());
+    }
+
+    @Test
+    void ejbJar2() throws XMLStreamException {
+        EjbJar ejbJar = read(new EjbJar.Handler(), """
+                <!DOCTYPE ejb-jar PUBLIC "-//Sun Microsystems, Inc.//DTD Enterprise JavaBeans 2.0//EN"
+                    "http://java.sun.com/dtd/ejb-jar_2_0.dtd">
+                <ejb-jar>
+                  <enterprise-beans>
+                    <session>
+                      <ejb-name>BillingFacade</ejb-name>
+                      <home>com.acme.BillingHome</home>
+                      <remote>com.acme.Billing</remote>
+                      <ejb-class>com.acme.BillingBean</ejb-class>
+                      <session-type>Stateless</session-type>
+                    </session>
+                    <entity><ejb-name>Customer</ejb-name><ejb-class>com.acme.CustomerBean</ejb-class></entity>
+                    <message-driven>
+                      <ejb-name>OrderListener</ejb-name>
+                      <ejb-class>com.acme.OrderListenerBean</ejb-class>
+                      <message-driven-destination><destination-type>javax.jms.Queue</destination-type></message-driven-destination>
+                    </message-driven>
+                  </enterprise-beans>
+                </ejb-jar>
+                """);
+
+        assertTrue(ejbJar.schema().contains("Enterprise JavaBeans 2.0"));
+        assertEquals(new EjbJar.Bean(EjbJar.Kind.SESSION, "BillingFacade", "com.acme.BillingBean", "com.acme.BillingHome",
+                "com.acme.Billing", null, "Stateless", null, null), ejbJar.beans(EjbJar.Kind.SESSION).get(0));
+        assertEquals("Customer", ejbJar.beans(EjbJar.Kind.ENTITY).get(0).ejbName());
+        EjbJar.Bean listener = ejbJar.beans(EjbJar.Kind.MESSAGE_DRIVEN).get(0);
+        assertEquals("javax.jms.Queue", listener.destinationType());
+        assertNull(listener.destination());
+    }
+
+    @Test
+    void ejbJar3WithActivationConfig() throws XMLStreamException {
+        EjbJar ejbJar = read(new EjbJar.Handler(), """
+                <ejb-jar xmlns="http://java.sun.com/xml/ns/javaee" version="3.0">
+                  <enterprise-beans>
+                    <session><ejb-name>Pricing</ejb-name><local>com.acme.PricingLocal</local>
+                      <ejb-class>com.acme.PricingBean</ejb-class></session>
+                    <message-driven>
+                      <ejb-name>InvoiceListener</ejb-name>
+                      <activation-config>
+                        <activation-config-property>
+                          <activation-config-property-name>destinationType</activation-config-property-name>
+                          <activation-config-property-value>javax.jms.Topic</activation-config-property-value>
+                        </activation-config-property>
+                        <activation-config-property>
+                          <activation-config-property-name>destination</activation-config-property-name>
+                          <activation-config-property-value>jms/Invoices</activation-config-property-value>
+                        </activation-config-property>
+                      </activation-config>
+                    </message-driven>
+                  </enterprise-beans>
+                </ejb-jar>
+                """);
+
+        assertEquals("com.acme.PricingLocal", ejbJar.beans(EjbJar.Kind.SESSION).get(0).local());
+        EjbJar.Bean listener = ejbJar.beans(EjbJar.Kind.MESSAGE_DRIVEN).get(0);
+        assertEquals("javax.jms.Topic", listener.destinationType());
+        assertEquals("jms/Invoices", listener.destination());
+    }
+
+    @Test
+    void weblogicEjbJar() throws XMLStreamException {
+        WeblogicEjbJar weblogic = read(new WeblogicEjbJar.Handler(), """
+                <weblogic-ejb-jar xmlns="http://xmlns.oracle.com/weblogic/weblogic-ejb-jar">
+                  <weblogic-enterprise-bean>
+                    <ejb-name>BillingFacade</ejb-name>
+                    <jndi-binding><jndi-name>ejb/Billing</jndi-name></jndi-binding>
+                  </weblogic-enterprise-bean>
+                  <weblogic-enterprise-bean>
+                    <ejb-name>OrderListener</ejb-name>
+                    <message-driven-descriptor><destination-jndi-name>jms/Orders</destination-jndi-name></message-driven-descriptor>
+                  </weblogic-enterprise-bean>
+                </weblogic-ejb-jar>
+                """);
+
+        assertEquals(List.of(new WeblogicEjbJar.Bean("BillingFacade", "ejb/Billing", null),
+                new WeblogicEjbJar.Bean("OrderListener", null, "jms/Orders")), weblogic.beans());
+    }
+
+    @Test
+    void weblogicXml() throws XMLStreamException {
+        assertEquals("/facturation", read(new WeblogicXml.Handler(),
+                "<weblogic-web-app><context-root>/facturation</context-root></weblogic-web-app>").contextRoot());
+    }
+
+    @Test
+    void springContext() throws XMLStreamException {
+        SpringContext context = read(new SpringContext.Handler(), """
+                <beans xmlns="http://www.springframework.org/schema/beans"
+                       xmlns:jms="http://www.springframework.org/schema/jms">
+                  <bean id="orderService" class="com.acme.OrderServiceImpl">
+                    <property name="pricing"><bean name="pricing" class="com.acme.Pricing"/></property>
+                  </bean>
+                  <jms:listener-container><jms:listener destination="orders" ref="orderService"/></jms:listener-container>
+                </beans>
+                """);
+
+        assertEquals(List.of(new SpringContext.Bean("orderService", "com.acme.OrderServiceImpl"),
+                new SpringContext.Bean("pricing", "com.acme.Pricing")), context.beans());
+        assertTrue(context.usesNamespace("schema/jms"));
+        assertTrue(context.declaresClass("Pricing"));
+        assertFalse(context.declaresClass("Struts"));
+    }
+
+    @Test
+    void externalEntitiesAreNotResolved() throws IOException {
+        Path secret = Files.writeString(dir.resolve("secret.txt"), "mot-de-passe");
+        String document = """
+                <!DOCTYPE web-app [<!ENTITY secret SYSTEM "%s">]>
+                <web-app><display-name>&secret;</display-name></web-app>
+                """.formatted(secret.toUri());
+
+        String displayName;
+        try {
+            displayName = read(new WebXml.Handler(), document).displayName();
+        } catch (XMLStreamException e) {
+            // Entité refusée : le document est illisible, rien n'a été lu
+            displayName = null;
+        }
+
+        assertFalse(displayName != null && displayName.contains("mot-de-passe"));
+    }
+
+    private <T> T read(DescriptorHandler<T> handler, String document) throws XMLStreamException {
+        XMLStreamReader reader = parserPool.openXml(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+        try {
+            return handler.read(reader);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.legacy.analyzer.scanner;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FileInventoryServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final FileInventoryService service = new FileInventoryService(new AnalyzerConfiguration(), metrics);
+
+    @Test
+    void subdirectoryIsServedFromTheParentInventory() throws IOException {
+        write("app/WEB-INF/web.xml");
+        write("app/WEB-INF/classes/Facture.class");
+        FileInventory root = service.inventoryFor(dir);
+
+        FileInventory webInf = service.inventoryFor(dir.resolve("app/WEB-INF"));
+
+        assertEquals(2, root.getFileCount());
+        assertEquals(2, webInf.getFileCount());
+        assertSame(webInf, service.inventoryFor(dir.resolve("app/WEB-INF")));
+        assertEquals(1, metrics.get(MetricsRegistry.CACHE_MISSES));
+    }
+
+    @Test
+    void archiveExtractedAfterTheRootScanIsScanned() throws IOException {
+        write("app.ear");
+        service.inventoryFor(dir);
+
+        // Archive extraite sous la racine après son inventaire
+        write("extracted/app/META-INF/application.xml");
+        write("extracted/app/lib/commun.jar");
+        FileInventory extracted = service.inventoryFor(dir.resolve("extracted/app"));
+
+        assertEquals(2, extracted.getFileCount());
+        assertEquals(List.of(dir.resolve("extracted/app/META-INF/application.xml")), extracted.findByExtension("xml"));
+        assertEquals(2, metrics.get(MetricsRegistry.CACHE_MISSES));
+    }
+
+    @Test
+    void findFilesByExtensionMatchesTheFullScan() throws IOException {
+        write("src/main/resources/spring/context.xml");
+        write("src/main/resources/ws/service.properties");
+        write("src/main/resources/ws/endpoint.xml");
+        write("src/main/resources/ws/Service.java");
+        write("src/main/resources/LISEZMOI.txt");
+        FileInventory inventory = service.inventoryFor(dir);
+        Predicate<Path> inWs = p -> p.toString().contains("ws") || p.toString().contains("context");
+
+        List<Path> expected = inventory.findFiles(inWs.and(p ->
+                p.toString().endsWith(".xml") || p.toString().endsWith(".properties")));
+
+        assertEquals(3, expected.size());
+        assertEquals(expected, inventory.findFiles(inWs, "xml", "properties"));
+        assertEquals(expected, inventory.findFiles(inWs, "properties", "xml"));
+        assertEquals(List.of(), inventory.findFiles(inWs, "cbl"));
+    }
+
+    private void write(String relativePath) throws IOException {
+        Path file = dir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, relativePath);
+    }
+}
@@ -0,0 +1,66 @@
+package com.legacy.analyzer.impact;
+
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.WebLogicApplication;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImpactIndexTest {
+
+    private static final ImpactIndex INDEX = new ImpactIndex(List.of(
+            ImpactSegment.of(ImpactSegmentTest.billing()),
+            ImpactSegment.of(reporting())));
+
+    @Test
+    void unqualifiedNameFindsQualifiedObjectsWithoutCase() {
+        ImpactIndex.Impact impact = INDEX.lookup("INVOICE", null, 10);
+
+        assertEquals(3, impact.total());
+        assertEquals(Map.of("facturation", Set.of("GET /factures", "POST /factures/save"), "pilotage", Set.of()),
+                impact.applications());
+        // Trié par application, puis endpoint
+        assertEquals(List.of("facturation", "facturation", "pilotage"),
+                impact.usages().stream().map(ImpactIndex.Usage::application).toList());
+        assertEquals("src/InvoiceAction.java:12", impact.usages().get(0).location());
+    }
+
+    @Test
+    void trailingStarSearchesByPrefixWithoutDuplicates() {
+        ImpactIndex.Impact impact = INDEX.lookup("pkg_facture.*", null, 10);
+
+        assertEquals(1, impact.total());
+        assertEquals("CALL", impact.usages().get(0).operation());
+        assertEquals(4, INDEX.lookup("compta.*", null, 10).total());
+    }
+
+    @Test
+    void applicationFilterAndLimit() {
+        assertEquals(1, INDEX.lookup("invoice", "PILOTAGE", 10).total());
+
+        ImpactIndex.Impact limited = INDEX.lookup("compta.invoice", null, 1);
+        assertEquals(3, limited.total());
+        assertEquals(1, limited.usages().size());
+        assertEquals(2, limited.applications().size());
+        assertEquals(0, INDEX.lookup("absente", null, 10).total());
+    }
+
+    private static AnalysisResult reporting() {
+        Dependencies.DatabaseDependency database = Dependencies.DatabaseDependency.builder()
+                .queries(List.of(Dependencies.SQLQuery.builder().type("SELECT").rawQuery("select count(*) from compta.invoice")
+                        .tables(List.of("compta.invoice")).sourceFile("src/Stats.java").lineNumber(3).build(),
+                        Dependencies.SQLQuery.builder().type("SELECT").rawQuery("select * from compta.client")
+                                .tables(List.of("compta.client")).sourceFile("src/Stats.java").lineNumber(9).build()))
+                .build();
+        WebLogicApplication application = WebLogicApplication.builder()
+                .name("pilotage")
+                .globalDependencies(Dependencies.builder().databases(List.of(database)).build())
+                .build();
+        return AnalysisResult.builder().application(application).success(true).build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.legacy.analyzer.impact;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ImpactSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    static AnalysisResult billing() {
+        Endpoint list = Endpoint.builder().url("/factures").className("com.acme.InvoiceAction").methodName("list")
+                .httpMethods(Set.of(Endpoint.HttpMethod.GET))
+                .sourceLocation(Endpoint.SourceLocation.builder().filePath("src/InvoiceAction.java").startLine(10).endLine(20).build())
+                .build();
+        Endpoint save = Endpoint.builder().url("/factures/save").className("com.acme.InvoiceAction").methodName("save")
+                .httpMethods(Set.of(Endpoint.HttpMethod.POST))
+                .sourceLocation(Endpoint.SourceLocation.builder().filePath("src/InvoiceAction.java").startLine(30).endLine(40).build())
+                .build();
+        Dependencies.DatabaseDependency database = Dependencies.DatabaseDependency.builder()
+                .queries(List.of(
+                        Dependencies.SQLQuery.builder().type("SELECT").rawQuery("select * from compta.invoice")
+                                .tables(List.of("compta.invoice")).sourceFile("src/InvoiceAction.java").lineNumber(12).build(),
+                        Dependencies.SQLQuery.builder().type("INSERT").rawQuery("insert into compta.invoice values (?)")
+                                .tables(List.of("compta.invoice")).sourceFile("src/InvoiceAction.java").lineNumber(35).build(),
+                        Dependencies.SQLQuery.builder().type("CALL").rawQuery("{call pkg_facture.close_month(?)}")
+                                .procedures(List.of("pkg_facture.close_month")).sourceFile("src/InvoiceDao.java").lineNumber(5).build()))
+                .views(List.of("v_invoice"))
+                .build();
+        WebLogicApplication application = WebLogicApplication.builder()
+                .name("facturation")
+                .sourcePath(Path.of("facturation.war"))
+                .type(WebLogicApplication.ApplicationType.WAR)
+                .frameworks(Set.of("STRUTS"))
+                .endpoints(List.of(list, save))
+                .globalDependencies(Dependencies.builder().databases(List.of(database)).build())
+                .build();
+        return AnalysisResult.builder().application(application).success(true).build();
+    }
+
+    @Test
+    void usagesAreSortedRowsOfStringCodes() {
+        ImpactSegment segment = ImpactSegment.of(billing());
+
+        assertEquals(4, segment.size());
+        assertEquals(4 * ImpactSegment.COLUMNS, segment.usages().length);
+        // Trié par objet puis endpoint
+        assertEquals("compta.invoice", segment.string(0, ImpactSegment.OBJECT));
+        assertEquals("GET /factures", segment.string(0, ImpactSegment.ENDPOINT));
+        assertEquals("com.acme.InvoiceAction#list", segment.string(0, ImpactSegment.HANDLER));
+        assertEquals(12, segment.line(0));
+        assertEquals("POST /factures/save", segment.string(1, ImpactSegment.ENDPOINT));
+        assertEquals("INSERT", segment.string(1, ImpactSegment.OPERATION));
+        // Requête d'une autre classe : rattachée à l'application seule
+        assertEquals("pkg_facture.close_month", segment.string(2, ImpactSegment.OBJECT));
+        assertEquals("PROCEDURE", segment.string(2, ImpactSegment.KIND));
+        assertNull(segment.string(2, ImpactSegment.ENDPOINT));
+        // Vue connue sans requête
+        assertEquals("v_invoice", segment.string(3, ImpactSegment.OBJECT));
+        assertNull(segment.string(3, ImpactSegment.QUERY));
+        assertEquals(0, segment.line(3));
+        // Chaque chaîne n'est stockée qu'une fois
+        assertEquals(segment.strings().size(), Set.copyOf(segment.strings()).size());
+    }
+
+    @Test
+    void segmentRoundTripsThroughEveryEncoding() throws IOException {
+        ImpactSegment segment = ImpactSegment.of(billing());
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        ResultsCodec codec = new ResultsCodec(configuration);
+        for (String encoding : List.of("json", "smile")) {
+            configuration.getOutput().getFormats().getJson().setEncoding(encoding);
+            configuration.getOutput().getFormats().getJson().setCompression("zstd");
+            Path file = dir.resolve(encoding).resolve("impact.json");
+            codec.write(file, segment);
+
+            ImpactSegment read = codec.read(file, ImpactSegment.class);
+
+            assertEquals(segment.application(), read.application(), encoding);
+            assertEquals(segment.strings(), read.strings(), encoding);
+            assertArrayEquals(segment.usages(), read.usages(), encoding);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.legacy.analyzer.impact;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import com.legacy.analyzer.persistence.ResultsPersistence;
+import com.legacy.analyzer.persistence.StoredResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImpactServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ResultsCodec codec;
+    private CountingPersistence persistence;
+    private ImpactService service;
+
+    @BeforeEach
+    void setUp() {
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(dir);
+        codec = new ResultsCodec(configuration);
+        persistence = new CountingPersistence(configuration, codec);
+        service = new ImpactService(configuration, persistence, codec);
+    }
+
+    @Test
+    void unchangedSegmentsAreNeitherReadNorReopened() throws IOException {
+        save(ImpactSegmentTest.billing());
+
+        ImpactIndex first = service.index(dir);
+        ImpactIndex second = service.index(dir);
+
+        assertSame(first, second);
+        assertEquals(0, persistence.opened);
+        assertEquals(2, service.lookup(dir, "invoice", null, 10).total());
+    }
+
+    @Test
+    void applicationWithoutSegmentIsConvertedOnce() throws IOException {
+        // Résultats écrits avant l'existence de l'index : pas de segment
+        persistence.saveApplicationResult(ImpactSegmentTest.billing());
+        Path segment = persistence.applicationDirectory(dir, "facturation").resolve(ImpactService.SEGMENT_FILE);
+
+        assertEquals(2, service.lookup(dir, "invoice", null, 10).total());
+        service.index(dir);
+
+        assertEquals(1, persistence.opened);
+        assertTrue(codec.exists(segment));
+    }
+
+    @Test
+    void recordedApplicationReplacesItsSegment() throws IOException {
+        save(ImpactSegmentTest.billing());
+        ImpactIndex first = service.index(dir);
+
+        AnalysisResult result = ImpactSegmentTest.billing();
+        result.getApplication().getGlobalDependencies().getDatabases().get(0).setQueries(null);
+        save(result);
+
+        ImpactIndex second = service.index(dir);
+        assertNotSame(first, second);
+        assertEquals(0, second.lookup("invoice", null, 10).total());
+        assertEquals(1, second.lookup("v_invoice", null, 10).total());
+    }
+
+    private void save(AnalysisResult result) throws IOException {
+        persistence.saveApplicationResult(result);
+        service.record(result);
+    }
+
+    private static final class CountingPersistence extends ResultsPersistence {
+        private int opened;
+
+        CountingPersistence(AnalyzerConfiguration configuration, ResultsCodec codec) {
+            super(configuration, codec);
+        }
+
+        @Override
+        public StoredResults openResults(Path inputDir) throws IOException {
+            opened++;
+            return super.openResults(inputDir);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.legacy.analyzer.jfr;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.legacy.analyzer.core.AnalysisContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private Recording recording;
+
+    @BeforeEach
+    void startRecording() {
+        // Sans configuration : chaque événement garde le seuil déclaré sur sa classe
+        recording = new Recording();
+        recording.start();
+        AnalysisContext.enterApplication("facturation");
+    }
+
+    @AfterEach
+    void closeRecording() {
+        AnalysisContext.exitApplication();
+        recording.close();
+    }
+
+    @Test
+    void fastExtractorVisitIsNotCommitted() throws Exception {
+        List<String> results = ExtractorVisitEvent.record("spring", dir, () -> List.of("/a", "/b"));
+
+        assertEquals(List.of("/a", "/b"), results);
+        assertTrue(events("analyzer.ExtractorVisit").isEmpty());
+    }
+
+    @Test
+    void slowExtractorVisitIsCommittedWithItsContext() throws Exception {
+        ExtractorVisitEvent.record("spring", dir, () -> {
+            long deadline = System.nanoTime() + Duration.ofMillis(250).toNanos();
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(deadline - System.nanoTime());
+            }
+            return List.of("/a", "/b");
+        });
+
+        List<RecordedEvent> events = events("analyzer.ExtractorVisit");
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("facturation", event.getString("application"));
+        assertEquals("spring", event.getString("extractor"));
+        assertEquals(dir.toString(), event.getString("path"));
+        assertEquals(2, event.getInt("results"));
+        assertTrue(event.getDuration().compareTo(Duration.ofMillis(200)) >= 0);
+        // L'extracteur n'est publié que pendant sa visite
+        assertNull(AnalysisContext.extractor());
+    }
+
+    @Test
+    void fileParseIsCommittedOnlyAboveItsThreshold() throws Exception {
+        Path javaFile = Files.writeString(dir.resolve("Facture.java"), "class Facture { int total; }");
+        ParseResult<CompilationUnit> result = new JavaParser().parse(javaFile);
+
+        FileParseEvent fast = FileParseEvent.start();
+        fast.finish(javaFile, result);
+        assertTrue(events("analyzer.FileParse").isEmpty());
+
+        recording.enable("analyzer.FileParse").withThreshold(Duration.ZERO);
+        FileParseEvent kept = FileParseEvent.start();
+        kept.finish(javaFile, result);
+
+        List<RecordedEvent> events = events("analyzer.FileParse");
+        assertEquals(1, events.size());
+        assertEquals(javaFile.toString(), events.get(0).getString("file"));
+        assertEquals(Files.size(javaFile), events.get(0).getLong("bytes"));
+        assertTrue(events.get(0).getInt("nodes") > 1);
+        assertTrue(events.get(0).getBoolean("successful"));
+    }
+
+    private List<RecordedEvent> events(String name) throws IOException {
+        Path file = dir.resolve(name + "-" + System.nanoTime() + ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.legacy.analyzer.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsRegistryTest {
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    void timedReturnsTheResultAndRecordsThePhase() {
+        assertEquals("ok", metrics.timed(MetricsRegistry.DISCOVERY, () -> "ok"));
+        metrics.timed(MetricsRegistry.DISCOVERY, () -> metrics.increment(MetricsRegistry.ENDPOINTS));
+
+        assertEquals(2, metrics.getPhases().get(MetricsRegistry.DISCOVERY).count());
+        assertEquals(1, metrics.get(MetricsRegistry.ENDPOINTS));
+    }
+
+    @Test
+    void failedWorkIsTimedAndItsExceptionPropagated() {
+        assertThrows(IOException.class, () -> metrics.timed(MetricsRegistry.SERIALIZATION, () -> {
+            throw new IOException("disque plein");
+        }));
+
+        assertEquals(1, metrics.getPhases().get(MetricsRegistry.SERIALIZATION).count());
+    }
+
+    @Test
+    void resetStartsANewRun() {
+        metrics.timed(MetricsRegistry.REPORTING, () -> metrics.increment(MetricsRegistry.FILES_PARSED));
+
+        metrics.reset();
+
+        assertEquals(0, metrics.get(MetricsRegistry.FILES_PARSED));
+        assertEquals(0, metrics.getPhases().size());
+    }
+}
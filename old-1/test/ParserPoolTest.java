@@ -0,0 +1,98 @@
+package com.legacy.analyzer.parser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserPoolTest {
+
+    @TempDir
+    Path dir;
+
+    private final ParserPool pool = new ParserPool();
+
+    @Test
+    void eachThreadKeepsItsOwnParsers() throws Exception {
+        JavaParser javaParser = pool.javaParser();
+        XMLInputFactory xmlFactory = pool.xmlInputFactory();
+
+        assertSame(javaParser, pool.javaParser());
+        assertSame(xmlFactory, pool.xmlInputFactory());
+
+        CompletableFuture<Object[]> other = CompletableFuture.supplyAsync(
+                () -> new Object[]{pool.javaParser(), pool.xmlInputFactory()});
+        Object[] otherParsers = other.get();
+        assertNotSame(javaParser, otherParsers[0]);
+        assertNotSame(xmlFactory, otherParsers[1]);
+    }
+
+    @Test
+    void concurrentParsesReturnTheirOwnFile() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            files.add(Files.writeString(dir.resolve("Classe" + i + ".java"),
+                    "package acme;\n/* \\u00e9t\\u00e9 */\npublic class Classe" + i + " { void m" + i + "() {} }\n"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> names = new ArrayList<>();
+            for (Path file : files) {
+                names.add(executor.submit(() -> {
+                    ParseResult<CompilationUnit> result = pool.parseJava(file);
+                    assertTrue(result.isSuccessful(), result.getProblems()::toString);
+                    return result.getResult().orElseThrow().getType(0).getNameAsString();
+                }));
+            }
+            for (int i = 0; i < files.size(); i++) {
+                assertEquals("Classe" + i, names.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void externalDtdIsNotLoaded() throws Exception {
+        String webXml = """
+                <!DOCTYPE web-app PUBLIC "-//Sun Microsystems, Inc.//DTD Web Application 2.3//EN"
+                    "http://hôte-inexistant.invalid/dtd/web-app_2_3.dtd">
+                <web-app><display-name>Facturation</display-name></web-app>
+                """;
+
+        XMLStreamReader reader = pool.openXml(new ByteArrayInputStream(webXml.getBytes(StandardCharsets.UTF_8)));
+        try {
+            String displayName = null;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && "display-name".equals(reader.getLocalName())) {
+                    displayName = reader.getElementText();
+                }
+            }
+            assertEquals("Facturation", displayName);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.legacy.analyzer.progress;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.scanner.FileInventoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgressMonitorTest {
+
+    private static final long TEN_SECONDS = TimeUnit.SECONDS.toNanos(10);
+
+    @TempDir
+    Path dir;
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final ProgressMonitor monitor =
+            new ProgressMonitor(metrics, new FileInventoryService(new AnalyzerConfiguration(), metrics));
+
+    @AfterEach
+    void stop() {
+        monitor.stop();
+    }
+
+    @Test
+    void etaFollowsTheInventoriedBytes() throws IOException {
+        WebLogicApplication small = application("petite", 1_000);
+        WebLogicApplication large = application("grande", 3_000);
+        monitor.start(List.of(small, large));
+
+        assertEquals(-1, monitor.status(TEN_SECONDS).etaSeconds());
+
+        // Un quart des octets en 10 s : il en reste trois quarts, soit 30 s
+        monitor.applicationFinished(small);
+        ProgressMonitor.Status status = monitor.status(TEN_SECONDS);
+        assertEquals(1, status.applicationsDone());
+        assertEquals(2, status.inventoryFiles());
+        assertEquals(30, status.etaSeconds());
+
+        monitor.applicationFinished(large);
+        assertEquals(-1, monitor.status(TEN_SECONDS).etaSeconds());
+    }
+
+    @Test
+    void etaFallsBackToApplicationsWithoutInventory() {
+        WebLogicApplication first = WebLogicApplication.builder().name("a").build();
+        WebLogicApplication second = WebLogicApplication.builder().name("b").build();
+        WebLogicApplication third = WebLogicApplication.builder().name("c").build();
+        WebLogicApplication fourth = WebLogicApplication.builder().name("d").build();
+        monitor.start(List.of(first, second, third, fourth));
+
+        monitor.applicationFinished(first);
+
+        assertEquals(30, monitor.status(TEN_SECONDS).etaSeconds());
+    }
+
+    @Test
+    void throughputIsMeasuredOnTheElapsedTime() {
+        monitor.start(List.of());
+        metrics.add(MetricsRegistry.FILES_PARSED, 50);
+        metrics.add(MetricsRegistry.BYTES_PARSED, 20_000_000);
+
+        ProgressMonitor.Status status = monitor.status(TEN_SECONDS);
+
+        assertEquals(5.0, status.filesPerSecond());
+        assertEquals(2.0, status.megabytesPerSecond());
+    }
+
+    @Test
+    void batchOutputIsThrottled() {
+        monitor.start(List.of());
+
+        // Sans console (tests, redirection), une ligne de log toutes les 30 s plutôt que chaque seconde
+        assertEquals(30_000, monitor.reportPeriodMillis());
+    }
+
+    @Test
+    void linesShowTheEtaAndTheFirstWorkers() {
+        ProgressMonitor.Status status = new ProgressMonitor.Status(1, 2, 10, 40, 1_000, 3, 2.0, 0.5, 3_725,
+                Map.of("w1", "a", "w2", "b", "w3", "c", "w4", "d", "w5", "e"));
+
+        String console = status.toConsoleLine();
+        assertTrue(console.contains("ETA 01:02:05"), console);
+        assertTrue(console.endsWith(", +1"), console);
+        assertTrue(status.toLogLine().contains(" eta_s=3725 "), status.toLogLine());
+
+        ProgressMonitor.Status unknown = new ProgressMonitor.Status(0, 2, 0, 40, 0, 0, 0, 0, -1, Map.of());
+        assertTrue(unknown.toConsoleLine().contains("ETA --:--:--"), unknown.toConsoleLine());
+    }
+
+    private WebLogicApplication application(String name, int javaBytes) throws IOException {
+        Path root = dir.resolve(name);
+        Files.createDirectories(root.resolve("src"));
+        Files.writeString(root.resolve("src/Main.java"), "x".repeat(javaBytes));
+        Files.writeString(root.resolve("web.xml"), "<web-app/>");
+        return WebLogicApplication.builder().name(name).extractedPath(root).build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.legacy.analyzer.persistence;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultsCodecTest {
+
+    private static final List<Map<String, Object>> ENDPOINTS = List.of(
+            Map.of("url", "/orders", "className", "com.acme.OrderAction"),
+            Map.of("url", "/clients", "className", "com.acme.ClientServlet"));
+
+    @TempDir
+    Path dir;
+
+    private AnalyzerConfiguration configuration;
+    private ResultsCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new AnalyzerConfiguration();
+        codec = new ResultsCodec(configuration);
+    }
+
+    @Test
+    void everyEncodingAndCompressionReadsBack() throws IOException {
+        Path logical = dir.resolve("endpoints.json");
+        for (ResultsCodec.Encoding encoding : ResultsCodec.Encoding.values()) {
+            for (ResultsCodec.Compression compression : ResultsCodec.Compression.values()) {
+                configure(encoding.name(), compression.name());
+                codec.write(logical, ENDPOINTS);
+                String variant = encoding + "/" + compression;
+
+                assertEquals(codec.fileFor(logical), codec.locate(logical).orElseThrow(), variant);
+                assertEquals(ENDPOINTS, codec.read(logical, new TypeReference<List<Map<String, Object>>>() { }), variant);
+            }
+        }
+        assertEquals(dir.resolve("endpoints.smile.zst"), codec.fileFor(logical));
+    }
+
+    @Test
+    void filesWrittenWithOtherSettingsAreDetected() throws IOException {
+        Path logical = dir.resolve("endpoints.json");
+        configure("smile", "zstd");
+        codec.write(logical, ENDPOINTS);
+
+        configure("json", "none");
+
+        assertTrue(codec.exists(logical));
+        assertEquals(dir.resolve("endpoints.smile.zst"), codec.locate(logical).orElseThrow());
+        assertEquals(ENDPOINTS, codec.read(logical, List.class));
+        // Lecture directe d'un fichier renommé : le contenu décide, pas l'extension
+        Path renamed = Files.move(dir.resolve("endpoints.smile.zst"), dir.resolve("copie.json"));
+        assertEquals(ENDPOINTS, codec.readFile(renamed, List.class));
+    }
+
+    @Test
+    void writingRemovesTheOtherVariants() throws IOException {
+        Path logical = dir.resolve("endpoints.json");
+        configure("json", "gzip");
+        codec.write(logical, ENDPOINTS);
+
+        configure("smile", "none");
+        codec.write(logical, ENDPOINTS);
+
+        assertFalse(Files.exists(dir.resolve("endpoints.json.gz")));
+        assertTrue(Files.exists(dir.resolve("endpoints.smile")));
+    }
+
+    @Test
+    void legacyCompressFlagMeansGzip() {
+        configuration.getOutput().getFormats().getJson().setCompress(true);
+
+        assertEquals(ResultsCodec.Compression.GZIP, codec.getCompression());
+        assertEquals(dir.resolve("endpoints.json.gz"), codec.fileFor(dir.resolve("endpoints.json")));
+    }
+
+    @Test
+    void missingFileIsReported() {
+        assertFalse(codec.exists(dir.resolve("absent.json")));
+        assertThrows(NoSuchFileException.class, () -> codec.read(dir.resolve("absent.json"), List.class));
+    }
+
+    private void configure(String encoding, String compression) {
+        AnalyzerConfiguration.JsonConfig json = configuration.getOutput().getFormats().getJson();
+        json.setEncoding(encoding);
+        json.setCompression(compression);
+    }
+}
@@ -0,0 +1,78 @@
+package com.legacy.analyzer.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private static final SearchIndex INDEX = new SearchIndex(List.of(
+            new SearchDocument(SearchDocument.Kind.ENDPOINT, "/comptes", "compta", Set.of("STRUTS"), null,
+                    "GET /comptes", "com.acme.AccountAction", "list", null),
+            new SearchDocument(SearchDocument.Kind.TABLE, "CLIENT_ACCT", "compta", Set.of("STRUTS"), "database",
+                    "GET /comptes", "com.acme.AccountAction", "list", null),
+            new SearchDocument(SearchDocument.Kind.TABLE, "CLIENT", "ventes", Set.of("SPRING", "EJB"), "database",
+                    null, null, null, null),
+            new SearchDocument(SearchDocument.Kind.JNDI, "ejb/ClientFacade", "ventes", Set.of("SPRING", "EJB"), "ejb",
+                    null, null, null, null)));
+
+    @Test
+    void wordsMatchTheTermsTheyPrefix() {
+        assertEquals(List.of("CLIENT_ACCT"), values(search("client_ac")));
+        // Morceaux d'identifiant : acct, et account dans com.acme.AccountAction
+        assertEquals(List.of("CLIENT_ACCT"), values(search("acct")));
+        assertEquals(2, search("accountact").total());
+        assertEquals(0, search("zz").total());
+    }
+
+    @Test
+    void exactValueComesFirst() {
+        SearchIndex.SearchResult result = search("client");
+
+        assertEquals(3, result.total());
+        assertEquals("CLIENT", result.hits().get(0).value());
+    }
+
+    @Test
+    void allWordsMustMatch() {
+        assertEquals(List.of("CLIENT_ACCT"), values(search("client account")));
+    }
+
+    @Test
+    void filtersRestrictHitsAndFacets() {
+        SearchIndex.SearchResult tables = INDEX.search(SearchQuery.parse("client kind:table app:VENTES", null, null, null, null, null));
+        assertEquals(List.of("CLIENT"), values(tables));
+        assertEquals(Map.of("ventes", 1), tables.facets().get("application"));
+
+        SearchIndex.SearchResult ejb = INDEX.search(SearchQuery.parse("framework:ejb", null, null, null, null, null));
+        assertEquals(2, ejb.total());
+        assertEquals(Map.of("database", 1, "ejb", 1), ejb.facets().get("dependencyType"));
+
+        assertEquals(0, INDEX.search(SearchQuery.parse("client", null, "inconnue", null, null, null)).total());
+    }
+
+    @Test
+    void facetsCountEveryMatchBeyondTheLimit() {
+        SearchIndex.SearchResult result = INDEX.search(SearchQuery.parse("", null, null, null, null, 1));
+
+        assertEquals(4, result.total());
+        assertEquals(1, result.hits().size());
+        assertEquals(Map.of("compta", 2, "ventes", 2), result.facets().get("application"));
+        assertEquals(Map.of("SPRING", 2, "EJB", 2, "STRUTS", 2), result.facets().get("framework"));
+        assertEquals(Map.of("TABLE", 2, "ENDPOINT", 1, "JNDI", 1), result.facets().get("kind"));
+        assertTrue(result.facets().get("dependencyType").containsKey("database"));
+    }
+
+    private static SearchIndex.SearchResult search(String text) {
+        return INDEX.search(SearchQuery.parse(text, null, null, null, null, null));
+    }
+
+    private static List<String> values(SearchIndex.SearchResult result) {
+        return result.hits().stream().map(SearchDocument::value).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.legacy.analyzer.search;
+
+import com.legacy.analyzer.core.config.AnalyzerConfiguration;
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+import com.legacy.analyzer.persistence.ResultsCodec;
+import com.legacy.analyzer.persistence.ResultsPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ResultsPersistence persistence;
+    private ResultsCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        AnalyzerConfiguration configuration = new AnalyzerConfiguration();
+        configuration.setOutputDirectory(dir);
+        codec = new ResultsCodec(configuration);
+        persistence = new ResultsPersistence(configuration, codec);
+    }
+
+    @Test
+    void indexIsKeptWhileTheResultsAreUnchanged() throws IOException {
+        save("compta", "/comptes");
+        SearchService service = new SearchService(persistence, codec);
+
+        SearchIndex first = service.index(dir);
+
+        assertSame(first, service.index(dir));
+        assertEquals(1, service.search(dir, query("comptes")).total());
+    }
+
+    @Test
+    void storedDocumentsAreReusedUntilANewAnalysis() throws IOException {
+        save("compta", "/comptes");
+        new SearchService(persistence, codec).index(dir);
+        Path documents = codec.locate(dir.resolve("search/documents.json")).orElseThrow();
+        Path analysisIndex = dir.resolve("analysis-index.json");
+        Files.setLastModifiedTime(documents, FileTime.fromMillis(Files.getLastModifiedTime(analysisIndex).toMillis() + 1000));
+        // Les résultats ne sont plus relus tant que documents.json est le plus récent
+        FileSystemUtils.deleteRecursively(dir.resolve("applications"));
+
+        assertEquals(1, new SearchService(persistence, codec).search(dir, query("comptes")).total());
+
+        save("ventes", "/commandes");
+        Files.setLastModifiedTime(analysisIndex, FileTime.fromMillis(Files.getLastModifiedTime(documents).toMillis() + 1000));
+        SearchService service = new SearchService(persistence, codec);
+
+        assertEquals(0, service.search(dir, query("comptes")).total());
+        assertEquals(1, service.search(dir, query("commandes")).total());
+    }
+
+    @Test
+    void newerResultsRebuildTheIndexInMemory() throws IOException {
+        save("compta", "/comptes");
+        SearchService service = new SearchService(persistence, codec);
+        SearchIndex first = service.index(dir);
+
+        save("ventes", "/commandes");
+        Path analysisIndex = dir.resolve("analysis-index.json");
+        Files.setLastModifiedTime(analysisIndex, FileTime.fromMillis(Files.getLastModifiedTime(analysisIndex).toMillis() + 5000));
+
+        SearchIndex second = service.index(dir);
+        assertEquals(first.size() + 1, second.size());
+    }
+
+    @Test
+    void directoryWithoutResultsIsRejected() {
+        assertThrows(IOException.class, () -> new SearchService(persistence, codec).index(dir));
+    }
+
+    private void save(String name, String url) throws IOException {
+        WebLogicApplication application = WebLogicApplication.builder()
+                .name(name)
+                .sourcePath(dir.resolve(name + ".war"))
+                .type(WebLogicApplication.ApplicationType.WAR)
+                .frameworks(Set.of("STRUTS"))
+                .endpoints(List.of(Endpoint.builder().url(url).methodName("list").build()))
+                .build();
+        persistence.saveApplicationResult(AnalysisResult.builder().application(application).success(true).build());
+    }
+
+    private static SearchQuery query(String text) {
+        return SearchQuery.parse(text, null, null, null, null, null);
+    }
+}
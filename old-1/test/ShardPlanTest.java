@@ -0,0 +1,93 @@
+package com.legacy.analyzer.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardPlanTest {
+
+    @Test
+    void assignmentDoesNotDependOnScanOrder() {
+        Map<String, Long> portfolio = portfolio(200);
+        Map<String, Integer> reference = new TreeMap<>(ShardPlan.assign(portfolio, 4));
+
+        List<String> names = new ArrayList<>(portfolio.keySet());
+        Random random = new Random(7);
+        for (int run = 0; run < 10; run++) {
+            // Chaque agent voit les applications dans un ordre de scan différent
+            Collections.shuffle(names, random);
+            Map<String, Long> scanned = new LinkedHashMap<>();
+            names.forEach(name -> scanned.put(name, portfolio.get(name)));
+
+            assertEquals(reference, new TreeMap<>(ShardPlan.assign(scanned, 4)));
+        }
+    }
+
+    @Test
+    void everyApplicationGoesToExactlyOneShardAndLoadsStayBalanced() {
+        Map<String, Long> portfolio = portfolio(200);
+        Map<String, Integer> assignment = ShardPlan.assign(portfolio, 4);
+
+        assertEquals(portfolio.keySet(), assignment.keySet());
+        long[] loads = new long[4];
+        assignment.forEach((name, shard) -> loads[shard - 1] += portfolio.get(name));
+        long total = portfolio.values().stream().mapToLong(Long::longValue).sum();
+        long largest = Collections.max(portfolio.values());
+        for (long load : loads) {
+            // Affectation gloutonne au moins chargé : écart borné par la plus grosse application
+            assertTrue(Math.abs(load - total / 4) <= largest, "charge " + load + " pour " + total / 4 + " attendus");
+        }
+    }
+
+    @Test
+    void applicationsOfEqualSizeAreSpreadByName() {
+        Map<String, Long> portfolio = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            portfolio.put("app-" + i, 0L);
+        }
+
+        Map<String, Integer> assignment = ShardPlan.assign(portfolio, 4);
+
+        for (int shard = 1; shard <= 4; shard++) {
+            int current = shard;
+            assertEquals(2, assignment.values().stream().filter(s -> s == current).count());
+        }
+    }
+
+    @Test
+    void parseValidatesTheSpec() {
+        ShardPlan plan = ShardPlan.parse(" 2/4 ");
+
+        assertEquals(2, plan.getIndex());
+        assertEquals(4, plan.getCount());
+        assertTrue(plan.contains(Map.of("facturation", 2), "facturation"));
+        assertFalse(plan.contains(Map.of("facturation", 3), "facturation"));
+        assertFalse(plan.contains(Map.of(), "facturation"));
+        assertThrows(IllegalArgumentException.class, () -> ShardPlan.parse("5/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardPlan.parse("0/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardPlan.parse("deux/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardPlan.parse("2"));
+    }
+
+    private static Map<String, Long> portfolio(int applications) {
+        Map<String, Long> portfolio = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < applications; i++) {
+            // Quelques tailles répétées : le départage par nom doit aussi être stable
+            portfolio.put("app-" + i, (long) (random.nextInt(20) + 1) * 1_000_000L);
+        }
+        return portfolio;
+    }
+}
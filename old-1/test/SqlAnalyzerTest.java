@@ -0,0 +1,137 @@
+package com.legacy.analyzer.extractors.dependencies;
+
+import com.legacy.analyzer.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SqlAnalyzerTest {
+
+    @Test
+    void hqlEntitiesNamedAfterReservedWords() {
+        SqlStatement order = hql("from Order o join o.lines l where o.id = :id");
+        assertEquals("SELECT", order.type());
+        assertEquals(List.of("order"), order.tables());
+
+        assertEquals(List.of("group"), hql("from Group g").tables());
+        assertEquals(List.of("user", "group"), hql("select u from User u, Group g where u.group = g").tables());
+        assertEquals(List.of("order"), hql("select o from Order as o order by o.date").tables());
+        assertEquals(List.of("order"), hql("update Order set status = :s where id = :id").tables());
+        assertEquals(List.of("group"), hql("delete from Group").tables());
+        assertEquals(List.of("index", "type"), hql("from Index i join Type t on i.type = t").tables());
+    }
+
+    @Test
+    void keywordsIntroducingTheTableAreNotTables() {
+        assertEquals(List.of("orders"), sql("DELETE FROM orders WHERE id = ?").tables());
+        assertEquals(List.of("audit"), sql("INSERT INTO audit (id) VALUES (?)").tables());
+        assertEquals(List.of("tmp"), sql("DROP TABLE IF EXISTS tmp").tables());
+        assertEquals(List.of("client"), hql("select c from Client c left join fetch c.orders").tables());
+    }
+
+    @Test
+    void joinsAliasesAndSchemas() {
+        SqlStatement statement = sql("SELECT c.name FROM sales.client c, region r INNER JOIN sales.orders o ON o.client_id = c.id"
+                + " LEFT OUTER JOIN product p ON p.id = o.product_id WHERE r.id = c.region_id");
+
+        assertEquals("SELECT", statement.type());
+        assertEquals(List.of("sales.client", "region", "sales.orders", "product"), statement.tables());
+    }
+
+    @Test
+    void parenthesizedTableReferences() {
+        assertEquals(List.of("t1", "t2", "t3"),
+                sql("SELECT * FROM t1 a JOIN (t2 b JOIN t3 c ON c.id = b.id) ON b.id = a.id").tables());
+        assertEquals(List.of("t1"), sql("SELECT * FROM (t1)").tables());
+        assertEquals(List.of("t1", "t2"), sql("SELECT * FROM (SELECT id FROM t1) x, t2 WHERE x.id = t2.id").tables());
+    }
+
+    @Test
+    void indexTableFollowsOn() {
+        SqlStatement statement = sql("CREATE INDEX ix ON foo (id)");
+
+        assertEquals("DDL", statement.type());
+        assertEquals(List.of("foo"), statement.tables());
+        assertEquals(List.of("sales.foo"), sql("CREATE UNIQUE INDEX IF NOT EXISTS ix ON sales.foo(id, day)").tables());
+    }
+
+    @Test
+    void commonTableExpressionsAreNotTables() {
+        SqlStatement statement = sql("WITH recent AS (SELECT * FROM orders WHERE day > ?), "
+                + "top AS (SELECT * FROM recent) SELECT * FROM top JOIN client ON client.id = top.client_id");
+
+        assertEquals("SELECT", statement.type());
+        assertEquals(List.of("orders", "client"), statement.tables());
+    }
+
+    @Test
+    void storedProcedureCalls() {
+        SqlStatement call = sql("{? = call billing.compute_total(?, ?)}");
+        assertEquals("CALL", call.type());
+        assertEquals(List.of("billing.compute_total"), call.procedures());
+
+        assertEquals(List.of("dbo.archive_orders"), sql("EXEC @ret = dbo.archive_orders @day = 3").procedures());
+        assertEquals(List.of("refresh_stats"), sql("BEGIN refresh_stats; END;").procedures());
+    }
+
+    @Test
+    void quotedIdentifiers() {
+        assertEquals(List.of("order", "line item"),
+                sql("SELECT * FROM \"Order\" o JOIN [Line Item] l ON l.order_id = o.id").tables());
+    }
+
+    @Test
+    void fingerprintCollapsesValueLists() {
+        SqlStatement statement = sql("SELECT * FROM t WHERE id IN (1, 2, 3) AND name = 'x'");
+
+        assertEquals("select * from t where id in (?) and name = ?", statement.fingerprint());
+        assertEquals(statement.fingerprint(), sql("select *  from T where ID in (?, ?) and NAME = ?").fingerprint());
+    }
+
+    @Test
+    void textsThatAreNotQueriesAreRejected() {
+        assertFalse(sql("Connexion refusée pour l'utilisateur").isQuery());
+        assertFalse(sql("update.interval").isQuery());
+        assertFalse(sql("Select the option from list").isQuery());
+        assertFalse(sql("Delete from favorites").isQuery());
+        // Une vraie requête garde sa ponctuation, quelle que soit la casse du verbe
+        assertEquals(List.of("users"), sql("Select * from users").tables());
+        assertEquals(List.of("users"), sql("select name from users").tables());
+    }
+
+    @Test
+    void statementsOfTheSameShapeShareOneAnalysis() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        SqlAnalyzer analyzer = new SqlAnalyzer(metrics);
+
+        SqlStatement first = analyzer.analyze("select * from t where id = 1", SqlStatement.Language.SQL);
+        SqlStatement second = analyzer.analyze("SELECT * FROM t WHERE id = 2", SqlStatement.Language.SQL);
+
+        assertSame(first, second);
+        assertEquals(1, analyzer.fingerprintCount());
+    }
+
+    @Test
+    void fingerprintCacheIsBounded() {
+        SqlAnalyzer analyzer = new SqlAnalyzer(new MetricsRegistry());
+
+        for (int i = 0; i < 100_010; i++) {
+            analyzer.analyze("select c" + i + " from t", SqlStatement.Language.SQL);
+        }
+
+        assertEquals(100_000, analyzer.fingerprintCount());
+        assertEquals(List.of("t"), analyzer.analyze("select c100009 from t", SqlStatement.Language.SQL).tables());
+    }
+
+    private static SqlStatement sql(String text) {
+        return SqlAnalyzer.parse(text, SqlStatement.Language.SQL);
+    }
+
+    private static SqlStatement hql(String text) {
+        return SqlAnalyzer.parse(text, SqlStatement.Language.HQL);
+    }
+}
@@ -0,0 +1,72 @@
+package com.legacy.analyzer.extractors.dependencies;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SqlLexerTest {
+
+    @Test
+    void splitsWordsSymbolsAndValues() {
+        assertEquals(List.of("WORD:select", "WORD:a", "SYMBOL:,", "NUMBER:1.5e3", "WORD:from", "WORD:t",
+                        "WORD:where", "WORD:x", "SYMBOL:<=", "STRING:'l''été'", "WORD:and", "WORD:y", "SYMBOL:=",
+                        "PARAMETER::nom"),
+                tokens("select a, 1.5e3 from t where x <= 'l''été' and y = :nom"));
+    }
+
+    @Test
+    void skipsCommentsAndHints() {
+        assertEquals(List.of("WORD:select", "SYMBOL:*", "WORD:from", "WORD:t"),
+                tokens("select /*+ INDEX(t) */ * -- commentaire\nfrom t"));
+    }
+
+    @Test
+    void quotedIdentifiersExcludeTheirDelimiters() {
+        assertEquals(List.of("QUOTED:Order", "SYMBOL:.", "QUOTED:Line Item", "QUOTED:a\"\"b"),
+                tokens("\"Order\".[Line Item] `a\"\"b`"));
+    }
+
+    @Test
+    void parametersInAllDialects() {
+        assertEquals(List.of("PARAMETER:?", "PARAMETER:?1", "PARAMETER:$1", "PARAMETER:@id", "SYMBOL::="),
+                tokens("? ?1 $1 @id :="));
+    }
+
+    @Test
+    void keywordsAreRecognizedWithoutCase() {
+        SqlLexer lexer = new SqlLexer("SeLeCt selection");
+        lexer.next();
+        assertEquals(SqlLexer.Keyword.SELECT, lexer.keyword());
+        lexer.next();
+        assertNull(lexer.keyword());
+    }
+
+    @Test
+    void resetReturnsToTheMarkedToken() {
+        SqlLexer lexer = new SqlLexer("from Order o");
+        lexer.next();
+        lexer.next();
+        lexer.mark();
+        assertEquals(SqlLexer.WORD, lexer.next());
+        assertEquals(SqlLexer.END, lexer.next());
+        lexer.reset();
+
+        assertEquals(SqlLexer.Keyword.ORDER, lexer.keyword());
+        assertEquals(SqlLexer.WORD, lexer.next());
+        assertEquals("o", lexer.text().subSequence(lexer.start(), lexer.end()).toString());
+    }
+
+    private static List<String> tokens(String text) {
+        String[] names = {"END", "WORD", "QUOTED", "STRING", "NUMBER", "PARAMETER", "SYMBOL"};
+        SqlLexer lexer = new SqlLexer(text);
+        List<String> tokens = new ArrayList<>();
+        for (int token = lexer.next(); token != SqlLexer.END; token = lexer.next()) {
+            tokens.add(names[token] + ":" + text.substring(lexer.start(), lexer.end()));
+        }
+        return tokens;
+    }
+}
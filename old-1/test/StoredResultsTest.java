@@ -0,0 +1,97 @@
+package com.legacy.analyzer.persistence;
+
+import com.legacy.analyzer.model.AnalysisResult;
+import com.legacy.analyzer.model.Dependencies;
+import com.legacy.analyzer.model.Endpoint;
+import com.legacy.analyzer.model.WebLogicApplication;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StoredResultsTest {
+
+    private static final List<Path> DIRECTORIES = List.of(Path.of("a"), Path.of("b"), Path.of("c"));
+
+    private final List<String> loads = new ArrayList<>();
+
+    @Test
+    void everyIterationReadsTheFilesAgain() {
+        StoredResults stored = new StoredResults(DIRECTORIES, this::load);
+
+        assertEquals(List.of("a", "b", "c"), names(stored));
+        assertEquals(List.of("a", "b", "c"), names(stored));
+        assertEquals(6, loads.size());
+    }
+
+    @Test
+    void applicationsAreLoadedOneAtATime() {
+        StoredResults stored = new StoredResults(DIRECTORIES, this::load);
+        Iterator<AnalysisResult> iterator = stored.iterator();
+
+        iterator.next();
+        assertEquals(List.of("a+"), loads);
+        iterator.next();
+        assertEquals(List.of("a+", "b+"), loads);
+    }
+
+    @Test
+    void unreadableApplicationIsSkipped() {
+        StoredResults stored = new StoredResults(DIRECTORIES, (directory, withEndpoints) -> {
+            if (directory.endsWith("b")) {
+                throw new IOException("endpoints.json tronqué");
+            }
+            return load(directory, withEndpoints);
+        });
+
+        assertEquals(List.of("a", "c"), names(stored));
+        assertEquals(2, stored.summaries().size());
+    }
+
+    @Test
+    void summariesDropEndpointsAndQueryBodies() {
+        StoredResults stored = new StoredResults(DIRECTORIES, this::load);
+
+        List<AnalysisResult> summaries = stored.summaries();
+
+        assertEquals(List.of("a-", "b-", "c-"), loads);
+        WebLogicApplication application = summaries.get(0).getApplication();
+        assertNull(application.getEndpoints());
+        Dependencies.DatabaseDependency database = application.getGlobalDependencies().getDatabases().get(0);
+        assertEquals(List.of("commande"), database.getTables());
+        assertNull(database.getQueries());
+        assertFalse(application.getModules().isEmpty());
+        assertNull(application.getModules().get(0).getDependencies().getDatabases().get(0).getQueries());
+    }
+
+    private AnalysisResult load(Path directory, boolean withEndpoints) {
+        loads.add(directory + (withEndpoints ? "+" : "-"));
+        Dependencies dependencies = Dependencies.builder()
+                .databases(List.of(Dependencies.DatabaseDependency.builder()
+                        .tables(List.of("commande"))
+                        .queries(new ArrayList<>(List.of(Dependencies.SQLQuery.builder()
+                                .rawQuery("select * from commande where id = ?").build())))
+                        .build()))
+                .build();
+        WebLogicApplication application = WebLogicApplication.builder()
+                .name(directory.toString())
+                .endpoints(withEndpoints ? List.of(Endpoint.builder().url("/" + directory).build()) : null)
+                .globalDependencies(dependencies)
+                .modules(List.of(WebLogicApplication.Module.builder().name("web").dependencies(dependencies).build()))
+                .build();
+        return AnalysisResult.builder().application(application).success(true).build();
+    }
+
+    private static List<String> names(StoredResults stored) {
+        List<String> names = new ArrayList<>();
+        stored.forEach(result -> names.add(result.getApplication().getName()));
+        return names;
+    }
+}
@@ -0,0 +1,75 @@
+package com.legacy.analyzer.symbols;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.legacy.analyzer.model.Endpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cycle de vie de la table par analyse ; le fonctionnement de la table elle-même est couvert
+ * par les tests des autres moteurs, qui en partagent le code.
+ */
+class SymbolTableTest {
+
+    @Test
+    void eachRunStartsWithAnEmptyTable() {
+        SymbolTable.startRun();
+        SymbolTable first = SymbolTable.current();
+        Endpoint.builder().className("com.acme.OrderController").build();
+        assertEquals(1, first.size());
+
+        SymbolTable.startRun();
+
+        assertNotSame(first, SymbolTable.current());
+        assertEquals(0, SymbolTable.current().size());
+    }
+
+    @Test
+    void endpointsOfAPreviousRunKeepTheirNames() {
+        SymbolTable.startRun();
+        Endpoint previous = Endpoint.builder().className("com.acme.OrderController").build();
+
+        SymbolTable.startRun();
+        // Même identifiant dans la nouvelle table, pour un autre nom
+        Endpoint current = Endpoint.builder().className("com.acme.InvoiceController").build();
+
+        assertEquals("com.acme.OrderController", previous.getClassName());
+        assertEquals("com.acme.InvoiceController", current.getClassName());
+        assertNotEquals(previous, current);
+    }
+
+    @Test
+    void endpointsAreComparedByClassNameAcrossRuns() {
+        SymbolTable.startRun();
+        SymbolTable.current().intern("com.acme.Padding");
+        Endpoint previous = Endpoint.builder().className("com.acme.OrderController").methodName("list").build();
+
+        SymbolTable.startRun();
+        Endpoint current = new Endpoint();
+        current.setClassName("com.acme.OrderController");
+        current.setMethodName("list");
+
+        assertEquals(previous, current);
+        assertEquals(previous.hashCode(), current.hashCode());
+        assertTrue(current.toString().contains("className=com.acme.OrderController"));
+    }
+
+    @Test
+    void tableStaysOutOfTheJson() throws Exception {
+        SymbolTable.startRun();
+        ObjectMapper mapper = new ObjectMapper();
+        String json = mapper.writeValueAsString(Endpoint.builder().className("com.acme.OrderController").build());
+
+        assertTrue(json.contains("\"className\":\"com.acme.OrderController\""));
+        assertFalse(json.contains("symbols"));
+        assertFalse(json.contains("classNameSymbol"));
+        assertEquals("com.acme.OrderController", mapper.readValue(json, Endpoint.class).getClassName());
+        assertNull(new Endpoint().getClassName());
+    }
+}
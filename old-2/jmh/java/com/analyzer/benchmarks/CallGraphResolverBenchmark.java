@@ -0,0 +1,73 @@
+package com.analyzer.benchmarks;
+
+import com.analyzer.engine.CallGraphResolver;
+import com.analyzer.engine.JavaProjectIndexer;
+import com.analyzer.model.technical.EndpointDetails;
+import com.analyzer.parsers.common.EjbParser;
+import com.analyzer.parsers.common.JdbcParser;
+import com.analyzer.parsers.security.SecurityParser;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.votre_entreprise.analyzer.benchmarks.SyntheticProjects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Résolution du graphe d'appels de tous les endpoints d'un projet indexé.
+ * Le résolveur est créé avant l'indexation pour que les unités de compilation
+ * portent le symbol solver (les appels seraient sinon tous ignorés).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallGraphResolverBenchmark {
+
+    private CallGraphResolver resolver;
+    private final List<MethodDeclaration> endpoints = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp(Old2ProjectState project) {
+        JavaProjectIndexer indexer = new JavaProjectIndexer();
+        resolver = new CallGraphResolver(List.of(new JdbcParser(), new EjbParser()), new SecurityParser(),
+                indexer, project.projectDir.toFile());
+        indexer.indexProject(project.projectDir, Collections.emptyMap());
+
+        endpoints.clear();
+        for (int c = 0; c < project.controllers; c++) {
+            for (int e = 0; e < Old2ProjectState.ENDPOINTS_PER_CONTROLLER; e++) {
+                MethodDeclaration method = indexer.getMethod(SyntheticProjects.controllerClass(c), "handle" + e + "(String)");
+                if (method == null) {
+                    throw new IllegalStateException("Endpoint non indexé : Controller" + c + ".handle" + e);
+                }
+                endpoints.add(method);
+            }
+        }
+    }
+
+    @Benchmark
+    public int resolveAndAnalyze() {
+        int calls = 0;
+        for (MethodDeclaration endpoint : endpoints) {
+            EndpointDetails details = new EndpointDetails();
+            resolver.resolveAndAnalyze(endpoint, details);
+            calls += details.internalCalls.size() + details.externalCalls.size();
+        }
+        return calls;
+    }
+}
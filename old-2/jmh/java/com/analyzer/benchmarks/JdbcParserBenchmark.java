@@ -0,0 +1,70 @@
+package com.analyzer.benchmarks;
+
+import com.analyzer.engine.JavaProjectIndexer;
+import com.analyzer.model.technical.ExternalCall;
+import com.analyzer.parsers.common.JdbcParser;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Détection des requêtes SQL en dur sur toutes les méthodes indexées d'un projet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcParserBenchmark {
+
+    private final JdbcParser parser = new JdbcParser();
+    private final List<MethodDeclaration> methods = new ArrayList<>();
+    private final List<TypeDeclaration<?>> enclosingClasses = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp(Old2ProjectState project) {
+        JavaProjectIndexer indexer = project.index();
+        methods.clear();
+        enclosingClasses.clear();
+        for (int id = 0; id < indexer.getMethodCount(); id++) {
+            MethodDeclaration method = indexer.getMethod(id);
+            methods.add(method);
+            enclosingClasses.add(enclosingClass(method));
+        }
+    }
+
+    @Benchmark
+    public int findDependencies() {
+        int queries = 0;
+        for (int i = 0; i < methods.size(); i++) {
+            List<ExternalCall> calls = parser.findDependencies(methods.get(i), enclosingClasses.get(i));
+            queries += calls.size();
+        }
+        return queries;
+    }
+
+    // Remontée explicite plutôt que findAncestor(TypeDeclaration.class) : pas de tableau générique en varargs
+    private static TypeDeclaration<?> enclosingClass(MethodDeclaration method) {
+        Node node = method.getParentNode().orElseThrow();
+        while (!(node instanceof TypeDeclaration<?> type)) {
+            node = node.getParentNode().orElseThrow();
+        }
+        return type;
+    }
+}
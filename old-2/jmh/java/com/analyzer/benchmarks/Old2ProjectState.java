@@ -0,0 +1,50 @@
+package com.analyzer.benchmarks;
+
+import com.analyzer.engine.JavaProjectIndexer;
+import com.votre_entreprise.analyzer.benchmarks.SyntheticProjects;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * Projet synthétique partagé par les benchmarks de l'ancien moteur JavaParser.
+ * Le générateur est celui des benchmarks de {@code src} (même source set jmh).
+ */
+@State(Scope.Benchmark)
+public class Old2ProjectState {
+
+    static final int ENDPOINTS_PER_CONTROLLER = 5;
+
+    @Param({"20", "200"})
+    public int controllers;
+
+    @Param({"3", "8"})
+    public int callDepth;
+
+    Path projectDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        projectDir = Files.createTempDirectory("bench-old2-");
+        SyntheticProjects.writeSpringProject(projectDir, controllers, ENDPOINTS_PER_CONTROLLER, callDepth);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProjects.deleteRecursively(projectDir);
+    }
+
+    JavaProjectIndexer index() {
+        JavaProjectIndexer indexer = new JavaProjectIndexer();
+        indexer.indexProject(projectDir, Collections.emptyMap());
+        return indexer;
+    }
+}
@@ -1,6 +1,7 @@
 package com.analyzer;
 
 import com.analyzer.engine.AnalysisEngine;
+import com.analyzer.reporter.JsonReportGenerator;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -40,6 +41,29 @@ public class Main implements Callable<Integer> {
             defaultValue = "reports")
     private File outputDirectory;
 
+    @Option(names = {"--resume"},
+            description = "Reprend une analyse interrompue : les projets déjà terminés, dont les sources n'ont pas changé, ne sont pas réanalysés.")
+    private boolean resume;
+
+    @Option(names = {"--watch"},
+            description = "Après l'analyse, surveille les sources et met à jour les rapports des projets modifiés jusqu'à l'arrêt (Ctrl+C).")
+    private boolean watch;
+
+    @Option(names = {"--watch-debounce"},
+            description = "Délai en millisecondes sans modification avant de réanalyser (mode --watch). Par défaut : ${DEFAULT-VALUE}.",
+            defaultValue = "500")
+    private long watchDebounceMillis;
+
+    @Option(names = {"--report-format"},
+            description = "Encodage des rapports : ${COMPLETION-CANDIDATES}. SMILE (JSON binaire) est plus compact et plus rapide à relire. Par défaut : ${DEFAULT-VALUE}.",
+            defaultValue = "JSON")
+    private JsonReportGenerator.Encoding reportFormat;
+
+    @Option(names = {"--report-compression"},
+            description = "Compression des rapports : ${COMPLETION-CANDIDATES}. Par défaut : ${DEFAULT-VALUE}.",
+            defaultValue = "NONE")
+    private JsonReportGenerator.Compression reportCompression;
+
     /**
      * Cette méthode est appelée par Picocli après avoir parsé les arguments de la ligne de commande.
      * C'est ici que la logique principale de l'application est lancée.
@@ -53,10 +77,15 @@ public class Main implements Callable<Integer> {
         
         // Crée une instance du moteur d'analyse en lui passant toute la configuration
         // reçue de la ligne de commande.
-        AnalysisEngine engine = new AnalysisEngine(projectsPath, overridePath, businessMapFile, springProfile, outputDirectory);
+        AnalysisEngine engine = new AnalysisEngine(projectsPath, overridePath, businessMapFile, springProfile, outputDirectory, resume);
+        engine.setReportEncoding(reportFormat, reportCompression);
         
-        // Lance le processus d'analyse.
-        engine.run();
+        // Lance le processus d'analyse, puis la surveillance des sources si elle est demandée.
+        if (watch) {
+            engine.runAndWatch(watchDebounceMillis);
+        } else {
+            engine.run();
+        }
         
         return 0;
     }
@@ -70,7 +99,9 @@ public class Main implements Callable<Integer> {
         // Crée une nouvelle instance de la commande et l'exécute avec les arguments fournis.
         // Picocli s'occupe de créer une instance de Main, d'injecter les valeurs des options,
         // et d'appeler la méthode call().
-        int exitCode = new CommandLine(new Main()).execute(args);
+        int exitCode = new CommandLine(new Main())
+                .setCaseInsensitiveEnumValuesAllowed(true)
+                .execute(args);
         
         // Termine l'application avec le code de sortie retourné par la logique métier.
         System.exit(exitCode);
@@ -0,0 +1,30 @@
+package com.analyzer.collections;
+
+/**
+ * Fonctions de hachage communes aux tables à adressage ouvert du paquet.
+ */
+final class HashMixer {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private HashMixer() {
+    }
+
+    /**
+     * Étale les bits d'une clé : les identifiants de symboles sont denses et séquentiels,
+     * le sondage linéaire dégénère sans ce mélange.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Capacité (puissance de deux) permettant de stocker {@code expectedSize} éléments
+     * sous le facteur de charge de 3/4.
+     */
+    static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.min(MAX_CAPACITY, Math.max(4L, (long) expectedSize * 4 / 3 + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -4,6 +4,7 @@ import com.analyzer.model.business.BusinessFunction;
 import com.analyzer.model.business.BusinessFunctionReport;
 import com.analyzer.model.technical.AnalysisReport;
 import com.analyzer.model.technical.Endpoint;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -1,6 +1,7 @@
 package com.analyzer.engine;
 
 import com.analyzer.correlation.BusinessFunctionCorrelator;
+import com.analyzer.metrics.MetricsRegistry;
 import com.analyzer.model.business.BusinessFunctionReport;
 import com.analyzer.model.technical.AnalysisReport;
 import com.analyzer.model.technical.Endpoint;
@@ -17,15 +18,21 @@ import com.analyzer.parsers.framework.StrutsXmlParser;
 import com.analyzer.parsers.security.SecurityParser;
 import com.analyzer.reporter.JsonReportGenerator;
 import com.analyzer.ui.ConsoleProgressReporter;
+import com.analyzer.ui.LiveProgress;
 import com.github.javaparser.ast.body.MethodDeclaration;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -40,15 +47,37 @@ public class AnalysisEngine {
     private final File businessMapFile;
     private final String springProfile;
     private final File outputDirectory;
+    private final boolean resume;
 
     // --- Core components ---
     private final ProjectScanner projectScanner;
     private final ConsoleProgressReporter progressReporter;
-    private final JsonReportGenerator reportGenerator;
+    private JsonReportGenerator reportGenerator;
     private final BusinessMapParser businessMapParser;
     private final BusinessFunctionCorrelator correlator;
     private final SpringConfigParser springConfigParser;
     private final PropertiesParser propertiesParser;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final LiveProgress liveProgress = new LiveProgress();
+    private final CheckpointJournal checkpoint;
+    // Projets gardés en mémoire en mode --watch (null sinon), par racine absolue
+    private Map<Path, WatchedProject> watchedProjects;
+
+    /**
+     * État d'un projet conservé entre deux réanalyses en mode {@code --watch}.
+     * L'index est null pour un projet repris d'une exécution précédente (--resume).
+     */
+    private static class WatchedProject {
+        final File projectDir;
+        final JavaProjectIndexer indexer;
+        final AnalysisReport report;
+
+        WatchedProject(File projectDir, JavaProjectIndexer indexer, AnalysisReport report) {
+            this.projectDir = projectDir;
+            this.indexer = indexer;
+            this.report = report;
+        }
+    }
 
     // --- Parser lists ---
     private final List<EntryPointParser> entryPointParsers;
@@ -56,11 +85,19 @@ public class AnalysisEngine {
     private final SecurityParser securityParser;
 
     public AnalysisEngine(File projectsPath, File overridePath, File businessMapFile, String springProfile, File outputDirectory) {
+        this(projectsPath, overridePath, businessMapFile, springProfile, outputDirectory, false);
+    }
+
+    /**
+     * @param resume Reprend une exécution interrompue : les projets terminés et inchangés sont relus depuis leur rapport.
+     */
+    public AnalysisEngine(File projectsPath, File overridePath, File businessMapFile, String springProfile, File outputDirectory, boolean resume) {
         this.projectsPath = projectsPath;
         this.overridePath = overridePath;
         this.businessMapFile = businessMapFile;
         this.springProfile = springProfile;
         this.outputDirectory = outputDirectory;
+        this.resume = resume;
 
         // Initialize components
         this.projectScanner = new ProjectScanner();
@@ -71,6 +108,7 @@ public class AnalysisEngine {
         this.propertiesParser = new PropertiesParser();
         this.springConfigParser = new SpringConfigParser();
         this.securityParser = new SecurityParser();
+        this.checkpoint = new CheckpointJournal(outputDirectory, "profile=" + springProfile + "|override=" + overridePath);
 
         // Register all our parsers
         this.entryPointParsers = List.of(
@@ -84,11 +122,19 @@ public class AnalysisEngine {
         );
     }
 
+    /**
+     * Encodage et compression des rapports écrits (JSON indenté non compressé par défaut).
+     */
+    public void setReportEncoding(JsonReportGenerator.Encoding encoding, JsonReportGenerator.Compression compression) {
+        this.reportGenerator = new JsonReportGenerator(encoding, compression);
+    }
+
     /**
      * Main method to run the entire analysis process.
      */
     public void run() throws IOException {
-        List<File> projectsToAnalyze = projectScanner.findProjects(projectsPath);
+        List<File> projectsToAnalyze = metrics.timed(MetricsRegistry.DISCOVERY,
+                () -> projectScanner.findProjects(projectsPath));
         if (projectsToAnalyze.isEmpty()) {
             progressReporter.reportNoProjectsFound(projectsPath);
             return;
@@ -96,49 +142,260 @@ public class AnalysisEngine {
 
         prepareOutputDirectory();
         progressReporter.startAnalysis(projectsToAnalyze.size(), projectsPath);
+        liveProgress.start(projectsToAnalyze.stream().map(File::toPath).toList());
+        checkpoint.open(resume);
+        List<AnalysisReport> allTechnicalReports;
+        try {
+            allTechnicalReports = analyzeProjects(projectsToAnalyze);
+        } finally {
+            liveProgress.stop();
+            checkpoint.close();
+        }
+
+        // Final Step: Correlate with business functions if a map is provided.
+        if (businessMapFile != null && businessMapFile.exists()) {
+            correlateBusinessFunctions(allTechnicalReports);
+        }
+
+        progressReporter.endAnalysis(projectsToAnalyze.size());
+        metrics.export(outputDirectory);
+    }
+
+    /**
+     * Lance l'analyse complète puis surveille les sources des projets (mode {@code --watch}).
+     * Chaque série de modifications ne relit que les fichiers Java touchés et ne réanalyse que les
+     * endpoints dont le graphe d'appels passe par une classe modifiée ; le rapport technique du projet
+     * est réécrit sur place. Un fichier de configuration modifié (xml, properties, yml) fait réanalyser
+     * tout son projet. Ne rend la main qu'à l'interruption du processus (Ctrl+C).
+     *
+     * @param debounceMillis Délai sans modification avant de réanalyser, pour regrouper les sauvegardes.
+     */
+    public void runAndWatch(long debounceMillis) throws IOException, InterruptedException {
+        watchedProjects = new LinkedHashMap<>();
+        run();
+        if (watchedProjects.isEmpty()) {
+            return;
+        }
+
+        try (SourceWatcher watcher = new SourceWatcher(new ArrayList<>(watchedProjects.keySet()), outputDirectory.toPath(), debounceMillis)) {
+            System.out.printf("%nMode surveillance : %d projet(s), %d répertoire(s) surveillé(s). Ctrl+C pour arrêter.%n",
+                    watchedProjects.size(), watcher.getWatchedDirectoryCount());
+            while (true) {
+                SourceWatcher.ChangeBatch batch = watcher.awaitChanges();
+                Set<Path> projects = new LinkedHashSet<>(batch.changedFiles.keySet());
+                projects.addAll(batch.overflowedProjects);
+                boolean updated = false;
+                for (Path project : projects) {
+                    WatchedProject watched = watchedProjects.get(project);
+                    try {
+                        updated |= refreshProject(watched, batch.changedFiles.getOrDefault(project, Set.of()),
+                                batch.overflowedProjects.contains(project));
+                    } catch (IOException | RuntimeException e) {
+                        progressReporter.reportError(watched.projectDir.getName(), "Échec de la réanalyse, le rapport précédent est conservé.", e);
+                    }
+                }
+                if (updated) {
+                    if (businessMapFile != null && businessMapFile.exists()) {
+                        correlateBusinessFunctions(watchedProjects.values().stream().map(watched -> watched.report).toList());
+                    }
+                    metrics.export(outputDirectory);
+                }
+            }
+        }
+    }
+
+    /**
+     * Met à jour un projet surveillé après une série de modifications.
+     *
+     * @return true si le rapport du projet a été réécrit.
+     */
+    private boolean refreshProject(WatchedProject project, Set<Path> changedFiles, boolean overflowed) throws IOException {
+        long start = System.currentTimeMillis();
+        String projectName = project.projectDir.getName();
+        List<Path> javaFiles = changedFiles.stream().filter(file -> file.toString().endsWith(".java")).toList();
+        boolean configurationChanged = changedFiles.stream().anyMatch(AnalysisEngine::isConfigurationFile);
+        if (javaFiles.isEmpty() && !configurationChanged && !overflowed) {
+            return false; // fichiers sans effet sur l'analyse (documentation, fichiers temporaires d'éditeur...)
+        }
+
+        if (configurationChanged || overflowed || project.indexer == null) {
+            AnalysisReport report = analyzeProject(project.projectDir);
+            generateReport(report.applicationName, report, "technique");
+            System.out.printf("    - [watch] %s : projet réanalysé entièrement (%d endpoints) en %d ms%n",
+                    projectName, report.endpointCount, System.currentTimeMillis() - start);
+            return true;
+        }
+
+        Path projectRoot = project.projectDir.toPath();
+        AnalysisReport report = project.report;
+        // Le resolver configure le Symbol Solver du parseur partagé : il doit exister avant la relecture.
+        // Un nouveau resolver repart aussi de caches de types vides, sans les anciennes versions des fichiers.
+        CallGraphResolver resolver = new CallGraphResolver(dependencyParsers, securityParser, project.indexer, project.projectDir);
+        Set<String> touchedTypes = new HashSet<>();
+        List<Endpoint> rediscovered = new ArrayList<>();
+        metrics.timed(MetricsRegistry.MODEL_BUILD, () -> {
+            for (Path javaFile : javaFiles) {
+                touchedTypes.addAll(project.indexer.reindexFile(javaFile));
+            }
+        });
+        metrics.timed(MetricsRegistry.ENDPOINT_FINDING, () -> {
+            for (Path javaFile : javaFiles) {
+                // Les endpoints déclarés par annotation dans ce fichier sont remplacés par ceux du fichier relu
+                Path relativeFile = projectRoot.toAbsolutePath().normalize().relativize(javaFile);
+                report.endpoints.removeIf(endpoint -> endpoint.details.sourceLocation != null
+                        && Path.of(endpoint.details.sourceLocation.file).equals(relativeFile));
+                if (Files.isRegularFile(javaFile)) {
+                    for (EntryPointParser parser : entryPointParsers) {
+                        if (parser.supports(javaFile.toFile())) {
+                            rediscovered.addAll(parser.parse(javaFile.toFile(), projectRoot.toAbsolutePath().normalize()));
+                        }
+                    }
+                }
+            }
+        });
+        report.endpoints.addAll(rediscovered);
+
+        List<Endpoint> affected = new ArrayList<>(rediscovered);
+        for (Endpoint endpoint : report.endpoints) {
+            if (!rediscovered.contains(endpoint) && dependsOn(endpoint, touchedTypes)) {
+                endpoint.details.securityRules.clear();
+                endpoint.details.internalCalls.clear();
+                endpoint.details.externalCalls.clear();
+                affected.add(endpoint);
+            }
+        }
+        analyzeDependencies(affected, project.indexer, resolver);
+
+        report.endpointCount = report.endpoints.size();
+        report.analysisTimestamp = Instant.now().toString();
+        generateReport(report.applicationName, report, "technique");
+        System.out.printf("    - [watch] %s : %d fichier(s) relu(s), %d/%d endpoint(s) réanalysé(s) en %d ms%n",
+                projectName, javaFiles.size(), affected.size(), report.endpointCount, System.currentTimeMillis() - start);
+        return true;
+    }
 
+    /**
+     * Vrai si le contrôleur de l'endpoint ou une méthode de son graphe d'appels appartient à une classe touchée.
+     */
+    private static boolean dependsOn(Endpoint endpoint, Set<String> touchedTypes) {
+        if (touchedTypes.contains(endpoint.details.controllerClass)) {
+            return true;
+        }
+        for (String call : endpoint.details.internalCalls) {
+            // Format "classe.signature(params)" : la classe précède le dernier point avant la parenthèse
+            int parenthesis = call.indexOf('(');
+            int dot = call.lastIndexOf('.', parenthesis >= 0 ? parenthesis : call.length() - 1);
+            if (dot > 0 && touchedTypes.contains(call.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConfigurationFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".xml") || name.endsWith(".properties") || name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    private List<AnalysisReport> analyzeProjects(List<File> projectsToAnalyze) throws IOException {
         List<AnalysisReport> allTechnicalReports = new ArrayList<>();
 
         for (int i = 0; i < projectsToAnalyze.size(); i++) {
             File projectDir = projectsToAnalyze.get(i);
             progressReporter.startProject(projectDir.getName(), i + 1);
 
-            AnalysisReport report = new AnalysisReport(projectDir.getName());
-            report.sourcePath = projectDir.getAbsolutePath();
+            AnalysisReport previous = resume ? restoreReport(projectDir) : null;
+            if (previous != null) {
+                allTechnicalReports.add(previous);
+                if (watchedProjects != null) {
+                    // Pas d'index en mémoire : la première modification réanalysera le projet entier
+                    watchedProjects.put(projectDir.toPath().toAbsolutePath().normalize(), new WatchedProject(projectDir, null, previous));
+                }
+                metrics.increment(MetricsRegistry.PROJECTS_RESUMED);
+                liveProgress.projectCompleted(projectDir.toPath());
+                continue;
+            }
+            checkpoint.started(projectDir);
 
-            // 1. Parse Spring config to build the bean map for dependency injection resolution.
-            progressReporter.reportStep(projectDir.getName(), "Analyse de la configuration Spring...");
-            Map<String, String> beanMap = springConfigParser.buildBeanMap(projectDir, this.springProfile);
+            AnalysisReport report = analyzeProject(projectDir);
+            allTechnicalReports.add(report);
+            // Save the technical report.
+            generateReport(report.applicationName, report, "technique");
+            // Journalisé seulement une fois le rapport écrit : un arrêt avant ce point fait refaire le projet
+            checkpoint.completed(projectDir);
+            metrics.increment(MetricsRegistry.PROJECTS_ANALYZED);
+            liveProgress.projectCompleted(projectDir.toPath());
+        }
+        return allTechnicalReports;
+    }
 
-            // 2. Index the entire project for fast lookups.
-            progressReporter.reportStep(projectDir.getName(), "Création de l'index du code source...");
-            JavaProjectIndexer indexer = new JavaProjectIndexer();
-            indexer.indexProject(projectDir.toPath(), beanMap);
+    /**
+     * Analyse complète d'un projet : configuration, index, points d'entrée et graphe d'appels.
+     * En mode {@code --watch}, l'index et le rapport restent en mémoire pour les réanalyses incrémentales.
+     */
+    private AnalysisReport analyzeProject(File projectDir) {
+        AnalysisReport report = new AnalysisReport(projectDir.getName());
+        report.sourcePath = projectDir.getAbsolutePath();
 
-            // 3. Parse properties files.
-            parseConfiguration(projectDir, report);
+        // 1. Parse Spring config to build the bean map for dependency injection resolution.
+        progressReporter.reportStep(projectDir.getName(), "Analyse de la configuration Spring...");
+        liveProgress.activity(projectDir.getName(), "configuration");
+        Map<String, String> beanMap = metrics.timed(MetricsRegistry.CONFIGURATION,
+                () -> springConfigParser.buildBeanMap(projectDir, this.springProfile));
 
-            // 4. Phase 1: Discover all entry points (e.g., REST controllers, Struts actions).
-            progressReporter.reportStep(projectDir.getName(), "Phase 1: Découverte des points d'entrée...");
-            discoverEntryPoints(projectDir, report);
+        // 2. Index the entire project for fast lookups.
+        progressReporter.reportStep(projectDir.getName(), "Création de l'index du code source...");
+        liveProgress.activity(projectDir.getName(), "indexation");
+        JavaProjectIndexer indexer = new JavaProjectIndexer(liveProgress);
+        // Le resolver configure le Symbol Solver du parseur partagé : il doit exister avant
+        // l'indexation, sinon les unités de compilation indexées ne peuvent pas être résolues.
+        CallGraphResolver resolver = new CallGraphResolver(dependencyParsers, securityParser, indexer, projectDir);
+        metrics.timed(MetricsRegistry.MODEL_BUILD, () -> indexer.indexProject(projectDir.toPath(), beanMap));
+        metrics.add(MetricsRegistry.FILES_PARSED, indexer.getParsedFiles());
+        metrics.add(MetricsRegistry.PARSE_FAILURES, indexer.getParseFailures());
 
-            // 5. Phase 2: Perform deep analysis using the call graph for each entry point.
-            progressReporter.reportStep(projectDir.getName(), "Phase 2: Analyse du graphe d'appels et des dépendances...");
-            CallGraphResolver resolver = new CallGraphResolver(dependencyParsers, securityParser, indexer, projectDir);
-            analyzeDependencies(report, indexer, resolver);
+        // 3. Parse properties files.
+        metrics.timed(MetricsRegistry.CONFIGURATION, () -> parseConfiguration(projectDir, report));
 
-            // 6. Finalize report metadata and save it.
-            report.endpointCount = report.endpoints.size();
-            allTechnicalReports.add(report);
-            generateReport(report.applicationName, report, "technique");
-        }
+        // 4. Phase 1: Discover all entry points (e.g., REST controllers, Struts actions).
+        progressReporter.reportStep(projectDir.getName(), "Phase 1: Découverte des points d'entrée...");
+        liveProgress.activity(projectDir.getName(), "points d'entrée");
+        metrics.timed(MetricsRegistry.ENDPOINT_FINDING, () -> discoverEntryPoints(projectDir, report));
 
-        // Final Step: Correlate with business functions if a map is provided.
-        if (businessMapFile != null && businessMapFile.exists()) {
-            correlateBusinessFunctions(allTechnicalReports);
+        // 5. Phase 2: Perform deep analysis using the call graph for each entry point.
+        progressReporter.reportStep(projectDir.getName(), "Phase 2: Analyse du graphe d'appels et des dépendances...");
+        liveProgress.activity(projectDir.getName(), "graphe d'appels");
+        analyzeDependencies(report.endpoints, indexer, resolver);
+        metrics.add(MetricsRegistry.METHODS_VISITED, resolver.getMethodsVisited());
+        metrics.add(MetricsRegistry.CALLS_UNRESOLVED, resolver.getUnresolvedCalls());
+        metrics.add(MetricsRegistry.INDEX_HITS, resolver.getIndexHits());
+        metrics.add(MetricsRegistry.INDEX_MISSES, resolver.getIndexMisses());
+
+        // 6. Finalize report metadata.
+        report.endpointCount = report.endpoints.size();
+        metrics.add(MetricsRegistry.ENDPOINTS, report.endpointCount);
+        if (watchedProjects != null) {
+            watchedProjects.put(projectDir.toPath().toAbsolutePath().normalize(), new WatchedProject(projectDir, indexer, report));
         }
+        return report;
+    }
 
-        progressReporter.endAnalysis(projectsToAnalyze.size());
+    /**
+     * Relit le rapport d'un projet terminé lors d'une exécution précédente, ou null s'il doit être (ré)analysé.
+     */
+    private AnalysisReport restoreReport(File projectDir) throws IOException {
+        if (!checkpoint.isCompleted(projectDir)) {
+            return null;
+        }
+        File reportFile = outputDirectory.toPath().resolve(reportFileName(projectDir.getName(), "technique")).toFile();
+        try {
+            AnalysisReport report = reportGenerator.readReport(reportFile, AnalysisReport.class);
+            progressReporter.reportStep(projectDir.getName(), "Inchangé depuis la dernière exécution, rapport repris.");
+            return report;
+        } catch (IOException e) {
+            progressReporter.reportError(projectDir.getName(), "Rapport précédent illisible, le projet est réanalysé.", e);
+            return null;
+        }
     }
 
     private void prepareOutputDirectory() throws IOException {
@@ -171,13 +428,14 @@ public class AnalysisEngine {
         }
     }
 
-    private void analyzeDependencies(AnalysisReport report, JavaProjectIndexer indexer, CallGraphResolver resolver) {
-        for (Endpoint endpoint : report.endpoints) {
+    private void analyzeDependencies(List<Endpoint> endpoints, JavaProjectIndexer indexer, CallGraphResolver resolver) {
+        for (Endpoint endpoint : endpoints) {
             if (endpoint.details.controllerClass == null || endpoint.details.handlerMethod == null) continue;
 
             MethodDeclaration startMethod = indexer.getMethod(endpoint.details.controllerClass, endpoint.details.handlerMethod);
             if (startMethod != null) {
-                resolver.resolveAndAnalyze(startMethod, endpoint.details);
+                metrics.timed(MetricsRegistry.DEPENDENCY_TRAVERSAL, () -> resolver.resolveAndAnalyze(startMethod, endpoint.details));
+                liveProgress.endpointAnalyzed();
             }
         }
     }
@@ -187,16 +445,19 @@ public class AnalysisEngine {
         Map<String, String> businessMap = businessMapParser.parse(businessMapFile);
         BusinessFunctionReport businessReport = correlator.correlate(technicalReports, businessMap);
         generateReport("metier", businessReport, "metier-consolidé");
-        progressReporter.reportCorrelationEnd(outputDirectory.toPath().resolve("rapport-metier-consolidé.json"));
+        progressReporter.reportCorrelationEnd(outputDirectory.toPath().resolve(reportFileName("metier", "metier-consolidé")));
     }
 
     private void generateReport(String name, Object reportData, String type) throws IOException {
-        String reportFileName = String.format("rapport-%s-%s.json", type, name);
-        Path reportPath = outputDirectory.toPath().resolve(reportFileName);
-        reportGenerator.writeReport(reportData, reportPath.toFile());
+        Path reportPath = outputDirectory.toPath().resolve(reportFileName(name, type));
+        metrics.timed(MetricsRegistry.SERIALIZATION, () -> reportGenerator.writeReport(reportData, reportPath.toFile()));
 
         if (type.equals("technique")) {
              progressReporter.completeProject(name, reportPath);
         }
     }
+
+    private String reportFileName(String name, String type) {
+        return String.format("rapport-%s-%s%s", type, name, reportGenerator.getExtension());
+    }
 }
@@ -15,10 +15,9 @@ import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeS
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
 
 import java.io.File;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Résout le graphe d'appels à partir d'une méthode de point d'entrée.
@@ -30,6 +29,11 @@ public class CallGraphResolver {
     private final List<DependencyParser> dependencyParsers;
     private final SecurityParser securityParser;
     private final JavaProjectIndexer indexer;
+    // Compteurs remontés dans les métriques de l'exécution
+    private long methodsVisited;
+    private long unresolvedCalls;
+    private long indexHits;
+    private long indexMisses;
 
     /**
      * Construit le résolveur de graphe d'appels.
@@ -65,15 +69,33 @@ public class CallGraphResolver {
      * @param startMethod La méthode de l'endpoint.
      * @param endpointDetails L'objet qui stockera les résultats de l'analyse.
      */
+    public long getMethodsVisited() {
+        return methodsVisited;
+    }
+
+    public long getUnresolvedCalls() {
+        return unresolvedCalls;
+    }
+
+    public long getIndexHits() {
+        return indexHits;
+    }
+
+    public long getIndexMisses() {
+        return indexMisses;
+    }
+
     public void resolveAndAnalyze(MethodDeclaration startMethod, EndpointDetails endpointDetails) {
-        resolveRecursively(startMethod, endpointDetails, new HashSet<>());
+        // Méthodes visitées, par identifiant dense de l'index : un bit par méthode du projet
+        resolveRecursively(startMethod, endpointDetails, new BitSet(indexer.getMethodCount()));
     }
 
     /**
      * Méthode récursive qui explore le graphe d'appels.
      */
-    private void resolveRecursively(MethodDeclaration currentMethod, EndpointDetails endpointDetails, Set<String> visitedMethods) {
-        Optional<TypeDeclaration<?>> enclosingClassOpt = currentMethod.findAncestor(TypeDeclaration.class);
+    private void resolveRecursively(MethodDeclaration currentMethod, EndpointDetails endpointDetails, BitSet visitedMethods) {
+        Optional<TypeDeclaration<?>> enclosingClassOpt = currentMethod.findAncestor(TypeDeclaration.class)
+                .map(type -> (TypeDeclaration<?>) type);
         if (enclosingClassOpt.isEmpty()) {
             return; // Impossible de trouver la classe parente.
         }
@@ -85,12 +107,15 @@ public class CallGraphResolver {
         }
 
         String methodSignature = currentMethod.getSignature().asString();
-        String methodKey = className + "." + methodSignature;
+        int methodId = indexer.getMethodId(className, methodSignature);
 
-        if (visitedMethods.contains(methodKey)) {
-            return; // Cycle détecté.
+        if (methodId != JavaProjectIndexer.NO_METHOD) {
+            if (visitedMethods.get(methodId)) {
+                return; // Cycle détecté.
+            }
+            visitedMethods.set(methodId);
         }
-        visitedMethods.add(methodKey);
+        methodsVisited++;
 
         // Étape 1 : Analyser la méthode actuelle pour les règles de sécurité.
         endpointDetails.securityRules.addAll(securityParser.findSecurityRules(currentMethod));
@@ -105,15 +130,23 @@ public class CallGraphResolver {
             try {
                 ResolvedMethodDeclaration resolvedMethod = call.resolve();
                 String targetClassName = resolvedMethod.getQualifiedName().replace("." + resolvedMethod.getName(), "");
-                String targetMethodSignature = resolvedMethod.getSignature();
+                // La signature résolue qualifie les types (java.lang.String) alors que l'index est construit
+                // sur la signature écrite dans la source (String) : on la relit sur la déclaration si possible.
+                String targetMethodSignature = resolvedMethod.toAst(MethodDeclaration.class)
+                        .map(declaration -> declaration.getSignature().asString())
+                        .orElse(resolvedMethod.getSignature());
                 
                 MethodDeclaration nextMethod = indexer.getMethod(targetClassName, targetMethodSignature);
                 if (nextMethod != null) {
+                    indexHits++;
                     endpointDetails.internalCalls.add(targetClassName + "." + targetMethodSignature);
                     resolveRecursively(nextMethod, endpointDetails, visitedMethods);
+                } else {
+                    indexMisses++; // Méthode hors projet (JDK, bibliothèque)
                 }
             } catch (UnsolvedSymbolException | UnsupportedOperationException | InternalError e) {
                 // Ignorer les appels qui ne peuvent pas être résolus. C'est normal.
+                unresolvedCalls++;
             }
         });
     }
@@ -0,0 +1,138 @@
+package com.analyzer.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Journal de reprise d'une exécution, dans {@code <sortie>/.checkpoint/journal.log}.
+ * <p>
+ * Chaque projet y laisse une ligne {@code STARTED} avant son analyse puis une ligne
+ * {@code COMPLETED} une fois son rapport écrit (renommage atomique), avec l'empreinte de ses
+ * sources. Avec {@code --resume}, un projet terminé dont l'empreinte n'a pas changé est rechargé
+ * depuis son rapport ; un projet seulement commencé est réanalysé.
+ */
+public class CheckpointJournal {
+
+    private static final String STARTED = "STARTED";
+    private static final String COMPLETED = "COMPLETED";
+    private static final List<String> IGNORED_DIRECTORIES = List.of("target", "build", ".git", ".svn");
+
+    private final Path journalFile;
+    private final String settings;
+    // projet -> empreinte des projets terminés
+    private final Map<String, String> completed = new HashMap<>();
+    private FileChannel channel;
+
+    /**
+     * @param outputDirectory Le dossier de sortie des rapports.
+     * @param settings        Les options qui influencent le résultat (profil Spring, override) :
+     *                        elles entrent dans l'empreinte, un changement d'option invalide la reprise.
+     */
+    public CheckpointJournal(File outputDirectory, String settings) {
+        this.journalFile = outputDirectory.toPath().resolve(".checkpoint").resolve("journal.log");
+        this.settings = settings;
+    }
+
+    /**
+     * Ouvre le journal. Sans reprise, le journal précédent est effacé.
+     */
+    public void open(boolean resume) throws IOException {
+        Files.createDirectories(journalFile.getParent());
+        if (resume && Files.exists(journalFile)) {
+            for (String line : Files.readAllLines(journalFile, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (fields.length < 3) {
+                    continue; // ligne tronquée par un arrêt brutal
+                }
+                if (COMPLETED.equals(fields[0])) {
+                    completed.put(fields[1], fields[2]);
+                } else if (STARTED.equals(fields[0])) {
+                    completed.remove(fields[1]);
+                }
+            }
+        } else {
+            Files.deleteIfExists(journalFile);
+        }
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Vrai si le projet a été terminé lors d'une exécution précédente et que ses sources n'ont pas changé.
+     */
+    public boolean isCompleted(File projectDir) throws IOException {
+        String previous = completed.get(projectDir.getName());
+        return previous != null && previous.equals(fingerprint(projectDir));
+    }
+
+    public void started(File projectDir) throws IOException {
+        append(STARTED, projectDir.getName(), fingerprint(projectDir));
+    }
+
+    /**
+     * À appeler une fois le rapport du projet écrit sur disque.
+     */
+    public void completed(File projectDir) throws IOException {
+        append(COMPLETED, projectDir.getName(), fingerprint(projectDir));
+    }
+
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void append(String state, String project, String fingerprint) throws IOException {
+        String line = state + "\t" + project + "\t" + fingerprint + "\t" + Instant.now() + "\n";
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Empreinte SHA-256 des chemins relatifs, tailles et dates de modification des fichiers du projet.
+     * Le contenu n'est pas relu : l'empreinte d'un gros projet se calcule en un parcours de répertoires.
+     */
+    String fingerprint(File projectDir) throws IOException {
+        MessageDigest digest = sha256();
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        Path root = projectDir.toPath();
+        try (Stream<Path> stream = Files.walk(root)) {
+            List<Path> files = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> root.relativize(path).getNameCount() < 2
+                            || !IGNORED_DIRECTORIES.contains(root.relativize(path).getName(0).toString()))
+                    .sorted()
+                    .toList();
+            for (Path file : files) {
+                String entry = root.relativize(file) + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis() + "\n";
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.analyzer.engine;
 
+import com.analyzer.collections.IntIntMap;
+import com.analyzer.collections.IntObjectMap;
+import com.analyzer.symbols.SymbolTable;
+import com.analyzer.ui.LiveProgress;
+import com.github.javaparser.ParseProblemException;
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.MethodDeclaration;
@@ -8,18 +13,43 @@ import com.github.javaparser.ast.body.TypeDeclaration;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
  * Indexe toutes les déclarations de méthodes d'un projet pour une résolution rapide.
- * Crée une carte de "nom_complet_classe.signature_methode" -> MethodDeclaration.
+ * Crée une carte de (nom_complet_classe, signature_methode) -> MethodDeclaration.
+ * Les clés sont des symboles de la {@link SymbolTable} de l'indexeur : une recherche ne
+ * concatène plus de chaîne et une classe inconnue est écartée sans allocation.
+ * Chaque méthode indexée reçoit un identifiant dense (0..n-1), utilisable dans un BitSet.
  */
 public class JavaProjectIndexer {
 
-    private final Map<String, MethodDeclaration> methodIndex = new HashMap<>();
-    private final Map<String, TypeDeclaration<?>> typeIndex = new HashMap<>();
+    public static final int NO_METHOD = -1;
+
+    private final SymbolTable symbols = new SymbolTable();
+    // symbole de classe -> (symbole de signature -> identifiant de méthode)
+    private final IntObjectMap<IntIntMap> methodIndex = new IntObjectMap<>();
+    private final List<MethodDeclaration> methods = new ArrayList<>();
+    private final IntObjectMap<TypeDeclaration<?>> typeIndex = new IntObjectMap<>();
+    // fichier -> classes qu'il déclare, pour la réindexation d'un fichier modifié (mode --watch)
+    private final Map<Path, List<String>> typesByFile = new HashMap<>();
+    private final LiveProgress progress;
+    private int parsedFiles;
+    private int parseFailures;
+
+    public JavaProjectIndexer() {
+        this(LiveProgress.DISABLED);
+    }
+
+    public JavaProjectIndexer(LiveProgress progress) {
+        this.progress = progress;
+    }
 
     // --- SIGNATURE CORRIGÉE ---
     public void indexProject(Path projectRoot, Map<String, String> beanMap) {
@@ -37,27 +67,104 @@ public class JavaProjectIndexer {
     }
 
     private void indexFile(Path javaFile) {
+        parsedFiles++;
         try {
+            long bytes = Files.size(javaFile);
             CompilationUnit cu = StaticJavaParser.parse(javaFile);
+            progress.fileIndexed(bytes);
+            List<String> declaredTypes = new ArrayList<>();
             for (TypeDeclaration<?> type : cu.getTypes()) {
-                String className = type.getFullyQualifiedName().orElse(type.getNameAsString());
+                String qualifiedName = type.getFullyQualifiedName().orElse(type.getNameAsString());
+                declaredTypes.add(qualifiedName);
+                int className = symbols.intern(qualifiedName);
                 typeIndex.put(className, type);
 
+                IntIntMap classMethods = methodIndex.computeIfAbsent(className, key -> new IntIntMap());
                 for (MethodDeclaration method : type.getMethods()) {
-                    String methodKey = className + "." + method.getSignature().asString();
-                    methodIndex.put(methodKey, method);
+                    int signature = symbols.intern(method.getSignature().asString());
+                    int methodId = classMethods.get(signature, NO_METHOD);
+                    if (methodId == NO_METHOD) {
+                        classMethods.put(signature, methods.size());
+                        methods.add(method);
+                    } else {
+                        methods.set(methodId, method);
+                    }
                 }
             }
-        } catch (IOException e) {
+            typesByFile.put(javaFile.toAbsolutePath().normalize(), declaredTypes);
+        } catch (IOException | ParseProblemException e) {
             // Ignorer les fichiers qui ne peuvent pas être parsés
+            parseFailures++;
+        }
+    }
+
+    /**
+     * Réindexe un fichier créé, modifié ou supprimé : ses anciennes méthodes sont retirées de l'index
+     * avant que le fichier ne soit reparsé. Les autres fichiers du projet ne sont pas relus.
+     *
+     * @return les classes touchées (déclarées avant ou après la modification).
+     */
+    public Set<String> reindexFile(Path javaFile) {
+        Path normalized = javaFile.toAbsolutePath().normalize();
+        Set<String> touchedTypes = new HashSet<>();
+        List<String> previousTypes = typesByFile.remove(normalized);
+        if (previousTypes != null) {
+            for (String qualifiedName : previousTypes) {
+                touchedTypes.add(qualifiedName);
+                // Pas de suppression dans IntObjectMap : une table vide rend les méthodes introuvables
+                methodIndex.put(symbols.intern(qualifiedName), new IntIntMap());
+            }
+        }
+        if (Files.isRegularFile(normalized)) {
+            indexFile(normalized);
+            List<String> currentTypes = typesByFile.get(normalized);
+            if (currentTypes != null) {
+                touchedTypes.addAll(currentTypes);
+            }
         }
+        return touchedTypes;
+    }
+
+        public MethodDeclaration getMethod(String className, String methodSignature) {
+        int methodId = getMethodId(className, methodSignature);
+        return methodId == NO_METHOD ? null : methods.get(methodId);
+    }
+
+    /**
+     * @return l'identifiant dense de la méthode, ou {@link #NO_METHOD} si elle n'est pas indexée.
+     */
+    public int getMethodId(String className, String methodSignature) {
+        // lookup() et non intern() : les classes hors projet (JDK, bibliothèques) ne sont pas ajoutées
+        int classSymbol = symbols.lookup(className);
+        if (classSymbol == SymbolTable.ABSENT) {
+            return NO_METHOD;
+        }
+        IntIntMap classMethods = methodIndex.get(classSymbol);
+        int signatureSymbol = symbols.lookup(methodSignature);
+        if (classMethods == null || signatureSymbol == SymbolTable.ABSENT) {
+            return NO_METHOD;
+        }
+        return classMethods.get(signatureSymbol, NO_METHOD);
+    }
+
+    public MethodDeclaration getMethod(int methodId) {
+        return methods.get(methodId);
+    }
+
+    public int getMethodCount() {
+        return methods.size();
+    }
+
+    public int getParsedFiles() {
+        return parsedFiles;
     }
 
-    public MethodDeclaration getMethod(String className, String methodSignature) {
-        return methodIndex.get(className + "." + methodSignature);
+    public int getParseFailures() {
+        return parseFailures;
     }
     
     public TypeDeclaration<?> getType(String className) {
-        return typeIndex.get(className);
+        int classSymbol = symbols.lookup(className);
+        return classSymbol == SymbolTable.ABSENT ? null : typeIndex.get(classSymbol);
     }
 }
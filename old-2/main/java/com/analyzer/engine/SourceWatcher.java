@@ -0,0 +1,199 @@
+package com.analyzer.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surveille les sources d'un ensemble de projets avec un {@link WatchService} (mode {@code --watch}).
+ * <p>
+ * Chaque répertoire d'un projet est enregistré (le WatchService n'est pas récursif), sauf les
+ * répertoires de gestion de version, les sorties de build à la racine des modules (un package
+ * {@code build} reste surveillé) et le dossier de sortie des rapports. Les événements
+ * sont regroupés : après le premier, on attend que les sources restent calmes pendant le délai de
+ * regroupement, pour qu'une sauvegarde multiple (IDE, checkout git) ne déclenche qu'une réanalyse.
+ */
+public class SourceWatcher implements Closeable {
+
+    private static final List<String> IGNORED_DIRECTORIES = List.of(".git", ".svn", ".idea", ".gradle");
+    // Ignorés seulement à côté d'un descripteur de build : ailleurs ce sont des packages comme les autres
+    private static final List<String> BUILD_OUTPUT_DIRECTORIES = List.of("target", "build", "bin", "node_modules");
+    private static final List<String> MODULE_DESCRIPTORS = List.of("pom.xml", "build.gradle", "build.gradle.kts", "build.xml", "package.json");
+    // Au-delà, une rafale continue de modifications est traitée même si elle n'est pas terminée
+    private static final int MAX_DEBOUNCE_ROUNDS = 20;
+
+    /**
+     * Modifications regroupées, par racine de projet.
+     */
+    public static class ChangeBatch {
+        /** Fichiers créés, modifiés ou supprimés. */
+        public final Map<Path, Set<Path>> changedFiles = new LinkedHashMap<>();
+        /** Projets dont des événements ont été perdus (débordement) : à réanalyser entièrement. */
+        public final Set<Path> overflowedProjects = new LinkedHashSet<>();
+
+        public boolean isEmpty() {
+            return changedFiles.isEmpty() && overflowedProjects.isEmpty();
+        }
+    }
+
+    private final WatchService watchService;
+    private final List<Path> projectRoots;
+    private final Path ignoredDirectory;
+    private final long debounceMillis;
+    // clé d'enregistrement -> répertoire surveillé
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+
+    /**
+     * @param ignoredDirectory Dossier à ne pas surveiller (sortie des rapports), ou null.
+     */
+    public SourceWatcher(List<Path> projectRoots, Path ignoredDirectory, long debounceMillis) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.projectRoots = projectRoots.stream().map(root -> root.toAbsolutePath().normalize()).toList();
+        this.ignoredDirectory = ignoredDirectory != null ? ignoredDirectory.toAbsolutePath().normalize() : null;
+        this.debounceMillis = debounceMillis;
+        for (Path root : this.projectRoots) {
+            registerTree(root);
+        }
+    }
+
+    /**
+     * @return le nombre de répertoires surveillés.
+     */
+    public int getWatchedDirectoryCount() {
+        return watchedDirectories.size();
+    }
+
+    /**
+     * Attend la prochaine série de modifications et la renvoie une fois les sources calmes.
+     */
+    public ChangeBatch awaitChanges() throws InterruptedException, IOException {
+        ChangeBatch batch = new ChangeBatch();
+        WatchKey key = watchService.take();
+        int rounds = 0;
+        while (key != null) {
+            collect(key, batch);
+            // Regroupement : on continue tant que des événements arrivent pendant le délai
+            key = rounds++ < MAX_DEBOUNCE_ROUNDS ? watchService.poll(debounceMillis, TimeUnit.MILLISECONDS) : watchService.poll();
+        }
+        return batch;
+    }
+
+    private void collect(WatchKey key, ChangeBatch batch) throws IOException {
+        Path directory = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            Path project = projectOf(directory);
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                if (project != null) {
+                    batch.overflowedProjects.add(project);
+                }
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (project == null || isIgnored(file)) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+                // Nouveau package : on le surveille et on signale les fichiers déjà copiés dedans
+                registerTree(file);
+                try (var stream = Files.walk(file)) {
+                    stream.filter(Files::isRegularFile)
+                          .forEach(created -> batch.changedFiles.computeIfAbsent(project, p -> new LinkedHashSet<>()).add(created));
+                }
+                continue;
+            }
+            if (!Files.isDirectory(file)) {
+                batch.changedFiles.computeIfAbsent(project, p -> new LinkedHashSet<>()).add(file);
+            }
+        }
+        if (!key.reset()) {
+            // Répertoire supprimé : il n'est plus surveillé
+            watchedDirectories.remove(key);
+        }
+    }
+
+    private Path projectOf(Path path) {
+        Path best = null;
+        for (Path root : projectRoots) {
+            // Projets imbriqués : la racine la plus profonde l'emporte
+            if (path.startsWith(root) && (best == null || root.getNameCount() > best.getNameCount())) {
+                best = root;
+            }
+        }
+        return best;
+    }
+
+    private boolean isIgnored(Path path) {
+        if (ignoredDirectory != null && path.startsWith(ignoredDirectory)) {
+            return true;
+        }
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.toString();
+        return IGNORED_DIRECTORIES.contains(name)
+                || (BUILD_OUTPUT_DIRECTORIES.contains(name) && Files.isDirectory(path) && isModuleRoot(path.getParent()));
+    }
+
+    private static boolean isModuleRoot(Path directory) {
+        if (directory == null) {
+            return false;
+        }
+        for (String descriptor : MODULE_DESCRIPTORS) {
+            if (Files.isRegularFile(directory.resolve(descriptor))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void registerTree(Path start) throws IOException {
+        Set<Path> registered = new HashSet<>(watchedDirectories.values());
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(start) && isIgnored(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                if (registered.add(dir)) {
+                    WatchKey key = dir.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                    watchedDirectories.put(key, dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,175 @@
+package com.analyzer.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chronomètres par phase et compteurs d'une exécution de l'analyse.
+ * Exportés en fin d'exécution dans {@code metrics.json} et, au format texte Prometheus,
+ * dans {@code metrics.prom}. Les noms de phases et de compteurs sont ceux de l'analyseur
+ * Spoon, pour que les deux moteurs alimentent les mêmes tableaux de bord ; le chronométrage
+ * et l'export sont écrits à l'identique, seul l'export vers un {@link File} est propre à ce moteur.
+ */
+public final class MetricsRegistry {
+
+    // Phases instrumentées
+    public static final String DISCOVERY = "discovery";
+    public static final String CONFIGURATION = "configuration";
+    public static final String MODEL_BUILD = "model_build";
+    public static final String ENDPOINT_FINDING = "endpoint_finding";
+    public static final String DEPENDENCY_TRAVERSAL = "dependency_traversal";
+    public static final String SERIALIZATION = "serialization";
+
+    // Compteurs
+    public static final String PROJECTS_ANALYZED = "projects_analyzed";
+    public static final String PROJECTS_RESUMED = "projects_resumed";
+    public static final String FILES_PARSED = "files_parsed";
+    public static final String PARSE_FAILURES = "parse_failures";
+    public static final String ENDPOINTS = "endpoints";
+    public static final String METHODS_VISITED = "methods_visited";
+    public static final String CALLS_UNRESOLVED = "calls_unresolved";
+    public static final String INDEX_HITS = "index_hits";
+    public static final String INDEX_MISSES = "index_misses";
+
+    private static final String PROMETHEUS_PREFIX = "analyzer_";
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, PhaseTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Exécute un traitement en chronométrant la phase, y compris s'il échoue :
+     * {@code model = metrics.timed(MODEL_BUILD, () -> build(sources));}
+     */
+    public <T, E extends Exception> T timed(String phase, TimedCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            recordNanos(phase, System.nanoTime() - start);
+        }
+    }
+
+    /** Variante sans résultat : {@code metrics.timed(SERIALIZATION, () -> writer.write(report));} */
+    public <E extends Exception> void timed(String phase, TimedRun<E> run) throws E {
+        long start = System.nanoTime();
+        try {
+            run.run();
+        } finally {
+            recordNanos(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void recordNanos(String phase, long nanos) {
+        timers.computeIfAbsent(phase, name -> new PhaseTimer()).record(1, nanos, nanos);
+    }
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public void add(String counter, long delta) {
+        counters.computeIfAbsent(counter, name -> new LongAdder()).add(delta);
+    }
+
+    /** Statistiques d'une phase : nombre d'exécutions, durée cumulée et durée maximale. */
+    public record PhaseStats(long count, long totalNanos, long maxNanos) {}
+
+    public Map<String, PhaseStats> getPhases() {
+        Map<String, PhaseStats> phases = new TreeMap<>();
+        timers.forEach((name, timer) -> phases.put(name, timer.stats()));
+        return phases;
+    }
+
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, adder) -> values.put(name, adder.sum()));
+        return values;
+    }
+
+    /**
+     * Écrit {@code metrics.json} et {@code metrics.prom} dans le dossier de sortie.
+     */
+    public void export(File directory) throws IOException {
+        Map<String, PhaseStats> phases = getPhases();
+        Map<String, Long> values = getCounters();
+        long durationMillis = System.currentTimeMillis() - startedAt;
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("startedAt", Instant.ofEpochMilli(startedAt).toString());
+        document.put("durationSeconds", durationMillis / 1000.0);
+        document.put("phases", phases);
+        document.put("counters", values);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(directory, "metrics.json"), document);
+        Files.writeString(new File(directory, "metrics.prom").toPath(), toPrometheus(phases, values, durationMillis));
+    }
+
+    private static String toPrometheus(Map<String, PhaseStats> phases, Map<String, Long> values, long durationMillis) {
+        StringBuilder out = new StringBuilder();
+        String phase = PROMETHEUS_PREFIX + "phase_duration_seconds";
+        out.append("# HELP ").append(phase).append(" Durée cumulée des phases d'analyse.\n")
+           .append("# TYPE ").append(phase).append(" summary\n");
+        phases.forEach((name, stats) -> {
+            out.append(phase).append("_sum{phase=\"").append(name).append("\"} ").append(seconds(stats.totalNanos())).append('\n');
+            out.append(phase).append("_count{phase=\"").append(name).append("\"} ").append(stats.count()).append('\n');
+        });
+        out.append("# HELP ").append(phase).append("_max Durée maximale d'une exécution de la phase.\n")
+           .append("# TYPE ").append(phase).append("_max gauge\n");
+        phases.forEach((name, stats) ->
+                out.append(phase).append("_max{phase=\"").append(name).append("\"} ").append(seconds(stats.maxNanos())).append('\n'));
+        values.forEach((name, value) -> {
+            String metric = PROMETHEUS_PREFIX + name + "_total";
+            out.append("# TYPE ").append(metric).append(" counter\n")
+               .append(metric).append(' ').append(value).append('\n');
+        });
+        String run = PROMETHEUS_PREFIX + "run_duration_seconds";
+        out.append("# TYPE ").append(run).append(" gauge\n")
+           .append(run).append(' ').append(seconds(durationMillis * 1_000_000L)).append('\n');
+        return out.toString();
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1e9);
+    }
+
+    /** Traitement chronométré par {@link #timed(String, TimedCall)}. */
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /** Traitement sans résultat chronométré par {@link #timed(String, TimedRun)}. */
+    @FunctionalInterface
+    public interface TimedRun<E extends Exception> {
+        void run() throws E;
+    }
+
+    private static final class PhaseTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long executions, long nanos, long max) {
+            count.add(executions);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(max);
+        }
+
+        PhaseStats stats() {
+            return new PhaseStats(count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.analyzer.parsers.config;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -19,6 +19,20 @@ import java.util.stream.Stream;
  */
 public class SpringConfigParser {
 
+    /**
+     * Lecture StAX en un seul passage, sans arbre DOM : seuls les attributs des éléments bean sont lus.
+     * XMLInputFactory.newFactory() parcourt le classpath et la spécification StAX ne garantit pas
+     * qu'une fabrique soit thread-safe : chaque thread garde la sienne.
+     */
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Ni DTD ni entités externes : un contexte Spring n'en a pas besoin
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    });
+
     /**
      * Crée une carte de "nom du bean" -> "nom de la classe d'implémentation".
      * @param projectDir Le répertoire du projet.
@@ -46,27 +60,40 @@ public class SpringConfigParser {
         return beanMap;
     }
 
-    private void parseXmlConfig(File xmlFile, String activeProfile, Map<String, String> beanMap) throws Exception {
-        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-        Document doc = dBuilder.parse(xmlFile);
-        doc.getDocumentElement().normalize();
-
-        NodeList beanList = doc.getElementsByTagName("bean");
-        for (int i = 0; i < beanList.getLength(); i++) {
-            Element beanElement = (Element) beanList.item(i);
-            String beanId = beanElement.getAttribute("id");
-            String beanClass = beanElement.getAttribute("class");
+    private void parseXmlConfig(File xmlFile, String activeProfile, Map<String, String> beanMap)
+            throws IOException, XMLStreamException {
+        try (InputStream input = Files.newInputStream(xmlFile.toPath())) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.get().createXMLStreamReader(input);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT || !reader.getLocalName().equals("bean")) {
+                        continue;
+                    }
+                    String beanId = attribute(reader, "id");
+                    String beanClass = attribute(reader, "class");
+                    String profile = reader.getAttributeValue(null, "profile");
 
-            // Gestion de base des profils : on ne charge que les beans qui correspondent
-            // ou qui n'ont pas de profil. Une vraie gestion serait plus complexe.
-            if (beanElement.hasAttribute("profile")) {
-                if (beanElement.getAttribute("profile").equals(activeProfile)) {
-                    beanMap.put(beanId, beanClass);
+                    // Gestion de base des profils : on ne charge que les beans qui correspondent
+                    // ou qui n'ont pas de profil. Une vraie gestion serait plus complexe.
+                    if (profile != null) {
+                        if (profile.equals(activeProfile)) {
+                            beanMap.put(beanId, beanClass);
+                        }
+                    } else {
+                         beanMap.put(beanId, beanClass);
+                    }
                 }
-            } else {
-                 beanMap.put(beanId, beanClass);
+            } finally {
+                reader.close();
             }
         }
     }
+
+    /**
+     * Comme Element.getAttribute : chaîne vide pour un attribut absent.
+     */
+    private static String attribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(null, name);
+        return value != null ? value : "";
+    }
 }
@@ -1,29 +1,108 @@
 package com.analyzer.reporter;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Responsable de la sérialisation des objets de rapport (comme AnalysisReport)
  * en un fichier au format JSON.
  * Utilise la librairie Jackson pour une conversion robuste et configurable.
+ * <p>
+ * Le rapport peut aussi être écrit en JSON binaire (Smile) et compressé (gzip, zstd) :
+ * la relecture détecte le format et la compression d'après le contenu du fichier.
  */
 public class JsonReportGenerator {
 
+    /**
+     * Encodage du rapport.
+     */
+    public enum Encoding {
+        /** JSON indenté, lisible par un humain. */
+        JSON("json"),
+        /** JSON binaire Jackson Smile : plus compact et plus rapide à relire. */
+        SMILE("smile");
+
+        private final String extension;
+
+        Encoding(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * Compression du fichier de rapport.
+     */
+    public enum Compression {
+        NONE(""),
+        GZIP(".gz"),
+        ZSTD(".zst");
+
+        private final String extension;
+
+        Compression(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final Encoding encoding;
+    private final Compression compression;
 
     /**
      * Construit une nouvelle instance du générateur de rapport.
      * Initialise et configure l'ObjectMapper, qui est le moteur de conversion JSON.
      */
     public JsonReportGenerator() {
+        this(Encoding.JSON, Compression.NONE);
+    }
+
+    /**
+     * @param encoding    Encodage des rapports écrits.
+     * @param compression Compression des rapports écrits.
+     */
+    public JsonReportGenerator(Encoding encoding, Compression compression) {
+        this.encoding = encoding;
+        this.compression = compression;
         this.objectMapper = new ObjectMapper();
         
         // Active la fonctionnalité "pretty print".
         // Le JSON généré sera indenté et formaté pour être facilement lisible par un humain.
         this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        // Les rapports relus lors d'une reprise peuvent venir d'une version antérieure de l'outil.
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // Les noms de classes et de méthodes répétés ne sont écrits qu'une fois puis référencés.
+        this.smileMapper = new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+        this.smileMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * @return L'extension des rapports écrits, ex: ".json" ou ".smile.zst".
+     */
+    public String getExtension() {
+        return "." + encoding.extension + compression.extension;
     }
 
     /**
@@ -35,7 +114,69 @@ public class JsonReportGenerator {
      * @throws IOException Si une erreur d'entrée/sortie se produit lors de l'écriture du fichier.
      */
     public void writeReport(Object reportData, File outputFile) throws IOException {
-        // La méthode writeValue gère toute la complexité de la conversion de l'objet Java en JSON.
-        objectMapper.writeValue(outputFile, reportData);
+        // Écriture dans un fichier temporaire du même dossier puis renommage atomique :
+        // un arrêt brutal laisse soit l'ancien rapport, soit le nouveau, jamais un JSON tronqué.
+        Path target = outputFile.toPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            // La méthode writeValue gère toute la complexité de la conversion de l'objet Java en JSON.
+            // Elle ferme le flux, ce qui termine aussi la trame gzip/zstd.
+            ObjectMapper mapper = encoding == Encoding.SMILE ? smileMapper : objectMapper;
+            mapper.writeValue(compress(new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)), reportData);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Relit un rapport écrit par {@link #writeReport(Object, File)} (ex: lors d'une reprise avec --resume).
+     * Le format et la compression sont détectés d'après les premiers octets, quel que soit le réglage courant.
+     *
+     * @param inputFile Le fichier de rapport à relire.
+     * @param type      La classe du rapport (ex: AnalysisReport.class).
+     * @throws IOException Si le fichier est absent ou illisible.
+     */
+    public <T> T readReport(File inputFile, Class<T> type) throws IOException {
+        try (InputStream in = decompress(new BufferedInputStream(Files.newInputStream(inputFile.toPath()), BUFFER_SIZE))) {
+            // En-tête Smile : ":)\n"
+            byte[] header = peek(in, 3);
+            boolean smile = header.length == 3 && header[0] == ':' && header[1] == ')' && header[2] == '\n';
+            return (smile ? smileMapper : objectMapper).readValue(in, type);
+        }
+    }
+
+    private OutputStream compress(OutputStream out) throws IOException {
+        return switch (compression) {
+            case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE);
+            case ZSTD -> new ZstdOutputStream(out);
+            case NONE -> out;
+        };
+    }
+
+    private static InputStream decompress(InputStream in) throws IOException {
+        byte[] magic = peek(in, 4);
+        if (magic.length >= 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b) {
+            return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+        }
+        // Trame zstd : 28 B5 2F FD
+        if (magic.length == 4 && (magic[0] & 0xff) == 0x28 && (magic[1] & 0xff) == 0xb5
+                && (magic[2] & 0xff) == 0x2f && (magic[3] & 0xff) == 0xfd) {
+            return new BufferedInputStream(new ZstdInputStream(in), BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    private static byte[] peek(InputStream in, int length) throws IOException {
+        in.mark(length);
+        try {
+            return in.readNBytes(length);
+        } finally {
+            in.reset();
+        }
     }
 }
@@ -0,0 +1,184 @@
+package com.analyzer.ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Progression en direct de l'analyse, en complément des étapes affichées par
+ * {@link ConsoleProgressReporter} : débit (fichiers/s, Mo/s), endpoints analysés,
+ * activité courante et temps restant estimé à partir de l'inventaire des sources.
+ * <p>
+ * L'indexeur et le moteur publient des événements (fichier indexé, endpoint analysé) dans des
+ * compteurs sans verrou ; un thread démon les lit périodiquement. Dans une console interactive,
+ * une ligne d'état est réécrite chaque seconde ; sinon une ligne structurée {@code cle=valeur}
+ * est écrite toutes les 30 secondes.
+ */
+public class LiveProgress {
+
+    /** Instance inerte pour les usages hors moteur (benchmarks, outils) : les événements sont simplement comptés. */
+    public static final LiveProgress DISABLED = new LiveProgress();
+
+    private static final long CONSOLE_PERIOD_MILLIS = 1_000;
+    private static final long LOG_PERIOD_MILLIS = 30_000;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LongAdder filesIndexed = new LongAdder();
+    private final LongAdder bytesIndexed = new LongAdder();
+    private final LongAdder endpointsAnalyzed = new LongAdder();
+    private final LongAdder completedProjects = new LongAdder();
+    private final LongAdder completedBytes = new LongAdder();
+    // nom du thread -> "projet / étape"
+    private final Map<String, String> activities = new ConcurrentHashMap<>();
+    private final Map<Path, Long> inventoryBytes = new ConcurrentHashMap<>();
+    private volatile int totalProjects;
+    private volatile long totalFiles;
+    private volatile long totalBytes;
+    private volatile long startedAt = System.nanoTime();
+    private boolean interactive;
+    private int lastLineLength;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Inventorie les sources Java ({@code src/main/java}) de chaque projet puis démarre l'affichage.
+     */
+    public synchronized void start(List<Path> projects) {
+        long files = 0;
+        long bytes = 0;
+        for (Path project : projects) {
+            Path sourceRoot = project.resolve("src/main/java");
+            if (!Files.isDirectory(sourceRoot)) {
+                continue;
+            }
+            long projectBytes = 0;
+            try (Stream<Path> stream = Files.walk(sourceRoot)) {
+                for (Path file : (Iterable<Path>) stream.filter(path -> path.toString().endsWith(".java"))::iterator) {
+                    projectBytes += sizeOf(file);
+                    files++;
+                }
+            } catch (IOException e) {
+                System.err.println("Inventaire incomplet pour " + project + " : " + e.getMessage());
+            }
+            inventoryBytes.put(project.toAbsolutePath().normalize(), projectBytes);
+            bytes += projectBytes;
+        }
+        totalProjects = projects.size();
+        totalFiles = files;
+        totalBytes = bytes;
+        startedAt = System.nanoTime();
+
+        interactive = System.console() != null;
+        long period = interactive ? CONSOLE_PERIOD_MILLIS : LOG_PERIOD_MILLIS;
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::report, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // ===== Événements (thread-safe, sans verrou) =====
+
+    public void fileIndexed(long bytes) {
+        filesIndexed.increment();
+        bytesIndexed.add(bytes);
+    }
+
+    public void endpointAnalyzed() {
+        endpointsAnalyzed.increment();
+    }
+
+    public void activity(String projectName, String step) {
+        activities.put(Thread.currentThread().getName(), projectName + " / " + step);
+    }
+
+    public void projectCompleted(Path project) {
+        activities.remove(Thread.currentThread().getName());
+        completedProjects.increment();
+        completedBytes.add(inventoryBytes.getOrDefault(project.toAbsolutePath().normalize(), 0L));
+    }
+
+    /** Arrête l'affichage et écrit l'état final. */
+    public synchronized void stop() {
+        if (ticker == null) {
+            return;
+        }
+        ticker.shutdownNow();
+        ticker = null;
+        print();
+        if (interactive) {
+            System.out.println();
+        }
+    }
+
+    private synchronized void report() {
+        try {
+            print();
+        } catch (RuntimeException e) {
+            // Une erreur d'affichage ne doit pas arrêter le ticker
+            System.err.println("Erreur d'affichage de la progression : " + e.getMessage());
+        }
+    }
+
+    private void print() {
+        double elapsedSeconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+        long files = filesIndexed.sum();
+        long bytes = bytesIndexed.sum();
+        long done = completedProjects.sum();
+        double filesPerSecond = files / elapsedSeconds;
+        double megabytesPerSecond = bytes / 1e6 / elapsedSeconds;
+        // Part de l'inventaire déjà couverte : en octets si l'inventaire est connu, en projets sinon
+        double fraction = totalBytes > 0
+                ? (double) completedBytes.sum() / totalBytes
+                : totalProjects > 0 ? (double) done / totalProjects : 0;
+        long etaSeconds = fraction > 0 && fraction < 1 ? Math.round(elapsedSeconds * (1 - fraction) / fraction) : -1;
+        Map<String, String> workers = new TreeMap<>(activities);
+
+        if (interactive) {
+            String line = String.format(Locale.ROOT, "Projets %d/%d | %d/%d fichiers indexés (%.0f/s, %.1f Mo/s) | %d endpoints | ETA %s | %s",
+                    done, totalProjects, files, totalFiles, filesPerSecond, megabytesPerSecond,
+                    endpointsAnalyzed.sum(), formatEta(etaSeconds), String.join(", ", workers.values()));
+            int padding = Math.max(0, lastLineLength - line.length());
+            System.out.print('\r' + line + " ".repeat(padding));
+            System.out.flush();
+            lastLineLength = line.length();
+        } else {
+            String active = workers.entrySet().stream()
+                    .map(worker -> worker.getKey() + "=" + worker.getValue())
+                    .collect(Collectors.joining(";"));
+            System.out.printf(Locale.ROOT,
+                    "%s progress projects_done=%d projects_total=%d files_indexed=%d inventory_files=%d bytes_indexed=%d"
+                            + " files_per_s=%.1f mb_per_s=%.2f endpoints=%d eta_s=%d workers=\"%s\"%n",
+                    LocalDateTime.now().format(TIMESTAMP), done, totalProjects, files, totalFiles, bytes,
+                    filesPerSecond, megabytesPerSecond, endpointsAnalyzed.sum(), etaSeconds, active);
+        }
+    }
+
+    private static String formatEta(long seconds) {
+        if (seconds < 0) {
+            return "--:--:--";
+        }
+        return String.format(Locale.ROOT, "%02d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
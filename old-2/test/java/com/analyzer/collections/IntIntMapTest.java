@@ -0,0 +1,49 @@
+package com.analyzer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIntMapTest {
+
+    @Test
+    void zeroAndNegativeKeysAreOrdinaryKeys() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(-1, map.get(0, -1));
+        assertFalse(map.containsKey(0));
+
+        map.put(0, 7);
+        map.put(-5, 9);
+        map.put(0, 8);
+
+        assertEquals(8, map.get(0, -1));
+        assertEquals(9, map.get(-5, -1));
+        assertTrue(map.containsKey(0));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void matchesAHashMapAcrossRehashes() {
+        IntIntMap map = new IntIntMap(2);
+        Map<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // Clés tirées dans un petit intervalle : beaucoup de mises à jour de clés existantes
+            int key = random.nextInt(8_000) - 4_000;
+            map.put(key, i);
+            reference.put(key, i);
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (int key = -4_000; key < 4_000; key++) {
+            assertEquals(reference.getOrDefault(key, Integer.MIN_VALUE), map.get(key, Integer.MIN_VALUE));
+            assertEquals(reference.containsKey(key), map.containsKey(key));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.analyzer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntObjectMapTest {
+
+    @Test
+    void putReturnsThePreviousValue() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+
+        assertNull(map.put(0, "zéro"));
+        assertEquals("zéro", map.put(0, "nul"));
+        assertNull(map.put(-3, "moins trois"));
+
+        assertEquals("nul", map.get(0));
+        assertEquals("moins trois", map.get(-3));
+        assertNull(map.get(3));
+        assertEquals(2, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    void computeIfAbsentCallsTheFactoryOnce() {
+        IntObjectMap<List<Integer>> map = new IntObjectMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            map.computeIfAbsent(12, key -> {
+                calls.incrementAndGet();
+                return new ArrayList<>();
+            }).add(i);
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of(0, 1, 2), map.get(12));
+    }
+
+    @Test
+    void matchesAHashMapAcrossRehashes() {
+        IntObjectMap<Integer> map = new IntObjectMap<>(2);
+        Map<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(8_000) - 4_000;
+            assertEquals(reference.put(key, i), map.put(key, i));
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (int key = -4_000; key < 4_000; key++) {
+            assertEquals(reference.get(key), map.get(key));
+        }
+    }
+}
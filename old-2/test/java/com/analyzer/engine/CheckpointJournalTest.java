@@ -0,0 +1,101 @@
+package com.analyzer.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CheckpointJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private File output;
+    private File project;
+    private CheckpointJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        output = dir.resolve("rapports").toFile();
+        project = dir.resolve("commandes").toFile();
+        write("pom.xml", "<project/>");
+        write("src/main/java/com/acme/OrderController.java", "class OrderController {}");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void resumeSkipsUnchangedCompletedProjects() throws IOException {
+        complete("profil=prod");
+
+        assertTrue(reopen("profil=prod", true).isCompleted(project));
+    }
+
+    @Test
+    void changedSourcesOrSettingsInvalidateTheCheckpoint() throws IOException {
+        complete("profil=prod");
+
+        assertFalse(reopen("profil=recette", true).isCompleted(project));
+        write("src/main/java/com/acme/OrderController.java", "class OrderController { void order() {} }");
+        assertFalse(reopen("profil=prod", true).isCompleted(project));
+    }
+
+    @Test
+    void buildOutputsDoNotChangeTheFingerprint() throws IOException {
+        complete("profil=prod");
+        write("target/classes/com/acme/OrderController.class", "octets");
+
+        assertTrue(reopen("profil=prod", true).isCompleted(project));
+    }
+
+    @Test
+    void projectStartedAgainWithoutCompletingIsAnalyzedAgain() throws IOException {
+        complete("profil=prod");
+        reopen("profil=prod", true).started(project);
+
+        assertFalse(reopen("profil=prod", true).isCompleted(project));
+    }
+
+    @Test
+    void runWithoutResumeDiscardsTheJournal() throws IOException {
+        complete("profil=prod");
+
+        reopen("profil=prod", false);
+
+        assertFalse(reopen("profil=prod", true).isCompleted(project));
+    }
+
+    private void complete(String settings) throws IOException {
+        CheckpointJournal first = reopen(settings, false);
+        first.started(project);
+        first.completed(project);
+    }
+
+    private CheckpointJournal reopen(String settings, boolean resume) throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        journal = new CheckpointJournal(output, settings);
+        journal.open(resume);
+        return journal;
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = project.toPath().resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,60 @@
+package com.analyzer.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SourceWatcherTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void skipsBuildOutputsOnlyAtModuleRoots() throws IOException {
+        write("pom.xml");
+        write("target/classes/com/acme/App.class");
+        write("src/main/java/com/acme/build/Builder.java");
+        write(".git/HEAD");
+        write("rapports/commandes.json");
+
+        try (SourceWatcher watcher = new SourceWatcher(List.of(root), root.resolve("rapports"), 10)) {
+            // racine, src, main, java, com, acme, build
+            assertEquals(7, watcher.getWatchedDirectoryCount());
+        }
+    }
+
+    @Test
+    void reportsChangesInAPackageNamedLikeABuildOutput() throws Exception {
+        write("pom.xml");
+        Path builder = write("src/main/java/com/acme/build/Builder.java");
+
+        try (SourceWatcher watcher = new SourceWatcher(List.of(root), null, 50)) {
+            CompletableFuture<SourceWatcher.ChangeBatch> changes = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return watcher.awaitChanges();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Files.writeString(builder, "class Builder { void build() {} }");
+
+            SourceWatcher.ChangeBatch batch = changes.get(10, TimeUnit.SECONDS);
+            assertEquals(Set.of(builder), batch.changedFiles.get(root));
+        }
+    }
+
+    private Path write(String relativePath) throws IOException {
+        Path file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, relativePath);
+    }
+}
@@ -0,0 +1,74 @@
+package com.analyzer.parsers.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpringConfigParserTest {
+
+    @TempDir
+    Path project;
+
+    @Test
+    void beansOfTheActiveProfileAndWithoutProfile() throws IOException {
+        write("applicationContext.xml", """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <beans xmlns="http://www.springframework.org/schema/beans">
+                    <bean id="orderService" class="com.acme.OrderServiceImpl"/>
+                    <bean id="mailer" class="com.acme.SmtpMailer" profile="prod"/>
+                    <bean id="mailer" class="com.acme.FakeMailer" profile="dev"/>
+                    <bean id="clock" class="com.acme.SystemClock">
+                        <property name="zone"><bean class="com.acme.ParisZone"/></property>
+                    </bean>
+                </beans>
+                """);
+
+        Map<String, String> beans = new SpringConfigParser().buildBeanMap(project.toFile(), "prod");
+
+        assertEquals("com.acme.OrderServiceImpl", beans.get("orderService"));
+        assertEquals("com.acme.SmtpMailer", beans.get("mailer"));
+        assertEquals("com.acme.SystemClock", beans.get("clock"));
+        // Bean interne sans id : clé vide, comme avec Element.getAttribute
+        assertEquals("com.acme.ParisZone", beans.get(""));
+    }
+
+    @Test
+    void prefixedBeansElementsAreRead() throws IOException {
+        write("spring/jms-context.xml", """
+                <b:beans xmlns:b="http://www.springframework.org/schema/beans">
+                    <b:bean id="listener" class="com.acme.OrderListener"/>
+                </b:beans>
+                """);
+
+        assertEquals(Map.of("listener", "com.acme.OrderListener"),
+                new SpringConfigParser().buildBeanMap(project.toFile(), null));
+    }
+
+    @Test
+    void externalEntitiesAreNotResolved() throws IOException {
+        Path secret = Files.writeString(project.resolve("secret.txt"), "mot-de-passe");
+        write("context.xml", """
+                <!DOCTYPE beans [<!ENTITY secret SYSTEM "%s">]>
+                <beans><bean id="&secret;" class="com.acme.Leak"/><bean id="ok" class="com.acme.Ok"/></beans>
+                """.formatted(secret.toUri()));
+
+        Map<String, String> beans = new SpringConfigParser().buildBeanMap(project.toFile(), null);
+
+        assertFalse(beans.containsKey("mot-de-passe"));
+        assertTrue(beans.keySet().stream().noneMatch(id -> id.contains("mot-de-passe")));
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = project.resolve("src/main/resources").resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,123 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/CollectionsBenchmark.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import com.votre_entreprise.analyzer.collections.IntIntMap;
+import com.votre_entreprise.analyzer.collections.LongHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare les collections primitives du paquet {@code collections} aux collections JDK
+ * sur les deux usages du chemin chaud : la table symbole -> valeur (index de méthodes,
+ * cache de types) et l'ensemble des méthodes visitées lors du parcours du graphe d'appels.
+ * Les variantes {@code String} reproduisent les clés concaténées "classe.signature" d'origine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private int[] classSymbols;
+    private int[] signatureSymbols;
+    private String[] classNames;
+    private String[] signatures;
+
+    private IntIntMap intIntMap;
+    private Map<Integer, Integer> boxedMap;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        classSymbols = new int[size];
+        signatureSymbols = new int[size];
+        classNames = new String[size];
+        signatures = new String[size];
+        intIntMap = new IntIntMap();
+        boxedMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            // Symboles denses, comme ceux produits par la SymbolTable
+            classSymbols[i] = random.nextInt(size / 10 + 1);
+            signatureSymbols[i] = random.nextInt(size);
+            classNames[i] = "com.acme.module" + (classSymbols[i] % 50) + ".Service" + classSymbols[i];
+            signatures[i] = "process" + signatureSymbols[i] + "(java.lang.String,int)";
+            intIntMap.put(signatureSymbols[i], classSymbols[i]);
+            boxedMap.put(signatureSymbols[i], classSymbols[i]);
+        }
+    }
+
+    @Benchmark
+    public void intIntMapLookup(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            // Ordre d'accès arbitraire, comme les résolutions d'appels pendant le parcours
+            blackhole.consume(intIntMap.get(signatureSymbols[i], -1));
+        }
+    }
+
+    @Benchmark
+    public void boxedHashMapLookup(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(boxedMap.get(signatureSymbols[i]));
+        }
+    }
+
+    @Benchmark
+    public int visitedLongHashSet() {
+        LongHashSet visited = new LongHashSet();
+        int cycles = 0;
+        for (int i = 0; i < size; i++) {
+            long key = ((long) classSymbols[i] << 32) | (signatureSymbols[i] & 0xFFFFFFFFL);
+            if (!visited.add(key)) {
+                cycles++;
+            }
+        }
+        return cycles;
+    }
+
+    @Benchmark
+    public int visitedBoxedHashSet() {
+        Set<Long> visited = new HashSet<>();
+        int cycles = 0;
+        for (int i = 0; i < size; i++) {
+            long key = ((long) classSymbols[i] << 32) | (signatureSymbols[i] & 0xFFFFFFFFL);
+            if (!visited.add(key)) {
+                cycles++;
+            }
+        }
+        return cycles;
+    }
+
+    @Benchmark
+    public int visitedStringHashSet() {
+        Set<String> visited = new HashSet<>();
+        int cycles = 0;
+        for (int i = 0; i < size; i++) {
+            if (!visited.add(classNames[i] + "." + signatures[i])) {
+                cycles++;
+            }
+        }
+        return cycles;
+    }
+}
@@ -0,0 +1,37 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/DependencyAnalyzerBenchmark.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import com.votre_entreprise.analyzer.spoon.AnalysisBudget;
+import com.votre_entreprise.analyzer.spoon.DependencyAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import spoon.reflect.declaration.CtMethod;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parcours du graphe d'appels de tous les endpoints d'un projet, comme dans
+ * {@code SingleProjectAnalyzer} (un analyseur par projet, un budget par endpoint).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyAnalyzerBenchmark {
+
+    @Benchmark
+    public int analyzeAllEndpoints(SpoonModelState state) {
+        DependencyAnalyzer analyzer = new DependencyAnalyzer();
+        int dependencies = 0;
+        for (CtMethod<?> endpoint : state.endpoints) {
+            dependencies += analyzer.analyze(endpoint, AnalysisBudget.unlimited()).dependencies().size();
+        }
+        return dependencies;
+    }
+}
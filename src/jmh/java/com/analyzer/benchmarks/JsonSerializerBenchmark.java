@@ -0,0 +1,98 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/JsonSerializerBenchmark.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
+import com.votre_entreprise.analyzer.model.Dependency;
+import com.votre_entreprise.analyzer.serialization.JsonSerializer;
+import com.votre_entreprise.analyzer.serialization.ReportWriter;
+import com.votre_entreprise.analyzer.symbols.SymbolTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Écriture d'un rapport de N endpoints : sauvegarde d'origine ({@link JsonSerializer#save})
+ * comparée à l'écriture en flux ({@link ReportWriter}), brute et compressée.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializerBenchmark {
+
+    @Param({"1000", "20000"})
+    public int endpoints;
+
+    @Param({"10"})
+    public int dependenciesPerEndpoint;
+
+    private List<AnalyzedEndpoint> report;
+    private Path outputDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SymbolTable symbols = new SymbolTable();
+        int service = symbols.intern("Service");
+        report = new ArrayList<>(endpoints);
+        for (int e = 0; e < endpoints; e++) {
+            List<Dependency> dependencies = new ArrayList<>(dependenciesPerEndpoint);
+            for (int d = 0; d < dependenciesPerEndpoint; d++) {
+                dependencies.add(new Dependency(symbols, service,
+                        symbols.intern(SyntheticProjects.BASE_PACKAGE + ".service.Service" + (e % 100) + "L" + d),
+                        symbols.intern("step" + (e % 5) + "(java.lang.String)"),
+                        d + 1, 1 + d % 3, "Service" + d + ".java:" + (10 + d)));
+            }
+            report.add(new AnalyzedEndpoint("/api/c" + (e / 5) + "/e" + (e % 5) + "/{id}", e % 2 == 0 ? "GET" : "POST",
+                    "SPRING", "handle" + (e % 5) + "(java.lang.String)", dependencies, new ArrayList<>(), false));
+        }
+        outputDir = Files.createTempDirectory("bench-json-");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProjects.deleteRecursively(outputDir);
+    }
+
+    @Benchmark
+    public void jsonSerializerSave() throws IOException {
+        JsonSerializer.save(report, outputDir.resolve("rapport.json").toString());
+    }
+
+    @Benchmark
+    public int reportWriterNdjson() throws IOException {
+        return writeStreaming(ReportWriter.Format.NDJSON, ReportWriter.Compression.NONE);
+    }
+
+    @Benchmark
+    public int reportWriterNdjsonGzip() throws IOException {
+        return writeStreaming(ReportWriter.Format.NDJSON, ReportWriter.Compression.GZIP);
+    }
+
+    private int writeStreaming(ReportWriter.Format format, ReportWriter.Compression compression) throws IOException {
+        try (ReportWriter writer = new ReportWriter(outputDir.resolve("rapport"), format, compression)) {
+            for (AnalyzedEndpoint endpoint : report) {
+                writer.write(endpoint);
+            }
+            return writer.getCount();
+        }
+    }
+}
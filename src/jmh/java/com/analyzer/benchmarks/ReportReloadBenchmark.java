@@ -0,0 +1,97 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/ReportReloadBenchmark.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
+import com.votre_entreprise.analyzer.model.Dependency;
+import com.votre_entreprise.analyzer.serialization.ReportReader;
+import com.votre_entreprise.analyzer.serialization.ReportWriter;
+import com.votre_entreprise.analyzer.symbols.SymbolTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relecture d'un rapport de N endpoints selon son format et sa compression ({@link ReportReader}).
+ * La taille de chaque fichier figure dans les résultats JMH, en compteur secondaire ({@code reload:reportKilobytes}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportReloadBenchmark {
+
+    @Param({"20000"})
+    public int endpoints;
+
+    @Param({"JSON:NONE", "NDJSON:GZIP", "SMILE:NONE", "SMILE:ZSTD"})
+    public String encoding;
+
+    private Path outputDir;
+    private Path report;
+    private long reportKilobytes;
+
+    /**
+     * Compteur secondaire publié avec chaque mesure ; affecté, pas cumulé, à chaque relecture.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ReportSize {
+        public long reportKilobytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SymbolTable symbols = new SymbolTable();
+        int service = symbols.intern("Service");
+        outputDir = Files.createTempDirectory("bench-reload-");
+        String[] parts = encoding.split(":");
+        try (ReportWriter writer = new ReportWriter(outputDir.resolve("rapport"),
+                ReportWriter.Format.valueOf(parts[0]), ReportWriter.Compression.valueOf(parts[1]))) {
+            for (int e = 0; e < endpoints; e++) {
+                List<Dependency> dependencies = new ArrayList<>(10);
+                for (int d = 0; d < 10; d++) {
+                    dependencies.add(new Dependency(symbols, service,
+                            symbols.intern(SyntheticProjects.BASE_PACKAGE + ".service.Service" + (e % 100) + "L" + d),
+                            symbols.intern("step" + (e % 5) + "(java.lang.String)"),
+                            d + 1, 1 + d % 3, "Service" + d + ".java:" + (10 + d)));
+                }
+                writer.write(new AnalyzedEndpoint("/api/c" + (e / 5) + "/e" + (e % 5) + "/{id}", e % 2 == 0 ? "GET" : "POST",
+                        "SPRING", "handle" + (e % 5) + "(java.lang.String)", dependencies, new ArrayList<>(), false));
+            }
+            report = writer.getFile();
+        }
+        reportKilobytes = Files.size(report) / 1024;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProjects.deleteRecursively(outputDir);
+    }
+
+    @Benchmark
+    public int reload(ReportSize size) throws IOException {
+        size.reportKilobytes = reportKilobytes;
+        return ReportReader.forEach(report, Map.class, endpoint -> { });
+    }
+}
@@ -0,0 +1,65 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/SpoonModelState.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import com.votre_entreprise.analyzer.spoon.AnnotationIndex;
+import com.votre_entreprise.analyzer.spoon.endpoint.SpringEndpointFinder;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import spoon.Launcher;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtMethod;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Projet Spring synthétique et son modèle Spoon, construits une fois par essai :
+ * la construction du modèle n'est pas mesurée, seuls les parcours qui suivent le sont.
+ */
+@State(Scope.Benchmark)
+public class SpoonModelState {
+
+    static final int ENDPOINTS_PER_CONTROLLER = 5;
+
+    @Param({"20", "200"})
+    public int controllers;
+
+    @Param({"3", "8"})
+    public int callDepth;
+
+    Path projectDir;
+    CtModel model;
+    AnnotationIndex annotationIndex;
+    List<CtMethod<?>> endpoints;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        projectDir = Files.createTempDirectory("bench-spring-");
+        SyntheticProjects.writeSpringProject(projectDir, controllers, ENDPOINTS_PER_CONTROLLER, callDepth);
+
+        Launcher launcher = new Launcher();
+        launcher.addInputResource(projectDir.resolve("src/main/java").toString());
+        launcher.getEnvironment().setComplianceLevel(8);
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.getEnvironment().setIgnoreSyntaxErrors(true);
+        model = launcher.buildModel();
+
+        annotationIndex = AnnotationIndex.build(model);
+        endpoints = new SpringEndpointFinder(annotationIndex).findEndpoints();
+        if (endpoints.size() != controllers * ENDPOINTS_PER_CONTROLLER) {
+            throw new IllegalStateException("Endpoints attendus : " + controllers * ENDPOINTS_PER_CONTROLLER
+                    + ", trouvés : " + endpoints.size());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticProjects.deleteRecursively(projectDir);
+    }
+}
@@ -0,0 +1,38 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/SpringEndpointFinderBenchmark.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import com.votre_entreprise.analyzer.spoon.AnnotationIndex;
+import com.votre_entreprise.analyzer.spoon.endpoint.SpringEndpointFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import spoon.reflect.declaration.CtMethod;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche des endpoints Spring : avec l'index d'annotations déjà construit (cas d'un
+ * second finder sur le même modèle) et avec la construction de l'index (cas d'un projet).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpringEndpointFinderBenchmark {
+
+    @Benchmark
+    public List<CtMethod<?>> findEndpoints(SpoonModelState state) {
+        return new SpringEndpointFinder(state.annotationIndex).findEndpoints();
+    }
+
+    @Benchmark
+    public List<CtMethod<?>> indexAndFindEndpoints(SpoonModelState state) {
+        return new SpringEndpointFinder(AnnotationIndex.build(state.model)).findEndpoints();
+    }
+}
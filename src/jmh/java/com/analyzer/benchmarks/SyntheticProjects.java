@@ -0,0 +1,160 @@
+// Fichier: src/jmh/java/com/votre_entreprise/analyzer/benchmarks/SyntheticProjects.java
+package com.votre_entreprise.analyzer.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Génère des projets Maven/Spring synthétiques de taille paramétrable pour les benchmarks :
+ * N contrôleurs, chacun appelant une chaîne de services de profondeur donnée, avec des
+ * requêtes SQL en dur à chaque niveau. Les annotations Spring sont fournies sous forme de
+ * stubs dans le projet : aucun classpath n'est nécessaire pour Spoon ou JavaParser.
+ */
+public final class SyntheticProjects {
+
+    public static final String BASE_PACKAGE = "com.acme.bench";
+
+    private SyntheticProjects() {
+    }
+
+    public static Path writeSpringProject(Path root, int controllers, int endpointsPerController, int callDepth)
+            throws IOException {
+        Path sources = root.resolve("src/main/java");
+        Files.createDirectories(sources);
+        write(root.resolve("pom.xml"), pom());
+        writeAnnotationStubs(sources);
+
+        for (int c = 0; c < controllers; c++) {
+            write(sources.resolve(path(BASE_PACKAGE + ".web", "Controller" + c)),
+                    controller(c, endpointsPerController));
+            for (int level = 1; level <= callDepth; level++) {
+                write(sources.resolve(path(BASE_PACKAGE + ".service", serviceName(c, level))),
+                        service(c, level, callDepth, endpointsPerController));
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Nom qualifié du contrôleur {@code index}, tel qu'indexé par les analyseurs.
+     */
+    public static String controllerClass(int index) {
+        return BASE_PACKAGE + ".web.Controller" + index;
+    }
+
+    public static void deleteRecursively(Path root) throws IOException {
+        if (root == null || !Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String controller(int c, int endpoints) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(BASE_PACKAGE).append(".web;\n\n")
+              .append("import ").append(BASE_PACKAGE).append(".service.").append(serviceName(c, 1)).append(";\n")
+              .append("import org.springframework.web.bind.annotation.GetMapping;\n")
+              .append("import org.springframework.web.bind.annotation.PostMapping;\n")
+              .append("import org.springframework.web.bind.annotation.RequestMapping;\n")
+              .append("import org.springframework.web.bind.annotation.RestController;\n\n")
+              .append("@RestController\n")
+              .append("@RequestMapping(\"/api/c").append(c).append("\")\n")
+              .append("public class Controller").append(c).append(" {\n\n")
+              .append("    private final ").append(serviceName(c, 1)).append(" service = new ")
+              .append(serviceName(c, 1)).append("();\n");
+        for (int e = 0; e < endpoints; e++) {
+            source.append("\n    @").append(e % 2 == 0 ? "GetMapping" : "PostMapping")
+                  .append("(\"/e").append(e).append("/{id}\")\n")
+                  .append("    public String handle").append(e).append("(String id) {\n")
+                  .append("        service.audit(id);\n")
+                  .append("        return service.step").append(e).append("(id);\n")
+                  .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String service(int c, int level, int callDepth, int endpoints) {
+        boolean last = level == callDepth;
+        String next = serviceName(c, level + 1);
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(BASE_PACKAGE).append(".service;\n\n")
+              .append("import org.springframework.stereotype.Service;\n\n")
+              .append("@Service\n")
+              .append("public class ").append(serviceName(c, level)).append(" {\n\n");
+        if (!last) {
+            source.append("    private final ").append(next).append(" next = new ").append(next).append("();\n\n");
+        }
+        source.append("    public void audit(String id) {\n")
+              .append("        String sql = \"INSERT INTO AUDIT_").append(c).append(" (ID, LEVEL) VALUES (?, ")
+              .append(level).append(")\";\n")
+              .append("    }\n");
+        for (int e = 0; e < endpoints; e++) {
+            source.append("\n    public String step").append(e).append("(String id) {\n")
+                  .append("        String sql = \"SELECT NAME FROM TABLE_").append(c).append('_').append(level)
+                  .append(" WHERE ID = ? AND KIND = ").append(e).append("\";\n")
+                  .append("        audit(id);\n");
+            if (!last) {
+                // Deux appels vers la même cible : alimente l'agrégation des dépendances
+                source.append("        next.audit(id);\n")
+                      .append("        next.audit(sql);\n")
+                      .append("        return next.step").append(e).append("(id);\n");
+            } else {
+                source.append("        return sql;\n");
+            }
+            source.append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static void writeAnnotationStubs(Path sources) throws IOException {
+        String web = "org.springframework.web.bind.annotation";
+        for (String annotation : new String[] {"RestController", "RequestMapping", "GetMapping", "PostMapping"}) {
+            write(sources.resolve(path(web, annotation)),
+                    "package " + web + ";\n\n"
+                    + "import java.lang.annotation.Retention;\n"
+                    + "import java.lang.annotation.RetentionPolicy;\n\n"
+                    + "@Retention(RetentionPolicy.RUNTIME)\n"
+                    + "public @interface " + annotation + " {\n"
+                    + "    String[] value() default {};\n"
+                    + "}\n");
+        }
+        write(sources.resolve(path("org.springframework.stereotype", "Service")),
+                "package org.springframework.stereotype;\n\npublic @interface Service {\n}\n");
+    }
+
+    private static String pom() {
+        return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>com.acme</groupId>\n"
+                + "  <artifactId>bench</artifactId>\n"
+                + "  <version>1.0</version>\n"
+                + "  <dependencies>\n"
+                + "    <dependency>\n"
+                + "      <groupId>org.springframework</groupId>\n"
+                + "      <artifactId>spring-web</artifactId>\n"
+                + "      <version>5.3.0</version>\n"
+                + "    </dependency>\n"
+                + "  </dependencies>\n"
+                + "</project>\n";
+    }
+
+    private static String serviceName(int c, int level) {
+        return "Service" + c + "L" + level;
+    }
+
+    private static String path(String packageName, String className) {
+        return packageName.replace('.', '/') + "/" + className + ".java";
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
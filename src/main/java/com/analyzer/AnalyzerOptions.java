@@ -0,0 +1,173 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/AnalyzerOptions.java
+package com.votre_entreprise.analyzer;
+
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import com.votre_entreprise.analyzer.serialization.ReportWriter;
+import com.votre_entreprise.analyzer.spoon.AnalysisBudget;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Options de la ligne de commande : {@code <racine> [--option=valeur]...}
+ * ({@code --watch} peut s'écrire sans valeur).
+ */
+public class AnalyzerOptions {
+
+    // Heap estimé pour un modèle Spoon, utilisé pour dimensionner le pool en mode in-process
+    private static final long DEFAULT_HEAP_PER_PROJECT = 1024L * 1024 * 1024;
+
+    private String rootDirectory;
+    private ReportWriter.Format reportFormat = ReportWriter.Format.JSON;
+    private ReportWriter.Compression reportCompression = ReportWriter.Compression.NONE;
+    private int threads;
+    private int forkedWorkers;
+    private String workerHeap = "2g";
+    private int maxRetries = 1;
+    // Budgets (secondes / nœuds visités), 0 = illimité
+    private long projectTimeoutSeconds;
+    private long projectMaxNodes;
+    private long endpointTimeoutSeconds;
+    private long endpointMaxNodes;
+    // Enregistrement JFR (--jfr=analyse.jfr), null = désactivé
+    private String jfrFile;
+    // Mode surveillance (--watch) et délai de regroupement des modifications
+    private boolean watch;
+    private long watchDebounceMillis = 500;
+    // Globs exclus de l'inventaire (--exclude=.git,generated), en plus des sorties de build des modules
+    private List<String> inventoryExcludes = FileInventory.DEFAULT_EXCLUDES;
+
+    public static AnalyzerOptions parse(String[] args) {
+        AnalyzerOptions options = parseFlags(args, 1);
+        options.rootDirectory = args[0];
+        return options;
+    }
+
+    /**
+     * Lit uniquement les options {@code --nom=valeur} à partir de l'index donné (utilisé par les JVM filles).
+     */
+    public static AnalyzerOptions parseFlags(String[] args, int firstIndex) {
+        AnalyzerOptions options = new AnalyzerOptions();
+        for (int i = firstIndex; i < args.length; i++) {
+            options.apply(args[i]);
+        }
+        return options;
+    }
+
+    private void apply(String arg) {
+        if (arg.equals("--watch")) {
+            watch = true;
+            return;
+        }
+        int eq = arg.indexOf('=');
+        if (!arg.startsWith("--") || eq < 0) {
+            throw new IllegalArgumentException(arg);
+        }
+        String name = arg.substring(2, eq);
+        String value = arg.substring(eq + 1);
+        switch (name) {
+            case "format" -> reportFormat = ReportWriter.parseFormat(value);
+            case "compression" -> reportCompression = ReportWriter.parseCompression(value);
+            case "threads" -> threads = Integer.parseInt(value);
+            case "fork" -> forkedWorkers = Integer.parseInt(value);
+            case "worker-xmx" -> workerHeap = value.toLowerCase(Locale.ROOT);
+            case "retries" -> maxRetries = Integer.parseInt(value);
+            case "project-timeout" -> projectTimeoutSeconds = Long.parseLong(value);
+            case "project-max-nodes" -> projectMaxNodes = Long.parseLong(value);
+            case "endpoint-timeout" -> endpointTimeoutSeconds = Long.parseLong(value);
+            case "endpoint-max-nodes" -> endpointMaxNodes = Long.parseLong(value);
+            case "jfr" -> jfrFile = value.isBlank() ? null : value;
+            case "watch" -> watch = Boolean.parseBoolean(value);
+            case "watch-debounce" -> watchDebounceMillis = Long.parseLong(value);
+            case "exclude" -> inventoryExcludes = value.isBlank() ? List.of()
+                    : Arrays.stream(value.split(",")).map(String::trim).filter(glob -> !glob.isEmpty()).toList();
+            default -> throw new IllegalArgumentException(arg);
+        }
+    }
+
+    /**
+     * Options à transmettre aux JVM filles pour qu'elles produisent des rapports identiques.
+     */
+    public List<String> toWorkerArguments() {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--format=" + reportFormat.name().toLowerCase(Locale.ROOT));
+        arguments.add("--compression=" + reportCompression.name().toLowerCase(Locale.ROOT));
+        arguments.add("--project-timeout=" + projectTimeoutSeconds);
+        arguments.add("--project-max-nodes=" + projectMaxNodes);
+        arguments.add("--endpoint-timeout=" + endpointTimeoutSeconds);
+        arguments.add("--endpoint-max-nodes=" + endpointMaxNodes);
+        arguments.add("--exclude=" + String.join(",", inventoryExcludes));
+        if (jfrFile != null) {
+            // Chemin absolu : le répertoire de travail d'un worker n'est pas forcément celui du parent
+            arguments.add("--jfr=" + Paths.get(jfrFile).toAbsolutePath());
+        }
+        return arguments;
+    }
+
+    /**
+     * Nombre de projets analysés en parallèle dans cette JVM : borné par le heap disponible
+     * (un modèle Spoon par projet) et par le nombre de cœurs.
+     */
+    public int effectiveThreads() {
+        if (threads > 0) {
+            return threads;
+        }
+        long byHeap = Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_PER_PROJECT;
+        int byCpu = Runtime.getRuntime().availableProcessors();
+        return (int) Math.max(1, Math.min(byHeap, byCpu));
+    }
+
+    public AnalysisBudget.Limits getBudgetLimits() {
+        return new AnalysisBudget.Limits(projectTimeoutSeconds * 1000, projectMaxNodes,
+                endpointTimeoutSeconds * 1000, endpointMaxNodes);
+    }
+
+    public long getProjectTimeoutSeconds() {
+        return projectTimeoutSeconds;
+    }
+
+    public String getRootDirectory() {
+        return rootDirectory;
+    }
+
+    public ReportWriter.Format getReportFormat() {
+        return reportFormat;
+    }
+
+    public ReportWriter.Compression getReportCompression() {
+        return reportCompression;
+    }
+
+    public int getForkedWorkers() {
+        return forkedWorkers;
+    }
+
+    public String getWorkerHeap() {
+        return workerHeap;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public List<String> getInventoryExcludes() {
+        return inventoryExcludes;
+    }
+
+    public boolean isWatch() {
+        return watch;
+    }
+
+    public long getWatchDebounceMillis() {
+        return watchDebounceMillis;
+    }
+
+    /** @return le fichier d'enregistrement JFR, ou null si {@code --jfr} n'est pas demandé */
+    public Path getJfrFile() {
+        return jfrFile != null ? Paths.get(jfrFile) : null;
+    }
+}
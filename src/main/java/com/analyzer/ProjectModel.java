@@ -0,0 +1,96 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/ProjectModel.java
+package com.votre_entreprise.analyzer;
+
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import com.votre_entreprise.analyzer.spoon.FrameworkDetector;
+import com.votre_entreprise.analyzer.spoon.endpoint.EndpointFinder;
+
+import spoon.reflect.cu.SourcePosition;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.factory.Factory;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Modèle construit d'un projet : inventaire, modèle Spoon, framework détecté et points d'entrée.
+ * Produit par {@link SingleProjectAnalyzer#buildModel()} ; une exécution en lot le jette après
+ * le parcours des endpoints, le démon d'analyse le garde en mémoire entre les requêtes.
+ */
+public class ProjectModel {
+
+    private final String projectName;
+    private final FileInventory inventory;
+    private final Factory factory;
+    private final FrameworkDetector.FrameworkType framework;
+    private final EndpointFinder finder;
+    private final List<CtMethod<?>> entryPoints;
+    private final int sourceFiles;
+    private final long sourceBytes;
+
+    ProjectModel(String projectName, FileInventory inventory, Factory factory, FrameworkDetector.FrameworkType framework,
+                 EndpointFinder finder, List<CtMethod<?>> entryPoints, int sourceFiles, long sourceBytes) {
+        this.projectName = projectName;
+        this.inventory = inventory;
+        this.factory = factory;
+        this.framework = framework;
+        this.finder = finder;
+        this.entryPoints = entryPoints;
+        this.sourceFiles = sourceFiles;
+        this.sourceBytes = sourceBytes;
+    }
+
+    /**
+     * Fichier source d'un type du modèle (ex: la classe d'une dépendance), null s'il est hors du projet.
+     */
+    public Path sourceFileOf(String qualifiedName) {
+        CtType<?> type = factory.Type().get(qualifiedName);
+        return type != null ? sourceFileOf(type.getPosition()) : null;
+    }
+
+    public static Path sourceFileOf(CtMethod<?> method) {
+        return sourceFileOf(method.getPosition());
+    }
+
+    private static Path sourceFileOf(SourcePosition position) {
+        if (position == null || !position.isValidPosition()) {
+            return null;
+        }
+        File file = position.getFile();
+        return file != null ? file.toPath().toAbsolutePath().normalize() : null;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public FileInventory getInventory() {
+        return inventory;
+    }
+
+    public Factory getFactory() {
+        return factory;
+    }
+
+    public FrameworkDetector.FrameworkType getFramework() {
+        return framework;
+    }
+
+    public EndpointFinder getFinder() {
+        return finder;
+    }
+
+    public List<CtMethod<?>> getEntryPoints() {
+        return entryPoints;
+    }
+
+    public int getSourceFiles() {
+        return sourceFiles;
+    }
+
+    public long getSourceBytes() {
+        return sourceBytes;
+    }
+}
@@ -1,59 +1,113 @@
 // Fichier: src/main/java/com/votre_entreprise/analyzer/SingleProjectAnalyzer.java
 package com.votre_entreprise.analyzer;
 
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import com.votre_entreprise.analyzer.jfr.EndpointDiscoveryEvent;
+import com.votre_entreprise.analyzer.jfr.EndpointTraversalEvent;
+import com.votre_entreprise.analyzer.jfr.ModelBuildEvent;
+import com.votre_entreprise.analyzer.jfr.ProjectAnalysisEvent;
+import com.votre_entreprise.analyzer.metrics.MetricsRegistry;
 import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
 import com.votre_entreprise.analyzer.model.BusinessRule;
 import com.votre_entreprise.analyzer.model.Dependency;
+import com.votre_entreprise.analyzer.spoon.AnalysisBudget;
+import com.votre_entreprise.analyzer.spoon.AnnotationIndex;
 import com.votre_entreprise.analyzer.spoon.DependencyAnalyzer;
 import com.votre_entreprise.analyzer.spoon.FrameworkDetector;
 import com.votre_entreprise.analyzer.spoon.endpoint.EndpointFinder;
+import com.votre_entreprise.analyzer.spoon.endpoint.JaxRsEndpointFinder;
 import com.votre_entreprise.analyzer.spoon.endpoint.SpringEndpointFinder;
 import com.votre_entreprise.analyzer.spoon.endpoint.StrutsEndpointFinder;
 
 import spoon.Launcher;
-import spoon.compiler.SpoonResource; // Import nécessaire pour le Predicate
 import spoon.reflect.declaration.CtMethod;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate; // Import de l'interface Predicate
+import java.util.function.Consumer;
 
 public class SingleProjectAnalyzer {
 
     private final String projectPath;
+    private final AnalysisBudget.Limits limits;
+    private final List<String> inventoryExcludes;
+    private final MetricsRegistry metrics = MetricsRegistry.global();
 
     public SingleProjectAnalyzer(String projectPath) {
+        this(projectPath, AnalysisBudget.Limits.NONE);
+    }
+
+    public SingleProjectAnalyzer(String projectPath, AnalysisBudget.Limits limits) {
+        this(projectPath, limits, FileInventory.DEFAULT_EXCLUDES);
+    }
+
+    public SingleProjectAnalyzer(String projectPath, AnalysisBudget.Limits limits, List<String> inventoryExcludes) {
         this.projectPath = projectPath;
+        this.limits = limits;
+        this.inventoryExcludes = inventoryExcludes;
     }
 
     public List<AnalyzedEndpoint> analyze() throws Exception {
+        List<AnalyzedEndpoint> results = new ArrayList<>();
+        analyze(results::add);
+        return results;
+    }
+
+    /**
+     * Analyse le projet en transmettant chaque endpoint au consommateur dès qu'il est analysé,
+     * sans conserver la liste complète en mémoire.
+     * @return le nombre d'endpoints produits
+     */
+    public int analyze(Consumer<AnalyzedEndpoint> sink) throws Exception {
+        ProjectAnalysisEvent projectEvent = new ProjectAnalysisEvent();
+        projectEvent.begin();
+        // Le budget du projet démarre avant la construction du modèle, qui en consomme le temps
+        AnalysisBudget projectBudget = AnalysisBudget.of(limits.projectTimeoutMillis(), limits.projectMaxNodes());
+        ProjectModel model = buildModel();
+        List<CtMethod<?>> entryPointMethods = model.getEntryPoints();
+        long visitedNodes = traverse(model, entryPointMethods, projectBudget, sink);
+
+        projectEvent.end();
+        if (projectEvent.shouldCommit()) {
+            projectEvent.project = model.getProjectName();
+            projectEvent.framework = model.getFramework().toString();
+            projectEvent.files = model.getSourceFiles();
+            projectEvent.bytes = model.getSourceBytes();
+            projectEvent.endpoints = entryPointMethods.size();
+            projectEvent.nodes = visitedNodes;
+            projectEvent.commit();
+        }
+        return entryPointMethods.size();
+    }
+
+    /**
+     * Inventaire, modèle Spoon, détection du framework et recherche des points d'entrée :
+     * tout ce qui précède le parcours des endpoints.
+     */
+    public ProjectModel buildModel() throws Exception {
+        String projectName = Paths.get(projectPath).getFileName().toString();
         System.out.println("   - Initialisation de Spoon pour le projet Maven : " + projectPath);
         Launcher spoonLauncher = new Launcher();
 
-        // Étape 1 : On donne le chemin racine du projet Maven.
-        // Spoon va l'utiliser pour trouver les pom.xml, comprendre les modules
-        // et construire le classpath complet (liens inter-modules + dépendances externes).
-        spoonLauncher.addInputResource(projectPath);
-
-        // Étape 2 : On applique un filtre pour exclure les fichiers de test.
-        spoonLauncher.getEnvironment().setInputFilter(new Predicate<SpoonResource>() {
-            @Override
-            public boolean test(SpoonResource resource) {
-                // On ne veut analyser que les fichiers, pas les répertoires.
-                if (!resource.isFile()) {
-                    return true; // On laisse Spoon parcourir les répertoires.
-                }
-
-                String path = resource.getPath().replace('\\', '/');
-                
-                // La règle : on inclut le fichier SEULEMENT s'il se termine par .java
-                // ET que son chemin ne contient PAS de segment '/test/'.
-                boolean isJavaFile = path.endsWith(".java");
-                boolean isTestFile = path.contains("/test/");
-
-                return isJavaFile && !isTestFile;
+        // Étape 1 : Inventaire unique des fichiers du projet (répertoires target, .git... élagués).
+        // Il est partagé par le détecteur de framework et les finders : plus aucun reparcours du disque.
+        FileInventory inventory = metrics.timed(MetricsRegistry.DISCOVERY,
+                () -> FileInventory.build(Paths.get(projectPath), inventoryExcludes));
+        System.out.println("   - " + inventory.getFileCount() + " fichiers inventoriés.");
+
+        // Étape 2 : On ne donne à Spoon que les sources .java hors répertoires de test.
+        int sourceFiles = 0;
+        long sourceBytes = 0;
+        for (Path javaFile : inventory.findByExtension("java")) {
+            String path = javaFile.toString().replace('\\', '/');
+            if (!path.contains("/test/")) {
+                spoonLauncher.addInputResource(javaFile.toString());
+                sourceFiles++;
+                sourceBytes += inventory.sizeOf(javaFile);
             }
-        });
+        }
 
         // Configuration du reste de l'environnement de Spoon
         spoonLauncher.getEnvironment().setIgnoreSyntaxErrors(true);
@@ -61,42 +115,113 @@ public class SingleProjectAnalyzer {
         spoonLauncher.getEnvironment().setNoClasspath(false);
 
         System.out.println("   - Construction du modèle de code (cela peut prendre un moment)...");
-        spoonLauncher.buildModel();
+        ModelBuildEvent modelEvent = new ModelBuildEvent();
+        modelEvent.begin();
+        AnnotationIndex annotationIndex = metrics.timed(MetricsRegistry.MODEL_BUILD, () -> {
+            spoonLauncher.buildModel();
+            // Un seul parcours du modèle pour indexer toutes les annotations, partagé par les finders.
+            return AnnotationIndex.build(spoonLauncher.getModel());
+        });
+        modelEvent.end();
         System.out.println("   - Modèle construit.");
+        // Avec ignoreSyntaxErrors, un fichier illisible est simplement absent du modèle
+        int compilationUnits = spoonLauncher.getFactory().CompilationUnit().getMap().size();
+        if (modelEvent.shouldCommit()) {
+            modelEvent.project = projectName;
+            modelEvent.files = sourceFiles;
+            modelEvent.bytes = sourceBytes;
+            modelEvent.compilationUnits = compilationUnits;
+            modelEvent.commit();
+        }
+        metrics.add(MetricsRegistry.FILES_PARSED, sourceFiles);
+        metrics.add(MetricsRegistry.PARSE_FAILURES, Math.max(0, sourceFiles - compilationUnits));
 
         System.out.println("   - Détection du framework...");
-        FrameworkDetector.FrameworkType framework = FrameworkDetector.detect(projectPath);
+        FrameworkDetector.FrameworkType framework = metrics.timed(MetricsRegistry.FRAMEWORK_DETECTION,
+                () -> FrameworkDetector.detect(inventory));
         System.out.println("   - Framework détecté : " + framework);
 
         EndpointFinder finder;
         if (framework == FrameworkDetector.FrameworkType.SPRING) {
-            finder = new SpringEndpointFinder(spoonLauncher);
+            finder = new SpringEndpointFinder(annotationIndex);
+        } else if (framework == FrameworkDetector.FrameworkType.JAXRS) {
+            finder = new JaxRsEndpointFinder(annotationIndex);
         } else {
-            finder = new StrutsEndpointFinder(spoonLauncher, projectPath);
+            finder = new StrutsEndpointFinder(spoonLauncher, inventory, annotationIndex);
         }
 
-        List<CtMethod<?>> entryPointMethods = finder.findEndpoints();
+        EndpointDiscoveryEvent discoveryEvent = new EndpointDiscoveryEvent();
+        discoveryEvent.begin();
+        List<CtMethod<?>> entryPointMethods = metrics.timed(MetricsRegistry.ENDPOINT_FINDING, finder::findEndpoints);
+        discoveryEvent.end();
+        if (discoveryEvent.shouldCommit()) {
+            discoveryEvent.project = projectName;
+            discoveryEvent.finder = finder.getClass().getSimpleName();
+            discoveryEvent.endpoints = entryPointMethods.size();
+            discoveryEvent.commit();
+        }
         System.out.println("   - " + entryPointMethods.size() + " endpoints de production trouvés.");
 
-        List<AnalyzedEndpoint> results = new ArrayList<>();
+        return new ProjectModel(projectName, inventory, spoonLauncher.getFactory(), framework, finder,
+                entryPointMethods, sourceFiles, sourceBytes);
+    }
+
+    /**
+     * Parcourt les dépendances des points d'entrée donnés (tous ceux du modèle en lot,
+     * seulement ceux touchés par une modification dans le démon).
+     * @return le nombre de nœuds visités
+     */
+    public long traverse(ProjectModel model, List<CtMethod<?>> entryPointMethods, AnalysisBudget projectBudget,
+                         Consumer<AnalyzedEndpoint> sink) {
+        long visitedNodes = 0;
         DependencyAnalyzer dependencyAnalyzer = new DependencyAnalyzer();
+        EndpointFinder finder = model.getFinder();
+        String framework = model.getFramework().toString();
 
         for (CtMethod<?> method : entryPointMethods) {
             System.out.println("     -> Analyse de l'endpoint : " + method.getSignature());
-            List<Dependency> dependencies = dependencyAnalyzer.analyze(method);
+            // Budget épuisé : l'endpoint est tout de même émis, sans dépendances et marqué tronqué
+            AnalysisBudget endpointBudget = projectBudget.child(limits.endpointTimeoutMillis(), limits.endpointMaxNodes());
+            EndpointTraversalEvent traversalEvent = new EndpointTraversalEvent();
+            traversalEvent.begin();
+            DependencyAnalyzer.Result analysis = metrics.timed(MetricsRegistry.DEPENDENCY_TRAVERSAL,
+                    () -> dependencyAnalyzer.analyze(method, endpointBudget));
+            traversalEvent.end();
+            metrics.add(MetricsRegistry.NODES_VISITED, endpointBudget.getVisitedNodes());
+            visitedNodes += endpointBudget.getVisitedNodes();
+            List<Dependency> dependencies = analysis.dependencies();
+            if (traversalEvent.shouldCommit()) {
+                // Les champs ne sont calculés que pour les parcours retenus par le seuil
+                Path sourceFile = ProjectModel.sourceFileOf(method);
+                traversalEvent.project = model.getProjectName();
+                traversalEvent.endpoint = method.getSignature();
+                traversalEvent.file = sourceFile != null ? sourceFile.toString() : null;
+                traversalEvent.bytes = sourceFile != null ? model.getInventory().sizeOf(sourceFile) : 0;
+                traversalEvent.nodes = endpointBudget.getVisitedNodes();
+                traversalEvent.dependencies = dependencies.size();
+                traversalEvent.truncated = analysis.truncated();
+                traversalEvent.commit();
+            }
+            if (analysis.truncated()) {
+                System.out.println("        ! Analyse tronquée (" + endpointBudget.getExhaustedReason() + ")");
+            }
             
             List<BusinessRule> businessRules = new ArrayList<>();
 
-            results.add(new AnalyzedEndpoint(
+            sink.accept(new AnalyzedEndpoint(
                 finder.getPathFor(method),
                 finder.getHttpMethodFor(method),
-                framework.toString(),
+                framework,
                 method.getSignature(),
                 dependencies,
-                businessRules
+                businessRules,
+                analysis.truncated()
             ));
         }
 
-        return results;
+        metrics.add(MetricsRegistry.ENDPOINTS, entryPointMethods.size());
+        metrics.add(MetricsRegistry.CACHE_HITS, dependencyAnalyzer.getTypeCacheHits());
+        metrics.add(MetricsRegistry.CACHE_MISSES, dependencyAnalyzer.getTypeCacheMisses());
+        return visitedNodes;
     }
 }
@@ -0,0 +1,45 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/collections/HashMixer.java
+package com.votre_entreprise.analyzer.collections;
+
+/**
+ * Fonctions de hachage communes aux tables à adressage ouvert du paquet.
+ */
+final class HashMixer {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private HashMixer() {
+    }
+
+    /**
+     * Étale les bits d'une clé : les identifiants de symboles sont denses et séquentiels,
+     * le sondage linéaire dégénère sans ce mélange.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Finaliseur 64 bits de MurmurHash3 : un simple repliement haut ^ bas ferait
+     * collisionner les paires (classe, signature) dont les symboles diffèrent des mêmes bits.
+     */
+    static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /**
+     * Capacité (puissance de deux) permettant de stocker {@code expectedSize} éléments
+     * sous le facteur de charge de 3/4.
+     */
+    static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.min(MAX_CAPACITY, Math.max(4L, (long) expectedSize * 4 / 3 + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -0,0 +1,97 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/collections/LongHashSet.java
+package com.votre_entreprise.analyzer.collections;
+
+/**
+ * Ensemble de long à adressage ouvert, sans boxing. Sert typiquement à mémoriser
+ * des paires de symboles (classe, signature) packées dans un long.
+ * Pas de suppression, non synchronisé.
+ */
+public final class LongHashSet {
+
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private int size;
+    private int threshold;
+    private boolean hasZeroKey;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(HashMixer.tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @return {@code true} si la valeur a été ajoutée, {@code false} si elle était déjà présente.
+     */
+    public boolean add(long key) {
+        if (key == FREE) {
+            if (hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        int mask = keys.length - 1;
+        int slot = HashMixer.mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > threshold) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        int mask = keys.length - 1;
+        for (int slot = HashMixer.mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return true;
+            }
+            if (current == FREE) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        threshold = capacity * 3 / 4;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        allocate(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for (long key : oldKeys) {
+            if (key != FREE) {
+                int slot = HashMixer.mix(key) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size + ", capacity=" + keys.length + "}";
+    }
+}
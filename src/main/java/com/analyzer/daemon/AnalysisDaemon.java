@@ -0,0 +1,348 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/daemon/AnalysisDaemon.java
+package com.votre_entreprise.analyzer.daemon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.votre_entreprise.analyzer.AnalyzerOptions;
+import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
+import com.votre_entreprise.analyzer.spoon.AnalysisBudget;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jdk.net.ExtendedSocketOptions;
+
+/**
+ * Démon d'analyse : une JVM qui garde en mémoire les modèles Spoon et les endpoints analysés
+ * des projets demandés, et répond sur une socket Unix locale.
+ * <p>
+ * Protocole ligne à ligne : chaque ligne reçue est une {@link DaemonRequest} JSON, chaque réponse
+ * un objet JSON sur une ligne, avec {@code "ok"} et la durée de traitement {@code "millis"}.
+ * Plusieurs requêtes peuvent se suivre sur la même connexion. Le premier {@code analyze} d'un projet
+ * construit son modèle ; ensuite {@code endpoints} et {@code dependencies} sont servis depuis la
+ * mémoire, et {@code reanalyze} ne recalcule que ce que les fichiers modifiés invalident.
+ * <p>
+ * La socket est réservée à l'utilisateur qui lance le démon : ses droits sont ramenés à {@code rw-------}
+ * dès sa création, et chaque connexion dont l'utilisateur pair ({@code SO_PEERCRED}) n'est pas le
+ * propriétaire de la socket est refermée sans réponse. Aucune autre authentification n'est faite.
+ * <p>
+ * Une {@code OutOfMemoryError} pendant une requête arrête le démon : l'état gardé en mémoire n'est plus
+ * fiable, {@link #serve()} la relance une fois la socket fermée.
+ */
+public class AnalysisDaemon {
+
+    private final Path socketPath;
+    private final AnalysisBudget.Limits limits;
+    private final List<String> inventoryExcludes;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<Path, ResidentProject> projects = new ConcurrentHashMap<>();
+    private final ExecutorService connections;
+    private final long startedAt = System.currentTimeMillis();
+    private volatile ServerSocketChannel server;
+    private volatile UserPrincipal owner;
+    // Erreur de la JVM survenue dans une connexion : arrête le démon et sera relancée par serve()
+    private volatile VirtualMachineError fatal;
+
+    public AnalysisDaemon(Path socketPath, AnalysisBudget.Limits limits, List<String> inventoryExcludes) {
+        this.socketPath = socketPath.toAbsolutePath();
+        this.limits = limits;
+        this.inventoryExcludes = inventoryExcludes;
+        AtomicInteger clients = new AtomicInteger();
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "demon-client-" + clients.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0 || args[0] == null || args[0].isBlank()) {
+            System.err.println("ERREUR: Vous devez fournir le chemin de la socket du démon.");
+            System.out.println("Usage: java -cp analyzer.jar " + AnalysisDaemon.class.getName() + " <socket>");
+            System.out.println("       [--project-timeout=s] [--project-max-nodes=N] [--endpoint-timeout=s] [--endpoint-max-nodes=N]");
+            System.out.println("       [--exclude=glob,...]");
+            return;
+        }
+
+        AnalyzerOptions options;
+        try {
+            options = AnalyzerOptions.parseFlags(args, 1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERREUR: Option invalide : " + e.getMessage());
+            return;
+        }
+
+        try {
+            new AnalysisDaemon(Paths.get(args[0]), options.getBudgetLimits(), options.getInventoryExcludes()).serve();
+        } catch (IOException e) {
+            System.err.println("ERREUR: Impossible d'ouvrir la socket du démon : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Accepte les connexions jusqu'à la requête {@code shutdown}.
+     */
+    public void serve() throws IOException {
+        removeStaleSocket(socketPath);
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        owner = restrictToOwner(socketPath);
+        System.out.println("Démon d'analyse à l'écoute sur " + socketPath);
+        try {
+            while (true) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (ClosedChannelException e) {
+                    break; // shutdown
+                }
+                connections.submit(() -> handle(client));
+            }
+        } finally {
+            // Laisse le temps à la réponse au shutdown de partir ; les connexions inactives ne retiennent pas la JVM
+            connections.shutdown();
+            try {
+                connections.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Files.deleteIfExists(socketPath);
+            System.out.println("Démon d'analyse arrêté.");
+        }
+        if (fatal != null) {
+            throw fatal;
+        }
+    }
+
+    /**
+     * Supprime la socket laissée par un démon arrêté brutalement. Refuse de démarrer si le chemin
+     * n'est pas une socket, ou si un démon y répond encore.
+     */
+    static void removeStaleSocket(Path socket) throws IOException {
+        if (!Files.exists(socket, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        if (!isSocket(socket)) {
+            throw new IOException(socket + " existe et n'est pas une socket : démarrage refusé");
+        }
+        try (SocketChannel probe = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            probe.connect(UnixDomainSocketAddress.of(socket));
+        } catch (ConnectException e) {
+            // Personne n'écoute : socket orpheline
+            Files.delete(socket);
+            return;
+        }
+        throw new IOException("Un démon écoute déjà sur " + socket);
+    }
+
+    private static boolean isSocket(Path path) throws IOException {
+        try {
+            int mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            return (mode & 0170000) == 0140000;
+        } catch (UnsupportedOperationException e) {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther();
+        }
+    }
+
+    /**
+     * Ramène les droits de la socket à {@code rw-------}.
+     * @return le propriétaire de la socket, seul utilisateur dont les connexions sont servies
+     */
+    private static UserPrincipal restrictToOwner(Path socket) throws IOException {
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            System.err.println("Avertissement : droits POSIX non supportés, la socket garde ses droits par défaut.");
+        }
+        return Files.getOwner(socket, LinkOption.NOFOLLOW_LINKS);
+    }
+
+    private boolean isOwner(SocketChannel channel) {
+        try {
+            return owner.equals(channel.getOption(ExtendedSocketOptions.SO_PEERCRED).user());
+        } catch (UnsupportedOperationException | IOException e) {
+            // Identité du pair indisponible sur ce système : seuls les droits du fichier protègent la socket
+            return true;
+        }
+    }
+
+    private void handle(SocketChannel channel) {
+        if (!isOwner(channel)) {
+            System.err.println("Connexion refusée : l'utilisateur n'est pas le propriétaire de la socket.");
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Connexion déjà perdue
+            }
+            return;
+        }
+        try (channel;
+             BufferedReader in = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+             Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                out.write(mapper.writeValueAsString(dispatch(line)));
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Client parti au milieu d'une réponse : rien à faire de plus
+            System.err.println("Connexion au démon interrompue : " + e.getMessage());
+        } catch (VirtualMachineError e) {
+            // Pas de reprise en mémoire épuisée : le démon s'arrête, serve() relance l'erreur
+            fatal = e;
+            try {
+                server.close();
+            } catch (IOException ignored) {
+                // La boucle d'acceptation s'arrête de toute façon
+            }
+            throw e;
+        }
+    }
+
+    Map<String, Object> dispatch(String line) {
+        long start = System.nanoTime();
+        Map<String, Object> response = new LinkedHashMap<>();
+        try {
+            DaemonRequest request = mapper.readValue(line, DaemonRequest.class);
+            String command = request.command() != null ? request.command() : "";
+            response.put("ok", true);
+            response.put("command", command);
+            switch (command) {
+                case "analyze", "reanalyze" -> analyze(request, response);
+                case "endpoints" -> endpoints(request, response);
+                case "dependencies" -> dependencies(request, response);
+                case "status" -> status(response);
+                case "evict" -> response.put("evicted", projects.remove(projectPath(request)) != null);
+                case "shutdown" -> server.close();
+                default -> throw new IllegalArgumentException("Commande inconnue : '" + command + "'");
+            }
+        } catch (Exception | StackOverflowError e) {
+            // Une requête en erreur ne doit pas arrêter le démon (une OutOfMemoryError, elle, l'arrête : voir handle)
+            response.clear();
+            response.put("ok", false);
+            response.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        response.put("millis", (System.nanoTime() - start) / 1_000_000.0);
+        return response;
+    }
+
+    private void analyze(DaemonRequest request, Map<String, Object> response) throws Exception {
+        Path projectPath = projectPath(request);
+        if (!Files.isDirectory(projectPath)) {
+            throw new IllegalArgumentException("Projet introuvable : " + projectPath);
+        }
+        ResidentProject project = projects.computeIfAbsent(projectPath, path -> new ResidentProject(path, limits, inventoryExcludes));
+        List<Path> hinted = new ArrayList<>();
+        if (request.files() != null) {
+            request.files().forEach(file -> hinted.add(Paths.get(file)));
+        }
+        Lock lock = project.lock().writeLock();
+        lock.lock();
+        try {
+            ResidentProject.Refresh refresh = project.refresh(hinted);
+            response.put("project", projectPath.toString());
+            response.put("modelRebuilt", refresh.modelRebuilt());
+            response.put("changedFiles", refresh.changedFiles());
+            response.put("endpoints", refresh.endpoints());
+            response.put("reanalyzedEndpoints", refresh.reanalyzedEndpoints());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void endpoints(DaemonRequest request, Map<String, Object> response) {
+        ResidentProject project = residentProject(request);
+        Lock lock = project.lock().readLock();
+        lock.lock();
+        try {
+            List<Map<String, Object>> summaries = new ArrayList<>();
+            for (AnalyzedEndpoint endpoint : project.find(request.endpoint())) {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("endpointPath", endpoint.endpointPath());
+                summary.put("httpMethod", endpoint.httpMethod());
+                summary.put("entryPointSignature", endpoint.entryPointSignature());
+                summary.put("dependencies", endpoint.dependencies().size());
+                summary.put("truncated", endpoint.truncated());
+                summaries.add(summary);
+            }
+            response.put("endpoints", summaries);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dependencies(DaemonRequest request, Map<String, Object> response) {
+        ResidentProject project = residentProject(request);
+        Lock lock = project.lock().readLock();
+        lock.lock();
+        try {
+            response.put("endpoints", project.find(request.endpoint()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void status(Map<String, Object> response) {
+        List<Map<String, Object>> resident = new ArrayList<>();
+        projects.values().forEach(project -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("project", project.getProjectPath().toString());
+            entry.put("framework", project.getFramework());
+            entry.put("sourceFiles", project.getSourceFiles());
+            entry.put("endpoints", project.getEndpointCount());
+            entry.put("refreshedAt", project.getRefreshedAt() > 0 ? Instant.ofEpochMilli(project.getRefreshedAt()).toString() : null);
+            resident.add(entry);
+        });
+        Runtime runtime = Runtime.getRuntime();
+        response.put("startedAt", Instant.ofEpochMilli(startedAt).toString());
+        response.put("heapUsedMb", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        response.put("heapMaxMb", runtime.maxMemory() / (1024 * 1024));
+        response.put("projects", resident);
+    }
+
+    private ResidentProject residentProject(DaemonRequest request) {
+        Path projectPath = projectPath(request);
+        ResidentProject project = projects.get(projectPath);
+        if (project == null || !project.isBuilt()) {
+            throw new IllegalStateException("Projet non chargé, envoyer d'abord 'analyze' : " + projectPath);
+        }
+        return project;
+    }
+
+    private static Path projectPath(DaemonRequest request) {
+        if (request.project() == null || request.project().isBlank()) {
+            throw new IllegalArgumentException("Champ 'project' manquant");
+        }
+        return Paths.get(request.project()).toAbsolutePath().normalize();
+    }
+}
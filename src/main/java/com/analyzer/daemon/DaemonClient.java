@@ -0,0 +1,66 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/daemon/DaemonClient.java
+package com.votre_entreprise.analyzer.daemon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Client en ligne de commande du {@link AnalysisDaemon} : envoie une requête et affiche
+ * la réponse JSON telle quelle (à enchaîner avec jq). Les outils qui interrogent souvent
+ * le démon gagnent à garder leur propre connexion ouverte plutôt qu'à relancer ce client.
+ */
+public class DaemonClient {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("ERREUR: Vous devez fournir la socket du démon et une commande.");
+            System.out.println("Usage: java -cp analyzer.jar " + DaemonClient.class.getName() + " <socket> <commande> [projet] [argument...]");
+            System.out.println("       analyze <projet>                 construit le modèle du projet et le garde en mémoire");
+            System.out.println("       reanalyze <projet> [fichier...]  recalcule ce que les fichiers modifiés invalident");
+            System.out.println("       endpoints <projet> [filtre]      liste les endpoints");
+            System.out.println("       dependencies <projet> <filtre>   dépendances des endpoints dont le chemin ou classe#signature contient le filtre");
+            System.out.println("       evict <projet> | status | shutdown");
+            return;
+        }
+
+        String command = args[1];
+        String project = args.length > 2 ? args[2] : null;
+        String endpoint = null;
+        List<String> files = null;
+        if (args.length > 3) {
+            if ("reanalyze".equals(command)) {
+                files = Arrays.asList(args).subList(3, args.length);
+            } else {
+                endpoint = args[3];
+            }
+        }
+
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(Paths.get(args[0])));
+            Writer out = Channels.newWriter(channel, StandardCharsets.UTF_8);
+            out.write(new ObjectMapper().writeValueAsString(new DaemonRequest(command, project, endpoint, files)));
+            out.write('\n');
+            out.flush();
+            BufferedReader in = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            String response = in.readLine();
+            System.out.println(response);
+            if (response == null || response.startsWith("{\"ok\":false")) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("ERREUR: Démon injoignable sur " + args[0] + " : " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
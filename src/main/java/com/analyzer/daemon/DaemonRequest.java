@@ -0,0 +1,20 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/daemon/DaemonRequest.java
+package com.votre_entreprise.analyzer.daemon;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Requête adressée au démon, un objet JSON par ligne, par exemple :
+ * {@code {"command":"dependencies","project":"/src/app-001","endpoint":"/orders"}}.
+ *
+ * @param command  analyze, reanalyze, endpoints, dependencies, status, evict ou shutdown
+ * @param project  chemin du projet Maven (sauf status et shutdown)
+ * @param endpoint filtre sur le chemin de l'endpoint ou sur {@code classe#signature} (dependencies, endpoints)
+ * @param files    fichiers modifiés signalés par le client (reanalyze), relatifs au projet ou absolus
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DaemonRequest(String command, String project, String endpoint, List<String> files) {}
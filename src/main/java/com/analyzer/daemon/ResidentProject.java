@@ -0,0 +1,221 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/daemon/ResidentProject.java
+package com.votre_entreprise.analyzer.daemon;
+
+import com.votre_entreprise.analyzer.ProjectModel;
+import com.votre_entreprise.analyzer.SingleProjectAnalyzer;
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
+import com.votre_entreprise.analyzer.model.Dependency;
+import com.votre_entreprise.analyzer.spoon.AnalysisBudget;
+
+import spoon.reflect.declaration.CtMethod;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Projet gardé en mémoire par le démon et par le mode {@code --watch} : modèle Spoon, endpoints analysés et, pour chacun,
+ * les fichiers sources dont dépend son résultat (classe du point d'entrée et classes des dépendances).
+ * <p>
+ * Une réanalyse compare la taille et la date des fichiers à celles de l'inventaire précédent.
+ * Sans modification, rien n'est recalculé. Sinon le modèle est reconstruit (Spoon ne sait pas
+ * remplacer une unité de compilation dans un modèle existant, mais la JVM est déjà chaude) et seuls
+ * les endpoints dont un fichier a changé, ou nouveaux, sont reparcourus ; les autres sont repris tels quels.
+ * <p>
+ * Les lectures (requêtes) et la réanalyse d'un même projet sont exclusives ; des projets différents
+ * sont traités en parallèle.
+ */
+public class ResidentProject {
+
+    /** Bilan d'une (ré)analyse, renvoyé au client. */
+    public record Refresh(boolean modelRebuilt, int changedFiles, int endpoints, int reanalyzedEndpoints, long millis) {}
+
+    private record FileStamp(long size, long modifiedMillis) {}
+
+    private final Path projectPath;
+    private final AnalysisBudget.Limits limits;
+    private final List<String> inventoryExcludes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ProjectModel model;
+    private Map<Path, FileStamp> stamps = Map.of();
+    // classe#signature du point d'entrée -> résultat, dans l'ordre de découverte
+    // (la signature seule ne suffit pas : toutes les actions Struts ont une méthode execute)
+    private Map<String, AnalyzedEndpoint> endpoints = new LinkedHashMap<>();
+    // classe#signature du point d'entrée -> fichiers sources dont dépend le résultat
+    private Map<String, Set<Path>> endpointFiles = new HashMap<>();
+    private long refreshedAt;
+
+    public ResidentProject(Path projectPath, AnalysisBudget.Limits limits, List<String> inventoryExcludes) {
+        this.projectPath = projectPath;
+        this.limits = limits;
+        this.inventoryExcludes = inventoryExcludes;
+    }
+
+    public ReadWriteLock lock() {
+        return lock;
+    }
+
+    /**
+     * (Ré)analyse le projet. À appeler sous le verrou d'écriture.
+     *
+     * @param hintedFiles fichiers signalés comme modifiés par le client ; ils s'ajoutent à ceux
+     *                    détectés par l'inventaire (utile si la date de modification n'a pas bougé)
+     */
+    public Refresh refresh(Collection<Path> hintedFiles) throws Exception {
+        long start = System.currentTimeMillis();
+        FileInventory inventory = FileInventory.build(projectPath, inventoryExcludes);
+        Map<Path, FileStamp> currentStamps = stampsOf(inventory);
+        Set<Path> changed = new HashSet<>();
+        if (model != null) {
+            diff(stamps, currentStamps, changed);
+            diff(currentStamps, stamps, changed);
+            for (Path hinted : hintedFiles) {
+                changed.add(projectPath.resolve(hinted).toAbsolutePath().normalize());
+            }
+            if (changed.isEmpty()) {
+                return new Refresh(false, 0, endpoints.size(), 0, System.currentTimeMillis() - start);
+            }
+        }
+
+        SingleProjectAnalyzer analyzer = new SingleProjectAnalyzer(projectPath.toString(), limits, inventoryExcludes);
+        AnalysisBudget projectBudget = AnalysisBudget.of(limits.projectTimeoutMillis(), limits.projectMaxNodes());
+        ProjectModel rebuilt = analyzer.buildModel();
+
+        Map<String, AnalyzedEndpoint> previous = endpoints;
+        Map<String, Set<Path>> previousFiles = endpointFiles;
+        List<CtMethod<?>> toTraverse = new ArrayList<>();
+        for (CtMethod<?> method : rebuilt.getEntryPoints()) {
+            String key = keyOf(method);
+            AnalyzedEndpoint known = previous.get(key);
+            Set<Path> files = previousFiles.get(key);
+            boolean reusable = known != null && !known.truncated() && files != null
+                    && files.stream().noneMatch(changed::contains);
+            if (!reusable) {
+                toTraverse.add(method);
+            }
+        }
+
+        // Les endpoints sont émis dans l'ordre des points d'entrée transmis
+        List<AnalyzedEndpoint> traversed = new ArrayList<>(toTraverse.size());
+        analyzer.traverse(rebuilt, toTraverse, projectBudget, traversed::add);
+        Map<String, AnalyzedEndpoint> fresh = new HashMap<>();
+        for (int i = 0; i < toTraverse.size(); i++) {
+            fresh.put(keyOf(toTraverse.get(i)), traversed.get(i));
+        }
+
+        Map<String, AnalyzedEndpoint> updated = new LinkedHashMap<>();
+        Map<String, Set<Path>> updatedFiles = new HashMap<>();
+        for (CtMethod<?> method : rebuilt.getEntryPoints()) {
+            String key = keyOf(method);
+            AnalyzedEndpoint endpoint = fresh.get(key);
+            if (endpoint != null) {
+                updated.put(key, endpoint);
+                updatedFiles.put(key, filesOf(rebuilt, method, endpoint));
+            } else {
+                // Dépendances reprises ; chemin et verbe HTTP relus, un descripteur (struts.xml...) a pu changer
+                AnalyzedEndpoint known = previous.get(key);
+                updated.put(key, new AnalyzedEndpoint(
+                        rebuilt.getFinder().getPathFor(method),
+                        rebuilt.getFinder().getHttpMethodFor(method),
+                        rebuilt.getFramework().toString(),
+                        known.entryPointSignature(),
+                        known.dependencies(),
+                        known.businessRules(),
+                        known.truncated()));
+                updatedFiles.put(key, previousFiles.get(key));
+            }
+        }
+
+        model = rebuilt;
+        stamps = currentStamps;
+        endpoints = updated;
+        endpointFiles = updatedFiles;
+        refreshedAt = System.currentTimeMillis();
+        return new Refresh(true, changed.size(), updated.size(), toTraverse.size(), refreshedAt - start);
+    }
+
+    /**
+     * Endpoints dont le chemin ou le point d'entrée ({@code classe#signature}) contient le filtre
+     * (tous si le filtre est vide). À appeler sous le verrou de lecture.
+     */
+    public List<AnalyzedEndpoint> find(String filter) {
+        List<AnalyzedEndpoint> matches = new ArrayList<>();
+        endpoints.forEach((key, endpoint) -> {
+            if (filter == null || filter.isBlank() || key.contains(filter)
+                    || (endpoint.endpointPath() != null && endpoint.endpointPath().contains(filter))) {
+                matches.add(endpoint);
+            }
+        });
+        return matches;
+    }
+
+    public boolean isBuilt() {
+        return model != null;
+    }
+
+    public Path getProjectPath() {
+        return projectPath;
+    }
+
+    public int getEndpointCount() {
+        return endpoints.size();
+    }
+
+    public int getSourceFiles() {
+        return model != null ? model.getSourceFiles() : 0;
+    }
+
+    public String getFramework() {
+        return model != null ? model.getFramework().toString() : null;
+    }
+
+    public long getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    private static String keyOf(CtMethod<?> method) {
+        return (method.getDeclaringType() != null ? method.getDeclaringType().getQualifiedName() : "")
+                + "#" + method.getSignature();
+    }
+
+    private static Set<Path> filesOf(ProjectModel model, CtMethod<?> entryPoint, AnalyzedEndpoint endpoint) {
+        Set<Path> files = new HashSet<>();
+        Path entryFile = ProjectModel.sourceFileOf(entryPoint);
+        if (entryFile != null) {
+            files.add(entryFile);
+        }
+        for (Dependency dependency : endpoint.dependencies()) {
+            Path file = model.sourceFileOf(dependency.className());
+            if (file != null) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    private static Map<Path, FileStamp> stampsOf(FileInventory inventory) {
+        Map<Path, FileStamp> result = new HashMap<>();
+        for (Path file : inventory.getFiles()) {
+            result.put(file, new FileStamp(inventory.sizeOf(file), inventory.lastModifiedOf(file)));
+        }
+        return result;
+    }
+
+    /** Ajoute à {@code changed} les fichiers de {@code from} absents ou différents dans {@code to}. */
+    private static void diff(Map<Path, FileStamp> from, Map<Path, FileStamp> to, Set<Path> changed) {
+        from.forEach((file, stamp) -> {
+            if (!stamp.equals(to.get(file))) {
+                changed.add(file);
+            }
+        });
+    }
+}
@@ -0,0 +1,279 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/discovery/FileInventory.java
+package com.votre_entreprise.analyzer.discovery;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Inventaire des fichiers d'un projet, construit une seule fois par un parcours parallèle
+ * qui élague les répertoires exclus (.git, target, node_modules...).
+ * Les finders et détecteurs l'interrogent par nom, extension ou suffixe de chemin
+ * au lieu de reparcourir le disque. Les résultats sont triés par chemin : ils ne dépendent pas
+ * de l'ordre dans lequel les threads du parcours ont terminé.
+ */
+public class FileInventory {
+
+    /** Exclus quel que soit leur emplacement (remplaçables par {@code --exclude}). */
+    public static final List<String> DEFAULT_EXCLUDES = List.of(
+        ".git", ".svn", ".idea", ".gradle"
+    );
+
+    /**
+     * Répertoires de sortie de build, exclus seulement à la racine d'un module (à côté de son descripteur de build) :
+     * un package Java nommé {@code build} ou {@code bin} ({@code com/acme/build/}) fait partie des sources.
+     */
+    public static final List<String> BUILD_OUTPUT_DIRECTORIES = List.of(
+        "target", "build", "bin", "node_modules"
+    );
+
+    private static final List<String> MODULE_DESCRIPTORS = List.of(
+        "pom.xml", "build.gradle", "build.gradle.kts", "build.xml", "package.json"
+    );
+
+    private final Path root;
+    private final Map<String, List<Path>> byName = new HashMap<>();
+    private final Map<String, List<Path>> byExtension = new HashMap<>();
+    private final Set<String> relativeFiles = new HashSet<>();
+    private final Set<String> relativeDirectories = new HashSet<>();
+    private final Map<Path, Long> sizes = new LinkedHashMap<>();
+    private final Map<Path, Long> modifiedTimes = new HashMap<>();
+    private long totalBytes;
+
+    private FileInventory(Path root) {
+        this.root = root;
+    }
+
+    public static FileInventory build(Path root) throws IOException {
+        return build(root, DEFAULT_EXCLUDES);
+    }
+
+    /**
+     * @param excludeGlobs Globs testés sur le chemin relatif et sur le nom du fichier/répertoire
+     *                     (ex: ".git", "**&#47;generated&#47;**", "*.bak"), en plus de
+     *                     {@link #BUILD_OUTPUT_DIRECTORIES} à la racine des modules.
+     */
+    public static FileInventory build(Path root, List<String> excludeGlobs) throws IOException {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        if (!Files.isDirectory(normalizedRoot)) {
+            throw new IOException("Répertoire introuvable : " + normalizedRoot);
+        }
+        List<PathMatcher> excludes = compile(excludeGlobs);
+
+        Queue<Path> directories = new ConcurrentLinkedQueue<>();
+        Queue<Object[]> files = new ConcurrentLinkedQueue<>();
+        try {
+            ForkJoinPool.commonPool().invoke(new DirectoryScan(normalizedRoot, normalizedRoot, excludes, directories, files));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // L'indexation se fait ensuite sur un seul thread : les maps restent de simples HashMap.
+        // Le tri rend l'ordre des résultats (détection du framework, entrées de Spoon) stable d'une exécution à l'autre.
+        List<Object[]> sortedFiles = new ArrayList<>(files);
+        sortedFiles.sort(Comparator.comparing(entry -> (Path) entry[0]));
+        FileInventory inventory = new FileInventory(normalizedRoot);
+        for (Path dir : directories) {
+            inventory.relativeDirectories.add(inventory.relativize(dir));
+        }
+        for (Object[] entry : sortedFiles) {
+            inventory.add((Path) entry[0], (Long) entry[1], (Long) entry[2]);
+        }
+        return inventory;
+    }
+
+    private void add(Path file, long size, long modifiedMillis) {
+        String name = file.getFileName().toString();
+        byName.computeIfAbsent(name, k -> new ArrayList<>()).add(file);
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            byExtension.computeIfAbsent(name.substring(dot + 1).toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(file);
+        }
+        relativeFiles.add(relativize(file));
+        sizes.put(file, size);
+        modifiedTimes.put(file, modifiedMillis);
+        totalBytes += size;
+    }
+
+    private String relativize(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /** Fichiers portant exactement ce nom (ex: "pom.xml"). */
+    public List<Path> findByName(String fileName) {
+        return Collections.unmodifiableList(byName.getOrDefault(fileName, Collections.emptyList()));
+    }
+
+    /** Fichiers ayant cette extension, sans le point (ex: "java"). */
+    public List<Path> findByExtension(String extension) {
+        return Collections.unmodifiableList(byExtension.getOrDefault(extension.toLowerCase(Locale.ROOT), Collections.emptyList()));
+    }
+
+    /**
+     * Fichiers dont le chemin se termine par le suffixe donné (ex: "src/main/resources/struts.xml").
+     * La recherche passe par l'index des noms : seuls les homonymes sont comparés.
+     */
+    public List<Path> findBySuffix(String pathSuffix) {
+        String suffix = pathSuffix.replace('\\', '/');
+        String fileName = suffix.substring(suffix.lastIndexOf('/') + 1);
+        List<Path> matches = new ArrayList<>();
+        for (Path candidate : byName.getOrDefault(fileName, Collections.emptyList())) {
+            String relative = "/" + relativize(candidate);
+            if (relative.endsWith(suffix.startsWith("/") ? suffix : "/" + suffix)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    public Optional<Path> findFirstBySuffix(String pathSuffix) {
+        return findBySuffix(pathSuffix).stream().findFirst();
+    }
+
+    /** Teste l'existence d'un fichier relatif à la racine, sans accès disque. */
+    public boolean containsFile(String relativePath) {
+        return relativeFiles.contains(relativePath);
+    }
+
+    public boolean containsDirectory(String relativePath) {
+        return relativeDirectories.contains(relativePath);
+    }
+
+    public long sizeOf(Path file) {
+        return sizes.getOrDefault(file, 0L);
+    }
+
+    /** Date de modification relevée lors de l'inventaire (ms), 0 si le fichier n'en fait pas partie. */
+    public long lastModifiedOf(Path file) {
+        return modifiedTimes.getOrDefault(file, 0L);
+    }
+
+    /**
+     * @return {@code true} si le répertoire ne doit pas être parcouru : exclu par un glob, ou répertoire de sortie
+     * de build à côté d'un descripteur de build. Partagé avec la surveillance des sources pour filtrer les mêmes répertoires.
+     */
+    public static boolean isExcludedDirectory(Path root, Path directory, List<PathMatcher> excludes) {
+        return matchesAny(root, directory, excludes) || isBuildOutput(directory);
+    }
+
+    /**
+     * @return {@code true} si le fichier est exclu par un glob (même règle que lors de l'inventaire).
+     */
+    public static boolean isExcludedFile(Path root, Path file, List<PathMatcher> excludes) {
+        return matchesAny(root, file, excludes);
+    }
+
+    public static List<PathMatcher> compile(List<String> excludeGlobs) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String glob : excludeGlobs) {
+            matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+        }
+        return matchers;
+    }
+
+    private static boolean matchesAny(Path root, Path entry, List<PathMatcher> excludes) {
+        Path relative = root.relativize(entry);
+        Path name = entry.getFileName();
+        for (PathMatcher matcher : excludes) {
+            if (matcher.matches(relative) || matcher.matches(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBuildOutput(Path directory) {
+        Path parent = directory.getParent();
+        if (parent == null || !BUILD_OUTPUT_DIRECTORIES.contains(directory.getFileName().toString())) {
+            return false;
+        }
+        for (String descriptor : MODULE_DESCRIPTORS) {
+            if (Files.isRegularFile(parent.resolve(descriptor))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Tous les fichiers inventoriés (chemins absolus normalisés). */
+    public Set<Path> getFiles() {
+        return Collections.unmodifiableSet(sizes.keySet());
+    }
+
+    public int getFileCount() {
+        return sizes.size();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Tâche fork/join : liste un répertoire et délègue chaque sous-répertoire non exclu à une sous-tâche.
+     */
+    private static final class DirectoryScan extends RecursiveAction {
+        private final Path root;
+        private final Path directory;
+        private final List<PathMatcher> excludes;
+        private final Queue<Path> directories;
+        private final Queue<Object[]> files;
+
+        DirectoryScan(Path root, Path directory, List<PathMatcher> excludes, Queue<Path> directories, Queue<Object[]> files) {
+            this.root = root;
+            this.directory = directory;
+            this.excludes = excludes;
+            this.directories = directories;
+            this.files = files;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryScan> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path entry : stream) {
+                    if (matchesAny(root, entry, excludes)) {
+                        continue;
+                    }
+                    BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attrs.isDirectory()) {
+                        if (isBuildOutput(entry)) {
+                            continue;
+                        }
+                        directories.add(entry);
+                        subTasks.add(new DirectoryScan(root, entry, excludes, directories, files));
+                    } else if (attrs.isRegularFile()) {
+                        files.add(new Object[] { entry, attrs.size(), attrs.lastModifiedTime().toMillis() });
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            invokeAll(subTasks);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/jfr/EndpointDiscoveryEvent.java
+package com.votre_entreprise.analyzer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Passage d'un {@code EndpointFinder} sur le modèle d'un projet.
+ */
+@Name("analyzer.EndpointDiscovery")
+@Label("Recherche des endpoints")
+@Description("Visite du modèle par le finder du framework détecté")
+@Category({"Analyzer", "Extraction"})
+@Threshold("100 ms")
+@StackTrace(false)
+public class EndpointDiscoveryEvent extends Event {
+
+    @Label("Projet")
+    public String project;
+
+    @Label("Finder")
+    public String finder;
+
+    @Label("Endpoints")
+    public int endpoints;
+}
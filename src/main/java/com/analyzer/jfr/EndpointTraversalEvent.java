@@ -0,0 +1,46 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/jfr/EndpointTraversalEvent.java
+package com.votre_entreprise.analyzer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Parcours du graphe d'appels depuis un endpoint. Seuls les parcours lents sont enregistrés :
+ * ce sont eux qui désignent les fichiers à examiner en priorité.
+ */
+@Name("analyzer.EndpointTraversal")
+@Label("Parcours d'un endpoint")
+@Description("Analyse des dépendances atteignables depuis un endpoint")
+@Category({"Analyzer", "Dépendances"})
+@Threshold("50 ms")
+@StackTrace(false)
+public class EndpointTraversalEvent extends Event {
+
+    @Label("Projet")
+    public String project;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Fichier")
+    public String file;
+
+    @Label("Taille du fichier")
+    @DataAmount
+    public long bytes;
+
+    @Label("Nœuds visités")
+    public long nodes;
+
+    @Label("Dépendances")
+    public int dependencies;
+
+    @Label("Tronqué")
+    public boolean truncated;
+}
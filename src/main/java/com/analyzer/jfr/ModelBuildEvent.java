@@ -0,0 +1,38 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/jfr/ModelBuildEvent.java
+package com.votre_entreprise.analyzer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Parsing des sources d'un projet par Spoon : tous les fichiers sont compilés en un seul lot,
+ * c'est donc l'équivalent du parsing fichier par fichier des autres moteurs.
+ */
+@Name("analyzer.ModelBuild")
+@Label("Construction du modèle")
+@Description("Parsing des sources et indexation des annotations d'un projet")
+@Category({"Analyzer", "Parsing"})
+@Threshold("500 ms")
+@StackTrace(false)
+public class ModelBuildEvent extends Event {
+
+    @Label("Projet")
+    public String project;
+
+    @Label("Fichiers sources")
+    public int files;
+
+    @Label("Taille des fichiers")
+    @DataAmount
+    public long bytes;
+
+    @Label("Unités de compilation")
+    @Description("Fichiers présents dans le modèle : l'écart avec les fichiers sources correspond aux erreurs de syntaxe")
+    public int compilationUnits;
+}
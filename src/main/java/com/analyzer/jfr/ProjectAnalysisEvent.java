@@ -0,0 +1,42 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/jfr/ProjectAnalysisEvent.java
+package com.votre_entreprise.analyzer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Analyse complète d'un projet (inventaire, modèle Spoon, endpoints et dépendances).
+ */
+@Name("analyzer.ProjectAnalysis")
+@Label("Analyse de projet")
+@Description("Analyse complète d'un projet Maven")
+@Category({"Analyzer", "Projet"})
+@Threshold("1 s")
+@StackTrace(false)
+public class ProjectAnalysisEvent extends Event {
+
+    @Label("Projet")
+    public String project;
+
+    @Label("Framework")
+    public String framework;
+
+    @Label("Fichiers sources")
+    public int files;
+
+    @Label("Taille des fichiers")
+    @DataAmount
+    public long bytes;
+
+    @Label("Endpoints")
+    public int endpoints;
+
+    @Label("Nœuds visités")
+    public long nodes;
+}
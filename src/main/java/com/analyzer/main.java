@@ -4,10 +4,17 @@
 package com.votre_entreprise.analyzer;
 
 import com.votre_entreprise.analyzer.discovery.ProjectDiscoverer;
-import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
-import com.votre_entreprise.analyzer.serialization.JsonSerializer;
+import com.votre_entreprise.analyzer.jfr.AnalyzerRecording;
+import com.votre_entreprise.analyzer.metrics.MetricsRegistry;
+import com.votre_entreprise.analyzer.portfolio.ForkedWorkerExecutor;
+import com.votre_entreprise.analyzer.portfolio.InProcessExecutor;
+import com.votre_entreprise.analyzer.portfolio.PortfolioExecutor;
+import com.votre_entreprise.analyzer.portfolio.ProjectOutcome;
+import com.votre_entreprise.analyzer.portfolio.ProjectReportTask;
+import com.votre_entreprise.analyzer.watch.PortfolioWatcher;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 public class Main {
@@ -15,16 +22,34 @@ public class Main {
     public static void main(String[] args) {
         if (args.length == 0 || args[0] == null || args[0].isBlank()) {
             System.err.println("ERREUR: Vous devez fournir le chemin vers le répertoire racine des projets.");
-            System.out.println("Usage: java -jar analyzer.jar C:/chemin/vers/mes/projets");
+            System.out.println("Usage: java -jar analyzer.jar C:/chemin/vers/mes/projets [--format=json|ndjson|smile] [--compression=none|gzip|zstd]");
+            System.out.println("       [--threads=N] [--fork=N] [--worker-xmx=2g] [--retries=1]");
+            System.out.println("       [--project-timeout=s] [--project-max-nodes=N] [--endpoint-timeout=s] [--endpoint-max-nodes=N]");
+            System.out.println("       [--jfr=analyse.jfr] [--watch] [--watch-debounce=ms] [--exclude=glob,...]");
             return;
         }
 
-        String rootDirectoryPath = args[0];
+        AnalyzerOptions options;
+        try {
+            options = AnalyzerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERREUR: Option invalide : " + e.getMessage());
+            return;
+        }
+
+        String rootDirectoryPath = options.getRootDirectory();
         System.out.println("Lancement de l'analyse du portfolio dans : " + rootDirectoryPath);
         System.out.println("------------------------------------------------------------------");
 
+        AnalyzerRecording recording = null;
         try {
-            List<Path> projectsToAnalyze = ProjectDiscoverer.findMavenProjects(rootDirectoryPath);
+            if (options.getJfrFile() != null) {
+                recording = AnalyzerRecording.start(options.getJfrFile());
+                System.out.println("Enregistrement JFR actif : " + options.getJfrFile());
+            }
+            MetricsRegistry metrics = MetricsRegistry.global();
+            List<Path> projectsToAnalyze = metrics.timed(MetricsRegistry.DISCOVERY,
+                    () -> ProjectDiscoverer.findMavenProjects(rootDirectoryPath));
 
             if (projectsToAnalyze.isEmpty()) {
                 System.out.println("Aucun projet Maven valide trouvé dans le répertoire spécifié.");
@@ -35,45 +60,50 @@ public class Main {
             projectsToAnalyze.forEach(p -> System.out.println(" - " + p.getFileName()));
             System.out.println("------------------------------------------------------------------");
 
-            int successCount = 0;
-            for (Path projectPath : projectsToAnalyze) {
-                String projectName = projectPath.getFileName().toString();
-                System.out.println(">> Démarrage de l'analyse pour le projet : " + projectName);
-
-                try {
-                    SingleProjectAnalyzer analyzer = new SingleProjectAnalyzer(projectPath.toString());
-                    List<AnalyzedEndpoint> results = analyzer.analyze();
-                    saveProjectReport(projectName, results);
-                    System.out.println("<< Succès : Rapport généré pour " + projectName);
-                    successCount++;
-
-                } catch (Exception e) {
-                    System.err.println("!! ERREUR lors de l'analyse du projet " + projectName + ": " + e.getMessage());
-                    e.printStackTrace();
-                } finally {
-                    System.out.println("------------------------------------------------------------------");
-                }
-            }
+            // En mode --watch, les modèles restent en mémoire pour les réanalyses suivantes
+            PortfolioWatcher watcher = options.isWatch() ? new PortfolioWatcher(options) : null;
+            PortfolioExecutor executor = watcher != null ? watcher : createExecutor(options);
+            List<ProjectOutcome> outcomes = executor.run(projectsToAnalyze);
 
+            System.out.println("------------------------------------------------------------------");
             System.out.println("Analyse du portfolio terminée.");
+            long successCount = outcomes.stream().filter(ProjectOutcome::success).count();
             System.out.println("Rapports générés avec succès : " + successCount + "/" + projectsToAnalyze.size());
+            outcomes.stream()
+                    .filter(outcome -> !outcome.success())
+                    .forEach(outcome -> System.err.println(" - Échec : " + outcome.projectName() + " -> " + outcome.error()));
+
+            metrics.add(MetricsRegistry.PROJECTS_ANALYZED, successCount);
+            metrics.add(MetricsRegistry.PROJECTS_FAILED, projectsToAnalyze.size() - successCount);
+            metrics.export(Paths.get(""));
+            System.out.println("Métriques d'exécution : metrics.json, metrics.prom");
+
+            if (watcher != null) {
+                watcher.watch();
+            }
 
         } catch (IOException e) {
             System.err.println("ERREUR: Impossible de lire le répertoire racine des projets : " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("ERREUR: Échec de l'exécution du portfolio : " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            if (recording != null) {
+                recording.close();
+                System.out.println("Enregistrement JFR écrit : " + recording.getDestination());
+            }
         }
     }
 
-    private static void saveProjectReport(String projectName, List<AnalyzedEndpoint> results) {
-        if (results == null || results.isEmpty()) {
-            System.out.println("   -> Aucun endpoint trouvé ou analysé pour " + projectName + ". Aucun rapport généré.");
-            return;
-        }
-        String outputFilename = "rapport_analyse_" + projectName + ".json";
-        try {
-            JsonSerializer.save(results, outputFilename);
-            System.out.println("   -> Rapport sauvegardé : " + outputFilename);
-        } catch (Exception e) {
-            System.err.println("   -> !! ERREUR lors de la sauvegarde du rapport pour " + projectName + ": " + e.getMessage());
+    private static PortfolioExecutor createExecutor(AnalyzerOptions options) {
+        if (options.getForkedWorkers() > 0) {
+            System.out.println("Mode multi-processus : " + options.getForkedWorkers() + " JVM filles (-Xmx" + options.getWorkerHeap() + ")");
+            return new ForkedWorkerExecutor(options.getForkedWorkers(), options.getWorkerHeap(),
+                    options.getMaxRetries(), options.getProjectTimeoutSeconds(), options.toWorkerArguments());
         }
+        int threads = options.effectiveThreads();
+        System.out.println("Mode in-process : " + threads + " projet(s) analysé(s) en parallèle");
+        ProjectReportTask task = new ProjectReportTask(options);
+        return new InProcessExecutor(task, threads, options.getMaxRetries());
     }
-}
\ No newline at end of file
+}
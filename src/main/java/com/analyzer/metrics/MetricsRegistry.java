@@ -0,0 +1,223 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/metrics/MetricsRegistry.java
+package com.votre_entreprise.analyzer.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chronomètres par phase et compteurs d'une exécution, partagés par tous les projets analysés
+ * dans la JVM. Thread-safe : les projets analysés en parallèle écrivent dans les mêmes métriques.
+ * <p>
+ * Les noms sont en snake_case (ex: {@code model_build}, {@code files_parsed}) et deviennent
+ * des labels ou des suffixes dans l'export Prometheus.
+ * <p>
+ * Le chronométrage, les compteurs et l'export sont communs aux registres des autres moteurs
+ * d'analyse ; seuls le registre global de la JVM et les instantanés échangés avec les workers
+ * {@code --fork} sont propres à celui-ci.
+ */
+public final class MetricsRegistry {
+
+    // Phases instrumentées
+    public static final String DISCOVERY = "discovery";
+    public static final String MODEL_BUILD = "model_build";
+    public static final String FRAMEWORK_DETECTION = "framework_detection";
+    public static final String ENDPOINT_FINDING = "endpoint_finding";
+    public static final String DEPENDENCY_TRAVERSAL = "dependency_traversal";
+    public static final String SERIALIZATION = "serialization";
+
+    // Compteurs
+    public static final String PROJECTS_ANALYZED = "projects_analyzed";
+    public static final String PROJECTS_FAILED = "projects_failed";
+    public static final String FILES_PARSED = "files_parsed";
+    public static final String PARSE_FAILURES = "parse_failures";
+    public static final String ENDPOINTS = "endpoints";
+    public static final String NODES_VISITED = "nodes_visited";
+    public static final String CACHE_HITS = "cache_hits";
+    public static final String CACHE_MISSES = "cache_misses";
+
+    private static final String PROMETHEUS_PREFIX = "analyzer_";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, PhaseTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Registre de la JVM courante (une JVM = une exécution, ou un worker en mode --fork).
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Exécute un traitement en chronométrant la phase, y compris s'il échoue :
+     * {@code model = metrics.timed(MODEL_BUILD, () -> build(sources));}
+     */
+    public <T, E extends Exception> T timed(String phase, TimedCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            recordNanos(phase, System.nanoTime() - start);
+        }
+    }
+
+    /** Variante sans résultat : {@code metrics.timed(SERIALIZATION, () -> writer.write(report));} */
+    public <E extends Exception> void timed(String phase, TimedRun<E> run) throws E {
+        long start = System.nanoTime();
+        try {
+            run.run();
+        } finally {
+            recordNanos(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void recordNanos(String phase, long nanos) {
+        timers.computeIfAbsent(phase, name -> new PhaseTimer()).record(1, nanos, nanos);
+    }
+
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    public void add(String counter, long delta) {
+        counters.computeIfAbsent(counter, name -> new LongAdder()).add(delta);
+    }
+
+    // ===== Instantanés =====
+
+    /** Statistiques d'une phase : nombre d'exécutions, durée cumulée et durée maximale. */
+    public record PhaseStats(long count, long totalNanos, long maxNanos) {}
+
+    /** Vue figée du registre, triée par nom : c'est ce qui est exporté et transmis par les workers. */
+    public record Snapshot(Map<String, PhaseStats> phases, Map<String, Long> counters) {}
+
+    public Snapshot snapshot() {
+        Map<String, PhaseStats> phases = new TreeMap<>();
+        timers.forEach((name, timer) -> phases.put(name, timer.stats()));
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, adder) -> values.put(name, adder.sum()));
+        return new Snapshot(phases, values);
+    }
+
+    /**
+     * Instantané puis remise à zéro : utilisé par un worker pour renvoyer les métriques
+     * d'un seul projet. Les mises à jour concurrentes ne sont pas attendues à ce moment.
+     */
+    public Snapshot drain() {
+        Snapshot snapshot = snapshot();
+        timers.clear();
+        counters.clear();
+        return snapshot;
+    }
+
+    /** Ajoute les métriques d'un autre registre (ex: celles d'une JVM fille). */
+    public void merge(Snapshot snapshot) {
+        snapshot.phases().forEach((name, stats) ->
+                timers.computeIfAbsent(name, key -> new PhaseTimer())
+                      .record(stats.count(), stats.totalNanos(), stats.maxNanos()));
+        snapshot.counters().forEach(this::add);
+    }
+
+    // ===== Export =====
+
+    /** Instantané sur une seule ligne JSON, pour le protocole des JVM filles. */
+    public static String encode(Snapshot snapshot) {
+        try {
+            return MAPPER.writeValueAsString(snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Snapshot decode(String json) throws IOException {
+        return MAPPER.readValue(json, Snapshot.class);
+    }
+
+    /**
+     * Écrit {@code metrics.json} (lisible par un script) et {@code metrics.prom}
+     * (format texte Prometheus, à exposer via le textfile collector de node_exporter).
+     */
+    public void export(Path directory) throws IOException {
+        Snapshot snapshot = snapshot();
+        long finishedAt = System.currentTimeMillis();
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("startedAt", Instant.ofEpochMilli(startedAt).toString());
+        document.put("durationSeconds", (finishedAt - startedAt) / 1000.0);
+        document.put("phases", snapshot.phases());
+        document.put("counters", snapshot.counters());
+        MAPPER.writer().with(SerializationFeature.INDENT_OUTPUT)
+              .writeValue(directory.resolve("metrics.json").toFile(), document);
+        Files.writeString(directory.resolve("metrics.prom"), toPrometheus(snapshot, finishedAt - startedAt));
+    }
+
+    static String toPrometheus(Snapshot snapshot, long durationMillis) {
+        StringBuilder out = new StringBuilder();
+        String phase = PROMETHEUS_PREFIX + "phase_duration_seconds";
+        out.append("# HELP ").append(phase).append(" Durée cumulée des phases d'analyse.\n")
+           .append("# TYPE ").append(phase).append(" summary\n");
+        snapshot.phases().forEach((name, stats) -> {
+            out.append(phase).append("_sum{phase=\"").append(name).append("\"} ").append(seconds(stats.totalNanos())).append('\n');
+            out.append(phase).append("_count{phase=\"").append(name).append("\"} ").append(stats.count()).append('\n');
+        });
+        out.append("# HELP ").append(phase).append("_max Durée maximale d'une exécution de la phase.\n")
+           .append("# TYPE ").append(phase).append("_max gauge\n");
+        snapshot.phases().forEach((name, stats) ->
+                out.append(phase).append("_max{phase=\"").append(name).append("\"} ").append(seconds(stats.maxNanos())).append('\n'));
+        snapshot.counters().forEach((name, value) -> {
+            String metric = PROMETHEUS_PREFIX + name + "_total";
+            out.append("# TYPE ").append(metric).append(" counter\n")
+               .append(metric).append(' ').append(value).append('\n');
+        });
+        String run = PROMETHEUS_PREFIX + "run_duration_seconds";
+        out.append("# TYPE ").append(run).append(" gauge\n")
+           .append(run).append(' ').append(seconds(durationMillis * 1_000_000L)).append('\n');
+        return out.toString();
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1e9);
+    }
+
+    /** Traitement chronométré par {@link #timed(String, TimedCall)}. */
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /** Traitement sans résultat chronométré par {@link #timed(String, TimedRun)}. */
+    @FunctionalInterface
+    public interface TimedRun<E extends Exception> {
+        void run() throws E;
+    }
+
+    private static final class PhaseTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long executions, long nanos, long max) {
+            count.add(executions);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(max);
+        }
+
+        PhaseStats stats() {
+            return new PhaseStats(count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 /**
  * Représente le rapport complet pour un seul endpoint analysé.
  * Un 'record' Java est utilisé pour une classe de données immuable et concise.
+ * {@code truncated} signale une analyse interrompue par un budget : les dépendances sont partielles.
  */
 public record AnalyzedEndpoint(
     String endpointPath,
@@ -13,5 +14,6 @@ public record AnalyzedEndpoint(
     String framework,
     String entryPointSignature,
     List<Dependency> dependencies,
-    List<BusinessRule> businessRules
+    List<BusinessRule> businessRules,
+    boolean truncated
 ) {}
\ No newline at end of file
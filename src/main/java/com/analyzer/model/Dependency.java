@@ -1,12 +1,41 @@
 // Fichier: src/main/java/com/votre_entreprise/analyzer/model/Dependency.java
 package com.votre_entreprise.analyzer.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.votre_entreprise.analyzer.symbols.SymbolTable;
+
 /**
  * Représente une dépendance (un appel de méthode) dans la chaîne logique.
+ * Une dépendance est unique par (type, className, methodCalled) pour un endpoint :
+ * les appels répétés sont agrégés dans {@code callSites}.
+ * Les noms sont conservés sous forme de symboles de la {@link SymbolTable} du parcours
+ * qui a produit la dépendance, et ne redeviennent des chaînes qu'à la sérialisation.
  */
+@JsonPropertyOrder({"type", "className", "methodCalled", "callDepth", "callSites", "firstSeenAt"})
 public record Dependency(
-    String type, // Ex: "Service", "Repository", "External API", "Component"
-    String className,
-    String methodCalled,
-    int callDepth
-) {}
+    @JsonIgnore SymbolTable symbols,
+    @JsonIgnore int typeSymbol, // Ex: "Service", "Repository", "External API", "Component"
+    @JsonIgnore int classNameSymbol,
+    @JsonIgnore int methodCalledSymbol,
+    int callDepth, // Profondeur minimale à laquelle l'appel a été trouvé
+    int callSites, // Nombre de sites d'appel distincts
+    String firstSeenAt // Ex: "UserController.java:42", null si la position est inconnue
+) {
+
+    @JsonProperty("type")
+    public String type() {
+        return symbols.resolve(typeSymbol);
+    }
+
+    @JsonProperty("className")
+    public String className() {
+        return symbols.resolve(classNameSymbol);
+    }
+
+    @JsonProperty("methodCalled")
+    public String methodCalled() {
+        return symbols.resolve(methodCalledSymbol);
+    }
+}
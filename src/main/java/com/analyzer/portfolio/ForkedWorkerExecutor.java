@@ -0,0 +1,246 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/ForkedWorkerExecutor.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import com.votre_entreprise.analyzer.metrics.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Analyse les projets dans N JVM filles, chacune avec son propre -Xmx. Un projet qui fait
+ * tomber sa JVM (OutOfMemoryError, crash natif) n'affecte ni le parent ni les autres workers :
+ * le worker est relancé et le projet remis en file jusqu'à épuisement des tentatives.
+ * La construction du modèle Spoon n'étant pas interruptible, un projet qui dépasse son budget
+ * de temps (plus une marge) est arrêté en tuant sa JVM fille ; il n'est pas retenté.
+ */
+public class ForkedWorkerExecutor implements PortfolioExecutor {
+
+    // Marge laissée au worker pour émettre ses endpoints tronqués avant d'être tué
+    private static final long TIMEOUT_GRACE_SECONDS = 60;
+
+    private final int workers;
+    private final String workerHeap;
+    private final int maxRetries;
+    private final long projectTimeoutSeconds;
+    private final List<String> workerArguments;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "watchdog-workers");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ForkedWorkerExecutor(int workers, String workerHeap, int maxRetries, long projectTimeoutSeconds,
+                                List<String> workerArguments) {
+        this.workers = workers;
+        this.workerHeap = workerHeap;
+        this.maxRetries = maxRetries;
+        this.projectTimeoutSeconds = projectTimeoutSeconds;
+        this.workerArguments = workerArguments;
+    }
+
+    private record PendingProject(Path path, int attempt, long firstStart) {
+        String name() {
+            return path.getFileName().toString();
+        }
+    }
+
+    @Override
+    public List<ProjectOutcome> run(List<Path> projects) throws Exception {
+        PortfolioProgress progress = new PortfolioProgress(projects.size());
+        BlockingQueue<PendingProject> queue = new LinkedBlockingQueue<>();
+        for (Path project : projects) {
+            queue.add(new PendingProject(project.toAbsolutePath(), 1, 0));
+        }
+        AtomicInteger remaining = new AtomicInteger(projects.size());
+        Map<Path, ProjectOutcome> outcomes = new ConcurrentHashMap<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 1; i <= workers; i++) {
+            String workerName = "worker-" + i;
+            Thread thread = new Thread(() -> supervise(workerName, queue, remaining, outcomes, progress), workerName);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        watchdog.shutdownNow();
+
+        List<ProjectOutcome> ordered = new ArrayList<>();
+        for (Path project : projects) {
+            ordered.add(outcomes.get(project.toAbsolutePath()));
+        }
+        return ordered;
+    }
+
+    /**
+     * Boucle d'un thread superviseur : alimente sa JVM fille et la relance si elle meurt.
+     */
+    private void supervise(String workerName, BlockingQueue<PendingProject> queue, AtomicInteger remaining,
+                           Map<Path, ProjectOutcome> outcomes, PortfolioProgress progress) {
+        WorkerProcess worker = null;
+        try {
+            while (remaining.get() > 0) {
+                PendingProject pending = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (pending == null) {
+                    continue; // D'autres workers peuvent encore remettre un projet en file
+                }
+                long start = pending.firstStart() > 0 ? pending.firstStart() : System.currentTimeMillis();
+                progress.started(pending.name(), pending.attempt(), workerName);
+
+                String response;
+                boolean timedOut = false;
+                ScheduledFuture<?> timeout = null;
+                try {
+                    if (worker == null) {
+                        worker = WorkerProcess.start(workerHeap, workerArguments);
+                    }
+                    if (projectTimeoutSeconds > 0) {
+                        timeout = watchdog.schedule(worker::killForTimeout,
+                                projectTimeoutSeconds + TIMEOUT_GRACE_SECONDS, TimeUnit.SECONDS);
+                    }
+                    response = worker.submit(pending.path());
+                } catch (IOException e) {
+                    response = null;
+                } finally {
+                    if (timeout != null) {
+                        timeout.cancel(false);
+                    }
+                }
+                if (response == null) {
+                    timedOut = worker != null && worker.timedOut;
+                    int exitCode = worker != null ? worker.kill() : -1;
+                    worker = null;
+                    response = WorkerMain.KO + (timedOut
+                            ? "\tdélai dépassé, JVM fille arrêtée"
+                            : "\tJVM fille arrêtée (code " + exitCode + ")");
+                }
+
+                String[] parts = response.split("\t", 3);
+                long duration = System.currentTimeMillis() - start;
+                if (WorkerMain.OK.equals(parts[0])) {
+                    if (parts.length > 2) {
+                        mergeMetrics(parts[2]);
+                    }
+                    complete(ProjectOutcome.success(pending.name(), Integer.parseInt(parts[1].trim()), pending.attempt(), duration),
+                            pending, remaining, outcomes, progress);
+                } else if (pending.attempt() <= maxRetries && !timedOut) {
+                    progress.retrying(pending.name(), pending.attempt(), parts.length > 1 ? parts[1] : response);
+                    queue.add(new PendingProject(pending.path(), pending.attempt() + 1, start));
+                } else {
+                    complete(ProjectOutcome.failure(pending.name(), pending.attempt(), duration, parts.length > 1 ? parts[1] : response),
+                            pending, remaining, outcomes, progress);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (worker != null) {
+                worker.close();
+            }
+        }
+    }
+
+    private void mergeMetrics(String encoded) {
+        try {
+            MetricsRegistry.global().merge(MetricsRegistry.decode(encoded));
+        } catch (IOException e) {
+            System.err.println("Avertissement: Métriques illisibles renvoyées par un worker : " + e.getMessage());
+        }
+    }
+
+    private void complete(ProjectOutcome outcome, PendingProject pending, AtomicInteger remaining,
+                          Map<Path, ProjectOutcome> outcomes, PortfolioProgress progress) {
+        outcomes.put(pending.path(), outcome);
+        progress.finished(outcome);
+        remaining.decrementAndGet();
+    }
+
+    /**
+     * Une JVM fille et ses flux de protocole.
+     */
+    private static final class WorkerProcess {
+        private final Process process;
+        private final BufferedWriter requests;
+        private final BufferedReader responses;
+        private volatile boolean timedOut;
+
+        private WorkerProcess(Process process) {
+            this.process = process;
+            this.requests = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            this.responses = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        static WorkerProcess start(String heap, List<String> arguments) throws IOException {
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.add("-Xmx" + heap);
+            // Un OutOfMemoryError sur n'importe quel thread arrête la JVM fille : le parent voit un worker
+            // perdu et retente le projet dans une JVM neuve, jamais dans un heap dans un état inconnu
+            command.add("-XX:+ExitOnOutOfMemoryError");
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(WorkerMain.class.getName());
+            command.addAll(arguments);
+
+            ProcessBuilder builder = new ProcessBuilder(command);
+            // Les traces des workers sont affichées directement dans la console du parent
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            return new WorkerProcess(builder.start());
+        }
+
+        /** @return la réponse du worker, ou null si la JVM fille s'est arrêtée. */
+        String submit(Path projectPath) throws IOException {
+            requests.write(projectPath.toString());
+            requests.newLine();
+            requests.flush();
+            return responses.readLine();
+        }
+
+        void killForTimeout() {
+            timedOut = true;
+            process.destroyForcibly();
+        }
+
+        int kill() {
+            process.destroyForcibly();
+            try {
+                return process.waitFor();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+
+        void close() {
+            try {
+                requests.close(); // Fin de stdin : le worker termine sa boucle
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (IOException e) {
+                process.destroyForcibly();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/InProcessExecutor.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Analyse les projets dans la JVM courante avec un pool borné. Chaque tâche crée son propre
+ * modèle Spoon, qui devient collectable dès la fin du projet.
+ * <p>
+ * Un {@link OutOfMemoryError} n'est ni rattrapé ni retenté : après lui, l'état du heap partagé
+ * par tous les projets est inconnu, l'exécution s'arrête. Seul {@link ForkedWorkerExecutor},
+ * qui perd alors une JVM fille, peut retenter le projet.
+ */
+public class InProcessExecutor implements PortfolioExecutor {
+
+    private final ProjectReportTask task;
+    private final int threads;
+    private final int maxRetries;
+
+    public InProcessExecutor(ProjectReportTask task, int threads, int maxRetries) {
+        this.task = task;
+        this.threads = threads;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public List<ProjectOutcome> run(List<Path> projects) throws Exception {
+        PortfolioProgress progress = new PortfolioProgress(projects.size());
+        AtomicInteger workers = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, "analyse-" + workers.incrementAndGet()));
+        try {
+            List<Future<ProjectOutcome>> futures = new ArrayList<>();
+            for (Path project : projects) {
+                futures.add(pool.submit(() -> analyzeWithRetries(project, progress)));
+            }
+            List<ProjectOutcome> outcomes = new ArrayList<>();
+            for (Future<ProjectOutcome> future : futures) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error error) {
+                        throw error;
+                    }
+                    throw e;
+                }
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ProjectOutcome analyzeWithRetries(Path project, PortfolioProgress progress) {
+        String projectName = project.getFileName().toString();
+        long start = System.currentTimeMillis();
+        String lastError = null;
+        for (int attempt = 1; attempt <= maxRetries + 1; attempt++) {
+            progress.started(projectName, attempt, Thread.currentThread().getName());
+            try {
+                int count = task.run(project);
+                ProjectOutcome outcome = ProjectOutcome.success(projectName, count, attempt, System.currentTimeMillis() - start);
+                progress.finished(outcome);
+                return outcome;
+            } catch (Exception | StackOverflowError e) {
+                // Un projet en erreur ne doit pas interrompre les autres (la pile du thread est libérée)
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+                if (attempt <= maxRetries) {
+                    progress.retrying(projectName, attempt, lastError);
+                }
+            }
+        }
+        ProjectOutcome outcome = ProjectOutcome.failure(projectName, maxRetries + 1, System.currentTimeMillis() - start, lastError);
+        progress.finished(outcome);
+        return outcome;
+    }
+}
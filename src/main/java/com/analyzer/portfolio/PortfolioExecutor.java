@@ -0,0 +1,12 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/PortfolioExecutor.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Stratégie d'exécution de l'analyse d'un ensemble de projets.
+ */
+public interface PortfolioExecutor {
+    List<ProjectOutcome> run(List<Path> projects) throws Exception;
+}
@@ -0,0 +1,43 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/PortfolioProgress.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suivi centralisé de l'avancement, partagé par tous les threads ou workers.
+ */
+public class PortfolioProgress {
+
+    private final int total;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public PortfolioProgress(int total) {
+        this.total = total;
+    }
+
+    public void started(String projectName, int attempt, String worker) {
+        String retry = attempt > 1 ? " (tentative " + attempt + ")" : "";
+        System.out.println(">> [" + worker + "] Démarrage de l'analyse pour le projet : " + projectName + retry);
+    }
+
+    public void retrying(String projectName, int attempt, String error) {
+        System.err.println("!! Échec de la tentative " + attempt + " pour " + projectName + " : " + error + " -> nouvelle tentative");
+    }
+
+    public void finished(ProjectOutcome outcome) {
+        int done = completed.incrementAndGet();
+        if (outcome.success()) {
+            System.out.println("<< [" + done + "/" + total + "] Succès : " + outcome.projectName()
+                    + " (" + outcome.endpointCount() + " endpoints, " + outcome.durationMillis() / 1000.0 + " s)");
+        } else {
+            failed.incrementAndGet();
+            System.err.println("!! [" + done + "/" + total + "] ERREUR lors de l'analyse du projet "
+                    + outcome.projectName() + " après " + outcome.attempts() + " tentative(s) : " + outcome.error());
+        }
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+}
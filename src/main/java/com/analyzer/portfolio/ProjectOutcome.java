@@ -0,0 +1,22 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/ProjectOutcome.java
+package com.votre_entreprise.analyzer.portfolio;
+
+/**
+ * Résultat final de l'analyse d'un projet du portfolio, après d'éventuelles nouvelles tentatives.
+ */
+public record ProjectOutcome(
+    String projectName,
+    boolean success,
+    int endpointCount,
+    int attempts,
+    long durationMillis,
+    String error
+) {
+    public static ProjectOutcome success(String projectName, int endpointCount, int attempts, long durationMillis) {
+        return new ProjectOutcome(projectName, true, endpointCount, attempts, durationMillis, null);
+    }
+
+    public static ProjectOutcome failure(String projectName, int attempts, long durationMillis, String error) {
+        return new ProjectOutcome(projectName, false, 0, attempts, durationMillis, error);
+    }
+}
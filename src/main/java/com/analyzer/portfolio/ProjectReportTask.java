@@ -0,0 +1,54 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/ProjectReportTask.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import com.votre_entreprise.analyzer.AnalyzerOptions;
+import com.votre_entreprise.analyzer.SingleProjectAnalyzer;
+import com.votre_entreprise.analyzer.metrics.MetricsRegistry;
+import com.votre_entreprise.analyzer.serialization.ReportWriter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Analyse d'un projet et écriture de son rapport : unité de travail commune
+ * aux exécutions in-process et aux JVM filles.
+ */
+public class ProjectReportTask {
+
+    private final AnalyzerOptions options;
+
+    public ProjectReportTask(AnalyzerOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * @return le nombre d'endpoints écrits dans le rapport
+     */
+    public int run(Path projectPath) throws Exception {
+        String projectName = projectPath.getFileName().toString();
+        SingleProjectAnalyzer analyzer = new SingleProjectAnalyzer(projectPath.toString(), options.getBudgetLimits(),
+                options.getInventoryExcludes());
+
+        // Chaque endpoint est écrit dans le rapport dès qu'il est analysé : la liste complète
+        // des endpoints et de leurs dépendances n'est jamais gardée en mémoire.
+        ReportWriter writer = new ReportWriter(Paths.get("rapport_analyse_" + projectName),
+                options.getReportFormat(), options.getReportCompression());
+        MetricsRegistry metrics = MetricsRegistry.global();
+        try (writer) {
+            analyzer.analyze(endpoint ->
+                    metrics.timed(MetricsRegistry.SERIALIZATION, () -> writer.writeUnchecked(endpoint)));
+        } catch (Exception | Error e) {
+            // Un rapport partiel ne doit pas être confondu avec un rapport complet
+            Files.deleteIfExists(writer.getFile());
+            throw e;
+        }
+
+        if (writer.getCount() == 0) {
+            System.out.println("   -> Aucun endpoint trouvé ou analysé pour " + projectName + ". Aucun rapport généré.");
+        } else {
+            System.out.println("   -> Rapport sauvegardé : " + writer.getFile() + " (" + writer.getCount() + " endpoints)");
+        }
+        return writer.getCount();
+    }
+}
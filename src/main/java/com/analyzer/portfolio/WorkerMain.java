@@ -0,0 +1,56 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/portfolio/WorkerMain.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import com.votre_entreprise.analyzer.AnalyzerOptions;
+import com.votre_entreprise.analyzer.jfr.AnalyzerRecording;
+import com.votre_entreprise.analyzer.metrics.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Point d'entrée d'une JVM fille lancée par {@link ForkedWorkerExecutor}.
+ * Protocole ligne à ligne : le parent envoie un chemin de projet sur stdin,
+ * le worker répond {@code OK<TAB>nbEndpoints<TAB>métriques} ou {@code KO<TAB>message} sur stdout,
+ * les métriques étant celles du seul projet traité (JSON sur une ligne), fusionnées par le parent.
+ * Les traces de l'analyse sont redirigées vers stderr pour ne pas polluer le protocole.
+ */
+public class WorkerMain {
+
+    public static final String OK = "OK";
+    public static final String KO = "KO";
+
+    public static void main(String[] args) throws Exception {
+        PrintStream protocol = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        System.setOut(System.err);
+
+        AnalyzerOptions options = AnalyzerOptions.parseFlags(args, 0);
+        ProjectReportTask task = new ProjectReportTask(options);
+        AnalyzerRecording recording = options.getJfrFile() != null
+                ? AnalyzerRecording.start(AnalyzerRecording.workerDestination(options.getJfrFile()))
+                : null;
+
+        BufferedReader requests = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = requests.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                int count = task.run(Paths.get(line));
+                protocol.println(OK + "\t" + count + "\t" + MetricsRegistry.encode(MetricsRegistry.global().drain()));
+            } catch (Exception | StackOverflowError e) {
+                MetricsRegistry.global().drain();
+                String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+                protocol.println(KO + "\t" + message.replace('\n', ' ').replace('\t', ' '));
+            }
+        }
+        // Fin de stdin : le parent attend la fin du worker, l'enregistrement est écrit avant de sortir
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
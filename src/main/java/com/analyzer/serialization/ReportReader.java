@@ -0,0 +1,133 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/serialization/ReportReader.java
+package com.votre_entreprise.analyzer.serialization;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Relecture d'un rapport écrit par {@link ReportWriter}, quels que soient son format et sa compression :
+ * ils sont détectés d'après les premiers octets du fichier, pas d'après son extension.
+ * <p>
+ * Les éléments sont lus un par un : relire un rapport ne demande pas de le charger entièrement.
+ * Les rapports contiennent des noms résolus (et non des symboles) : on les relit donc dans un type
+ * générique ({@code Map}, {@code JsonNode}) ou dans un type propre au lecteur.
+ */
+public final class ReportReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper SMILE = new ObjectMapper(ReportWriter.smileFactory());
+
+    private ReportReader() {
+    }
+
+    /**
+     * @return le format du rapport une fois décompressé
+     */
+    public static ReportWriter.Format detectFormat(Path file) throws IOException {
+        try (InputStream in = open(file)) {
+            return detectFormat(in);
+        }
+    }
+
+    public static ReportWriter.Compression detectCompression(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return detectCompression(in);
+        }
+    }
+
+    /**
+     * Appelle {@code consumer} pour chaque élément du rapport, dans l'ordre d'écriture.
+     *
+     * @return le nombre d'éléments lus
+     */
+    public static <T> int forEach(Path file, Class<T> type, Consumer<? super T> consumer) throws IOException {
+        int count = 0;
+        try (InputStream in = open(file)) {
+            ReportWriter.Format format = detectFormat(in);
+            ObjectMapper mapper = format == ReportWriter.Format.SMILE ? SMILE : JSON;
+            // Un tableau JSON racine est parcouru élément par élément, comme les valeurs NDJSON ou Smile
+            try (MappingIterator<T> elements = mapper.readerFor(type).readValues(in)) {
+                while (elements.hasNextValue()) {
+                    consumer.accept(elements.nextValue());
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public static <T> List<T> readAll(Path file, Class<T> type) throws IOException {
+        List<T> elements = new ArrayList<>();
+        forEach(file, type, elements::add);
+        return elements;
+    }
+
+    /**
+     * Flux décompressé du rapport, positionné au début du contenu.
+     */
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            return switch (detectCompression(in)) {
+                case GZIP -> new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+                case ZSTD -> new BufferedInputStream(new ZstdInputStream(in), BUFFER_SIZE);
+                case NONE -> in;
+            };
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static ReportWriter.Compression detectCompression(InputStream in) throws IOException {
+        byte[] magic = peek(in, 4);
+        if (magic.length >= 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b) {
+            return ReportWriter.Compression.GZIP;
+        }
+        // Trame zstd : 28 B5 2F FD (petit-boutiste 0xFD2FB528)
+        if (magic.length == 4 && (magic[0] & 0xff) == 0x28 && (magic[1] & 0xff) == 0xb5
+                && (magic[2] & 0xff) == 0x2f && (magic[3] & 0xff) == 0xfd) {
+            return ReportWriter.Compression.ZSTD;
+        }
+        return ReportWriter.Compression.NONE;
+    }
+
+    private static ReportWriter.Format detectFormat(InputStream in) throws IOException {
+        // En-tête Smile : ":)\n"
+        byte[] header = peek(in, 3);
+        if (header.length == 3 && header[0] == ':' && header[1] == ')' && header[2] == '\n') {
+            return ReportWriter.Format.SMILE;
+        }
+        in.mark(BUFFER_SIZE);
+        try {
+            int b;
+            do {
+                b = in.read();
+            } while (b != -1 && Character.isWhitespace(b));
+            return b == '[' ? ReportWriter.Format.JSON : ReportWriter.Format.NDJSON;
+        } finally {
+            in.reset();
+        }
+    }
+
+    private static byte[] peek(InputStream in, int length) throws IOException {
+        in.mark(length);
+        try {
+            return in.readNBytes(length);
+        } finally {
+            in.reset();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/serialization/ReportWriter.java
+package com.votre_entreprise.analyzer.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Écriture en flux d'un rapport : chaque élément est sérialisé dès qu'il est produit,
+ * la mémoire utilisée ne dépend donc que de la taille du tampon et non du nombre d'endpoints.
+ * Le fichier n'est créé qu'à la première écriture (pas de rapport vide).
+ */
+public class ReportWriter implements Closeable {
+
+    public enum Format {
+        /** Un tableau JSON indenté, équivalent à {@link JsonSerializer#save}. */
+        JSON("json"),
+        /** Un objet JSON par ligne (NDJSON), lisible ligne à ligne. */
+        NDJSON("ndjson"),
+        /**
+         * Jackson Smile (JSON binaire) : endpoints à la suite, noms et valeurs répétés (classes,
+         * méthodes) écrits une fois puis référencés. Plus compact et plus rapide à relire, voir {@link ReportReader}.
+         */
+        SMILE("smile");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    public enum Compression {
+        NONE(""),
+        GZIP(".gz"),
+        ZSTD(".zst");
+
+        private final String extension;
+
+        Compression(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Format format;
+    private final Compression compression;
+    private final ObjectMapper mapper;
+    private JsonGenerator generator;
+    private int count;
+
+    public ReportWriter(Path baseFile, Format format, Compression compression) {
+        this.file = baseFile.resolveSibling(baseFile.getFileName() + "." + format.extension + compression.extension);
+        this.format = format;
+        this.compression = compression;
+        this.mapper = format == Format.SMILE ? new ObjectMapper(smileFactory()) : new ObjectMapper();
+        // Le flux est vidé par close() : pas de flush du tampon à chaque élément.
+        mapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+
+    public static Format parseFormat(String value) {
+        return Format.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    public static Compression parseCompression(String value) {
+        return Compression.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    public void write(Object element) throws IOException {
+        if (generator == null) {
+            open();
+        }
+        mapper.writeValue(generator, element);
+        count++;
+    }
+
+    /**
+     * Variante utilisable comme {@code Consumer} (ex: {@code writer::writeUnchecked}).
+     */
+    public void writeUnchecked(Object element) {
+        try {
+            write(element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void open() throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        if (compression == Compression.GZIP) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        } else if (compression == Compression.ZSTD) {
+            out = new ZstdOutputStream(out);
+        }
+        generator = mapper.getFactory().createGenerator(out);
+        if (format == Format.NDJSON) {
+            // Séparateur de valeurs racine : un saut de ligne au lieu d'un espace
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        } else if (format == Format.JSON) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartArray();
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator == null) {
+            return;
+        }
+        // Le fichier et le flux de compression sont fermés même si la fin du document ne peut pas être écrite
+        try {
+            if (format == Format.JSON) {
+                generator.writeEndArray();
+            } else if (format == Format.NDJSON) {
+                generator.writeRaw('\n');
+            }
+        } finally {
+            generator.close();
+        }
+    }
+}
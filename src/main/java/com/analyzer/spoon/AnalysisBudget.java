@@ -0,0 +1,100 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/spoon/AnalysisBudget.java
+package com.votre_entreprise.analyzer.spoon;
+
+/**
+ * Budget de temps et de nœuds visités, vérifié de manière coopérative par les parcours du modèle.
+ * Un budget d'endpoint est créé comme enfant du budget du projet : il s'épuise avec lui.
+ * Non thread-safe : un budget est utilisé par un seul thread d'analyse.
+ */
+public final class AnalysisBudget {
+
+    /**
+     * Limites configurées (0 = aucune limite), par projet et par endpoint.
+     */
+    public record Limits(long projectTimeoutMillis, long projectMaxNodes, long endpointTimeoutMillis, long endpointMaxNodes) {
+        public static final Limits NONE = new Limits(0, 0, 0, 0);
+    }
+
+    // L'horloge n'est consultée que toutes les N visites pour garder le test peu coûteux
+    private static final int CLOCK_CHECK_INTERVAL = 1024;
+
+    private final AnalysisBudget parent;
+    private final long deadlineNanos;
+    private final long maxNodes;
+    private long visitedNodes;
+    private String exhaustedReason;
+
+    private AnalysisBudget(AnalysisBudget parent, long deadlineNanos, long maxNodes) {
+        this.parent = parent;
+        this.deadlineNanos = deadlineNanos;
+        this.maxNodes = maxNodes;
+    }
+
+    public static AnalysisBudget unlimited() {
+        return new AnalysisBudget(null, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param timeoutMillis durée maximale, 0 pour aucune limite
+     * @param maxNodes      nombre maximal de nœuds visités, 0 pour aucune limite
+     */
+    public static AnalysisBudget of(long timeoutMillis, long maxNodes) {
+        return new AnalysisBudget(null, deadline(timeoutMillis), maxNodes > 0 ? maxNodes : Long.MAX_VALUE);
+    }
+
+    public AnalysisBudget child(long timeoutMillis, long childMaxNodes) {
+        return new AnalysisBudget(this, Math.min(deadlineNanos, deadline(timeoutMillis)),
+                childMaxNodes > 0 ? childMaxNodes : Long.MAX_VALUE);
+    }
+
+    private static long deadline(long timeoutMillis) {
+        return timeoutMillis > 0 ? System.nanoTime() + timeoutMillis * 1_000_000L : Long.MAX_VALUE;
+    }
+
+    /**
+     * Comptabilise la visite d'un nœud.
+     * @return false si le budget (ou celui du parent) est épuisé : le parcours doit s'arrêter
+     */
+    public boolean tryVisit() {
+        if (exhaustedReason != null) {
+            return false;
+        }
+        if (parent != null && !parent.tryVisit()) {
+            exhaustedReason = parent.exhaustedReason;
+            return false;
+        }
+        visitedNodes++;
+        if (visitedNodes > maxNodes) {
+            exhaustedReason = "limite de " + maxNodes + " nœuds atteinte";
+            return false;
+        }
+        if (visitedNodes % CLOCK_CHECK_INTERVAL == 0) {
+            checkDeadline();
+        }
+        return exhaustedReason == null;
+    }
+
+    public boolean isExhausted() {
+        if (exhaustedReason == null && parent != null && parent.isExhausted()) {
+            exhaustedReason = parent.exhaustedReason;
+        }
+        if (exhaustedReason == null) {
+            checkDeadline();
+        }
+        return exhaustedReason != null;
+    }
+
+    private void checkDeadline() {
+        if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() > deadlineNanos) {
+            exhaustedReason = "délai dépassé";
+        }
+    }
+
+    public String getExhaustedReason() {
+        return exhaustedReason;
+    }
+
+    public long getVisitedNodes() {
+        return visitedNodes;
+    }
+}
@@ -0,0 +1,185 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/spoon/AnnotationIndex.java
+package com.votre_entreprise.analyzer.spoon;
+
+import spoon.reflect.CtModel;
+import spoon.reflect.code.CtExpression;
+import spoon.reflect.code.CtFieldRead;
+import spoon.reflect.code.CtLiteral;
+import spoon.reflect.code.CtNewArray;
+import spoon.reflect.declaration.CtAnnotation;
+import spoon.reflect.declaration.CtElement;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtPackage;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.reference.CtPackageReference;
+import spoon.reflect.reference.CtTypeReference;
+import spoon.reflect.visitor.CtScanner;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index "nom qualifié d'annotation -> éléments annotés" construit en un seul parcours du modèle Spoon.
+ * Les noms sont lus sur les {@link CtTypeReference} : aucune classe d'annotation n'a besoin
+ * d'être présente sur le classpath de l'analyseur.
+ */
+public class AnnotationIndex {
+
+    private final Map<String, List<CtAnnotation<?>>> byQualifiedName = new HashMap<>();
+    // Annotations dont le type n'a pas pu être résolu en mode noclasspath (import manquant ou "a.b.*").
+    private final Map<String, List<CtAnnotation<?>>> unresolvedBySimpleName = new HashMap<>();
+
+    private AnnotationIndex() {}
+
+    public static AnnotationIndex build(CtModel model) {
+        AnnotationIndex index = new AnnotationIndex();
+        new CtScanner() {
+            @Override
+            public <A extends Annotation> void visitCtAnnotation(CtAnnotation<A> annotation) {
+                index.add(annotation);
+                super.visitCtAnnotation(annotation);
+            }
+        }.scan(model.getRootPackage());
+        return index;
+    }
+
+    private void add(CtAnnotation<?> annotation) {
+        CtTypeReference<?> typeRef = annotation.getAnnotationType();
+        if (typeRef == null) {
+            return;
+        }
+        if (isResolved(annotation, typeRef)) {
+            byQualifiedName.computeIfAbsent(typeRef.getQualifiedName(), k -> new ArrayList<>()).add(annotation);
+        } else {
+            unresolvedBySimpleName.computeIfAbsent(typeRef.getSimpleName(), k -> new ArrayList<>()).add(annotation);
+        }
+    }
+
+    /**
+     * En mode noclasspath, une annotation introuvable est soit laissée sans paquetage, soit
+     * rattachée au paquetage courant (import "a.b.*") : seul son nom simple est alors fiable.
+     */
+    private static boolean isResolved(CtAnnotation<?> annotation, CtTypeReference<?> typeRef) {
+        CtPackageReference packageRef = typeRef.getPackage();
+        if (packageRef == null || packageRef.isUnnamedPackage()) {
+            return false;
+        }
+        CtType<?> enclosingType = annotation.getParent(CtType.class);
+        CtPackage currentPackage = enclosingType != null ? enclosingType.getPackage() : null;
+        return currentPackage == null
+                || !packageRef.getQualifiedName().equals(currentPackage.getQualifiedName())
+                || typeRef.getDeclaration() != null;
+    }
+
+    /**
+     * Retourne toutes les occurrences d'une annotation, y compris celles dont seul
+     * le nom simple est connu.
+     */
+    public List<CtAnnotation<?>> getAnnotations(String qualifiedName) {
+        List<CtAnnotation<?>> resolved = byQualifiedName.getOrDefault(qualifiedName, Collections.emptyList());
+        List<CtAnnotation<?>> unresolved = unresolvedBySimpleName.getOrDefault(simpleName(qualifiedName), Collections.emptyList());
+        if (unresolved.isEmpty()) {
+            return resolved;
+        }
+        List<CtAnnotation<?>> all = new ArrayList<>(resolved.size() + unresolved.size());
+        all.addAll(resolved);
+        all.addAll(unresolved);
+        return all;
+    }
+
+    public List<CtMethod<?>> getAnnotatedMethods(String qualifiedName) {
+        List<CtMethod<?>> methods = new ArrayList<>();
+        for (CtAnnotation<?> annotation : getAnnotations(qualifiedName)) {
+            if (annotation.getAnnotatedElement() instanceof CtMethod<?> method) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    public List<CtType<?>> getAnnotatedTypes(String qualifiedName) {
+        List<CtType<?>> types = new ArrayList<>();
+        for (CtAnnotation<?> annotation : getAnnotations(qualifiedName)) {
+            if (annotation.getAnnotatedElement() instanceof CtType<?> type) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    public boolean contains(String qualifiedName) {
+        return !getAnnotations(qualifiedName).isEmpty();
+    }
+
+    /**
+     * Retrouve l'annotation portée directement par un élément, sans passer par la réflexion.
+     */
+    public static CtAnnotation<?> findAnnotation(CtElement element, String qualifiedName) {
+        if (element == null) {
+            return null;
+        }
+        String simpleName = simpleName(qualifiedName);
+        for (CtAnnotation<?> annotation : element.getAnnotations()) {
+            CtTypeReference<?> typeRef = annotation.getAnnotationType();
+            if (typeRef == null) continue;
+            if (isResolved(annotation, typeRef)
+                    ? typeRef.getQualifiedName().equals(qualifiedName)
+                    : typeRef.getSimpleName().equals(simpleName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lit les valeurs textuelles d'un attribut d'annotation ("value", "path", "method"...).
+     * Gère les littéraux, les tableaux et les constantes d'énumération (ex: RequestMethod.GET).
+     */
+    public static List<String> getStringValues(CtAnnotation<?> annotation, String attribute) {
+        List<String> values = new ArrayList<>();
+        if (annotation == null) {
+            return values;
+        }
+        CtExpression<?> expression = annotation.getValues().get(attribute);
+        collectValues(expression, values);
+        return values;
+    }
+
+    public static String getFirstStringValue(CtAnnotation<?> annotation, String... attributes) {
+        for (String attribute : attributes) {
+            List<String> values = getStringValues(annotation, attribute);
+            if (!values.isEmpty()) {
+                return values.get(0);
+            }
+        }
+        return null;
+    }
+
+    private static void collectValues(CtExpression<?> expression, List<String> values) {
+        if (expression == null) {
+            return;
+        }
+        if (expression instanceof CtLiteral<?> literal) {
+            if (literal.getValue() != null) {
+                values.add(String.valueOf(literal.getValue()));
+            }
+        } else if (expression instanceof CtNewArray<?> array) {
+            for (CtExpression<?> element : array.getElements()) {
+                collectValues(element, values);
+            }
+        } else if (expression instanceof CtFieldRead<?> fieldRead) {
+            values.add(fieldRead.getVariable().getSimpleName());
+        } else {
+            values.add(expression.toString().replace("\"", ""));
+        }
+    }
+
+    private static String simpleName(String qualifiedName) {
+        int lastDot = qualifiedName.lastIndexOf('.');
+        return lastDot < 0 ? qualifiedName : qualifiedName.substring(lastDot + 1);
+    }
+}
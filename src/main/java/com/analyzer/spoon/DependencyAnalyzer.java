@@ -1,9 +1,14 @@
 // Fichier: src/main/java/com/votre_entreprise/analyzer/spoon/DependencyAnalyzer.java
 package com.votre_entreprise.analyzer.spoon;
 
+import com.votre_entreprise.analyzer.collections.IntIntMap;
+import com.votre_entreprise.analyzer.collections.LongHashSet;
 import com.votre_entreprise.analyzer.model.Dependency;
+import com.votre_entreprise.analyzer.symbols.SymbolTable;
 import spoon.reflect.code.CtInvocation;
+import spoon.reflect.cu.SourcePosition;
 import spoon.reflect.declaration.CtAnnotation;
+import spoon.reflect.declaration.CtElement;
 import spoon.reflect.declaration.CtExecutable;
 import spoon.reflect.declaration.CtMethod;
 import spoon.reflect.declaration.CtType;
@@ -11,30 +16,112 @@ import spoon.reflect.reference.CtExecutableReference;
 import spoon.reflect.visitor.CtScanner;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 public class DependencyAnalyzer {
 
+    /**
+     * Dépendances trouvées pour un endpoint ; {@code truncated} indique que le budget
+     * a été épuisé avant la fin du parcours (les dépendances déjà trouvées sont conservées).
+     */
+    public record Result(List<Dependency> dependencies, boolean truncated) {}
+
+    // Clé d'agrégation en symboles : comparaison et hachage sur trois entiers
+    private record EdgeKey(int type, int className, int methodCalled) {}
+
+    /**
+     * Arrêt du parcours, relevé là où il se produit : un budget qui expire après la fin
+     * d'un parcours complet ne le rend pas tronqué.
+     */
+    private static final class Stop {
+        private boolean truncated;
+    }
+
+    // Symboles de ce parcours : la table est libérée avec les dépendances qui la référencent
+    private final SymbolTable symbols = new SymbolTable();
+    // Type de dépendance par classe (symbole -> symbole) : évite de relire les annotations à chaque appel
+    private final IntIntMap dependencyTypes = new IntIntMap();
+    // Efficacité du cache ci-dessus, remontée dans les métriques de l'exécution
+    private long typeCacheHits;
+    private long typeCacheMisses;
+
+    /**
+     * Agrégat mutable d'une dépendance pendant le parcours : un appel déjà vu ne crée
+     * pas de nouvelle entrée, il incrémente le compteur et réduit la profondeur.
+     */
+    private final class EdgeAccumulator {
+        private int minDepth;
+        private int callSites;
+        private final String firstSeenAt;
+
+        EdgeAccumulator(int depth, String firstSeenAt) {
+            this.minDepth = depth;
+            this.firstSeenAt = firstSeenAt;
+        }
+
+        void record(int depth) {
+            callSites++;
+            minDepth = Math.min(minDepth, depth);
+        }
+
+        Dependency toDependency(EdgeKey key) {
+            return new Dependency(symbols, key.type(), key.className(), key.methodCalled(), minDepth, callSites, firstSeenAt);
+        }
+    }
+
     public List<Dependency> analyze(CtMethod<?> startMethod) {
-        List<Dependency> dependencies = new ArrayList<>();
-        Set<CtMethod<?>> visitedMethods = new HashSet<>();
+        return analyze(startMethod, AnalysisBudget.unlimited()).dependencies();
+    }
+
+    public Result analyze(CtMethod<?> startMethod, AnalysisBudget budget) {
+        // L'ordre d'insertion conserve l'ordre de première rencontre dans le rapport
+        Map<EdgeKey, EdgeAccumulator> edges = new LinkedHashMap<>();
+        // Méthodes visitées, identifiées par (classe, signature) : le hashCode de CtMethod
+        // parcourt tout le sous-arbre AST, trop coûteux sur le chemin chaud
+        LongHashSet visitedMethods = new LongHashSet();
+        Stop stop = new Stop();
         
         // On lance le scanner récursif
-        recursiveScan(startMethod, dependencies, visitedMethods, 0);
+        if (startMethod != null) {
+            CtType<?> startType = startMethod.getDeclaringType();
+            int startClass = symbols.intern(startType != null ? startType.getQualifiedName() : "");
+            recursiveScan(startMethod, methodKey(startClass, symbols.intern(startMethod.getSignature())),
+                    edges, visitedMethods, 0, budget, stop);
+        }
         
-        return dependencies;
+        List<Dependency> dependencies = new ArrayList<>(edges.size());
+        edges.forEach((key, edge) -> dependencies.add(edge.toDependency(key)));
+        return new Result(dependencies, stop.truncated);
     }
 
-    private void recursiveScan(CtMethod<?> method, List<Dependency> dependencies, Set<CtMethod<?>> visitedMethods, int depth) {
-        if (method == null || visitedMethods.contains(method) || depth > 10) { // Limite de profondeur pour éviter les boucles infinies
+    private void recursiveScan(CtMethod<?> method, long methodKey, Map<EdgeKey, EdgeAccumulator> edges, LongHashSet visitedMethods,
+                               int depth, AnalysisBudget budget, Stop stop) {
+        if (method == null || visitedMethods.contains(methodKey) || depth > 10) { // Limite de profondeur pour éviter les boucles infinies
+            return;
+        }
+        if (budget.isExhausted()) {
+            stop.truncated = true;
             return;
         }
         
-        visitedMethods.add(method);
+        visitedMethods.add(methodKey);
 
         CtScanner scanner = new CtScanner() {
+            @Override
+            public void scan(CtElement element) {
+                // Arrêt coopératif : plus aucun nœud n'est visité une fois le budget épuisé
+                if (element == null) {
+                    return;
+                }
+                if (!budget.tryVisit()) {
+                    stop.truncated = true;
+                    return;
+                }
+                super.scan(element);
+            }
+
             @Override
             public <T> void visitCtInvocation(CtInvocation<T> invocation) {
                 super.visitCtInvocation(invocation);
@@ -53,15 +140,14 @@ public class DependencyAnalyzer {
                             return;
                         }
 
-                        dependencies.add(new Dependency(
-                            getDependencyType(declaringType),
-                            declaringType.getQualifiedName(),
-                            calledMethod.getSignature(),
-                            depth + 1
-                        ));
+                        int className = symbols.intern(declaringType.getQualifiedName());
+                        int methodCalled = symbols.intern(calledMethod.getSignature());
+                        EdgeKey key = new EdgeKey(dependencyTypeOf(declaringType, className), className, methodCalled);
+                        edges.computeIfAbsent(key, k -> new EdgeAccumulator(depth + 1, describePosition(invocation)))
+                             .record(depth + 1);
                         
                         // Appel récursif pour explorer plus profondément
-                        recursiveScan(calledMethod, dependencies, visitedMethods, depth + 1);
+                        recursiveScan(calledMethod, methodKey(className, methodCalled), edges, visitedMethods, depth + 1, budget, stop);
                     }
                 }
             }
@@ -72,6 +158,38 @@ public class DependencyAnalyzer {
         }
     }
 
+    private static long methodKey(int className, int signature) {
+        return ((long) className << 32) | (signature & 0xFFFFFFFFL);
+    }
+
+    private int dependencyTypeOf(CtType<?> declaringType, int className) {
+        int type = dependencyTypes.get(className, SymbolTable.ABSENT);
+        if (type == SymbolTable.ABSENT) {
+            typeCacheMisses++;
+            type = symbols.intern(getDependencyType(declaringType));
+            dependencyTypes.put(className, type);
+        } else {
+            typeCacheHits++;
+        }
+        return type;
+    }
+
+    public long getTypeCacheHits() {
+        return typeCacheHits;
+    }
+
+    public long getTypeCacheMisses() {
+        return typeCacheMisses;
+    }
+
+    private String describePosition(CtInvocation<?> invocation) {
+        SourcePosition position = invocation.getPosition();
+        if (position == null || !position.isValidPosition() || position.getFile() == null) {
+            return null;
+        }
+        return position.getFile().getName() + ":" + position.getLine();
+    }
+
     private String getDependencyType(CtType<?> type) {
         for (CtAnnotation<?> annotation : type.getAnnotations()) {
             String annotationName = annotation.getAnnotationType().getSimpleName();
@@ -1,16 +1,39 @@
 // Fichier: src/main/java/com/votre_entreprise/analyzer/spoon/FrameworkDetector.java
 package com.votre_entreprise.analyzer.spoon;
 
+import com.votre_entreprise.analyzer.discovery.FileInventory;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import java.io.FileReader;
-import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 public class FrameworkDetector {
-    public enum FrameworkType { SPRING, STRUTS, UNKNOWN }
+    public enum FrameworkType { SPRING, STRUTS, JAXRS, UNKNOWN }
 
-    public static FrameworkType detect(String projectPath) {
-        try (FileReader reader = new FileReader(Paths.get(projectPath, "pom.xml").toFile())) {
+    /**
+     * Parcourt tous les pom.xml de l'inventaire (projet racine et modules) :
+     * dans un projet multi-modules, les dépendances web sont souvent déclarées dans un sous-module.
+     * Le pom racine est lu en premier, puis les modules dans l'ordre de leur chemin.
+     */
+    public static FrameworkType detect(FileInventory inventory) {
+        List<Path> poms = new ArrayList<>(inventory.findByName("pom.xml"));
+        Path rootPom = inventory.getRoot().resolve("pom.xml");
+        if (poms.remove(rootPom)) {
+            poms.add(0, rootPom);
+        }
+        for (Path pom : poms) {
+            FrameworkType type = detectFromPom(pom);
+            if (type != FrameworkType.UNKNOWN) {
+                return type;
+            }
+        }
+        return FrameworkType.UNKNOWN;
+    }
+
+    private static FrameworkType detectFromPom(Path pom) {
+        try (FileReader reader = new FileReader(pom.toFile())) {
             MavenXpp3Reader mavenReader = new MavenXpp3Reader();
             Model model = mavenReader.read(reader);
             
@@ -21,9 +44,13 @@ public class FrameworkDetector {
                 if (dep.getGroupId().contains("org.apache.struts") && dep.getArtifactId().contains("struts2-core")) {
                     return FrameworkType.STRUTS;
                 }
+                if (dep.getGroupId().contains("javax.ws.rs") || dep.getGroupId().contains("jakarta.ws.rs")
+                        || dep.getGroupId().contains("org.glassfish.jersey") || dep.getGroupId().contains("org.jboss.resteasy")) {
+                    return FrameworkType.JAXRS;
+                }
             }
         } catch (Exception e) {
-            System.err.println("Avertissement: Impossible de lire le pom.xml pour la détection de framework. " + e.getMessage());
+            System.err.println("Avertissement: Impossible de lire " + pom + " pour la détection de framework. " + e.getMessage());
         }
         return FrameworkType.UNKNOWN;
     }
@@ -0,0 +1,65 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/spoon/endpoint/JaxRsEndpointFinder.java
+package com.votre_entreprise.analyzer.spoon.endpoint;
+
+import com.votre_entreprise.analyzer.spoon.AnnotationIndex;
+import spoon.reflect.declaration.CtAnnotation;
+import spoon.reflect.declaration.CtMethod;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JaxRsEndpointFinder implements EndpointFinder {
+
+    // javax.ws.rs (Java EE) et jakarta.ws.rs (Jakarta EE 9+)
+    private static final List<String> PACKAGES = List.of("javax.ws.rs.", "jakarta.ws.rs.");
+    private static final List<String> HTTP_METHODS = List.of("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS");
+
+    private final AnnotationIndex annotationIndex;
+    private final Map<CtMethod<?>, String> pathCache = new HashMap<>();
+    private final Map<CtMethod<?>, String> httpMethodCache = new HashMap<>();
+
+    public JaxRsEndpointFinder(AnnotationIndex annotationIndex) {
+        this.annotationIndex = annotationIndex;
+    }
+
+    @Override
+    public List<CtMethod<?>> findEndpoints() {
+        List<CtMethod<?>> endpoints = new ArrayList<>();
+        for (String pkg : PACKAGES) {
+            for (String httpMethod : HTTP_METHODS) {
+                for (CtMethod<?> method : annotationIndex.getAnnotatedMethods(pkg + httpMethod)) {
+                    if (pathCache.containsKey(method)) {
+                        continue;
+                    }
+                    String classPath = pathOf(AnnotationIndex.findAnnotation(method.getDeclaringType(), pkg + "Path"));
+                    String methodPath = pathOf(AnnotationIndex.findAnnotation(method, pkg + "Path"));
+                    String fullPath = ("/" + classPath + "/" + methodPath).replaceAll("//+", "/");
+                    if (fullPath.length() > 1 && fullPath.endsWith("/")) {
+                        fullPath = fullPath.substring(0, fullPath.length() - 1);
+                    }
+
+                    pathCache.put(method, fullPath);
+                    httpMethodCache.put(method, httpMethod);
+                    endpoints.add(method);
+                }
+            }
+        }
+        return endpoints;
+    }
+
+    private String pathOf(CtAnnotation<?> pathAnnotation) {
+        String value = AnnotationIndex.getFirstStringValue(pathAnnotation, "value");
+        return value != null ? value : "";
+    }
+
+    @Override
+    public String getPathFor(CtMethod<?> method) {
+        return pathCache.getOrDefault(method, "N/A");
+    }
+
+    @Override
+    public String getHttpMethodFor(CtMethod<?> method) {
+        return httpMethodCache.getOrDefault(method, "N/A");
+    }
+}
@@ -1,19 +1,20 @@
 // Fichier: src/main/java/com/votre_entreprise/analyzer/spoon/endpoint/StrutsEndpointFinder.java
 package com.votre_entreprise.analyzer.spoon.endpoint;
 
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import com.votre_entreprise.analyzer.spoon.AnnotationIndex;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import spoon.Launcher;
+import spoon.reflect.declaration.CtAnnotation;
 import spoon.reflect.declaration.CtMethod;
 import spoon.reflect.declaration.CtType;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.File;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,22 +23,32 @@ import java.util.Optional;
 
 public class StrutsEndpointFinder implements EndpointFinder {
 
+    // Plugin "convention" de Struts 2 : les actions sont déclarées par annotation plutôt que dans struts.xml
+    private static final String CONVENTION_ACTION = "org.apache.struts2.convention.annotation.Action";
+    private static final String CONVENTION_NAMESPACE = "org.apache.struts2.convention.annotation.Namespace";
+
     private final Launcher spoonLauncher;
-    private final String projectPath;
+    private final FileInventory inventory;
+    private final AnnotationIndex annotationIndex;
     private final Map<CtMethod<?>, String> pathCache = new HashMap<>();
 
-    public StrutsEndpointFinder(Launcher spoonLauncher, String projectPath) {
+    public StrutsEndpointFinder(Launcher spoonLauncher, FileInventory inventory, AnnotationIndex annotationIndex) {
         this.spoonLauncher = spoonLauncher;
-        this.projectPath = projectPath;
+        this.inventory = inventory;
+        this.annotationIndex = annotationIndex;
     }
 
     @Override
     public List<CtMethod<?>> findEndpoints() {
         List<CtMethod<?>> endpoints = new ArrayList<>();
+        findConventionEndpoints(endpoints);
+
         Optional<Path> strutsXmlPath = findStrutsXml();
-        
+
         if (strutsXmlPath.isEmpty()) {
-            System.err.println("Avertissement: Le fichier struts.xml n'a pas été trouvé dans " + projectPath);
+            if (endpoints.isEmpty()) {
+                System.err.println("Avertissement: Le fichier struts.xml n'a pas été trouvé dans " + inventory.getRoot());
+            }
             return endpoints;
         }
 
@@ -61,7 +72,7 @@ public class StrutsEndpointFinder implements EndpointFinder {
                     CtType<?> actionClass = spoonLauncher.getFactory().Type().get(className);
                     if (actionClass != null) {
                         for (CtMethod<?> method : actionClass.getMethods()) {
-                            if (method.getSimpleName().equals(methodName)) {
+                            if (method.getSimpleName().equals(methodName) && !pathCache.containsKey(method)) {
                                 endpoints.add(method);
                                 pathCache.put(method, "/" + actionName + ".action");
                                 break;
@@ -77,17 +88,30 @@ public class StrutsEndpointFinder implements EndpointFinder {
         return endpoints;
     }
 
-    private Optional<Path> findStrutsXml() {
-        try {
-            // Recherche du fichier struts.xml dans les répertoires de ressources des modules
-            return Files.walk(Paths.get(projectPath))
-                    .filter(path -> path.endsWith("src/main/resources/struts.xml"))
-                    .findFirst();
-        } catch (Exception e) {
-            return Optional.empty();
+    /**
+     * Actions déclarées avec {@code @Action} (plugin convention), lues depuis l'index d'annotations.
+     */
+    private void findConventionEndpoints(List<CtMethod<?>> endpoints) {
+        for (CtMethod<?> method : annotationIndex.getAnnotatedMethods(CONVENTION_ACTION)) {
+            CtAnnotation<?> action = AnnotationIndex.findAnnotation(method, CONVENTION_ACTION);
+            String actionName = AnnotationIndex.getFirstStringValue(action, "value");
+            if (actionName == null || actionName.isEmpty()) {
+                actionName = method.getSimpleName();
+            }
+            String namespace = AnnotationIndex.getFirstStringValue(
+                    AnnotationIndex.findAnnotation(method.getDeclaringType(), CONVENTION_NAMESPACE), "value");
+            String path = ((namespace != null ? namespace : "") + "/" + actionName).replaceAll("//+", "/");
+
+            endpoints.add(method);
+            pathCache.put(method, path.startsWith("/") ? path : "/" + path);
         }
     }
 
+    private Optional<Path> findStrutsXml() {
+        // Recherche du fichier struts.xml dans les répertoires de ressources des modules
+        return inventory.findFirstBySuffix("src/main/resources/struts.xml");
+    }
+
     @Override
     public String getPathFor(CtMethod<?> method) {
         return pathCache.getOrDefault(method, "N/A");
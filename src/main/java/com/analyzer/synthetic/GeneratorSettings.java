@@ -0,0 +1,86 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/synthetic/GeneratorSettings.java
+package com.votre_entreprise.analyzer.synthetic;
+
+import java.util.Locale;
+
+/**
+ * Paramètres du générateur de portfolio : {@code <sortie> [--option=valeur]...}
+ * Les volumes sont donnés par application ; la graine rend la génération reproductible.
+ */
+public record GeneratorSettings(String outputDirectory,
+                                int projects,
+                                int controllers,
+                                int strutsActions,
+                                int servlets,
+                                int jdbcQueries,
+                                int jndiLookups,
+                                int adapters,
+                                int mdbs,
+                                int callDepth,
+                                int servicesPerLevel,
+                                int fanOut,
+                                long seed,
+                                Archives archives) {
+
+    /** Archives WebLogic écrites à côté des projets Maven. */
+    public enum Archives {
+        NONE, WAR, EAR
+    }
+
+    public GeneratorSettings {
+        if (projects < 1 || callDepth < 1 || servicesPerLevel < 1) {
+            throw new IllegalArgumentException("projects, call-depth et services-per-level doivent être >= 1");
+        }
+        if (fanOut < 1 || fanOut > servicesPerLevel) {
+            throw new IllegalArgumentException("fan-out doit être compris entre 1 et services-per-level");
+        }
+    }
+
+    public static GeneratorSettings parse(String[] args) {
+        int projects = 10;
+        int controllers = 5;
+        int strutsActions = 5;
+        int servlets = 2;
+        int jdbcQueries = 10;
+        int jndiLookups = 3;
+        int adapters = 3;
+        int mdbs = 2;
+        int callDepth = 4;
+        int servicesPerLevel = 6;
+        int fanOut = 2;
+        long seed = 42;
+        Archives archives = Archives.WAR;
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException(arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "projects" -> projects = Integer.parseInt(value);
+                case "controllers" -> controllers = Integer.parseInt(value);
+                case "struts-actions" -> strutsActions = Integer.parseInt(value);
+                case "servlets" -> servlets = Integer.parseInt(value);
+                case "jdbc-queries" -> jdbcQueries = Integer.parseInt(value);
+                case "jndi-lookups" -> jndiLookups = Integer.parseInt(value);
+                case "adapters" -> adapters = Integer.parseInt(value);
+                case "mdbs" -> mdbs = Integer.parseInt(value);
+                case "call-depth" -> callDepth = Integer.parseInt(value);
+                case "services-per-level" -> servicesPerLevel = Integer.parseInt(value);
+                case "fan-out" -> fanOut = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "archives" -> archives = Archives.valueOf(value.toUpperCase(Locale.ROOT));
+                default -> throw new IllegalArgumentException(arg);
+            }
+        }
+        return new GeneratorSettings(args[0], projects, controllers, strutsActions, servlets, jdbcQueries,
+                jndiLookups, adapters, mdbs, callDepth, servicesPerLevel, fanOut, seed, archives);
+    }
+
+    public int entryPoints() {
+        return controllers + strutsActions + servlets + mdbs;
+    }
+}
@@ -0,0 +1,148 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/synthetic/PortfolioGenerator.java
+package com.votre_entreprise.analyzer.synthetic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Génère un portfolio legacy synthétique pour les tests de montée en charge :
+ * <ul>
+ *     <li>{@code <sortie>/maven/app-NNN} : projets Maven, lus par l'analyseur Spoon et par old-2 ;</li>
+ *     <li>{@code <sortie>/weblogic/app-NNN.war|.ear} : archives WebLogic, lues par old-1.</li>
+ * </ul>
+ * Les deux vues d'une même application ont les mêmes sources et descripteurs.
+ */
+public class PortfolioGenerator {
+
+    private final GeneratorSettings settings;
+
+    public PortfolioGenerator(GeneratorSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0 || args[0] == null || args[0].isBlank()) {
+            System.err.println("ERREUR: Vous devez fournir le répertoire de sortie du portfolio.");
+            System.out.println("Usage: java -cp analyzer.jar " + PortfolioGenerator.class.getName() + " <sortie>");
+            System.out.println("       [--projects=10] [--controllers=5] [--struts-actions=5] [--servlets=2] [--mdbs=2]");
+            System.out.println("       [--jdbc-queries=10] [--jndi-lookups=3] [--adapters=3]");
+            System.out.println("       [--call-depth=4] [--services-per-level=6] [--fan-out=2] [--seed=42] [--archives=war|ear|none]");
+            return;
+        }
+
+        GeneratorSettings settings;
+        try {
+            settings = GeneratorSettings.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERREUR: Option invalide : " + e.getMessage());
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int files = new PortfolioGenerator(settings).generate(Paths.get(settings.outputDirectory()));
+            System.out.println(settings.projects() + " applications générées (" + files + " fichiers, "
+                    + settings.entryPoints() + " points d'entrée par application) en "
+                    + (System.currentTimeMillis() - start) + " ms dans " + settings.outputDirectory());
+        } catch (IOException e) {
+            System.err.println("ERREUR: Impossible d'écrire le portfolio : " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return le nombre de fichiers écrits (une archive compte pour un fichier).
+     */
+    public int generate(Path output) throws IOException {
+        Path mavenRoot = output.resolve("maven");
+        Path weblogicRoot = output.resolve("weblogic");
+        Files.createDirectories(mavenRoot);
+        if (settings.archives() != GeneratorSettings.Archives.NONE) {
+            Files.createDirectories(weblogicRoot);
+        }
+
+        int files = 0;
+        for (int index = 1; index <= settings.projects(); index++) {
+            SyntheticApplication application = new SyntheticApplication(settings, index);
+            files += writeMavenProject(mavenRoot.resolve(application.getName()), application);
+            switch (settings.archives()) {
+                case WAR -> files += writeArchive(weblogicRoot.resolve(application.getName() + ".war"),
+                        warEntries(application));
+                case EAR -> files += writeArchive(weblogicRoot.resolve(application.getName() + ".ear"),
+                        earEntries(application));
+                case NONE -> { }
+            }
+        }
+        return files;
+    }
+
+    private int writeMavenProject(Path root, SyntheticApplication application) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("pom.xml", application.pom());
+        application.getSources().forEach((path, content) -> files.put("src/main/java/" + path, content));
+        application.getStubs().forEach((path, content) -> files.put("src/stubs/java/" + path, content));
+        files.put("src/main/resources/struts.xml", application.strutsXml());
+        files.put("src/main/webapp/WEB-INF/web.xml", application.webXml());
+        files.put("src/main/webapp/WEB-INF/struts-config.xml", application.strutsConfig());
+        files.put("src/main/webapp/WEB-INF/weblogic.xml", application.weblogicXml());
+
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            Path target = root.resolve(file.getKey());
+            Files.createDirectories(target.getParent());
+            Files.writeString(target, file.getValue());
+        }
+        return files.size();
+    }
+
+    /**
+     * WAR « de livraison » : descripteurs sous WEB-INF et sources sous src/, là où old-1 les cherche.
+     */
+    private Map<String, byte[]> warEntries(SyntheticApplication application) {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("WEB-INF/web.xml", bytes(application.webXml()));
+        entries.put("WEB-INF/struts-config.xml", bytes(application.strutsConfig()));
+        entries.put("WEB-INF/weblogic.xml", bytes(application.weblogicXml()));
+        entries.put("WEB-INF/classes/struts.xml", bytes(application.strutsXml()));
+        application.getSources().forEach((path, content) -> entries.put("src/" + path, bytes(content)));
+        return entries;
+    }
+
+    private Map<String, byte[]> earEntries(SyntheticApplication application) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("META-INF/application.xml", bytes(application.applicationXml()));
+        entries.put("META-INF/weblogic-application.xml", bytes(application.weblogicApplicationXml()));
+        ByteArrayOutputStream war = new ByteArrayOutputStream();
+        zip(war, warEntries(application));
+        entries.put(application.getName() + ".war", war.toByteArray());
+        return entries;
+    }
+
+    private static int writeArchive(Path archive, Map<String, byte[]> entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            zip(out, entries);
+        }
+        return 1;
+    }
+
+    private static void zip(OutputStream out, Map<String, byte[]> entries) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,603 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/synthetic/SyntheticApplication.java
+package com.votre_entreprise.analyzer.synthetic;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Contenu d'une application legacy synthétique, construit en mémoire avant d'être écrit
+ * sous forme de projet Maven et/ou d'archive WebLogic.
+ * <p>
+ * Les points d'entrée (contrôleurs Spring, actions Struts, servlets, MDB) appellent la première
+ * couche d'un graphe de services de {@code callDepth} couches ; chaque service appelle
+ * {@code fanOut} services de la couche suivante. Les services de la dernière couche se partagent
+ * les ressources : DAO JDBC, lookups JNDI et adaptateurs MQ / socket / COBOL.
+ */
+final class SyntheticApplication {
+
+    private static final String[] TABLES = {
+            "CLIENT", "COMPTE", "CONTRAT", "FACTURE", "COMMANDE", "PRODUIT", "SINISTRE", "PAIEMENT"
+    };
+
+    private final GeneratorSettings settings;
+    private final int index;
+    private final String name;
+    private final String basePackage;
+    private final Random random;
+
+    // Chemin relatif à la racine des sources -> contenu
+    private final Map<String, String> sources = new LinkedHashMap<>();
+    private final Map<String, String> stubs = new LinkedHashMap<>();
+
+    SyntheticApplication(GeneratorSettings settings, int index) {
+        this.settings = settings;
+        this.index = index;
+        this.name = String.format("app-%03d", index);
+        this.basePackage = String.format("com.acme.app%03d", index);
+        this.random = new Random(settings.seed() * 31 + index);
+        generateSources();
+        generateStubs();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /** Sources applicatives (src/main/java d'un projet Maven, src/ d'une archive). */
+    Map<String, String> getSources() {
+        return sources;
+    }
+
+    /**
+     * Stubs des API externes (Spring, Struts, Servlet, EJB, JMS, MQ) : l'analyseur Spoon
+     * construit son modèle sans classpath, ils ne sont donc écrits que dans les projets Maven.
+     */
+    Map<String, String> getStubs() {
+        return stubs;
+    }
+
+    /** Les projets alternent Spring et Struts 2 comme framework principal déclaré dans le pom. */
+    boolean isSpringFlavoured() {
+        return index % 2 == 0;
+    }
+
+    // ===== Sources =====
+
+    private void generateSources() {
+        int entry = 0;
+        for (int c = 0; c < settings.controllers(); c++) {
+            addSource("web", "OrderController" + c, controller(c, entry++));
+        }
+        for (int s = 0; s < settings.strutsActions(); s++) {
+            addSource("struts", "OrderAction" + s, strutsAction(s, entry++));
+        }
+        for (int v = 0; v < settings.servlets(); v++) {
+            addSource("web", "OrderServlet" + v, servlet(v, entry++));
+        }
+        for (int m = 0; m < settings.mdbs(); m++) {
+            addSource("messaging", "OrderListener" + m, messageDrivenBean(m, entry++));
+        }
+        for (int level = 1; level <= settings.callDepth(); level++) {
+            for (int n = 0; n < settings.servicesPerLevel(); n++) {
+                addSource("service", serviceName(level, n), service(level, n));
+            }
+        }
+        for (int q = 0; q < settings.jdbcQueries(); q++) {
+            addSource("dao", "TableDao" + q, dao(q));
+        }
+        for (int j = 0; j < settings.jndiLookups(); j++) {
+            addSource("integration", "EjbLocator" + j, ejbLocator(j));
+        }
+        for (int a = 0; a < settings.adapters(); a++) {
+            addSource("integration", adapterName(a), adapter(a));
+        }
+    }
+
+    private String controller(int c, int entry) {
+        String service = entryService(entry);
+        return header("web", "service." + service,
+                "org.springframework.web.bind.annotation.GetMapping",
+                "org.springframework.web.bind.annotation.PostMapping",
+                "org.springframework.web.bind.annotation.RequestMapping",
+                "org.springframework.web.bind.annotation.RestController")
+                + "@RestController\n"
+                + "@RequestMapping(\"/api/orders" + c + "\")\n"
+                + "public class OrderController" + c + " {\n\n"
+                + field(service)
+                + "\n    @GetMapping(\"/{id}\")\n"
+                + "    public String find(String id) {\n"
+                + "        return service.process(id);\n"
+                + "    }\n"
+                + "\n    @PostMapping(\"/create\")\n"
+                + "    public String create(String payload) {\n"
+                + "        return service.process(payload);\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String strutsAction(int s, int entry) {
+        String service = entryService(entry);
+        return header("struts", "service." + service,
+                "javax.servlet.http.HttpServletRequest",
+                "javax.servlet.http.HttpServletResponse",
+                "org.apache.struts.action.Action",
+                "org.apache.struts.action.ActionForm",
+                "org.apache.struts.action.ActionForward",
+                "org.apache.struts.action.ActionMapping")
+                + "public class OrderAction" + s + " extends Action {\n\n"
+                + field(service)
+                + "\n    @Override\n"
+                + "    public ActionForward execute(ActionMapping mapping, ActionForm form,\n"
+                + "                                 HttpServletRequest request, HttpServletResponse response) throws Exception {\n"
+                + "        service.process(request.getParameter(\"id\"));\n"
+                + "        return mapping.findForward(\"success\");\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String servlet(int v, int entry) {
+        String service = entryService(entry);
+        return header("web", "service." + service,
+                "java.io.IOException",
+                "javax.servlet.ServletException",
+                "javax.servlet.http.HttpServlet",
+                "javax.servlet.http.HttpServletRequest",
+                "javax.servlet.http.HttpServletResponse")
+                + "public class OrderServlet" + v + " extends HttpServlet {\n\n"
+                + field(service)
+                + "\n    @Override\n"
+                + "    protected void doGet(HttpServletRequest request, HttpServletResponse response)\n"
+                + "            throws ServletException, IOException {\n"
+                + "        service.process(request.getParameter(\"id\"));\n"
+                + "    }\n"
+                + "\n    @Override\n"
+                + "    protected void doPost(HttpServletRequest request, HttpServletResponse response)\n"
+                + "            throws ServletException, IOException {\n"
+                + "        service.process(request.getParameter(\"payload\"));\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String messageDrivenBean(int m, int entry) {
+        String service = entryService(entry);
+        return header("messaging", "service." + service,
+                "javax.ejb.ActivationConfigProperty",
+                "javax.ejb.MessageDriven",
+                "javax.jms.JMSException",
+                "javax.jms.Message",
+                "javax.jms.MessageListener",
+                "javax.jms.TextMessage")
+                + "@MessageDriven(mappedName = \"" + queueName(m) + "\", activationConfig = {\n"
+                + "        @ActivationConfigProperty(propertyName = \"destinationType\", propertyValue = \"javax.jms.Queue\")\n"
+                + "})\n"
+                + "public class OrderListener" + m + " implements MessageListener {\n\n"
+                + field(service)
+                + "\n    @Override\n"
+                + "    public void onMessage(Message message) {\n"
+                + "        try {\n"
+                + "            service.process(((TextMessage) message).getText());\n"
+                + "        } catch (JMSException e) {\n"
+                + "            throw new IllegalStateException(e);\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String service(int level, int n) {
+        boolean leaf = level == settings.callDepth();
+        StringBuilder fields = new StringBuilder();
+        StringBuilder calls = new StringBuilder();
+        StringBuilder imports = new StringBuilder();
+        if (!leaf) {
+            // Service n de la couche L -> services (n + k * pas) de la couche L+1
+            int stride = Math.max(1, settings.servicesPerLevel() / settings.fanOut());
+            for (int k = 0; k < settings.fanOut(); k++) {
+                String next = serviceName(level + 1, (n + k * stride) % settings.servicesPerLevel());
+                appendCall(fields, calls, "next" + k, next);
+            }
+        } else {
+            for (int q = n; q < settings.jdbcQueries(); q += settings.servicesPerLevel()) {
+                imports.append("import ").append(basePackage).append(".dao.TableDao").append(q).append(";\n");
+                appendCall(fields, calls, "dao" + q, "TableDao" + q);
+            }
+            for (int j = n; j < settings.jndiLookups(); j += settings.servicesPerLevel()) {
+                imports.append("import ").append(basePackage).append(".integration.EjbLocator").append(j).append(";\n");
+                appendCall(fields, calls, "locator" + j, "EjbLocator" + j);
+            }
+            for (int a = n; a < settings.adapters(); a += settings.servicesPerLevel()) {
+                imports.append("import ").append(basePackage).append(".integration.").append(adapterName(a)).append(";\n");
+                appendCall(fields, calls, "adapter" + a, adapterName(a));
+            }
+        }
+        return "package " + basePackage + ".service;\n\n"
+                + imports
+                + "import org.springframework.stereotype.Service;\n\n"
+                + "@Service\n"
+                + "public class " + serviceName(level, n) + " {\n\n"
+                + fields
+                + "\n    public String process(String input) {\n"
+                + "        String result = input;\n"
+                + calls
+                + "        return result;\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String dao(int q) {
+        String table = TABLES[random.nextInt(TABLES.length)] + "_" + random.nextInt(10);
+        String statement;
+        String prepare = "prepareStatement";
+        String execute = "executeUpdate()";
+        switch (random.nextInt(5)) {
+            case 0 -> {
+                statement = "SELECT ID, LIBELLE FROM " + table + " WHERE ID = ?";
+                execute = "executeQuery().close()";
+            }
+            case 1 -> statement = "INSERT INTO " + table + " (ID, LIBELLE) VALUES (?, 'N/A')";
+            case 2 -> statement = "UPDATE " + table + " SET STATUT = 'TRAITE' WHERE ID = ?";
+            case 3 -> statement = "DELETE FROM " + table + " WHERE ID = ?";
+            default -> {
+                statement = "{call PKG_" + table + ".TRAITER(?)}";
+                prepare = "prepareCall";
+            }
+        }
+        return header("dao", null,
+                "java.sql.Connection",
+                "java.sql.PreparedStatement",
+                "java.sql.SQLException",
+                "javax.sql.DataSource",
+                "org.springframework.stereotype.Repository")
+                + "@Repository\n"
+                + "public class TableDao" + q + " {\n\n"
+                + "    private DataSource dataSource;\n\n"
+                + "    public void setDataSource(DataSource dataSource) {\n"
+                + "        this.dataSource = dataSource;\n"
+                + "    }\n\n"
+                + "    public String process(String input) {\n"
+                + "        try (Connection connection = dataSource.getConnection();\n"
+                + "             PreparedStatement statement = connection." + prepare + "(\"" + statement + "\")) {\n"
+                + "            statement.setString(1, input);\n"
+                + "            statement." + execute + ";\n"
+                + "            return input;\n"
+                + "        } catch (SQLException e) {\n"
+                + "            throw new IllegalStateException(e);\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String ejbLocator(int j) {
+        return header("integration", null,
+                "javax.naming.InitialContext",
+                "javax.naming.NamingException")
+                + "public class EjbLocator" + j + " {\n\n"
+                + "    public String process(String input) {\n"
+                + "        try {\n"
+                + "            Object remote = new InitialContext().lookup(\"ejb/ContratService" + j + "\");\n"
+                + "            return input + remote;\n"
+                + "        } catch (NamingException e) {\n"
+                + "            throw new IllegalStateException(e);\n"
+                + "        }\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    private String adapter(int a) {
+        return switch (a % 3) {
+            case 0 -> header("integration", null,
+                    "com.ibm.mq.MQException",
+                    "com.ibm.mq.MQMessage",
+                    "com.ibm.mq.MQQueue",
+                    "com.ibm.mq.MQQueueManager",
+                    "java.io.IOException")
+                    + "public class " + adapterName(a) + " {\n\n"
+                    + "    public String process(String input) {\n"
+                    + "        try {\n"
+                    + "            MQQueueManager manager = new MQQueueManager(\"QM_" + name.toUpperCase(Locale.ROOT).replace('-', '_') + "\");\n"
+                    + "            MQQueue queue = manager.accessQueue(\"LEGACY.REQUEST." + a + "\", 16);\n"
+                    + "            MQMessage message = new MQMessage();\n"
+                    + "            message.writeString(input);\n"
+                    + "            queue.put(message);\n"
+                    + "            queue.close();\n"
+                    + "            manager.disconnect();\n"
+                    + "            return input;\n"
+                    + "        } catch (MQException | IOException e) {\n"
+                    + "            throw new IllegalStateException(e);\n"
+                    + "        }\n"
+                    + "    }\n"
+                    + "}\n";
+            case 1 -> header("integration", null,
+                    "java.io.IOException",
+                    "java.io.OutputStream",
+                    "java.net.Socket",
+                    "java.nio.charset.StandardCharsets")
+                    + "public class " + adapterName(a) + " {\n\n"
+                    + "    public String process(String input) {\n"
+                    + "        try (Socket socket = new Socket(\"partenaire" + a + ".legacy.local\", " + (7000 + a) + ");\n"
+                    + "             OutputStream out = socket.getOutputStream()) {\n"
+                    + "            out.write(input.getBytes(StandardCharsets.UTF_8));\n"
+                    + "            return input;\n"
+                    + "        } catch (IOException e) {\n"
+                    + "            throw new IllegalStateException(e);\n"
+                    + "        }\n"
+                    + "    }\n"
+                    + "}\n";
+            default -> header("integration", null,
+                    "java.io.IOException",
+                    "java.io.OutputStream",
+                    "java.net.Socket",
+                    "java.nio.charset.StandardCharsets")
+                    + "public class " + adapterName(a) + " {\n\n"
+                    + "    public String process(String input) {\n"
+                    + "        return executeCicsProgram(\"PGM" + String.format("%04d", a) + "\", input);\n"
+                    + "    }\n\n"
+                    + "    private String executeCicsProgram(String program, String commarea) {\n"
+                    + "        try (Socket socket = new Socket(\"mainframe.legacy.local\", 3270);\n"
+                    + "             OutputStream out = socket.getOutputStream()) {\n"
+                    + "            out.write((program + commarea).getBytes(StandardCharsets.UTF_8));\n"
+                    + "            return commarea;\n"
+                    + "        } catch (IOException e) {\n"
+                    + "            throw new IllegalStateException(e);\n"
+                    + "        }\n"
+                    + "    }\n"
+                    + "}\n";
+        };
+    }
+
+    // ===== Descripteurs =====
+
+    String pom() {
+        StringBuilder dependencies = new StringBuilder();
+        // FrameworkDetector retient le premier framework reconnu : le framework principal vient en tête
+        if (isSpringFlavoured()) {
+            dependency(dependencies, "org.springframework.boot", "spring-boot-starter-web", "2.7.18");
+            dependency(dependencies, "org.apache.struts", "struts2-core", "2.5.33");
+        } else {
+            dependency(dependencies, "org.apache.struts", "struts2-core", "2.5.33");
+            dependency(dependencies, "org.springframework", "spring-context", "5.3.31");
+        }
+        dependency(dependencies, "struts", "struts", "1.2.9");
+        dependency(dependencies, "javax.servlet", "servlet-api", "2.5");
+        dependency(dependencies, "javax", "javaee-api", "6.0");
+        dependency(dependencies, "com.ibm.mq", "com.ibm.mq.allclient", "9.3.0.0");
+        return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>com.acme</groupId>\n"
+                + "  <artifactId>" + name + "</artifactId>\n"
+                + "  <version>1.0</version>\n"
+                + "  <packaging>war</packaging>\n"
+                + "  <dependencies>\n"
+                + dependencies
+                + "  </dependencies>\n"
+                + "</project>\n";
+    }
+
+    String webXml() {
+        StringBuilder servlets = new StringBuilder();
+        StringBuilder mappings = new StringBuilder();
+        for (int v = 0; v < settings.servlets(); v++) {
+            servlet(servlets, mappings, "orderServlet" + v, basePackage + ".web.OrderServlet" + v, "/servlet/order" + v);
+        }
+        if (settings.strutsActions() > 0) {
+            servlet(servlets, mappings, "action", "org.apache.struts.action.ActionServlet", "*.do");
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<web-app xmlns=\"http://java.sun.com/xml/ns/javaee\" version=\"2.5\">\n"
+                + "  <display-name>" + name + "</display-name>\n"
+                + servlets
+                + mappings
+                + "</web-app>\n";
+    }
+
+    String strutsConfig() {
+        StringBuilder forms = new StringBuilder();
+        StringBuilder actions = new StringBuilder();
+        for (int s = 0; s < settings.strutsActions(); s++) {
+            forms.append("    <form-bean name=\"orderForm").append(s)
+                 .append("\" type=\"org.apache.struts.action.DynaActionForm\"/>\n");
+            actions.append("    <action path=\"/order").append(s).append("\" type=\"").append(basePackage)
+                   .append(".struts.OrderAction").append(s).append("\" name=\"orderForm").append(s)
+                   .append("\" scope=\"request\">\n")
+                   .append("      <forward name=\"success\" path=\"/WEB-INF/jsp/order.jsp\"/>\n")
+                   .append("    </action>\n");
+        }
+        // Pas de DOCTYPE : les parseurs DOM iraient chercher la DTD sur le réseau
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<struts-config>\n"
+                + "  <form-beans>\n" + forms + "  </form-beans>\n"
+                + "  <action-mappings>\n" + actions + "  </action-mappings>\n"
+                + "</struts-config>\n";
+    }
+
+    String strutsXml() {
+        StringBuilder actions = new StringBuilder();
+        for (int s = 0; s < settings.strutsActions(); s++) {
+            actions.append("    <action name=\"order").append(s).append("\" class=\"").append(basePackage)
+                   .append(".struts.OrderAction").append(s).append("\" method=\"execute\">\n")
+                   .append("      <result>/WEB-INF/jsp/order.jsp</result>\n")
+                   .append("    </action>\n");
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<struts>\n"
+                + "  <package name=\"" + name + "\" extends=\"struts-default\" namespace=\"/\">\n"
+                + actions
+                + "  </package>\n"
+                + "</struts>\n";
+    }
+
+    String weblogicXml() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<weblogic-web-app xmlns=\"http://xmlns.oracle.com/weblogic/weblogic-web-app\">\n"
+                + "  <context-root>/" + name + "</context-root>\n"
+                + "</weblogic-web-app>\n";
+    }
+
+    String applicationXml() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<application xmlns=\"http://java.sun.com/xml/ns/javaee\" version=\"5\">\n"
+                + "  <display-name>" + name + "</display-name>\n"
+                + "  <module>\n"
+                + "    <web>\n"
+                + "      <web-uri>" + name + ".war</web-uri>\n"
+                + "      <context-root>/" + name + "</context-root>\n"
+                + "    </web>\n"
+                + "  </module>\n"
+                + "</application>\n";
+    }
+
+    String weblogicApplicationXml() {
+        StringBuilder modules = new StringBuilder();
+        for (int m = 0; m < settings.mdbs(); m++) {
+            modules.append("  <jms-module>\n")
+                   .append("    <name>").append(name).append("-jms").append(m).append("</name>\n")
+                   .append("    <jndi-name>").append(queueName(m)).append("</jndi-name>\n")
+                   .append("  </jms-module>\n");
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<weblogic-application xmlns=\"http://xmlns.oracle.com/weblogic/weblogic-application\">\n"
+                + modules
+                + "</weblogic-application>\n";
+    }
+
+    // ===== Stubs =====
+
+    private void generateStubs() {
+        String web = "org.springframework.web.bind.annotation";
+        for (String annotation : new String[] {"RestController", "RequestMapping", "GetMapping", "PostMapping"}) {
+            stub(web, annotation, "@Retention(RetentionPolicy.RUNTIME)\npublic @interface " + annotation
+                    + " {\n    String[] value() default {};\n}\n", "java.lang.annotation.Retention",
+                    "java.lang.annotation.RetentionPolicy");
+        }
+        stub("org.springframework.stereotype", "Service", "public @interface Service {\n}\n");
+        stub("org.springframework.stereotype", "Repository", "public @interface Repository {\n}\n");
+
+        stub("javax.servlet", "ServletException", "public class ServletException extends Exception {\n}\n");
+        stub("javax.servlet.http", "HttpServletRequest",
+                "public interface HttpServletRequest {\n    String getParameter(String name);\n}\n");
+        stub("javax.servlet.http", "HttpServletResponse", "public interface HttpServletResponse {\n}\n");
+        stub("javax.servlet.http", "HttpServlet",
+                "public abstract class HttpServlet {\n"
+                + "    protected void doGet(HttpServletRequest request, HttpServletResponse response)\n"
+                + "            throws javax.servlet.ServletException, java.io.IOException {\n    }\n\n"
+                + "    protected void doPost(HttpServletRequest request, HttpServletResponse response)\n"
+                + "            throws javax.servlet.ServletException, java.io.IOException {\n    }\n"
+                + "}\n");
+
+        String struts = "org.apache.struts.action";
+        stub(struts, "ActionForm", "public class ActionForm {\n}\n");
+        stub(struts, "ActionForward", "public class ActionForward {\n}\n");
+        stub(struts, "ActionMapping",
+                "public class ActionMapping {\n    public ActionForward findForward(String name) {\n"
+                + "        return new ActionForward();\n    }\n}\n");
+        stub(struts, "Action",
+                "public abstract class Action {\n"
+                + "    public ActionForward execute(ActionMapping mapping, ActionForm form,\n"
+                + "            javax.servlet.http.HttpServletRequest request, javax.servlet.http.HttpServletResponse response)\n"
+                + "            throws Exception {\n        return null;\n    }\n}\n");
+
+        stub("javax.ejb", "ActivationConfigProperty",
+                "public @interface ActivationConfigProperty {\n    String propertyName();\n\n    String propertyValue();\n}\n");
+        stub("javax.ejb", "MessageDriven",
+                "public @interface MessageDriven {\n    String mappedName() default \"\";\n\n"
+                + "    ActivationConfigProperty[] activationConfig() default {};\n}\n");
+        stub("javax.jms", "JMSException", "public class JMSException extends Exception {\n}\n");
+        stub("javax.jms", "Message", "public interface Message {\n}\n");
+        stub("javax.jms", "TextMessage",
+                "public interface TextMessage extends Message {\n    String getText() throws JMSException;\n}\n");
+        stub("javax.jms", "MessageListener",
+                "public interface MessageListener {\n    void onMessage(Message message);\n}\n");
+
+        String mq = "com.ibm.mq";
+        stub(mq, "MQException", "public class MQException extends Exception {\n}\n");
+        stub(mq, "MQMessage",
+                "public class MQMessage {\n    public void writeString(String value) throws java.io.IOException {\n    }\n}\n");
+        stub(mq, "MQQueue",
+                "public class MQQueue {\n    public void put(MQMessage message) throws MQException {\n    }\n\n"
+                + "    public void close() throws MQException {\n    }\n}\n");
+        stub(mq, "MQQueueManager",
+                "public class MQQueueManager {\n    public MQQueueManager(String name) throws MQException {\n    }\n\n"
+                + "    public MQQueue accessQueue(String name, int options) throws MQException {\n"
+                + "        return new MQQueue();\n    }\n\n"
+                + "    public void disconnect() throws MQException {\n    }\n}\n");
+    }
+
+    // ===== Utilitaires =====
+
+    private String entryService(int entry) {
+        return serviceName(1, entry % settings.servicesPerLevel());
+    }
+
+    private static String serviceName(int level, int n) {
+        return "Layer" + level + "Service" + n;
+    }
+
+    private static String adapterName(int a) {
+        return switch (a % 3) {
+            case 0 -> "MqAdapter" + a;
+            case 1 -> "SocketAdapter" + a;
+            default -> "CobolProgramAdapter" + a;
+        };
+    }
+
+    private String queueName(int m) {
+        return "jms/queue/" + name + "/Orders" + m;
+    }
+
+    private String header(String subPackage, String localImport, String... imports) {
+        StringBuilder header = new StringBuilder("package ").append(basePackage).append('.').append(subPackage).append(";\n\n");
+        if (localImport != null) {
+            header.append("import ").append(basePackage).append('.').append(localImport).append(";\n");
+        }
+        for (String type : imports) {
+            header.append("import ").append(type).append(";\n");
+        }
+        return header.append('\n').toString();
+    }
+
+    private static String field(String type) {
+        return "    private final " + type + " service = new " + type + "();\n";
+    }
+
+    private static void appendCall(StringBuilder fields, StringBuilder calls, String field, String type) {
+        fields.append("    private final ").append(type).append(' ').append(field)
+              .append(" = new ").append(type).append("();\n");
+        calls.append("        result = ").append(field).append(".process(result);\n");
+    }
+
+    private static void dependency(StringBuilder dependencies, String groupId, String artifactId, String version) {
+        dependencies.append("    <dependency>\n")
+                    .append("      <groupId>").append(groupId).append("</groupId>\n")
+                    .append("      <artifactId>").append(artifactId).append("</artifactId>\n")
+                    .append("      <version>").append(version).append("</version>\n")
+                    .append("    </dependency>\n");
+    }
+
+    private static void servlet(StringBuilder servlets, StringBuilder mappings, String servletName,
+                                String servletClass, String pattern) {
+        servlets.append("  <servlet>\n")
+                .append("    <servlet-name>").append(servletName).append("</servlet-name>\n")
+                .append("    <servlet-class>").append(servletClass).append("</servlet-class>\n")
+                .append("  </servlet>\n");
+        mappings.append("  <servlet-mapping>\n")
+                .append("    <servlet-name>").append(servletName).append("</servlet-name>\n")
+                .append("    <url-pattern>").append(pattern).append("</url-pattern>\n")
+                .append("  </servlet-mapping>\n");
+    }
+
+    private void addSource(String subPackage, String className, String content) {
+        sources.put((basePackage + "." + subPackage).replace('.', '/') + "/" + className + ".java", content);
+    }
+
+    private void stub(String packageName, String className, String body, String... imports) {
+        StringBuilder content = new StringBuilder("package ").append(packageName).append(";\n\n");
+        for (String type : imports) {
+            content.append("import ").append(type).append(";\n");
+        }
+        if (imports.length > 0) {
+            content.append('\n');
+        }
+        stubs.put(packageName.replace('.', '/') + "/" + className + ".java", content.append(body).toString());
+    }
+}
@@ -0,0 +1,171 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/watch/PortfolioWatcher.java
+package com.votre_entreprise.analyzer.watch;
+
+import com.votre_entreprise.analyzer.AnalyzerOptions;
+import com.votre_entreprise.analyzer.daemon.ResidentProject;
+import com.votre_entreprise.analyzer.metrics.MetricsRegistry;
+import com.votre_entreprise.analyzer.model.AnalyzedEndpoint;
+import com.votre_entreprise.analyzer.portfolio.PortfolioExecutor;
+import com.votre_entreprise.analyzer.portfolio.PortfolioProgress;
+import com.votre_entreprise.analyzer.portfolio.ProjectOutcome;
+import com.votre_entreprise.analyzer.serialization.ReportWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Mode {@code --watch} : analyse le portfolio en gardant chaque projet en mémoire
+ * ({@link ResidentProject}), puis met à jour les rapports au fil des modifications des sources.
+ * <p>
+ * Une série de sauvegardes regroupées ne reconstruit que le modèle des projets touchés, dans la JVM
+ * déjà chaude, et ne reparcourt que les endpoints dont un fichier source a changé ; le rapport
+ * du projet est réécrit par renommage atomique. Les projets sont analysés un par un : tous les
+ * modèles restent en mémoire, le mode est prévu pour quelques copies de travail, pas pour un portfolio entier.
+ * Un échec d'analyse laisse le projet surveillé ; une {@code OutOfMemoryError} arrête la surveillance.
+ */
+public class PortfolioWatcher implements PortfolioExecutor {
+
+    private final AnalyzerOptions options;
+    private final Map<Path, ResidentProject> projects = new LinkedHashMap<>();
+
+    public PortfolioWatcher(AnalyzerOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Analyse initiale : construit et garde en mémoire le modèle de chaque projet, et écrit son rapport.
+     */
+    @Override
+    public List<ProjectOutcome> run(List<Path> projectPaths) {
+        PortfolioProgress progress = new PortfolioProgress(projectPaths.size());
+        List<ProjectOutcome> outcomes = new ArrayList<>();
+        for (Path projectPath : projectPaths) {
+            Path root = projectPath.toAbsolutePath().normalize();
+            ResidentProject project = new ResidentProject(root, options.getBudgetLimits(), options.getInventoryExcludes());
+            projects.put(root, project);
+
+            String projectName = root.getFileName().toString();
+            long start = System.currentTimeMillis();
+            progress.started(projectName, 1, Thread.currentThread().getName());
+            ProjectOutcome outcome;
+            Lock lock = project.lock().writeLock();
+            lock.lock();
+            try {
+                project.refresh(List.of());
+                int count = writeReport(project);
+                outcome = ProjectOutcome.success(projectName, count, 1, System.currentTimeMillis() - start);
+            } catch (Exception | StackOverflowError e) {
+                // Projet surveillé malgré l'échec : la prochaine modification relancera son analyse
+                outcome = ProjectOutcome.failure(projectName, 1, System.currentTimeMillis() - start,
+                        e.getClass().getSimpleName() + ": " + e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+            progress.finished(outcome);
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Surveille les sources jusqu'à l'arrêt du processus (Ctrl+C).
+     */
+    public void watch() throws IOException, InterruptedException {
+        if (projects.isEmpty()) {
+            return;
+        }
+        MetricsRegistry metrics = MetricsRegistry.global();
+        try (SourceWatcher watcher = new SourceWatcher(new ArrayList<>(projects.keySet()),
+                options.getInventoryExcludes(), options.getWatchDebounceMillis())) {
+            System.out.println("------------------------------------------------------------------");
+            System.out.println("Mode surveillance : " + projects.size() + " projet(s), " + watcher.getWatchedDirectoryCount()
+                    + " répertoire(s) surveillé(s). Ctrl+C pour arrêter.");
+            while (true) {
+                SourceWatcher.ChangeBatch batch = watcher.awaitChanges();
+                boolean updated = false;
+                for (Map.Entry<Path, ResidentProject> entry : projects.entrySet()) {
+                    Set<Path> changedFiles = batch.changedFiles.getOrDefault(entry.getKey(), Set.of());
+                    boolean overflowed = batch.overflowedProjects.contains(entry.getKey());
+                    if (overflowed || changedFiles.stream().anyMatch(PortfolioWatcher::affectsAnalysis)) {
+                        updated |= refresh(entry.getValue(), changedFiles);
+                    }
+                }
+                if (updated) {
+                    metrics.export(Paths.get(""));
+                }
+            }
+        }
+    }
+
+    private boolean refresh(ResidentProject project, Set<Path> changedFiles) {
+        String projectName = project.getProjectPath().getFileName().toString();
+        Lock lock = project.lock().writeLock();
+        lock.lock();
+        try {
+            ResidentProject.Refresh refresh = project.refresh(changedFiles);
+            if (!refresh.modelRebuilt()) {
+                return false;
+            }
+            writeReport(project);
+            System.out.println("   -> [watch] " + projectName + " : " + refresh.changedFiles() + " fichier(s) modifié(s), "
+                    + refresh.reanalyzedEndpoints() + "/" + refresh.endpoints() + " endpoint(s) réanalysé(s) en " + refresh.millis() + " ms");
+            return true;
+        } catch (Exception | StackOverflowError e) {
+            // Le rapport précédent reste en place ; le projet sera reconstruit à la prochaine modification
+            System.err.println("   -> [watch] Échec de la réanalyse de " + projectName + " : " + e.getMessage());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Réécrit le rapport du projet : fichier temporaire puis renommage, un lecteur ne voit jamais de rapport partiel.
+     */
+    private int writeReport(ResidentProject project) throws IOException {
+        String projectName = project.getProjectPath().getFileName().toString();
+        Path report = new ReportWriter(Paths.get("rapport_analyse_" + projectName),
+                options.getReportFormat(), options.getReportCompression()).getFile();
+        ReportWriter writer = new ReportWriter(Paths.get(".rapport_analyse_" + projectName),
+                options.getReportFormat(), options.getReportCompression());
+        MetricsRegistry metrics = MetricsRegistry.global();
+        try (writer) {
+            metrics.timed(MetricsRegistry.SERIALIZATION, () -> {
+                for (AnalyzedEndpoint endpoint : project.find(null)) {
+                    writer.write(endpoint);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(writer.getFile());
+            throw e;
+        }
+
+        if (writer.getCount() == 0) {
+            // Comme en lot : pas de rapport pour un projet sans endpoint
+            Files.deleteIfExists(report);
+        } else {
+            Files.move(writer.getFile(), report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return writer.getCount();
+    }
+
+    /**
+     * Fichiers dont la modification peut changer le résultat : sources Java et descripteurs
+     * (struts.xml, web.xml, pom.xml, properties...). Les autres (documentation, fichiers
+     * temporaires d'éditeur) ne déclenchent pas de réanalyse.
+     */
+    private static boolean affectsAnalysis(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".java") || name.endsWith(".xml") || name.endsWith(".properties")
+                || name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+}
@@ -0,0 +1,189 @@
+// Fichier: src/main/java/com/votre_entreprise/analyzer/watch/SourceWatcher.java
+package com.votre_entreprise.analyzer.watch;
+
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surveille les sources d'un ensemble de projets avec un {@link WatchService} (mode {@code --watch}).
+ * <p>
+ * Chaque répertoire d'un projet est enregistré (le WatchService n'est pas récursif), sauf ceux que
+ * l'inventaire écarte ({@link FileInventory#isExcludedDirectory}) : mêmes globs d'exclusion, sorties de build
+ * à la racine des modules. Les rapports écrits par l'analyse sont ignorés. Les événements
+ * sont regroupés : après le premier, on attend que les sources restent calmes pendant le délai de
+ * regroupement, pour qu'une sauvegarde multiple (IDE, checkout git) ne déclenche qu'une réanalyse.
+ */
+public class SourceWatcher implements Closeable {
+
+    // Au-delà, une rafale continue de modifications est traitée même si elle n'est pas terminée
+    private static final int MAX_DEBOUNCE_ROUNDS = 20;
+
+    /**
+     * Modifications regroupées, par racine de projet.
+     */
+    public static class ChangeBatch {
+        /** Fichiers créés, modifiés ou supprimés. */
+        public final Map<Path, Set<Path>> changedFiles = new LinkedHashMap<>();
+        /** Projets dont des événements ont été perdus (débordement) : à réanalyser entièrement. */
+        public final Set<Path> overflowedProjects = new LinkedHashSet<>();
+
+        public boolean isEmpty() {
+            return changedFiles.isEmpty() && overflowedProjects.isEmpty();
+        }
+    }
+
+    private final WatchService watchService;
+    private final List<Path> projectRoots;
+    private final long debounceMillis;
+    private final List<PathMatcher> excludes;
+    // clé d'enregistrement -> répertoire surveillé
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+
+    /**
+     * @param excludeGlobs Les exclusions de l'inventaire ({@code --exclude}).
+     */
+    public SourceWatcher(List<Path> projectRoots, List<String> excludeGlobs, long debounceMillis) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.projectRoots = projectRoots.stream().map(root -> root.toAbsolutePath().normalize()).toList();
+        this.debounceMillis = debounceMillis;
+        this.excludes = FileInventory.compile(excludeGlobs);
+        for (Path root : this.projectRoots) {
+            registerTree(root, root);
+        }
+    }
+
+    /**
+     * @return le nombre de répertoires surveillés.
+     */
+    public int getWatchedDirectoryCount() {
+        return watchedDirectories.size();
+    }
+
+    /**
+     * Attend la prochaine série de modifications et la renvoie une fois les sources calmes.
+     */
+    public ChangeBatch awaitChanges() throws InterruptedException, IOException {
+        ChangeBatch batch = new ChangeBatch();
+        WatchKey key = watchService.take();
+        int rounds = 0;
+        while (key != null) {
+            collect(key, batch);
+            // Regroupement : on continue tant que des événements arrivent pendant le délai
+            key = rounds++ < MAX_DEBOUNCE_ROUNDS ? watchService.poll(debounceMillis, TimeUnit.MILLISECONDS) : watchService.poll();
+        }
+        return batch;
+    }
+
+    private void collect(WatchKey key, ChangeBatch batch) throws IOException {
+        Path directory = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            Path project = projectOf(directory);
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                if (project != null) {
+                    batch.overflowedProjects.add(project);
+                }
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (project == null || isIgnored(project, file)) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+                // Nouveau package : on le surveille et on signale les fichiers déjà copiés dedans
+                registerTree(project, file);
+                try (var stream = Files.walk(file)) {
+                    stream.filter(Files::isRegularFile)
+                          .forEach(created -> batch.changedFiles.computeIfAbsent(project, p -> new LinkedHashSet<>()).add(created));
+                }
+                continue;
+            }
+            if (!Files.isDirectory(file)) {
+                batch.changedFiles.computeIfAbsent(project, p -> new LinkedHashSet<>()).add(file);
+            }
+        }
+        if (!key.reset()) {
+            // Répertoire supprimé : il n'est plus surveillé
+            watchedDirectories.remove(key);
+        }
+    }
+
+    private Path projectOf(Path path) {
+        Path best = null;
+        for (Path root : projectRoots) {
+            // Projets imbriqués : la racine la plus profonde l'emporte
+            if (path.startsWith(root) && (best == null || root.getNameCount() > best.getNameCount())) {
+                best = root;
+            }
+        }
+        return best;
+    }
+
+    private boolean isIgnored(Path project, Path path) {
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.toString();
+        // Rapports et métriques écrits dans le répertoire courant, qui peut être un projet surveillé
+        if (name.startsWith("rapport_analyse_") || name.startsWith(".rapport_analyse_") || name.startsWith("metrics.")) {
+            return true;
+        }
+        return Files.isDirectory(path)
+                ? FileInventory.isExcludedDirectory(project, path, excludes)
+                : FileInventory.isExcludedFile(project, path, excludes);
+    }
+
+    private void registerTree(Path project, Path start) throws IOException {
+        Set<Path> registered = new HashSet<>(watchedDirectories.values());
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(start) && isIgnored(project, dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                if (registered.add(dir)) {
+                    WatchKey key = dir.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                    watchedDirectories.put(key, dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,48 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/collections/LongHashSetTest.java
+package com.votre_entreprise.analyzer.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void addReportsWhetherTheKeyWasNew() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.add(-1L));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertFalse(set.add(Long.MIN_VALUE));
+
+        assertTrue(set.contains(0L));
+        assertFalse(set.contains(1L));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void matchesAHashSetAcrossRehashes() {
+        LongHashSet set = new LongHashSet(2);
+        Set<Long> reference = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // Paires (classe, signature) packées comme dans le parcours des dépendances
+            long key = ((long) random.nextInt(200) << 32) | random.nextInt(100);
+            assertEquals(reference.add(key), set.add(key));
+        }
+
+        assertEquals(reference.size(), set.size());
+        for (long key : reference) {
+            assertTrue(set.contains(key));
+        }
+        assertFalse(set.contains(200L << 32));
+    }
+}
@@ -0,0 +1,96 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/daemon/AnalysisDaemonTest.java
+package com.votre_entreprise.analyzer.daemon;
+
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import com.votre_entreprise.analyzer.spoon.AnalysisBudget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalysisDaemonTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void staleSocketIsRemoved() throws IOException {
+        Path socket = dir.resolve("demon.sock");
+        // Fermer le serveur laisse le fichier de socket en place, comme un démon tué
+        ServerSocketChannel.open(StandardProtocolFamily.UNIX).bind(UnixDomainSocketAddress.of(socket)).close();
+        assertTrue(Files.exists(socket));
+
+        AnalysisDaemon.removeStaleSocket(socket);
+
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    void refusesToReplaceALiveSocket() throws IOException {
+        Path socket = dir.resolve("demon.sock");
+        try (ServerSocketChannel live = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            live.bind(UnixDomainSocketAddress.of(socket));
+
+            assertThrows(IOException.class, () -> AnalysisDaemon.removeStaleSocket(socket));
+            assertTrue(Files.exists(socket));
+        }
+    }
+
+    @Test
+    void refusesToDeleteAnythingElse() throws IOException {
+        Path file = Files.writeString(dir.resolve("rapport.json"), "[]");
+
+        assertThrows(IOException.class, () -> AnalysisDaemon.removeStaleSocket(file));
+        assertEquals("[]", Files.readString(file));
+    }
+
+    @Test
+    void socketIsRestrictedToItsOwner() throws Exception {
+        Path socket = dir.resolve("demon.sock");
+        AnalysisDaemon daemon = new AnalysisDaemon(socket, AnalysisBudget.Limits.NONE, FileInventory.DEFAULT_EXCLUDES);
+        CompletableFuture<Void> served = CompletableFuture.runAsync(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        for (int i = 0; i < 200 && !Files.exists(socket); i++) {
+            Thread.sleep(10);
+        }
+
+        try (SocketChannel client = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+             BufferedReader in = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8))) {
+            // Une réponse n'arrive qu'une fois la connexion acceptée, donc après la restriction des droits
+            send(client, "{\"command\":\"status\"}");
+            assertTrue(in.readLine().startsWith("{\"ok\":true"));
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socket)));
+
+            send(client, "{\"command\":\"shutdown\"}");
+            served.get(5, TimeUnit.SECONDS);
+        }
+        assertFalse(Files.exists(socket));
+    }
+
+    private static void send(SocketChannel client, String request) throws IOException {
+        client.write(ByteBuffer.wrap((request + "\n").getBytes(StandardCharsets.UTF_8)));
+    }
+}
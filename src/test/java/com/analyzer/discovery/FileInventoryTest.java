@@ -0,0 +1,75 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/discovery/FileInventoryTest.java
+package com.votre_entreprise.analyzer.discovery;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileInventoryTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void prunesBuildOutputsOnlyNextToAModuleDescriptor() throws IOException {
+        write("pom.xml");
+        write("target/classes/com/acme/App.class");
+        write("module-a/build.gradle");
+        write("module-a/build/libs/a.jar");
+        write("src/main/java/com/acme/build/Builder.java");
+        write("src/main/java/com/acme/bin/Tool.java");
+        write(".git/HEAD");
+
+        FileInventory inventory = FileInventory.build(root);
+
+        assertTrue(inventory.containsFile("src/main/java/com/acme/build/Builder.java"));
+        assertTrue(inventory.containsFile("src/main/java/com/acme/bin/Tool.java"));
+        assertFalse(inventory.containsDirectory("target"));
+        assertFalse(inventory.containsDirectory("module-a/build"));
+        assertFalse(inventory.containsFile(".git/HEAD"));
+        assertEquals(2, inventory.findByExtension("java").size());
+    }
+
+    @Test
+    void excludesCanBeReplaced() throws IOException {
+        write("src/main/java/com/acme/App.java");
+        write("src/main/java/generated/Stub.java");
+        write(".git/HEAD");
+
+        FileInventory inventory = FileInventory.build(root, List.of("generated"));
+
+        assertFalse(inventory.containsFile("src/main/java/generated/Stub.java"));
+        assertTrue(inventory.containsFile(".git/HEAD"));
+    }
+
+    @Test
+    void resultsAreSortedByPath() throws IOException {
+        for (String module : List.of("m9", "m1", "m5", "m3", "m7")) {
+            for (int i = 0; i < 20; i++) {
+                write(module + "/src/main/resources/struts.xml");
+                write(module + "/p" + i + "/pom.xml");
+            }
+        }
+
+        FileInventory inventory = FileInventory.build(root);
+
+        List<Path> poms = inventory.findByName("pom.xml");
+        assertEquals(poms.stream().sorted().toList(), poms);
+        assertEquals(root.toAbsolutePath().normalize().resolve("m1/src/main/resources/struts.xml"),
+                inventory.findFirstBySuffix("src/main/resources/struts.xml").orElseThrow());
+    }
+
+    private void write(String relativePath) throws IOException {
+        Path file = root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, relativePath);
+    }
+}
@@ -0,0 +1,61 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/portfolio/InProcessExecutorTest.java
+package com.votre_entreprise.analyzer.portfolio;
+
+import com.votre_entreprise.analyzer.AnalyzerOptions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InProcessExecutorTest {
+
+    @Test
+    void failedProjectsAreRetried() throws Exception {
+        Map<Path, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        ProjectReportTask task = new ProjectReportTask(AnalyzerOptions.parseFlags(new String[0], 0)) {
+            @Override
+            public int run(Path projectPath) {
+                int attempt = attempts.computeIfAbsent(projectPath, p -> new AtomicInteger()).incrementAndGet();
+                if (projectPath.endsWith("instable") && attempt == 1) {
+                    throw new IllegalStateException("verrou du fichier");
+                }
+                if (projectPath.endsWith("casse")) {
+                    throw new IllegalStateException("pom illisible");
+                }
+                return 3;
+            }
+        };
+
+        List<ProjectOutcome> outcomes = new InProcessExecutor(task, 2, 1)
+                .run(List.of(Path.of("instable"), Path.of("casse"), Path.of("sain")));
+
+        assertTrue(outcomes.get(0).success());
+        assertEquals(2, outcomes.get(0).attempts());
+        assertFalse(outcomes.get(1).success());
+        assertEquals(2, outcomes.get(1).attempts());
+        assertEquals(3, outcomes.get(2).endpointCount());
+    }
+
+    @Test
+    void outOfMemoryErrorStopsTheRunWithoutRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        ProjectReportTask task = new ProjectReportTask(AnalyzerOptions.parseFlags(new String[0], 0)) {
+            @Override
+            public int run(Path projectPath) {
+                attempts.incrementAndGet();
+                throw new OutOfMemoryError("Java heap space");
+            }
+        };
+
+        assertThrows(OutOfMemoryError.class, () -> new InProcessExecutor(task, 1, 3).run(List.of(Path.of("gros"))));
+        assertEquals(1, attempts.get());
+    }
+}
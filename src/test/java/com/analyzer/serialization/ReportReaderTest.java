@@ -0,0 +1,66 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/serialization/ReportReaderTest.java
+package com.votre_entreprise.analyzer.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportReaderTest {
+
+    private static final List<Map<String, Object>> ENDPOINTS = List.of(
+            Map.of("path", "/orders", "httpMethod", "GET"),
+            Map.of("path", "/orders/{id}", "httpMethod", "DELETE"),
+            Map.of("path", "/clients", "httpMethod", "POST"));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void detectsEveryFormatAndCompression() throws IOException {
+        for (ReportWriter.Format format : ReportWriter.Format.values()) {
+            for (ReportWriter.Compression compression : ReportWriter.Compression.values()) {
+                Path file = write(format + "-" + compression, format, compression);
+                String variant = format + "/" + compression;
+
+                assertEquals(format, ReportReader.detectFormat(file), variant);
+                assertEquals(compression, ReportReader.detectCompression(file), variant);
+                assertEquals(ENDPOINTS, ReportReader.readAll(file, Map.class), variant);
+            }
+        }
+    }
+
+    @Test
+    void detectionIgnoresTheExtension() throws IOException {
+        Path written = write("rapport", ReportWriter.Format.SMILE, ReportWriter.Compression.ZSTD);
+        Path renamed = Files.move(written, dir.resolve("rapport.json"));
+
+        assertEquals(ReportWriter.Format.SMILE, ReportReader.detectFormat(renamed));
+        assertEquals(ReportWriter.Compression.ZSTD, ReportReader.detectCompression(renamed));
+        assertEquals(ENDPOINTS, ReportReader.readAll(renamed, Map.class));
+    }
+
+    @Test
+    void jsonArrayMayStartWithWhitespace() throws IOException {
+        Path file = Files.writeString(dir.resolve("indente.json"), "\n  [ {\"path\":\"/a\"},\n {\"path\":\"/b\"} ]\n");
+
+        assertEquals(ReportWriter.Format.JSON, ReportReader.detectFormat(file));
+        assertEquals(2, ReportReader.forEach(file, Map.class, endpoint -> { }));
+    }
+
+    private Path write(String name, ReportWriter.Format format, ReportWriter.Compression compression) throws IOException {
+        ReportWriter writer = new ReportWriter(dir.resolve(name), format, compression);
+        try (writer) {
+            for (Map<String, Object> endpoint : ENDPOINTS) {
+                writer.write(endpoint);
+            }
+        }
+        return writer.getFile();
+    }
+}
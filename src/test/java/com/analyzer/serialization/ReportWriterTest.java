@@ -0,0 +1,81 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/serialization/ReportWriterTest.java
+package com.votre_entreprise.analyzer.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesOneJsonObjectPerLine() throws IOException {
+        ReportWriter writer = new ReportWriter(dir.resolve("rapport"), ReportWriter.Format.NDJSON, ReportWriter.Compression.NONE);
+        try (writer) {
+            writer.write(Map.of("path", "/a"));
+            writer.write(Map.of("path", "/b"));
+        }
+
+        assertEquals(dir.resolve("rapport.ndjson"), writer.getFile());
+        assertEquals(List.of("{\"path\":\"/a\"}", "{\"path\":\"/b\"}"), Files.readAllLines(writer.getFile()));
+        assertEquals(2, writer.getCount());
+    }
+
+    @Test
+    void writesAJsonArray() throws IOException {
+        ReportWriter writer = new ReportWriter(dir.resolve("rapport"), ReportWriter.Format.JSON, ReportWriter.Compression.NONE);
+        try (writer) {
+            writer.write(Map.of("path", "/a"));
+        }
+
+        List<?> endpoints = new ObjectMapper().readValue(writer.getFile().toFile(), List.class);
+        assertEquals(List.of(Map.of("path", "/a")), endpoints);
+    }
+
+    @Test
+    void noFileWithoutElements() throws IOException {
+        ReportWriter writer = new ReportWriter(dir.resolve("rapport"), ReportWriter.Format.JSON, ReportWriter.Compression.GZIP);
+        writer.close();
+
+        assertFalse(Files.exists(writer.getFile()));
+    }
+
+    @Test
+    void closeReleasesTheStreamWhenTheDocumentCannotBeEnded() throws IOException {
+        ReportWriter writer = new ReportWriter(dir.resolve("rapport"), ReportWriter.Format.JSON, ReportWriter.Compression.GZIP);
+        writer.write(Map.of("path", "/a"));
+        // L'échec laisse le générateur au milieu d'un objet : writeEndArray() échoue ensuite dans close()
+        assertThrows(Exception.class, () -> writer.write(new Failing()));
+        assertThrows(IOException.class, writer::close);
+
+        // Flux gzip fermé : le tampon a été vidé et la fin du flux compressé écrite
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(writer.getFile()))) {
+            assertTrue(new String(in.readAllBytes()).contains("\"/a\""));
+        }
+    }
+
+    public static class Failing {
+        public String getName() {
+            return "partiel";
+        }
+
+        public String getValue() {
+            throw new IllegalStateException("valeur indisponible");
+        }
+    }
+}
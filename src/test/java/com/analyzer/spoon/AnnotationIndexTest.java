@@ -0,0 +1,122 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/spoon/AnnotationIndexTest.java
+package com.votre_entreprise.analyzer.spoon;
+
+import com.votre_entreprise.analyzer.spoon.endpoint.JaxRsEndpointFinder;
+import com.votre_entreprise.analyzer.spoon.endpoint.SpringEndpointFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spoon.Launcher;
+import spoon.reflect.declaration.CtAnnotation;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtNamedElement;
+import spoon.support.compiler.VirtualFile;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AnnotationIndexTest {
+
+    private static final String SPRING = "org.springframework.web.bind.annotation.";
+
+    private AnnotationIndex index;
+
+    @BeforeEach
+    void buildIndex() {
+        Launcher launcher = new Launcher();
+        launcher.addInputResource(new VirtualFile("""
+                package shop;
+                import org.springframework.web.bind.annotation.*;
+                @RestController
+                @RequestMapping("/orders")
+                class OrderController {
+                    @GetMapping("/{id}") String get(String id) { return id; }
+                    @RequestMapping(value = {"/", "/all"}, method = {RequestMethod.GET, RequestMethod.HEAD})
+                    String list() { return ""; }
+                    @PostMapping(path = "/") void create() {}
+                    String helper() { return ""; }
+                }
+                """, "OrderController.java"));
+        launcher.addInputResource(new VirtualFile("""
+                package shop;
+                import javax.ws.rs.GET;
+                import javax.ws.rs.Path;
+                @Path("/invoices/")
+                class InvoiceResource {
+                    @GET @Path("{id}") String get(String id) { return id; }
+                }
+                """, "InvoiceResource.java"));
+        launcher.addInputResource(new VirtualFile("""
+                package shop;
+                @interface Audited {}
+                @Audited
+                class AuditedService {}
+                """, "AuditedService.java"));
+        launcher.getEnvironment().setNoClasspath(true);
+        index = AnnotationIndex.build(launcher.buildModel());
+    }
+
+    @Test
+    void annotatedElementsByQualifiedName() {
+        assertEquals(List.of("get"), names(index.getAnnotatedMethods(SPRING + "GetMapping")));
+        assertEquals(List.of("OrderController"), names(index.getAnnotatedTypes(SPRING + "RestController")));
+        assertEquals(List.of("OrderController", "list"), index.getAnnotations(SPRING + "RequestMapping").stream()
+                .map(annotation -> ((CtNamedElement) annotation.getAnnotatedElement()).getSimpleName())
+                .sorted()
+                .collect(Collectors.toList()));
+        // Annotation déclarée dans le modèle, dans le paquetage courant : son nom qualifié est fiable
+        assertEquals(List.of("AuditedService"), names(index.getAnnotatedTypes("shop.Audited")));
+        assertFalse(index.contains("other.Audited"));
+        // Un nom simple identique dans un autre paquetage n'est pas confondu
+        assertEquals(List.of("get"), names(index.getAnnotatedMethods("javax.ws.rs.GET")));
+        assertFalse(index.contains("jakarta.ws.rs.GET"));
+    }
+
+    @Test
+    void wildcardImportsAreMatchedBySimpleName() {
+        // En noclasspath, Spoon rattache "@GetMapping" importé par "...annotation.*" au paquetage "shop"
+        List<CtMethod<?>> methods = index.getAnnotatedMethods(SPRING + "GetMapping");
+
+        assertEquals(List.of("get"), names(methods));
+        assertEquals(List.of("/{id}"), AnnotationIndex.getStringValues(
+                AnnotationIndex.findAnnotation(methods.get(0), SPRING + "GetMapping"), "value"));
+    }
+
+    @Test
+    void attributeValuesFromLiteralsArraysAndEnumConstants() {
+        CtMethod<?> list = index.getAnnotatedMethods(SPRING + "RequestMapping").get(0);
+        CtAnnotation<?> mapping = AnnotationIndex.findAnnotation(list, SPRING + "RequestMapping");
+
+        assertEquals(List.of("/", "/all"), AnnotationIndex.getStringValues(mapping, "value"));
+        assertEquals(List.of("GET", "HEAD"), AnnotationIndex.getStringValues(mapping, "method"));
+        assertEquals("/", AnnotationIndex.getFirstStringValue(
+                AnnotationIndex.findAnnotation(index.getAnnotatedMethods(SPRING + "PostMapping").get(0), SPRING + "PostMapping"),
+                "value", "path"));
+        assertNull(AnnotationIndex.findAnnotation(list, SPRING + "GetMapping"));
+    }
+
+    @Test
+    void findersReadEndpointsFromTheIndex() {
+        SpringEndpointFinder spring = new SpringEndpointFinder(index);
+        List<CtMethod<?>> springEndpoints = spring.findEndpoints();
+
+        assertEquals(List.of("get", "create", "list"), names(springEndpoints));
+        assertEquals("/orders/{id}", spring.getPathFor(springEndpoints.get(0)));
+        assertEquals("POST", spring.getHttpMethodFor(springEndpoints.get(1)));
+        assertEquals("GET/HEAD", spring.getHttpMethodFor(springEndpoints.get(2)));
+
+        JaxRsEndpointFinder jaxRs = new JaxRsEndpointFinder(index);
+        List<CtMethod<?>> jaxRsEndpoints = jaxRs.findEndpoints();
+
+        assertEquals(List.of("get"), names(jaxRsEndpoints));
+        assertEquals("/invoices/{id}", jaxRs.getPathFor(jaxRsEndpoints.get(0)));
+        assertEquals("GET", jaxRs.getHttpMethodFor(jaxRsEndpoints.get(0)));
+    }
+
+    private static List<String> names(List<? extends CtNamedElement> elements) {
+        return elements.stream().map(CtNamedElement::getSimpleName).collect(Collectors.toList());
+    }
+}
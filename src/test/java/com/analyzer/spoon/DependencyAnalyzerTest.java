@@ -0,0 +1,126 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/spoon/DependencyAnalyzerTest.java
+package com.votre_entreprise.analyzer.spoon;
+
+import com.votre_entreprise.analyzer.model.Dependency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spoon.Launcher;
+import spoon.reflect.CtModel;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtType;
+import spoon.support.compiler.VirtualFile;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyAnalyzerTest {
+
+    private CtMethod<?> endpoint;
+
+    @BeforeEach
+    void buildModel() {
+        endpoint = method("""
+                package shop;
+                class OrderController {
+                    private final OrderService service = new OrderService();
+                    String order(String id) {
+                        service.load(id);
+                        service.load(id);
+                        return service.price(id);
+                    }
+                }
+                class OrderService {
+                    private final OrderRepository repository = new OrderRepository();
+                    void load(String id) { repository.find(id); }
+                    String price(String id) { return repository.find(id) + "€"; }
+                }
+                class OrderRepository {
+                    String find(String id) { return id; }
+                }
+                """, "OrderController", "order");
+    }
+
+    @Test
+    void aggregatesRepeatedCalls() {
+        DependencyAnalyzer.Result result = new DependencyAnalyzer().analyze(endpoint, AnalysisBudget.unlimited());
+
+        assertFalse(result.truncated());
+        List<Dependency> dependencies = result.dependencies();
+        assertEquals(3, dependencies.size());
+        Dependency load = dependencies.get(0);
+        assertEquals("shop.OrderService", load.className());
+        assertEquals("load(java.lang.String)", load.methodCalled());
+        assertEquals(2, load.callSites());
+        assertEquals(1, load.callDepth());
+        assertEquals("Repository", dependencies.get(1).type());
+        assertEquals(2, dependencies.get(1).callDepth());
+    }
+
+    @Test
+    void exhaustedBudgetTruncatesTheTraversal() {
+        DependencyAnalyzer.Result result = new DependencyAnalyzer().analyze(endpoint, AnalysisBudget.of(0, 5));
+
+        assertTrue(result.truncated());
+    }
+
+    @Test
+    void traversalThatFitsItsBudgetIsComplete() {
+        AnalysisBudget measure = AnalysisBudget.unlimited();
+        new DependencyAnalyzer().analyze(endpoint, measure);
+
+        // Budget égal au nombre de nœuds réellement visités : le parcours se termine sans être arrêté
+        DependencyAnalyzer.Result result = new DependencyAnalyzer()
+                .analyze(endpoint, AnalysisBudget.of(0, measure.getVisitedNodes()));
+
+        assertFalse(result.truncated());
+        assertEquals(3, result.dependencies().size());
+    }
+
+    @Test
+    void edgeReachedAtSeveralDepthsIsReportedOnce() {
+        CtMethod<?> audit = method("""
+                package shop;
+                class AuditController {
+                    private final AuditService service = new AuditService();
+                    private final AuditRepository repository = new AuditRepository();
+                    void audit(String id) {
+                        service.trace(id);
+                        repository.save(id);
+                    }
+                }
+                class AuditService {
+                    private final AuditRepository repository = new AuditRepository();
+                    void trace(String id) { repository.save(id); }
+                }
+                class AuditRepository {
+                    void save(String id) {}
+                }
+                """, "AuditController", "audit");
+
+        List<Dependency> dependencies = new DependencyAnalyzer().analyze(audit);
+
+        assertEquals(2, dependencies.size());
+        Dependency save = dependencies.get(1);
+        assertEquals("shop.AuditRepository", save.className());
+        assertEquals("save(java.lang.String)", save.methodCalled());
+        // Trouvé d'abord sous le service (profondeur 2), puis directement (profondeur 1)
+        assertEquals(1, save.callDepth());
+        assertEquals(2, save.callSites());
+        assertEquals("Shop.java:12", save.firstSeenAt());
+        assertEquals("Shop.java:6", dependencies.get(0).firstSeenAt());
+    }
+
+    private static CtMethod<?> method(String source, String typeName, String methodName) {
+        Launcher launcher = new Launcher();
+        launcher.addInputResource(new VirtualFile(source, "Shop.java"));
+        launcher.getEnvironment().setNoClasspath(true);
+        CtModel model = launcher.buildModel();
+        CtType<?> type = model.getAllTypes().stream()
+                .filter(candidate -> candidate.getSimpleName().equals(typeName))
+                .findFirst().orElseThrow();
+        return type.getMethodsByName(methodName).get(0);
+    }
+}
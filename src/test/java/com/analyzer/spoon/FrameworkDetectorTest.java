@@ -0,0 +1,51 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/spoon/FrameworkDetectorTest.java
+package com.votre_entreprise.analyzer.spoon;
+
+import com.votre_entreprise.analyzer.discovery.FileInventory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FrameworkDetectorTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void rootPomIsReadBeforeModules() throws IOException {
+        // "a-module" précède "pom.xml" dans l'ordre des chemins
+        writePom("a-module/pom.xml", "org.apache.struts", "struts2-core");
+        writePom("pom.xml", "org.springframework.boot", "spring-boot-starter-web");
+
+        assertEquals(FrameworkDetector.FrameworkType.SPRING, FrameworkDetector.detect(FileInventory.build(root)));
+    }
+
+    @Test
+    void modulesAreReadWhenTheRootPomDeclaresNoFramework() throws IOException {
+        writePom("pom.xml", "org.slf4j", "slf4j-api");
+        writePom("web/pom.xml", "org.glassfish.jersey.core", "jersey-server");
+
+        assertEquals(FrameworkDetector.FrameworkType.JAXRS, FrameworkDetector.detect(FileInventory.build(root)));
+    }
+
+    private void writePom(String relativePath, String groupId, String artifactId) throws IOException {
+        Path pom = root.resolve(relativePath);
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.acme</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0</version>
+                  <dependencies>
+                    <dependency><groupId>%s</groupId><artifactId>%s</artifactId></dependency>
+                  </dependencies>
+                </project>
+                """.formatted(groupId, artifactId));
+    }
+}
@@ -0,0 +1,88 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/symbols/SymbolTableTest.java
+package com.votre_entreprise.analyzer.symbols;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SymbolTableTest {
+
+    @Test
+    void internIsIdempotentAndResolvesBack() {
+        SymbolTable symbols = new SymbolTable();
+        int service = symbols.intern("com.acme.OrderService");
+        int accented = symbols.intern("créerCommande(java.lang.String)");
+        int empty = symbols.intern("");
+
+        assertEquals(service, symbols.intern(new String("com.acme.OrderService")));
+        assertEquals(accented, symbols.intern("créerCommande(java.lang.String)"));
+        assertEquals("com.acme.OrderService", symbols.resolve(service));
+        assertEquals("créerCommande(java.lang.String)", symbols.resolve(accented));
+        assertEquals("", symbols.resolve(empty));
+        assertEquals(3, symbols.size());
+    }
+
+    @Test
+    void lookupDoesNotAddUnknownSymbols() {
+        SymbolTable symbols = new SymbolTable();
+        int known = symbols.intern("Repository");
+
+        assertEquals(known, symbols.lookup("Repository"));
+        assertEquals(SymbolTable.ABSENT, symbols.lookup("Service"));
+        assertEquals(1, symbols.size());
+        assertThrows(IllegalArgumentException.class, () -> symbols.resolve(1));
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        SymbolTable symbols = new SymbolTable();
+        // 70 000 octets et 5 000 symboles : au-delà des tableaux initiaux et du seuil de réindexation
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, symbols.intern("com.acme.generated.Type" + i));
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, symbols.lookup("com.acme.generated.Type" + i));
+            assertEquals("com.acme.generated.Type" + i, symbols.resolve(i));
+        }
+        assertTrue(symbols.getStoredBytes() > 64 * 1024);
+    }
+
+    @Test
+    void concurrentInternsAgreeOnIdentifiers() throws Exception {
+        SymbolTable symbols = new SymbolTable();
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 97;
+                results.add(pool.submit(() -> {
+                    int[] ids = new int[3000];
+                    for (int i = 0; i < ids.length; i++) {
+                        int n = (i + offset) % ids.length;
+                        ids[n] = symbols.intern("symbole-" + n);
+                        assertEquals("symbole-" + n, symbols.resolve(symbols.lookup("symbole-" + n)));
+                    }
+                    return ids;
+                }));
+            }
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(3000, symbols.size());
+    }
+}
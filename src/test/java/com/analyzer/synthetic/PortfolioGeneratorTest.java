@@ -0,0 +1,116 @@
+// Fichier: src/test/java/com/votre_entreprise/analyzer/synthetic/PortfolioGeneratorTest.java
+package com.votre_entreprise.analyzer.synthetic;
+
+import com.votre_entreprise.analyzer.model.Dependency;
+import com.votre_entreprise.analyzer.spoon.AnnotationIndex;
+import com.votre_entreprise.analyzer.spoon.DependencyAnalyzer;
+import com.votre_entreprise.analyzer.spoon.endpoint.SpringEndpointFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spoon.Launcher;
+import spoon.reflect.declaration.CtMethod;
+import spoon.support.compiler.VirtualFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PortfolioGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesMavenProjectsAndWarArchives() throws IOException {
+        GeneratorSettings settings = settings("--projects=2");
+
+        int files = new PortfolioGenerator(settings).generate(dir);
+
+        assertEquals(files, contents(dir).size());
+        assertTrue(Files.isRegularFile(dir.resolve("maven/app-002/pom.xml")));
+        assertTrue(Files.isRegularFile(dir.resolve("maven/app-001/src/main/webapp/WEB-INF/web.xml")));
+        try (ZipFile war = new ZipFile(dir.resolve("weblogic/app-001.war").toFile())) {
+            assertNotNull(war.getEntry("WEB-INF/weblogic.xml"));
+            assertNotNull(war.getEntry("src/com/acme/app001/web/OrderController0.java"));
+            // Les stubs ne servent qu'à l'analyseur Spoon
+            assertTrue(war.stream().map(ZipEntry::getName).noneMatch(name -> name.contains("springframework")));
+        }
+    }
+
+    @Test
+    void earWrapsTheWar() throws IOException {
+        new PortfolioGenerator(settings("--projects=1", "--archives=ear")).generate(dir);
+
+        try (ZipFile ear = new ZipFile(dir.resolve("weblogic/app-001.ear").toFile())) {
+            assertNotNull(ear.getEntry("META-INF/application.xml"));
+            assertNotNull(ear.getEntry("app-001.war"));
+        }
+    }
+
+    @Test
+    void sameSeedGivesTheSamePortfolio() throws IOException {
+        new PortfolioGenerator(settings("--projects=2", "--archives=none")).generate(dir.resolve("a"));
+        new PortfolioGenerator(settings("--projects=2", "--archives=none")).generate(dir.resolve("b"));
+
+        assertEquals(contents(dir.resolve("a")), contents(dir.resolve("b")));
+        assertNotEquals(new SyntheticApplication(settings("--seed=1"), 1).getSources(),
+                new SyntheticApplication(settings("--seed=2"), 1).getSources());
+    }
+
+    @Test
+    void endpointsReachTheConfiguredCallDepth() {
+        GeneratorSettings settings = settings("--controllers=3", "--call-depth=5", "--services-per-level=4", "--fan-out=2");
+        SyntheticApplication application = new SyntheticApplication(settings, 1);
+        Launcher launcher = new Launcher();
+        application.getSources().forEach((path, content) -> launcher.addInputResource(new VirtualFile(content, path)));
+        application.getStubs().forEach((path, content) -> launcher.addInputResource(new VirtualFile(content, path)));
+        launcher.getEnvironment().setNoClasspath(true);
+
+        SpringEndpointFinder finder = new SpringEndpointFinder(AnnotationIndex.build(launcher.buildModel()));
+        List<CtMethod<?>> endpoints = finder.findEndpoints();
+
+        assertEquals(6, endpoints.size());
+        assertEquals("/api/orders0/{id}", finder.getPathFor(endpoints.get(0)));
+        List<Dependency> dependencies = new DependencyAnalyzer().analyze(endpoints.get(0));
+        // Une couche de services par niveau, puis les ressources partagées de la dernière couche
+        assertTrue(dependencies.stream().mapToInt(Dependency::callDepth).max().orElse(0) > settings.callDepth(),
+                dependencies::toString);
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> settings("--fan-out=7", "--services-per-level=6"));
+        assertThrows(IllegalArgumentException.class, () -> settings("--call-depth=0"));
+        assertThrows(IllegalArgumentException.class, () -> settings("--inconnue=1"));
+        assertEquals(GeneratorSettings.Archives.NONE, settings("--archives=none").archives());
+    }
+
+    private GeneratorSettings settings(String... options) {
+        String[] args = Stream.concat(Stream.of(dir.toString()), Stream.of(options)).toArray(String[]::new);
+        return GeneratorSettings.parse(args);
+    }
+
+    private static Map<String, String> contents(Path root) throws IOException {
+        Map<String, String> contents = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String content = file.toString().endsWith(".xml") || file.toString().endsWith(".java")
+                        ? Files.readString(file) : Long.toString(Files.size(file));
+                contents.put(root.relativize(file).toString(), content);
+            }
+        }
+        return contents;
+    }
+}